@@ -0,0 +1,189 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.runtime.extension.api.dsql.Direction;
+import org.mule.runtime.extension.api.dsql.DsqlParser;
+import org.mule.runtime.extension.api.dsql.DsqlQuery;
+import org.mule.runtime.extension.api.dsql.EntityType;
+import org.mule.runtime.extension.api.dsql.Field;
+import org.mule.runtime.extension.api.dsql.PreparedDsqlQuery;
+import org.mule.runtime.extension.api.dsql.QueryTranslator;
+import org.mule.runtime.extension.api.dsql.Value;
+import org.mule.runtime.extension.internal.dsql.DefaultDsqlParser;
+import org.mule.runtime.extension.internal.dsql.RecursiveDescentDsqlParser;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the parsing of DSQL queries of increasing complexity, with and without the cache of parsed queries, and their
+ * translation, either from scratch or by binding a prepared translation. The parser generated by ANTLR is compared with the
+ * hand written recursive descent one.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class DsqlParserBenchmark {
+
+  public static final String SIMPLE_QUERY = "dsql:SELECT a,b FROM X WHERE c = 1 LIMIT 10";
+  public static final String FILTERED_QUERY =
+      "dsql:SELECT id, name, email FROM Account WHERE (name like '%mule%' AND created > 2017-01-01) OR amount >= 10.5";
+  public static final String COMPLEX_QUERY =
+      "dsql:SELECT id, name, email, phone, address FROM Account "
+          + "WHERE ((name = 'juan' AND age > 18) OR (NOT (status = 'closed') AND updated <= 2017-01-01T10:00:00Z)) "
+          + "AND owner = #[vars.owner] AND active = true "
+          + "ORDER BY name, created DESC LIMIT 100 OFFSET 20";
+
+  @Param({SIMPLE_QUERY, FILTERED_QUERY, COMPLEX_QUERY})
+  private String query;
+
+  private final DefaultDsqlParser parser = new DefaultDsqlParser(0);
+  private final DefaultDsqlParser cachingParser = DefaultDsqlParser.getInstance();
+  private final RecursiveDescentDsqlParser recursiveDescentParser = new RecursiveDescentDsqlParser(0);
+
+  private PreparedDsqlQuery prepared;
+
+  @Setup
+  public void setUp() {
+    prepared = cachingParser.parse(query).prepare(new SqlQueryTranslator());
+  }
+
+  @Benchmark
+  public DsqlQuery parse() {
+    return parser.parse(query);
+  }
+
+  /**
+   * Same as {@link #parse()}, but with the hand written recursive descent parser.
+   */
+  @Benchmark
+  public DsqlQuery parseRecursiveDescent() {
+    return recursiveDescentParser.parse(query);
+  }
+
+  @Benchmark
+  public DsqlQuery parseCached() {
+    return cachingParser.parse(query);
+  }
+
+  @Benchmark
+  public String parseAndTranslate() {
+    return parser.parse(query).translate(new SqlQueryTranslator());
+  }
+
+  /**
+   * Same as {@link #parseAndTranslate()}, but only binding the expressions of a translation prepared beforehand.
+   */
+  @Benchmark
+  public String bindPrepared() {
+    return prepared.bind(expression -> "'owner'");
+  }
+
+  /**
+   * Same as {@link #parse()}, but looking up the parser the way connectors do.
+   */
+  @Benchmark
+  public DsqlQuery parseWithLookup() {
+    return DsqlParser.getInstance().parse(query);
+  }
+
+  private static final class SqlQueryTranslator implements QueryTranslator {
+
+    private final StringBuilder translation = new StringBuilder();
+
+    @Override
+    public void translateFields(List<Field> fields) {
+      translation.append("SELECT ");
+      appendNames(fields);
+    }
+
+    @Override
+    public void translateTypes(EntityType type) {
+      translation.append(" FROM ").append(type.getName());
+    }
+
+    @Override
+    public void translateOrderByFields(List<Field> orderByFields, Direction direction) {
+      translation.append(" ORDER BY ");
+      appendNames(orderByFields);
+      translation.append(' ').append(direction);
+    }
+
+    @Override
+    public void translateAnd() {
+      translation.append(" AND ");
+    }
+
+    @Override
+    public void translateOR() {
+      translation.append(" OR ");
+    }
+
+    @Override
+    public void translateComparison(String operator, Field field, Value<?> value) {
+      translation.append(field.getName()).append(operator).append(value);
+    }
+
+    @Override
+    public void translateBeginExpression() {
+      translation.append(" WHERE ");
+    }
+
+    @Override
+    public void translateInitPrecedence() {
+      translation.append('(');
+    }
+
+    @Override
+    public void translateEndPrecedence() {
+      translation.append(')');
+    }
+
+    @Override
+    public void translateLimit(int limit) {
+      translation.append(" LIMIT ").append(limit);
+    }
+
+    @Override
+    public void translateOffset(int offset) {
+      translation.append(" OFFSET ").append(offset);
+    }
+
+    @Override
+    public String getTranslation() {
+      return translation.toString();
+    }
+
+    private void appendNames(List<Field> fields) {
+      for (int i = 0; i < fields.size(); ++i) {
+        if (i > 0) {
+          translation.append(", ");
+        }
+        translation.append(fields.get(i).getName());
+      }
+    }
+  }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static org.mule.runtime.extension.benchmark.SyntheticExtensions.declare;
+import static org.mule.runtime.extension.benchmark.SyntheticExtensions.loadingRequest;
+
+import static java.util.concurrent.ForkJoinPool.commonPool;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelBatchLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+
+import java.util.Map;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the loading of many synthetic extensions through an {@link ExtensionModelBatchLoader}, one after the other on the
+ * calling thread or concurrently on the common pool.
+ * <p>
+ * Each extension but the first depends on another one, so that they make up a tree in which each extension has 4 dependants.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExtensionModelBatchLoaderBenchmark {
+
+  private static final int DEPENDANTS = 4;
+
+  @Param({"8", "32"})
+  private int extensions;
+
+  @Param({"100", "1000"})
+  private int operations;
+
+  private ExtensionModelBatchLoader serialLoader;
+  private ExtensionModelBatchLoader concurrentLoader;
+
+  @Setup
+  public void setUp() {
+    serialLoader = batch().setPool(null).build();
+    concurrentLoader = batch().setPool(commonPool()).build();
+  }
+
+  private ExtensionModelBatchLoader.Builder batch() {
+    ExtensionModelBatchLoader.Builder builder = ExtensionModelBatchLoader.builder();
+    for (int i = 0; i < extensions; i++) {
+      String name = "synthetic" + i;
+      SyntheticExtensionLoader loader = new SyntheticExtensionLoader(name, operations);
+      if (i == 0) {
+        builder.addExtension(name, loader, loadingRequest());
+      } else {
+        builder.addExtension(name, loader, loadingRequest(), "synthetic" + ((i - 1) / DEPENDANTS));
+      }
+    }
+    return builder;
+  }
+
+  @Benchmark
+  public Map<String, ExtensionModel> loadSerially() {
+    return serialLoader.load();
+  }
+
+  @Benchmark
+  public Map<String, ExtensionModel> loadConcurrently() {
+    return concurrentLoader.load();
+  }
+
+  private static final class SyntheticExtensionLoader extends ExtensionModelLoader {
+
+    private final String name;
+    private final int operations;
+
+    private SyntheticExtensionLoader(String name, int operations) {
+      this.name = name;
+      this.operations = operations;
+    }
+
+    @Override
+    public String getId() {
+      return "synthetic";
+    }
+
+    @Override
+    protected void declareExtension(ExtensionLoadingContext context) {
+      declare(context.getExtensionDeclarer(), name, operations, 1);
+    }
+  }
+}
@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static org.mule.runtime.extension.benchmark.SyntheticExtensions.declare;
+import static org.mule.runtime.extension.benchmark.SyntheticExtensions.loadingContext;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.internal.loader.ExtensionModelFactory;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link ExtensionModelFactory#create(ExtensionLoadingContext)}, that is, the enrichment of the declaration, the
+ * creation of the immutable model and its validation.
+ * <p>
+ * Since the enrichers modify the declaration, a fresh one is built before each invocation (outside of the measured time).
+ *
+ * @since 1.10
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExtensionModelFactoryBenchmark {
+
+  @Param({"10", "100", "1000", "5000"})
+  private int operations;
+
+  @Param({"1", "4", "8"})
+  private int pojoDepth;
+
+  private final ExtensionModelFactory factory = new ExtensionModelFactory();
+  private ExtensionLoadingContext context;
+
+  @Setup(Level.Invocation)
+  public void declareExtension() {
+    context = loadingContext(declare(operations, pojoDepth));
+  }
+
+  @Benchmark
+  public ExtensionModel create() {
+    return factory.create(context);
+  }
+}
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static org.mule.runtime.extension.benchmark.SyntheticExtensions.declare;
+import static org.mule.runtime.extension.benchmark.SyntheticExtensions.loadingContext;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.internal.loader.ExtensionModelFactory;
+
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the heap retained by a synthetic {@link ExtensionModel}, that is, the amount of heap which is released when the
+ * model is no longer referenced. The figure is reported through the {@code retainedBytes} counter, next to the time it took to
+ * create the model.
+ * <p>
+ * The heap is measured after forcing full collections, so each invocation creates a single model.
+ *
+ * @since 1.10
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExtensionModelFootprintBenchmark {
+
+  private static final int MAX_GC_ROUNDS = 10;
+
+  /**
+   * Reports the heap retained by the created model.
+   */
+  @State(Scope.Thread)
+  @AuxCounters(AuxCounters.Type.EVENTS)
+  public static class Footprint {
+
+    public long retainedBytes;
+
+    @Setup(Level.Iteration)
+    public void reset() {
+      retainedBytes = 0;
+    }
+  }
+
+  @Param({"2000"})
+  private int operations;
+
+  @Param({"1", "4"})
+  private int pojoDepth;
+
+  private final ExtensionModelFactory factory = new ExtensionModelFactory();
+  private ExtensionLoadingContext context;
+  private ExtensionModel model;
+
+  @Setup(Level.Invocation)
+  public void declareExtension() {
+    context = loadingContext(declare(operations, pojoDepth));
+  }
+
+  @Benchmark
+  public void create(Footprint footprint) {
+    model = factory.create(context);
+    context = null;
+    long withModel = usedHeapAfterGc();
+
+    model = null;
+    footprint.retainedBytes = withModel - usedHeapAfterGc();
+  }
+
+  private static long usedHeapAfterGc() {
+    Runtime runtime = Runtime.getRuntime();
+    long used = Long.MAX_VALUE;
+    for (int i = 0; i < MAX_GC_ROUNDS; i++) {
+      System.gc();
+      long current = runtime.totalMemory() - runtime.freeMemory();
+      if (current >= used) {
+        break;
+      }
+      used = current;
+    }
+
+    return used;
+  }
+}
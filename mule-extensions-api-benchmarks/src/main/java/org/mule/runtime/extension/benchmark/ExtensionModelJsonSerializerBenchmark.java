@@ -0,0 +1,82 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static org.mule.runtime.extension.benchmark.SyntheticExtensions.create;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the round trip of synthetic {@link ExtensionModel}s through the {@link ExtensionModelJsonSerializer}, both from a
+ * single thread and from many threads sharing the same serializer.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExtensionModelJsonSerializerBenchmark {
+
+  @Param({"10", "100", "1000", "5000"})
+  private int operations;
+
+  @Param({"1", "4", "8"})
+  private int pojoDepth;
+
+  private static final int CONCURRENT_THREADS = 4;
+
+  private final ExtensionModelJsonSerializer serializer = new ExtensionModelJsonSerializer();
+  private ExtensionModel extensionModel;
+  private String serializedExtensionModel;
+
+  @Setup
+  public void createExtensionModel() {
+    extensionModel = create(operations, pojoDepth);
+    serializedExtensionModel = serializer.serialize(extensionModel);
+  }
+
+  @Benchmark
+  public String serialize() {
+    return serializer.serialize(extensionModel);
+  }
+
+  @Benchmark
+  public ExtensionModel deserialize() {
+    return serializer.deserialize(serializedExtensionModel);
+  }
+
+  @Benchmark
+  @Threads(CONCURRENT_THREADS)
+  public String serializeConcurrently() {
+    return serializer.serialize(extensionModel);
+  }
+
+  @Benchmark
+  @Threads(CONCURRENT_THREADS)
+  public ExtensionModel deserializeConcurrently() {
+    return serializer.deserialize(serializedExtensionModel);
+  }
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static org.mule.runtime.extension.benchmark.SyntheticExtensions.create;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.SingleExtensionImportTypesStrategy;
+import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.internal.loader.ExtensionModelValidationEngine;
+import org.mule.runtime.extension.internal.loader.validator.BackPressureModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.ConfigurationModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.ConnectionProviderNameModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.ContentParameterModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.ExclusiveParameterModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.FunctionModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.NameClashModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.NameModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.NoWrapperModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.OperationModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.ParameterModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.SubtypesModelValidator;
+import org.mule.runtime.extension.internal.loader.validator.TransactionalParametersValidator;
+import org.mule.runtime.extension.internal.loader.validator.ValidatorModelValidator;
+
+import java.util.List;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the validation of a model with the validators which {@code ExtensionModelFactory} applies, executing them either
+ * sequentially or concurrently through an {@link ExtensionModelValidationEngine}, which feeds all of them from a shared walk over
+ * the model. For reference, it also measures executing each validator on its own, which implies a walk per validator.
+ *
+ * @since 1.10
+ */
+@State(Scope.Thread)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ExtensionModelValidationBenchmark {
+
+  @Param({"10", "100", "1000", "5000"})
+  private int operations;
+
+  @Param({"1", "4", "8"})
+  private int pojoDepth;
+
+  private final List<ExtensionModelValidator> validators = asList(new ConnectionProviderNameModelValidator(),
+                                                                  new ContentParameterModelValidator(),
+                                                                  new ExclusiveParameterModelValidator(),
+                                                                  new NameClashModelValidator(),
+                                                                  new OperationModelValidator(),
+                                                                  new FunctionModelValidator(),
+                                                                  new ParameterModelValidator(),
+                                                                  new SubtypesModelValidator(),
+                                                                  new TransactionalParametersValidator(),
+                                                                  new ValidatorModelValidator(),
+                                                                  new NameModelValidator(),
+                                                                  new BackPressureModelValidator(),
+                                                                  new NoWrapperModelValidator(),
+                                                                  new ConfigurationModelValidator());
+
+  private final ExtensionModelValidationEngine sequentialEngine = new ExtensionModelValidationEngine(null);
+  private final ExtensionModelValidationEngine parallelEngine = new ExtensionModelValidationEngine();
+  private ExtensionModel extensionModel;
+
+  @Setup
+  public void createExtension() {
+    extensionModel = create(operations, pojoDepth);
+  }
+
+  @Benchmark
+  public ProblemsReporter validateWithOneWalkPerValidator() {
+    ProblemsReporter problemsReporter = new ProblemsReporter(extensionModel);
+    DslSyntaxResolver syntaxResolver = DslSyntaxResolver.getDefault(extensionModel, new SingleExtensionImportTypesStrategy());
+    validators.forEach(v -> v.validate(extensionModel, syntaxResolver, problemsReporter));
+    return problemsReporter;
+  }
+
+  @Benchmark
+  public ProblemsReporter validateSequentially() {
+    return validate(sequentialEngine);
+  }
+
+  @Benchmark
+  public ProblemsReporter validateConcurrently() {
+    return validate(parallelEngine);
+  }
+
+  private ProblemsReporter validate(ExtensionModelValidationEngine engine) {
+    ProblemsReporter problemsReporter = new ProblemsReporter(extensionModel);
+    DslSyntaxResolver syntaxResolver = DslSyntaxResolver.getDefault(extensionModel, new SingleExtensionImportTypesStrategy());
+    engine.validate(extensionModel, validators, syntaxResolver, problemsReporter);
+    return problemsReporter;
+  }
+}
@@ -0,0 +1,46 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Access to the serialized extension models that the persistence module uses as test fixtures.
+ *
+ * @since 1.10
+ */
+public final class Fixtures {
+
+  public static final String SERIALIZED_EXTENSION_MODEL = "serialized-extension-model.json";
+  public static final String SERIALIZED_EXTENSION_MODEL_NO_CATALOG = "serialized-extension-model-no-catalog.json";
+  public static final String XML_BASED_EXTENSION_MODEL = "xml-based-ext-model.json";
+  public static final String LIST_OF_SERIALIZED_EXTENSION_MODELS = "list-of-serialized-extension-model.json";
+
+  private static final String FIXTURES_FOLDER = "/extension/";
+
+  private Fixtures() {}
+
+  /**
+   * @param fixture the name of the fixture file
+   * @return the content of the fixture
+   */
+  public static String read(String fixture) {
+    try (InputStream in = Fixtures.class.getResourceAsStream(FIXTURES_FOLDER + fixture)) {
+      if (in == null) {
+        throw new IllegalArgumentException(format("Fixture '%s' not found", fixture));
+      }
+      return new String(in.readAllBytes(), UTF_8);
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+import org.mule.runtime.extension.api.util.HierarchyClassMap;
+
+import java.io.FileInputStream;
+import java.io.InputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.net.URI;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Calendar;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.LinkedList;
+import java.util.TreeSet;
+import java.util.UUID;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures {@link HierarchyClassMap#get(Object)} with and without resolutions caching, for a class which is mapped, one which
+ * resolves to a subclass, one which resolves through its superclasses and one which doesn't resolve at all.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(NANOSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class HierarchyClassMapBenchmark {
+
+  private static final Class<?>[] KEYS = {String.class, Integer.class, Long.class, Double.class, BigDecimal.class,
+      BigInteger.class, Boolean.class, Date.class, Calendar.class, LocalDate.class, LocalDateTime.class, URI.class, UUID.class,
+      ArrayList.class, LinkedList.class, HashMap.class, TreeSet.class, FileInputStream.class, StringBuilder.class,
+      Character.class};
+
+  @Param({"exact", "subclass", "superclass", "none"})
+  private String lookup;
+
+  private final HierarchyClassMap<Object> map = new HierarchyClassMap<>(new LinkedHashMap<>(), false);
+  private final HierarchyClassMap<Object> cachingMap = new HierarchyClassMap<>(new LinkedHashMap<>(), true);
+  private Class<?> key;
+
+  @Setup
+  public void setUp() {
+    for (Class<?> mappedKey : KEYS) {
+      map.put(mappedKey, mappedKey.getName());
+      cachingMap.put(mappedKey, mappedKey.getName());
+    }
+
+    key = lookupKey(lookup);
+  }
+
+  private static Class<?> lookupKey(String lookup) {
+    switch (lookup) {
+      case "exact":
+        return Character.class;
+      case "subclass":
+        return InputStream.class;
+      case "superclass":
+        // resolves to TreeSet through AbstractSet
+        return LinkedHashSet.class;
+      case "none":
+        return Thread.class;
+      default:
+        throw new IllegalArgumentException(lookup);
+    }
+  }
+
+  @Benchmark
+  public Object get() {
+    return map.get(key);
+  }
+
+  @Benchmark
+  public Object getWithCachedResolutions() {
+    return cachingMap.get(key);
+  }
+
+  @Benchmark
+  public Object getOrDefault() {
+    return map.getOrDefault(key, this);
+  }
+
+  @Benchmark
+  public Object getOrDefaultWithCachedResolutions() {
+    return cachingMap.getOrDefault(key, this);
+  }
+}
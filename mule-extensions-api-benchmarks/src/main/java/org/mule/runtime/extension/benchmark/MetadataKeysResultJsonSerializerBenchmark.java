@@ -0,0 +1,91 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static org.mule.runtime.api.metadata.MetadataKeyBuilder.newKey;
+import static org.mule.runtime.api.metadata.resolving.MetadataResult.success;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.runtime.api.metadata.MetadataKey;
+import org.mule.runtime.api.metadata.MetadataKeyBuilder;
+import org.mule.runtime.api.metadata.MetadataKeysContainer;
+import org.mule.runtime.api.metadata.MetadataKeysContainerBuilder;
+import org.mule.runtime.api.metadata.resolving.MetadataResult;
+import org.mule.runtime.extension.api.persistence.metadata.MetadataKeysResultJsonSerializer;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the serialization and deserialization of a {@link MetadataResult} with a large multi-level keys tree, such as the
+ * ones of the objects and fields of a CRM. Also measures a serialization through a new serializer, as tooling does for each
+ * request.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class MetadataKeysResultJsonSerializerBenchmark {
+
+  @Param({"100", "1000"})
+  private int objects;
+
+  @Param({"50"})
+  private int fields;
+
+  private final MetadataKeysResultJsonSerializer serializer = new MetadataKeysResultJsonSerializer();
+
+  private MetadataResult<MetadataKeysContainer> result;
+  private String serialized;
+
+  @Setup
+  public void setUp() {
+    Set<MetadataKey> keys = new LinkedHashSet<>();
+    for (int i = 0; i < objects; i++) {
+      MetadataKeyBuilder object = newKey("Object" + i).withPartName("object");
+      for (int j = 0; j < fields; j++) {
+        object.withChild(newKey("Object" + i + "_Field" + j).withDisplayName("Field " + j).withPartName("field"));
+      }
+      keys.add(object.build());
+    }
+
+    result = success(MetadataKeysContainerBuilder.getInstance().add("objects", keys).build());
+    serialized = serializer.serialize(result);
+  }
+
+  @Benchmark
+  public String serialize() {
+    return serializer.serialize(result);
+  }
+
+  @Benchmark
+  public String createSerializerAndSerialize() {
+    return new MetadataKeysResultJsonSerializer().serialize(result);
+  }
+
+  @Benchmark
+  public MetadataResult<MetadataKeysContainer> deserialize() {
+    return serializer.deserialize(serialized);
+  }
+}
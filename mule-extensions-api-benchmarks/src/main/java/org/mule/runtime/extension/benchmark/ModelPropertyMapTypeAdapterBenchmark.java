@@ -0,0 +1,94 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.extension.internal.persistence.ModelPropertyMapTypeAdapterFactory;
+
+import java.lang.reflect.Type;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.reflect.TypeToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the deserialization of the model properties of many components, each one with a model property which is not one of
+ * the built-in ones, and whose class is either available or missing.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class ModelPropertyMapTypeAdapterBenchmark {
+
+  private static final Type MODEL_PROPERTIES_TYPE = new TypeToken<List<Map<Class<? extends ModelProperty>, ModelProperty>>>() {}
+      .getType();
+
+  @Param({"1000"})
+  private int components;
+
+  private final Gson gson = new GsonBuilder().registerTypeAdapterFactory(new ModelPropertyMapTypeAdapterFactory()).create();
+
+  private String availableModelProperties;
+  private String missingModelProperties;
+
+  @Setup
+  public void setUp() {
+    availableModelProperties = modelProperties(CustomModelProperty.class.getName());
+    missingModelProperties = modelProperties("org.mule.runtime.extension.benchmark.MissingModelProperty");
+  }
+
+  private String modelProperties(String name) {
+    StringBuilder json = new StringBuilder("[");
+    for (int i = 0; i < components; i++) {
+      json.append(i > 0 ? "," : "").append("{\"").append(name).append("\":{}}");
+    }
+    return json.append(']').toString();
+  }
+
+  @Benchmark
+  public List<Map<Class<? extends ModelProperty>, ModelProperty>> readAvailableModelProperties() {
+    return gson.fromJson(availableModelProperties, MODEL_PROPERTIES_TYPE);
+  }
+
+  @Benchmark
+  public List<Map<Class<? extends ModelProperty>, ModelProperty>> readMissingModelProperties() {
+    return gson.fromJson(missingModelProperties, MODEL_PROPERTIES_TYPE);
+  }
+
+  public static final class CustomModelProperty implements ModelProperty {
+
+    @Override
+    public String getName() {
+      return "custom";
+    }
+
+    @Override
+    public boolean isPublic() {
+      return true;
+    }
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static org.mule.runtime.extension.api.util.NameUtils.pluralize;
+import static org.mule.runtime.extension.api.util.NameUtils.singularize;
+
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures {@code NameUtils.pluralize} and {@code NameUtils.singularize} over names typical of collection parameters.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class NameUtilsBenchmark {
+
+  private static final String[] SINGULAR_NAMES = {"header", "address", "entry", "key", "status", "attachment", "recipient",
+      "query", "index", "match", "policy", "property", "child", "salesPerson", "metadata", "analysis", "lineItem", "box"};
+  private static final String[] PLURAL_NAMES = {"headers", "addresses", "entries", "keys", "statuses", "attachments",
+      "recipients", "queries", "indices", "matches", "policies", "properties", "children", "salesPeople", "metadata",
+      "analyses", "lineItems", "boxes"};
+
+  @Benchmark
+  public void pluralizeNames(Blackhole blackhole) {
+    for (String name : SINGULAR_NAMES) {
+      blackhole.consume(pluralize(name));
+    }
+  }
+
+  @Benchmark
+  public void singularizeNames(Blackhole blackhole) {
+    for (String name : PLURAL_NAMES) {
+      blackhole.consume(singularize(name));
+    }
+  }
+}
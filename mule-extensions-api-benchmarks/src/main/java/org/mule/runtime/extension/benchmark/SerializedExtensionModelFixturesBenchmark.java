@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static org.mule.runtime.extension.benchmark.Fixtures.LIST_OF_SERIALIZED_EXTENSION_MODELS;
+import static org.mule.runtime.extension.benchmark.Fixtures.SERIALIZED_EXTENSION_MODEL;
+import static org.mule.runtime.extension.benchmark.Fixtures.SERIALIZED_EXTENSION_MODEL_NO_CATALOG;
+import static org.mule.runtime.extension.benchmark.Fixtures.XML_BASED_EXTENSION_MODEL;
+import static org.mule.runtime.extension.benchmark.Fixtures.read;
+
+import static java.util.Collections.singletonList;
+import static java.util.concurrent.TimeUnit.MICROSECONDS;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.extension.api.persistence.ExtensionModelBinarySerializer;
+import org.mule.runtime.extension.api.persistence.ExtensionModelCatalog;
+import org.mule.runtime.extension.api.persistence.ExtensionModelCatalogWriter;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+import java.util.Optional;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the {@link ExtensionModelJsonSerializer}, the {@link ExtensionModelBinarySerializer} and the
+ * {@link ExtensionModelCatalog} against the serialized extension models used as fixtures by the persistence module.
+ *
+ * @since 1.10
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MICROSECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class SerializedExtensionModelFixturesBenchmark {
+
+  private static final ExtensionModelJsonSerializer SERIALIZER = new ExtensionModelJsonSerializer();
+  private static final ExtensionModelBinarySerializer BINARY_SERIALIZER = new ExtensionModelBinarySerializer();
+
+  @State(Scope.Benchmark)
+  public static class SingleModel {
+
+    @Param({SERIALIZED_EXTENSION_MODEL, SERIALIZED_EXTENSION_MODEL_NO_CATALOG, XML_BASED_EXTENSION_MODEL})
+    private String fixture;
+
+    private String serializedExtensionModel;
+    private String reserializedExtensionModel;
+    private byte[] binaryExtensionModel;
+    private ByteBuffer catalog;
+    private ExtensionModel extensionModel;
+    private String operationName;
+
+    @Setup
+    public void readFixture() throws IOException {
+      serializedExtensionModel = read(fixture);
+      extensionModel = SERIALIZER.deserialize(serializedExtensionModel);
+      reserializedExtensionModel = SERIALIZER.serialize(extensionModel);
+      binaryExtensionModel = BINARY_SERIALIZER.serialize(extensionModel);
+
+      ByteArrayOutputStream catalogContent = new ByteArrayOutputStream();
+      new ExtensionModelCatalogWriter().write(singletonList(extensionModel), catalogContent);
+      catalog = ByteBuffer.wrap(catalogContent.toByteArray());
+      operationName = extensionModel.getOperationModels().isEmpty() ? ""
+          : extensionModel.getOperationModels().get(0).getName();
+    }
+  }
+
+  @State(Scope.Benchmark)
+  public static class ModelList {
+
+    private String serializedExtensionModelList;
+    private String serializedExtensionModelListWithDictionary;
+    private byte[] binaryExtensionModelList;
+    private List<ExtensionModel> extensionModelList;
+
+    @Setup
+    public void readFixture() {
+      serializedExtensionModelList = read(LIST_OF_SERIALIZED_EXTENSION_MODELS);
+      extensionModelList = SERIALIZER.deserializeList(serializedExtensionModelList);
+      serializedExtensionModelListWithDictionary = SERIALIZER.serializeListWithDictionary(extensionModelList);
+      binaryExtensionModelList = BINARY_SERIALIZER.serializeList(extensionModelList);
+    }
+  }
+
+  /**
+   * The fixtures have the legacy layout, with the types catalog at the end, so the sections which depend on it are buffered as
+   * trees before being parsed. Run with {@code -prof gc} to compare its allocations against
+   * {@link #deserializeStreamingLayout(SingleModel)}.
+   */
+  @Benchmark
+  public ExtensionModel deserialize(SingleModel state) {
+    return SERIALIZER.deserialize(state.serializedExtensionModel);
+  }
+
+  /**
+   * Compares against {@link #deserialize(SingleModel)}: the same models, written again by the serializer so that the sections
+   * they depend on come first and the document is streamed.
+   */
+  @Benchmark
+  public ExtensionModel deserializeStreamingLayout(SingleModel state) {
+    return SERIALIZER.deserialize(state.reserializedExtensionModel);
+  }
+
+  @Benchmark
+  public String serialize(SingleModel state) {
+    return SERIALIZER.serialize(state.extensionModel);
+  }
+
+  @Benchmark
+  public List<ExtensionModel> deserializeList(ModelList state) {
+    return SERIALIZER.deserializeList(state.serializedExtensionModelList);
+  }
+
+  @Benchmark
+  public String serializeList(ModelList state) {
+    return SERIALIZER.serializeList(state.extensionModelList);
+  }
+
+  /**
+   * Compares against {@link #deserializeList(ModelList)}: the errors, notifications, types and stereotypes shared by the
+   * extensions are parsed only once.
+   */
+  @Benchmark
+  public List<ExtensionModel> deserializeListWithDictionary(ModelList state) {
+    return SERIALIZER.deserializeList(state.serializedExtensionModelListWithDictionary);
+  }
+
+  @Benchmark
+  public String serializeListWithDictionary(ModelList state) {
+    return SERIALIZER.serializeListWithDictionary(state.extensionModelList);
+  }
+
+  @Benchmark
+  public ExtensionModel deserializeBinary(SingleModel state) {
+    return BINARY_SERIALIZER.deserialize(state.binaryExtensionModel);
+  }
+
+  @Benchmark
+  public byte[] serializeBinary(SingleModel state) {
+    return BINARY_SERIALIZER.serialize(state.extensionModel);
+  }
+
+  /**
+   * Compares against {@link #deserializeBinary(SingleModel)}: the cost of obtaining a single operation from a freshly opened
+   * catalog, which only decodes that operation and the parts of the extension which are not components.
+   */
+  @Benchmark
+  public Optional<OperationModel> getOperationFromCatalog(SingleModel state) throws IOException {
+    return ExtensionModelCatalog.from(state.catalog)
+        .getExtensionModel(state.extensionModel.getName())
+        .flatMap(extensionModel -> extensionModel.getOperationModel(state.operationName));
+  }
+
+  @Benchmark
+  public List<ExtensionModel> deserializeBinaryList(ModelList state) {
+    return BINARY_SERIALIZER.deserializeList(state.binaryExtensionModelList);
+  }
+
+  @Benchmark
+  public byte[] serializeBinaryList(ModelList state) {
+    return BINARY_SERIALIZER.serializeList(state.extensionModelList);
+  }
+}
@@ -0,0 +1,147 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.api.meta.Category.COMMUNITY;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.util.Collections.emptySet;
+
+import org.mule.metadata.api.ClassTypeLoader;
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.XmlDslModel;
+import org.mule.runtime.api.meta.model.declaration.fluent.ConfigurationDeclarer;
+import org.mule.runtime.api.meta.model.declaration.fluent.ExtensionDeclarer;
+import org.mule.runtime.api.meta.model.declaration.fluent.OperationDeclarer;
+import org.mule.runtime.api.meta.model.declaration.fluent.ParameterGroupDeclarer;
+import org.mule.runtime.api.meta.model.declaration.fluent.SourceDeclarer;
+import org.mule.runtime.extension.api.declaration.type.ExtensionsTypeLoaderFactory;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.benchmark.model.DeepPojoGraph;
+import org.mule.runtime.extension.internal.loader.DefaultExtensionLoadingContext;
+import org.mule.runtime.extension.internal.loader.ExtensionModelFactory;
+
+import java.io.InputStream;
+
+/**
+ * Builds synthetic extension declarations of arbitrary size, so that the benchmarks can measure how the hot paths scale with
+ * the amount of components and the depth of the types used by their parameters.
+ *
+ * @since 1.10
+ */
+public final class SyntheticExtensions {
+
+  public static final String EXTENSION_NAME = "synthetic";
+  public static final String PREFIX = "synthetic";
+  public static final String NAMESPACE = "http://www.mulesoft.org/schema/mule/synthetic";
+
+  private static final int OPERATIONS_PER_SOURCE = 10;
+
+  private SyntheticExtensions() {}
+
+  /**
+   * Declares a new extension with the given amount of operations.
+   *
+   * @param operationsCount the amount of operations to declare
+   * @param pojoDepth       the depth of the POJO graph used by the complex parameters, between 1 and
+   *                        {@link DeepPojoGraph#MAX_DEPTH}
+   * @return a fresh {@link ExtensionDeclarer}
+   */
+  public static ExtensionDeclarer declare(int operationsCount, int pojoDepth) {
+    return declare(new ExtensionDeclarer(), EXTENSION_NAME, operationsCount, pojoDepth);
+  }
+
+  /**
+   * Declares an extension with the given amount of operations into the given {@code declarer}.
+   *
+   * @param declarer        the declarer to declare the extension into
+   * @param name            the name of the extension, also used as the prefix of its namespace
+   * @param operationsCount the amount of operations to declare
+   * @param pojoDepth       the depth of the POJO graph used by the complex parameters, between 1 and
+   *                        {@link DeepPojoGraph#MAX_DEPTH}
+   * @return the given {@code declarer}
+   */
+  public static ExtensionDeclarer declare(ExtensionDeclarer declarer, String name, int operationsCount, int pojoDepth) {
+    ClassTypeLoader typeLoader = ExtensionsTypeLoaderFactory.getDefault().createTypeLoader();
+    MetadataType stringType = typeLoader.load(String.class);
+    MetadataType intType = typeLoader.load(Integer.class);
+    MetadataType streamType = typeLoader.load(InputStream.class);
+    MetadataType pojoType = typeLoader.load(DeepPojoGraph.rootForDepth(pojoDepth));
+
+    String namespace = "http://www.mulesoft.org/schema/mule/" + name;
+    declarer.named(name)
+        .describedAs("Synthetic extension with " + operationsCount + " operations")
+        .onVersion("1.0.0")
+        .fromVendor("MuleSoft")
+        .withCategory(COMMUNITY)
+        .withXmlDsl(XmlDslModel.builder()
+            .setPrefix(name)
+            .setNamespace(namespace)
+            .setXsdFileName("mule-" + name + ".xsd")
+            .setSchemaLocation(namespace + "/current/mule-" + name + ".xsd")
+            .setSchemaVersion("1.0.0")
+            .build());
+
+    ConfigurationDeclarer config = declarer.withConfig("config").describedAs("The configuration");
+    config.onDefaultParameterGroup().withRequiredParameter("host").ofType(stringType);
+    config.onDefaultParameterGroup().withOptionalParameter("port").ofType(intType).defaultingTo(8080);
+
+    config.withConnectionProvider("connection").describedAs("The connection provider")
+        .onDefaultParameterGroup().withRequiredParameter("username").ofType(stringType);
+
+    for (int i = 0; i < operationsCount; i++) {
+      OperationDeclarer operation = config.withOperation("operation" + i).describedAs("Operation number " + i);
+      operation.requiresConnection(true);
+      operation.withOutput().ofType(i % 2 == 0 ? stringType : pojoType);
+      operation.withOutputAttributes().ofType(stringType);
+
+      ParameterGroupDeclarer group = operation.onDefaultParameterGroup();
+      group.withRequiredParameter("name").ofType(stringType);
+      group.withOptionalParameter("count").ofType(intType);
+      group.withOptionalParameter("content").ofType(streamType);
+      group.withOptionalParameter("pojo").ofType(pojoType);
+
+      if (i % OPERATIONS_PER_SOURCE == 0) {
+        SourceDeclarer source = config.withMessageSource("source" + i).describedAs("Source number " + i);
+        source.withOutput().ofType(pojoType);
+        source.withOutputAttributes().ofType(stringType);
+        source.onDefaultParameterGroup().withOptionalParameter("frequency").ofType(intType);
+      }
+    }
+
+    return declarer;
+  }
+
+  /**
+   * @return a {@link ExtensionModelLoadingRequest} for loading a synthetic extension, with validations enabled.
+   */
+  public static ExtensionModelLoadingRequest loadingRequest() {
+    return builder(SyntheticExtensions.class.getClassLoader(), getDefault(emptySet()))
+        .setForceExtensionValidation(true)
+        .build();
+  }
+
+  /**
+   * @param declarer the declarer, as obtained through {@link #declare(int, int)}
+   * @return a context ready to be fed into an {@link ExtensionModelFactory}
+   */
+  public static ExtensionLoadingContext loadingContext(ExtensionDeclarer declarer) {
+    return new DefaultExtensionLoadingContext(declarer, loadingRequest());
+  }
+
+  /**
+   * Declares and creates a synthetic {@link ExtensionModel}.
+   *
+   * @see #declare(int, int)
+   */
+  public static ExtensionModel create(int operationsCount, int pojoDepth) {
+    return new ExtensionModelFactory().create(loadingContext(declare(operationsCount, pojoDepth)));
+  }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark;
+
+import static org.mule.runtime.extension.benchmark.SyntheticExtensions.create;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+
+import org.mule.metadata.api.model.ObjectType;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.meta.model.connection.HasConnectionProviderModels;
+import org.mule.runtime.api.meta.model.operation.HasOperationModels;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
+import org.mule.runtime.api.meta.model.source.HasSourceModels;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.api.meta.model.util.ExtensionWalker;
+import org.mule.runtime.extension.api.dsl.syntax.XmlDslSyntaxResolver;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.SingleExtensionImportTypesStrategy;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+/**
+ * Measures the resolution of the DSL syntax of every component, parameter and type of a synthetic {@link ExtensionModel}, the
+ * same way schema generation and validation do.
+ *
+ * @since 1.10
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(1)
+public class XmlDslSyntaxResolverBenchmark {
+
+  private static final int CONCURRENT_THREADS = 4;
+
+  @Param({"10", "100", "1000", "5000"})
+  private int operations;
+
+  @Param({"1", "4", "8"})
+  private int pojoDepth;
+
+  private ExtensionModel extensionModel;
+  private DslSyntaxResolver sharedResolver;
+
+  @Setup
+  public void createExtensionModel() {
+    extensionModel = create(operations, pojoDepth);
+    sharedResolver = new XmlDslSyntaxResolver(extensionModel, new SingleExtensionImportTypesStrategy());
+  }
+
+  /**
+   * Resolves the whole model with a new resolver, which is what each validation and schema generation does.
+   */
+  @Benchmark
+  public void resolveWithNewResolver(Blackhole blackhole) {
+    resolveAll(new XmlDslSyntaxResolver(extensionModel, new SingleExtensionImportTypesStrategy()), blackhole);
+  }
+
+  /**
+   * Resolves the whole model from many threads with a single resolver, the way parallel schema generation and validation can
+   * share it.
+   */
+  @Benchmark
+  @Threads(CONCURRENT_THREADS)
+  public void resolveWithSharedResolverConcurrently(Blackhole blackhole) {
+    resolveAll(sharedResolver, blackhole);
+  }
+
+  private void resolveAll(DslSyntaxResolver resolver, Blackhole blackhole) {
+    new ExtensionWalker() {
+
+      @Override
+      protected void onConfiguration(ConfigurationModel model) {
+        blackhole.consume(resolver.resolve(model));
+      }
+
+      @Override
+      protected void onConnectionProvider(HasConnectionProviderModels owner, ConnectionProviderModel model) {
+        blackhole.consume(resolver.resolve(model));
+      }
+
+      @Override
+      protected void onOperation(HasOperationModels owner, OperationModel model) {
+        blackhole.consume(resolver.resolve(model));
+      }
+
+      @Override
+      protected void onSource(HasSourceModels owner, SourceModel model) {
+        blackhole.consume(resolver.resolve(model));
+      }
+
+      @Override
+      protected void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
+        blackhole.consume(resolver.resolve(model));
+      }
+    }.walk(extensionModel);
+
+    for (ObjectType type : extensionModel.getTypes()) {
+      blackhole.consume(resolver.resolve(type));
+    }
+  }
+}
@@ -0,0 +1,340 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.benchmark.model;
+
+import java.util.List;
+
+/**
+ * A chain of POJOs, each one nesting the next level both as a single field and as a collection, used to produce deep
+ * {@code MetadataType} graphs for the benchmarks.
+ * <p>
+ * {@link Level1} is the root of an 8 levels deep graph, while {@link Level8} is a leaf.
+ *
+ * @since 1.10
+ */
+public final class DeepPojoGraph {
+
+  public static final int MAX_DEPTH = 8;
+
+  private static final Class<?>[] LEVELS = new Class<?>[] {Level1.class, Level2.class, Level3.class, Level4.class,
+      Level5.class, Level6.class, Level7.class, Level8.class};
+
+  private DeepPojoGraph() {}
+
+  /**
+   * @param depth the amount of nested levels, between 1 and {@link #MAX_DEPTH}
+   * @return the root class of a POJO graph with the given {@code depth}
+   */
+  public static Class<?> rootForDepth(int depth) {
+    if (depth < 1 || depth > MAX_DEPTH) {
+      throw new IllegalArgumentException("depth must be between 1 and " + MAX_DEPTH);
+    }
+    return LEVELS[MAX_DEPTH - depth];
+  }
+
+  public static class Level1 {
+
+    private String name;
+    private int count;
+    private Level2 nested;
+    private List<Level2> items;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+
+    public Level2 getNested() {
+      return nested;
+    }
+
+    public void setNested(Level2 nested) {
+      this.nested = nested;
+    }
+
+    public List<Level2> getItems() {
+      return items;
+    }
+
+    public void setItems(List<Level2> items) {
+      this.items = items;
+    }
+  }
+
+  public static class Level2 {
+
+    private String name;
+    private int count;
+    private Level3 nested;
+    private List<Level3> items;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+
+    public Level3 getNested() {
+      return nested;
+    }
+
+    public void setNested(Level3 nested) {
+      this.nested = nested;
+    }
+
+    public List<Level3> getItems() {
+      return items;
+    }
+
+    public void setItems(List<Level3> items) {
+      this.items = items;
+    }
+  }
+
+  public static class Level3 {
+
+    private String name;
+    private int count;
+    private Level4 nested;
+    private List<Level4> items;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+
+    public Level4 getNested() {
+      return nested;
+    }
+
+    public void setNested(Level4 nested) {
+      this.nested = nested;
+    }
+
+    public List<Level4> getItems() {
+      return items;
+    }
+
+    public void setItems(List<Level4> items) {
+      this.items = items;
+    }
+  }
+
+  public static class Level4 {
+
+    private String name;
+    private int count;
+    private Level5 nested;
+    private List<Level5> items;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+
+    public Level5 getNested() {
+      return nested;
+    }
+
+    public void setNested(Level5 nested) {
+      this.nested = nested;
+    }
+
+    public List<Level5> getItems() {
+      return items;
+    }
+
+    public void setItems(List<Level5> items) {
+      this.items = items;
+    }
+  }
+
+  public static class Level5 {
+
+    private String name;
+    private int count;
+    private Level6 nested;
+    private List<Level6> items;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+
+    public Level6 getNested() {
+      return nested;
+    }
+
+    public void setNested(Level6 nested) {
+      this.nested = nested;
+    }
+
+    public List<Level6> getItems() {
+      return items;
+    }
+
+    public void setItems(List<Level6> items) {
+      this.items = items;
+    }
+  }
+
+  public static class Level6 {
+
+    private String name;
+    private int count;
+    private Level7 nested;
+    private List<Level7> items;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+
+    public Level7 getNested() {
+      return nested;
+    }
+
+    public void setNested(Level7 nested) {
+      this.nested = nested;
+    }
+
+    public List<Level7> getItems() {
+      return items;
+    }
+
+    public void setItems(List<Level7> items) {
+      this.items = items;
+    }
+  }
+
+  public static class Level7 {
+
+    private String name;
+    private int count;
+    private Level8 nested;
+    private List<Level8> items;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+
+    public Level8 getNested() {
+      return nested;
+    }
+
+    public void setNested(Level8 nested) {
+      this.nested = nested;
+    }
+
+    public List<Level8> getItems() {
+      return items;
+    }
+
+    public void setItems(List<Level8> items) {
+      this.items = items;
+    }
+  }
+
+  public static class Level8 {
+
+    private String name;
+    private int count;
+
+    public String getName() {
+      return name;
+    }
+
+    public void setName(String name) {
+      this.name = name;
+    }
+
+    public int getCount() {
+      return count;
+    }
+
+    public void setCount(int count) {
+      this.count = count;
+    }
+  }
+}
@@ -15,8 +15,12 @@ module org.mule.runtime.extensions.api.dsql {
   requires org.mule.runtime.extensions.api;
 
   requires antlr.runtime;
+  requires com.github.benmanes.caffeine;
 
   provides org.mule.runtime.extension.api.dsql.DsqlParser
-      with org.mule.runtime.extension.internal.dsql.DefaultDsqlParser;
+      with org.mule.runtime.extension.internal.dsql.DefaultDsqlParser,
+          org.mule.runtime.extension.internal.dsql.RecursiveDescentDsqlParser;
+  provides org.mule.runtime.extension.api.dsql.DsqlQueryEvaluator
+      with org.mule.runtime.extension.internal.dsql.DefaultDsqlQueryEvaluator;
 
 }
@@ -0,0 +1,116 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static java.lang.Character.isUpperCase;
+import static java.lang.Character.toLowerCase;
+import static java.lang.reflect.Modifier.isStatic;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+
+/**
+ * {@link RecordAccessor} for records of a given type, whose fields are read through their public getters or, if there is no
+ * getter for a field, through the public field itself.
+ *
+ * @param <T> the generic type of the records
+ * @since 1.10
+ */
+final class BeanRecordAccessor<T> implements RecordAccessor<T> {
+
+  private final Class<T> recordType;
+
+  /**
+   * The readers of the fields of the records, sorted by field name.
+   */
+  private final Map<String, Function<T, Object>> fields = new TreeMap<>();
+
+  BeanRecordAccessor(Class<T> recordType) {
+    this.recordType = recordType;
+
+    for (java.lang.reflect.Field field : recordType.getFields()) {
+      if (!isStatic(field.getModifiers())) {
+        fields.put(field.getName(), record -> {
+          try {
+            return field.get(record);
+          } catch (IllegalAccessException e) {
+            throw new IllegalStateException("Could not read field [" + field.getName() + "] of " + recordType.getName(), e);
+          }
+        });
+      }
+    }
+
+    for (Method method : recordType.getMethods()) {
+      String property = getterProperty(method);
+      if (property != null) {
+        fields.put(property, record -> invoke(method, record));
+      }
+    }
+  }
+
+  @Override
+  public Function<T, Object> field(String name) {
+    Function<T, Object> field = fields.get(name);
+    if (field == null) {
+      throw new IllegalArgumentException("Type " + recordType.getName() + " has no field [" + name + "]");
+    }
+    return field;
+  }
+
+  @Override
+  public Map<String, Object> allFields(T record) {
+    Map<String, Object> values = new LinkedHashMap<>();
+    fields.forEach((name, field) -> values.put(name, field.apply(record)));
+    return values;
+  }
+
+  /**
+   * @return the name of the property the given {@code method} is the getter of, or {@code null} if it isn't a getter
+   */
+  private static String getterProperty(Method method) {
+    if (isStatic(method.getModifiers()) || method.getParameterCount() != 0 || method.getDeclaringClass() == Object.class) {
+      return null;
+    }
+
+    String name = method.getName();
+    Class<?> returnType = method.getReturnType();
+    if (name.startsWith("get") && name.length() > 3 && returnType != void.class) {
+      return decapitalize(name.substring(3));
+    } else if (name.startsWith("is") && name.length() > 2 && (returnType == boolean.class || returnType == Boolean.class)) {
+      return decapitalize(name.substring(2));
+    }
+    return null;
+  }
+
+  /**
+   * Follows the JavaBeans convention, by which a name starting with two uppercase letters (such as {@code URL}) is kept as is.
+   */
+  private static String decapitalize(String name) {
+    if (name.length() > 1 && isUpperCase(name.charAt(0)) && isUpperCase(name.charAt(1))) {
+      return name;
+    }
+    return toLowerCase(name.charAt(0)) + name.substring(1);
+  }
+
+  private Object invoke(Method getter, T record) {
+    try {
+      return getter.invoke(record);
+    } catch (InvocationTargetException e) {
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      }
+      throw new IllegalStateException("Could not read field of " + recordType.getName() + " through " + getter.getName(),
+                                      e.getCause());
+    } catch (IllegalAccessException e) {
+      throw new IllegalStateException("Could not read field of " + recordType.getName() + " through " + getter.getName(), e);
+    }
+  }
+}
@@ -0,0 +1,131 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import org.mule.runtime.extension.api.dsql.DsqlParser;
+import org.mule.runtime.extension.api.dsql.DsqlQuery;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Base class for the {@link DsqlParser}s of this module, which checks the {@code dsql:} prefix of the queries and keeps the
+ * parsed {@link DsqlQuery}s in a size-bounded cache, so that implementations only have to parse the query itself.
+ * <p>
+ * Queries which only differ in their whitespace (outside of literals, identifiers between brackets and Mule expressions) share
+ * the same entry.
+ *
+ * @since 1.10
+ */
+abstract class CachingDsqlParser extends DsqlParser {
+
+  private final Cache<String, DsqlQuery> parsedQueries;
+
+  /**
+   * @param parsedQueries the cache to keep the parsed queries in, or {@code null} to parse every query each time.
+   */
+  CachingDsqlParser(Cache<String, DsqlQuery> parsedQueries) {
+    this.parsedQueries = parsedQueries;
+  }
+
+  /**
+   * @param maxCachedQueries the maximum amount of parsed queries to keep. If {@code 0}, every query is parsed each time.
+   */
+  CachingDsqlParser(int maxCachedQueries) {
+    this(maxCachedQueries > 0 ? newParsedQueriesCache(maxCachedQueries) : null);
+  }
+
+  static Cache<String, DsqlQuery> newParsedQueriesCache(int maxCachedQueries) {
+    return newBuilder().maximumSize(maxCachedQueries).build();
+  }
+
+  /**
+   * Parses a {@link String} representing a dsql query into a proper {@link DsqlQuery} instance.
+   *
+   * @param dsqlQuery a {@link String} that represents a {@link DsqlQuery}.
+   * @return a parsed {@link DsqlQuery} instance.
+   */
+  @Override
+  public DsqlQuery parse(final String dsqlQuery) {
+
+    if (!isDsqlQuery(dsqlQuery)) {
+      throw new IllegalArgumentException("Invalid Query: DSQL queries must start with the [dsql:] prefix");
+    }
+
+    String query = dsqlQuery.substring(5);
+    if (parsedQueries == null) {
+      return doParse(query);
+    }
+
+    // parsing failures are not cached, so they are thrown each time the query is parsed
+    return parsedQueries.get(normalize(query), key -> doParse(query));
+  }
+
+  /**
+   * Parses the given {@code query}.
+   *
+   * @param query a query, without the {@code dsql:} prefix
+   * @return a parsed {@link DsqlQuery} instance.
+   * @throws org.mule.runtime.extension.internal.exception.DsqlParsingException if the query is not valid
+   */
+  abstract DsqlQuery doParse(String query);
+
+  /**
+   * Trims the given {@code query} and collapses each run of whitespace in it into a single space, except inside of literals,
+   * identifiers between brackets and Mule expressions, where whitespace is significant. Queries with comments are only trimmed,
+   * since a comment ends at the end of the line.
+   *
+   * @param query a query, without the {@code dsql:} prefix
+   * @return the normalized {@code query}
+   */
+  static String normalize(String query) {
+    String trimmed = query.trim();
+    if (trimmed.contains("--")) {
+      return trimmed;
+    }
+
+    StringBuilder normalized = new StringBuilder(trimmed.length());
+    char quote = 0;
+    int brackets = 0;
+    boolean whitespace = false;
+    boolean changed = false;
+    for (int i = 0; i < trimmed.length(); ++i) {
+      char c = trimmed.charAt(i);
+      if (quote != 0) {
+        if (c == '\\' && i + 1 < trimmed.length()) {
+          normalized.append(c);
+          c = trimmed.charAt(++i);
+        } else if (c == quote) {
+          quote = 0;
+        }
+      } else if (c == '\'' || c == '"') {
+        quote = c;
+      } else if (c == '[') {
+        brackets++;
+      } else if (c == ']' && brackets > 0) {
+        brackets--;
+      } else if (brackets == 0 && isWhitespace(c)) {
+        changed |= whitespace || c != ' ';
+        whitespace = true;
+        continue;
+      }
+
+      if (whitespace) {
+        normalized.append(' ');
+        whitespace = false;
+      }
+      normalized.append(c);
+    }
+
+    return changed ? normalized.toString() : trimmed;
+  }
+
+  static boolean isWhitespace(char c) {
+    return c == ' ' || c == '\t' || c == '\n' || c == '\r' || c == '\f';
+  }
+}
@@ -0,0 +1,199 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static java.util.Collections.emptyIterator;
+import static java.util.Collections.reverseOrder;
+import static java.util.Objects.requireNonNull;
+
+import org.mule.runtime.extension.api.dsql.CompiledDsqlQuery;
+import org.mule.runtime.extension.api.dsql.DsqlQuery;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.PriorityQueue;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * Default implementation of {@link CompiledDsqlQuery}.
+ * <p>
+ * Records are filtered, skipped and projected one at a time as the result is iterated. A sorted query has to read all the
+ * records before returning the first one: with a {@code LIMIT}, only the first {@code OFFSET + LIMIT} records in order are kept
+ * while reading them, in a bounded heap; without it, all the records that match the filter are buffered and sorted.
+ *
+ * @param <T> the generic type of the records
+ * @since 1.10
+ */
+final class DefaultCompiledDsqlQuery<T> implements CompiledDsqlQuery<T> {
+
+  private final DsqlQuery query;
+  private final Predicate<T> filter;
+  private final Comparator<T> order;
+  private final Function<T, Map<String, Object>> projection;
+  private final int offset;
+  private final int limit;
+
+  /**
+   * @param query      the compiled query
+   * @param filter     matches the records that satisfy the filter of the query
+   * @param order      the order of the records, or {@code null} if the query is not sorted
+   * @param projection extracts the selected fields from a record
+   * @param offset     the number of records to skip
+   * @param limit      the maximum number of records to return, or a negative number if there's no limit
+   */
+  DefaultCompiledDsqlQuery(DsqlQuery query, Predicate<T> filter, Comparator<T> order,
+                           Function<T, Map<String, Object>> projection, int offset, int limit) {
+    this.query = query;
+    this.filter = filter;
+    this.order = order;
+    this.projection = projection;
+    this.offset = offset;
+    this.limit = limit;
+  }
+
+  @Override
+  public DsqlQuery getQuery() {
+    return query;
+  }
+
+  @Override
+  public Iterable<Map<String, Object>> evaluate(Iterable<? extends T> records) {
+    requireNonNull(records, "records cannot be null");
+    return () -> iterator(records);
+  }
+
+  private Iterator<Map<String, Object>> iterator(Iterable<? extends T> records) {
+    if (limit == 0) {
+      return emptyIterator();
+    } else if (order == null) {
+      return new ResultIterator(records.iterator(), filter, offset);
+    } else if (limit < 0) {
+      List<T> matching = new ArrayList<>();
+      for (T record : records) {
+        if (filter.test(record)) {
+          matching.add(record);
+        }
+      }
+      // the sort is stable, so records which are equal in order keep the order they were read in
+      matching.sort(order);
+      return new ResultIterator(matching.listIterator(Math.min(offset, matching.size())), record -> true, 0);
+    } else {
+      return new ResultIterator(top(records, (int) Math.min((long) offset + limit, Integer.MAX_VALUE)).iterator(),
+                                record -> true, offset);
+    }
+  }
+
+  /**
+   * @return the first {@code size} records that match the filter, in order
+   */
+  private List<T> top(Iterable<? extends T> records, int size) {
+    // the heap is sorted in reverse, so its head is the last one of the records kept so far. Records which are equal in order
+    // are sorted by the sequence in which they were read, so the result is the same as with a stable sort.
+    Comparator<Ranked<T>> ranking = Comparator.<Ranked<T>, T>comparing(ranked -> ranked.record, order)
+        .thenComparingLong(ranked -> ranked.sequence);
+    PriorityQueue<Ranked<T>> heap = new PriorityQueue<>(reverseOrder(ranking));
+
+    long sequence = 0;
+    for (T record : records) {
+      if (!filter.test(record)) {
+        continue;
+      }
+
+      Ranked<T> ranked = new Ranked<>(record, sequence++);
+      if (heap.size() < size) {
+        heap.offer(ranked);
+      } else if (ranking.compare(ranked, heap.peek()) < 0) {
+        heap.poll();
+        heap.offer(ranked);
+      }
+    }
+
+    @SuppressWarnings("unchecked")
+    Ranked<T>[] sorted = heap.toArray(new Ranked[heap.size()]);
+    Arrays.sort(sorted, ranking);
+
+    List<T> top = new ArrayList<>(sorted.length);
+    for (Ranked<T> ranked : sorted) {
+      top.add(ranked.record);
+    }
+    return top;
+  }
+
+  private static final class Ranked<T> {
+
+    private final T record;
+    private final long sequence;
+
+    private Ranked(T record, long sequence) {
+      this.record = record;
+      this.sequence = sequence;
+    }
+  }
+
+  /**
+   * Lazily filters, skips, limits and projects the records.
+   */
+  private final class ResultIterator implements Iterator<Map<String, Object>> {
+
+    private final Iterator<? extends T> records;
+    private final Predicate<T> matches;
+    private int toSkip;
+    private int returned;
+    private T next;
+    private boolean hasNext;
+
+    private ResultIterator(Iterator<? extends T> records, Predicate<T> matches, int toSkip) {
+      this.records = records;
+      this.matches = matches;
+      this.toSkip = toSkip;
+    }
+
+    @Override
+    public boolean hasNext() {
+      if (hasNext) {
+        return true;
+      } else if (limit >= 0 && returned >= limit) {
+        return false;
+      }
+
+      while (records.hasNext()) {
+        T record = records.next();
+        if (!matches.test(record)) {
+          continue;
+        }
+        if (toSkip > 0) {
+          toSkip--;
+          continue;
+        }
+
+        next = record;
+        hasNext = true;
+        return true;
+      }
+      return false;
+    }
+
+    @Override
+    public Map<String, Object> next() {
+      if (!hasNext()) {
+        throw new NoSuchElementException();
+      }
+
+      T record = next;
+      next = null;
+      hasNext = false;
+      returned++;
+      return projection.apply(record);
+    }
+  }
+}
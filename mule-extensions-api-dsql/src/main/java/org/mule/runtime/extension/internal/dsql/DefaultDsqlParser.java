@@ -6,7 +6,6 @@
  */
 package org.mule.runtime.extension.internal.dsql;
 
-import org.mule.runtime.extension.api.dsql.DsqlParser;
 import org.mule.runtime.extension.api.dsql.DsqlQuery;
 import org.mule.runtime.extension.api.dsql.QueryBuilder;
 import org.mule.runtime.extension.internal.exception.DsqlParsingException;
@@ -18,20 +17,35 @@ import org.antlr.runtime.ANTLRStringStream;
 import org.antlr.runtime.CommonTokenStream;
 import org.antlr.runtime.RecognitionException;
 
+import com.github.benmanes.caffeine.cache.Cache;
+
 /**
  * This class works as a processor of {@link DsqlQuery}s, conforming to the rules of the formal defined grammar.
  * <p>
  * Basically receives a Dsql Query as a {@link String} instance and process it to return a {@link DsqlQuery} object to work with.
+ * <p>
+ * Since the same queries are usually parsed over and over (for example, by polling sources), the parsed {@link DsqlQuery}s are
+ * kept in a size-bounded cache, shared by all the instances created through the default constructor. Queries which only differ
+ * in their whitespace (outside of literals, identifiers between brackets and Mule expressions) share the same entry.
  *
  * @since 1.0
  */
-public final class DefaultDsqlParser extends DsqlParser {
+public final class DefaultDsqlParser extends CachingDsqlParser {
 
   /**
    * A prefix that marks that a query is a {@link DsqlQuery}
    */
   private static final String DSQL_QUERY_PREFIX = "dsql:";
 
+  /**
+   * The maximum amount of parsed queries kept by the shared cache.
+   *
+   * @since 1.10
+   */
+  public static final int DEFAULT_MAX_CACHED_QUERIES = 1024;
+
+  private static final Cache<String, DsqlQuery> SHARED_PARSED_QUERIES = newParsedQueriesCache(DEFAULT_MAX_CACHED_QUERIES);
+
   /**
    * @return a new {@link DefaultDsqlParser} instance.
    */
@@ -39,6 +53,23 @@ public final class DefaultDsqlParser extends DsqlParser {
     return new DefaultDsqlParser();
   }
 
+  /**
+   * Creates a new instance which uses the shared cache of parsed queries.
+   */
+  public DefaultDsqlParser() {
+    super(SHARED_PARSED_QUERIES);
+  }
+
+  /**
+   * Creates a new instance with its own cache of parsed queries.
+   *
+   * @param maxCachedQueries the maximum amount of parsed queries to keep. If {@code 0}, every query is parsed each time.
+   * @since 1.10
+   */
+  public DefaultDsqlParser(int maxCachedQueries) {
+    super(maxCachedQueries);
+  }
+
   /**
    * Checks if a {@link String} that represents a query is a {@link DsqlQuery} or another kind of query (Native Query).
    *
@@ -49,20 +80,9 @@ public final class DefaultDsqlParser extends DsqlParser {
     return query.length() > 5 && query.toLowerCase().startsWith(DSQL_QUERY_PREFIX);
   }
 
-  /**
-   * Parses a {@link String} representing a dsql query into a proper {@link DsqlQuery} instance.
-   *
-   * @param dsqlQuery a {@link String} that represents a {@link DsqlQuery}.
-   * @return a parsed {@link DsqlQuery} instance.
-   */
   @Override
-  public DsqlQuery parse(final String dsqlQuery) {
-
-    if (!isDsqlQuery(dsqlQuery)) {
-      throw new IllegalArgumentException("Invalid Query: DSQL queries must start with the [dsql:] prefix");
-    }
-
-    MuleDsqlLexer dsqlLexer = new MuleDsqlLexer(new ANTLRStringStream(dsqlQuery.substring(5)));
+  DsqlQuery doParse(String query) {
+    MuleDsqlLexer dsqlLexer = new MuleDsqlLexer(new ANTLRStringStream(query));
 
     CommonTokenStream dsqlTokens = new CommonTokenStream();
     dsqlTokens.setTokenSource(dsqlLexer);
@@ -13,6 +13,7 @@ import org.mule.runtime.extension.api.dsql.DsqlQuery;
 import org.mule.runtime.extension.api.dsql.EntityType;
 import org.mule.runtime.extension.api.dsql.Expression;
 import org.mule.runtime.extension.api.dsql.Field;
+import org.mule.runtime.extension.api.dsql.PreparedDsqlQuery;
 import org.mule.runtime.extension.api.dsql.QueryTranslator;
 import org.mule.runtime.extension.internal.expression.EmptyExpression;
 
@@ -144,6 +145,20 @@ public final class DefaultDsqlQuery extends DsqlQuery {
     return offset;
   }
 
+  /**
+   * @return whether the query has a {@code LIMIT}, since {@link #getLimit()} can't be called otherwise.
+   */
+  boolean hasLimit() {
+    return limit != null;
+  }
+
+  /**
+   * @return whether the query has an {@code OFFSET}, since {@link #getOffset()} can't be called otherwise.
+   */
+  boolean hasOffset() {
+    return offset != null;
+  }
+
   /**
    * Translates {@code this} {@link DsqlQuery} to a query in another query language using the specified {@code queryTranslator}.
    *
@@ -174,4 +189,17 @@ public final class DefaultDsqlQuery extends DsqlQuery {
     return queryTranslator.getTranslation();
   }
 
+  /**
+   * Translates {@code this} {@link DsqlQuery} once using the specified {@code queryTranslator}, leaving a placeholder for each
+   * Mule expression compared against a field.
+   *
+   * @param queryTranslator a new {@link QueryTranslator} instance used to translate from DSQL to another query language.
+   * @return a {@link PreparedDsqlQuery} with the translated query.
+   */
+  @Override
+  public PreparedDsqlQuery prepare(QueryTranslator queryTranslator) {
+    ExpressionPlaceholdersTranslator placeholdersTranslator = new ExpressionPlaceholdersTranslator(queryTranslator);
+    return placeholdersTranslator.prepare(this, translate(placeholdersTranslator));
+  }
+
 }
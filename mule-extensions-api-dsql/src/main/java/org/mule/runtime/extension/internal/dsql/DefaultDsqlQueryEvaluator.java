@@ -0,0 +1,103 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static org.mule.runtime.extension.api.dsql.Direction.DESC;
+import static org.mule.runtime.extension.internal.dsql.RecordFilters.fieldName;
+
+import static java.util.Objects.requireNonNull;
+
+import org.mule.runtime.extension.api.dsql.CompiledDsqlQuery;
+import org.mule.runtime.extension.api.dsql.DsqlQuery;
+import org.mule.runtime.extension.api.dsql.DsqlQueryEvaluator;
+import org.mule.runtime.extension.api.dsql.Field;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Default implementation of {@link DsqlQueryEvaluator}, which compiles the queries into a {@link DefaultCompiledDsqlQuery}.
+ * <p>
+ * Fields are referenced by their name, without the brackets around it if it has them. A query selecting {@code *} returns all
+ * the fields of the records.
+ *
+ * @since 1.10
+ */
+public final class DefaultDsqlQueryEvaluator extends DsqlQueryEvaluator {
+
+  @Override
+  public CompiledDsqlQuery<Map<String, ?>> compile(DsqlQuery query) {
+    return compile(query, MapRecordAccessor.INSTANCE);
+  }
+
+  @Override
+  public <T> CompiledDsqlQuery<T> compile(DsqlQuery query, Class<T> recordType) {
+    requireNonNull(recordType, "recordType cannot be null");
+    return compile(query, new BeanRecordAccessor<>(recordType));
+  }
+
+  private <T> CompiledDsqlQuery<T> compile(DsqlQuery query, RecordAccessor<T> accessor) {
+    requireNonNull(query, "query cannot be null");
+
+    Integer limit = hasLimit(query) ? query.getLimit() : null;
+    Integer offset = hasOffset(query) ? query.getOffset() : null;
+    if ((limit != null && limit < 0) || (offset != null && offset < 0)) {
+      throw new IllegalArgumentException("LIMIT and OFFSET can't be negative");
+    }
+
+    return new DefaultCompiledDsqlQuery<>(query,
+                                          RecordFilters.compile(query.getFilterExpression(), accessor),
+                                          order(query, accessor),
+                                          projection(query.getFields(), accessor),
+                                          offset != null ? offset : 0,
+                                          limit != null ? limit : -1);
+  }
+
+  private static <T> Comparator<T> order(DsqlQuery query, RecordAccessor<T> accessor) {
+    Comparator<T> order = null;
+    for (Field field : query.getOrderByFields()) {
+      Comparator<T> fieldOrder = Comparator.comparing(accessor.field(fieldName(field.getName())), RecordValues::compareForSort);
+      order = order == null ? fieldOrder : order.thenComparing(fieldOrder);
+    }
+
+    return order != null && query.getDirection() == DESC ? order.reversed() : order;
+  }
+
+  private static <T> Function<T, Map<String, Object>> projection(List<Field> fields, RecordAccessor<T> accessor) {
+    List<String> names = new ArrayList<>(fields.size());
+    List<Function<T, Object>> readers = new ArrayList<>(fields.size());
+    for (Field field : fields) {
+      if (field.getName().equals("*")) {
+        return accessor::allFields;
+      }
+
+      String name = fieldName(field.getName());
+      names.add(name);
+      readers.add(accessor.field(name));
+    }
+
+    return record -> {
+      Map<String, Object> projected = new LinkedHashMap<>(names.size() * 4 / 3 + 1);
+      for (int i = 0; i < names.size(); ++i) {
+        projected.put(names.get(i), readers.get(i).apply(record));
+      }
+      return projected;
+    };
+  }
+
+  private static boolean hasLimit(DsqlQuery query) {
+    return !(query instanceof DefaultDsqlQuery) || ((DefaultDsqlQuery) query).hasLimit();
+  }
+
+  private static boolean hasOffset(DsqlQuery query) {
+    return !(query instanceof DefaultDsqlQuery) || ((DefaultDsqlQuery) query).hasOffset();
+  }
+}
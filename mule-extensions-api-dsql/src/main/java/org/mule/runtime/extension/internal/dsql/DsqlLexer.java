@@ -0,0 +1,471 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static org.mule.runtime.extension.internal.dsql.CachingDsqlParser.isWhitespace;
+
+/**
+ * Hand written lexer for the {@code MuleDsql.g} grammar, used by {@link RecursiveDescentDsqlParser}.
+ * <p>
+ * Tokens are not objects: the lexer keeps the {@link #type()}, {@link #start()} and {@link #end()} of the current token, and
+ * {@link #next()} moves on to the following one. Whitespace and comments are skipped, as they are in the hidden channel of the
+ * grammar.
+ * <p>
+ * Tokens are recognized as the lexer generated from the grammar does: the longest match wins and, when several rules match the
+ * same text, the one defined first in the grammar does. Also like it, characters which cannot start any token are skipped, and so
+ * are tokens which are not finished (such as an unclosed literal) along with the character at which they fail.
+ * <p>
+ * Instances are not thread-safe.
+ *
+ * @since 1.10
+ */
+final class DsqlLexer {
+
+  static final int EOF = -1;
+  static final int COMMA = 0;
+  static final int ASC = 1;
+  static final int DESC = 2;
+  static final int SELECT = 3;
+  static final int FROM = 4;
+  static final int WHERE = 5;
+  static final int ORDER = 6;
+  static final int BY = 7;
+  static final int LIMIT = 8;
+  static final int OFFSET = 9;
+  static final int AND = 10;
+  static final int OR = 11;
+  static final int NOT = 12;
+  static final int OPENING_PARENTHESIS = 13;
+  static final int CLOSING_PARENTHESIS = 14;
+  static final int COMPARATOR = 15;
+  static final int DATE_TIME_LITERAL = 16;
+  static final int DATE_LITERAL = 17;
+  static final int NULL_LITERAL = 18;
+  static final int MULE_EXPRESSION = 19;
+  static final int STRING_LITERAL = 20;
+  static final int BOOLEAN_LITERAL = 21;
+  static final int INTEGER_LITERAL = 22;
+  static final int DOUBLE_LITERAL = 23;
+  static final int IDENT = 24;
+  static final int ASTERIX = 25;
+  static final int OPERATOR = 26;
+
+  // the rules which may match a token starting with a digit or a dot, in the order they are defined in the grammar
+  private static final int[] NUMERIC_RULES = {DATE_TIME_LITERAL, DATE_LITERAL, INTEGER_LITERAL, DOUBLE_LITERAL, IDENT};
+
+  private static final String DATE_TEMPLATE = "dddd-dd-dd";
+  private static final String DATE_TIME_TEMPLATE = "dddd-dd-ddTdd:dd:dd";
+
+  private final String input;
+  private final int length;
+  private final int[] numericEnds = new int[NUMERIC_RULES.length];
+
+  private int position;
+  private int type;
+  private int start;
+  private int end;
+
+  DsqlLexer(String input) {
+    this.input = input;
+    this.length = input.length();
+    next();
+  }
+
+  /**
+   * @return the type of the current token, or {@link #EOF} once all the input was consumed
+   */
+  int type() {
+    return type;
+  }
+
+  /**
+   * @return the index in the input where the current token starts
+   */
+  int start() {
+    return start;
+  }
+
+  /**
+   * @return the index in the input where the current token ends, exclusive
+   */
+  int end() {
+    return end;
+  }
+
+  /**
+   * @return the text of the current token
+   */
+  String text() {
+    return text(start, end);
+  }
+
+  /**
+   * @param from the index in the input where the text starts
+   * @param to   the index in the input where the text ends, exclusive
+   * @return the text of the input between the given indexes
+   */
+  String text(int from, int to) {
+    return input.substring(from, to);
+  }
+
+  /**
+   * @param index an index in the input
+   * @return the {@code line:position} of the given {@code index}, as the generated parser reports it: lines start at 1 and
+   *         positions within a line at 0.
+   */
+  String location(int index) {
+    int line = 1;
+    int lineStart = 0;
+    for (int i = 0; i < index; ++i) {
+      if (input.charAt(i) == '\n') {
+        line++;
+        lineStart = i + 1;
+      }
+    }
+    return line + ":" + (index - lineStart);
+  }
+
+  /**
+   * Moves on to the next token.
+   */
+  void next() {
+    while (position < length) {
+      start = position;
+      char c = input.charAt(position);
+      switch (c) {
+        case ',':
+          token(COMMA, position + 1);
+          return;
+        case '(':
+          token(OPENING_PARENTHESIS, position + 1);
+          return;
+        case ')':
+          token(CLOSING_PARENTHESIS, position + 1);
+          return;
+        case '*':
+          token(ASTERIX, position + 1);
+          return;
+        case '=':
+          token(OPERATOR, position + 1);
+          return;
+        case '<':
+          token(OPERATOR, position + (is(position + 1, '=') || is(position + 1, '>') ? 2 : 1));
+          return;
+        case '>':
+          token(OPERATOR, position + (is(position + 1, '=') ? 2 : 1));
+          return;
+        case '\'':
+        case '"':
+          if (token(STRING_LITERAL, string(position))) {
+            return;
+          }
+          break;
+        case '#':
+          if (token(MULE_EXPRESSION, muleExpression(position))) {
+            return;
+          }
+          break;
+        case '[':
+          if (token(IDENT, bracketIdentifier(position))) {
+            return;
+          }
+          break;
+        default:
+          if (isWhitespace(c)) {
+            position++;
+            while (position < length && isWhitespace(input.charAt(position))) {
+              position++;
+            }
+          } else if (c == '-' && is(position + 1, '-')) {
+            if (commentOrIdentifier()) {
+              return;
+            }
+          } else if (isDigit(c) || c == '.') {
+            if (numeric()) {
+              return;
+            }
+          } else if (isIdentifierChar(c)) {
+            int wordEnd = identifierEnd(position);
+            token(keyword(position, wordEnd), wordEnd);
+            return;
+          } else {
+            // no token starts with this character
+            position++;
+          }
+      }
+    }
+
+    type = EOF;
+    start = length;
+    end = length;
+  }
+
+  /**
+   * Makes the text from the current start up to {@code tokenEnd} the current token. A negative {@code tokenEnd} is the
+   * complement of the index at which an unfinished token failed, in which case that token is skipped.
+   *
+   * @return whether there is a current token
+   */
+  private boolean token(int tokenType, int tokenEnd) {
+    if (tokenEnd < 0) {
+      position = Math.min(~tokenEnd + 1, length);
+      return false;
+    }
+
+    type = tokenType;
+    end = tokenEnd;
+    position = tokenEnd;
+    return true;
+  }
+
+  private boolean commentOrIdentifier() {
+    int identifierEnd = identifierEnd(position);
+    int p = position + 2;
+    while (p < length && input.charAt(p) != '\n' && input.charAt(p) != '\r') {
+      p++;
+    }
+    if (is(p, '\r')) {
+      p++;
+    }
+
+    if (is(p, '\n')) {
+      position = p + 1;
+      return false;
+    } else if (p == identifierEnd) {
+      // only possible at the end of the input, where the comment is not finished but the identifier is
+      return token(IDENT, identifierEnd);
+    }
+    return token(IDENT, ~p);
+  }
+
+  /**
+   * Resolves a token starting with a digit or a dot, which may be matched by several rules. As the generated lexer does, the
+   * rule which can keep matching the farthest is chosen. If several rules tie, the first one in the grammar which accepts the
+   * text up to there is chosen.
+   */
+  private boolean numeric() {
+    int longest = -1;
+    int longestCount = 0;
+    int[] ends = numericEnds;
+    for (int i = 0; i < NUMERIC_RULES.length; ++i) {
+      ends[i] = viableEnd(NUMERIC_RULES[i]);
+      if (ends[i] > longest) {
+        longest = ends[i];
+        longestCount = 1;
+      } else if (ends[i] == longest) {
+        longestCount++;
+      }
+    }
+
+    for (int i = 0; i < NUMERIC_RULES.length; ++i) {
+      if (ends[i] == longest && accepts(NUMERIC_RULES[i], longest)) {
+        return token(NUMERIC_RULES[i], longest);
+      }
+    }
+
+    // a single rule can keep matching, but doesn't accept the text up to where it fails
+    return token(IDENT, longestCount == 1 ? ~longest : ~position);
+  }
+
+  private int viableEnd(int rule) {
+    switch (rule) {
+      case DATE_TIME_LITERAL:
+        return dateTimeEnd(position);
+      case DATE_LITERAL:
+        return templateEnd(position, DATE_TEMPLATE);
+      case INTEGER_LITERAL:
+        int p = position;
+        while (p < length && isDigit(input.charAt(p))) {
+          p++;
+        }
+        return p;
+      case DOUBLE_LITERAL:
+        p = position;
+        while (p < length && (isDigit(input.charAt(p)) || input.charAt(p) == '.')) {
+          p++;
+        }
+        return p;
+      default:
+        return identifierEnd(position);
+    }
+  }
+
+  private boolean accepts(int rule, int tokenEnd) {
+    switch (rule) {
+      case DATE_TIME_LITERAL:
+        int tokenLength = tokenEnd - position;
+        char last = input.charAt(tokenEnd - 1);
+        return last == 'Z' || ((tokenLength == 25 || tokenLength == 29) && isDigit(last));
+      case DATE_LITERAL:
+        return tokenEnd - position == DATE_TEMPLATE.length();
+      default:
+        return tokenEnd > position;
+    }
+  }
+
+  private int dateTimeEnd(int from) {
+    int p = templateEnd(from, DATE_TIME_TEMPLATE);
+    if (p - from < DATE_TIME_TEMPLATE.length()) {
+      return p;
+    }
+    if (is(p, '.')) {
+      int fractionEnd = templateEnd(p + 1, "ddd");
+      if (fractionEnd - p - 1 < 3) {
+        return fractionEnd;
+      }
+      p = fractionEnd;
+    }
+    if (is(p, 'Z')) {
+      return p + 1;
+    }
+    return is(p, '+') || is(p, '-') ? templateEnd(p + 1, "dd:dd") : p;
+  }
+
+  /**
+   * @return the index up to which the input matches the given {@code template}, in which {@code d} stands for any digit
+   */
+  private int templateEnd(int from, String template) {
+    int p = from;
+    for (int i = 0; i < template.length() && p < length; ++i, ++p) {
+      char expected = template.charAt(i);
+      char c = input.charAt(p);
+      if (expected == 'd' ? !isDigit(c) : c != expected) {
+        break;
+      }
+    }
+    return p;
+  }
+
+  private int keyword(int from, int to) {
+    switch (to - from) {
+      case 2:
+        return matches(from, "by") ? BY : matches(from, "or") ? OR : IDENT;
+      case 3:
+        return matches(from, "asc") ? ASC : matches(from, "and") ? AND : matches(from, "not") ? NOT : IDENT;
+      case 4:
+        if (matches(from, "desc")) {
+          return DESC;
+        } else if (matches(from, "from")) {
+          return FROM;
+        } else if (matches(from, "like")) {
+          return COMPARATOR;
+        } else if (matches(from, "null")) {
+          return NULL_LITERAL;
+        }
+        return matches(from, "true") ? BOOLEAN_LITERAL : IDENT;
+      case 5:
+        if (matches(from, "where")) {
+          return WHERE;
+        } else if (matches(from, "order")) {
+          return ORDER;
+        } else if (matches(from, "limit")) {
+          return LIMIT;
+        }
+        return matches(from, "false") ? BOOLEAN_LITERAL : IDENT;
+      case 6:
+        return matches(from, "select") ? SELECT : matches(from, "offset") ? OFFSET : IDENT;
+      case 9:
+        return matches(from, "ascending") ? ASC : IDENT;
+      case 10:
+        return matches(from, "descending") ? DESC : IDENT;
+      default:
+        return IDENT;
+    }
+  }
+
+  private boolean matches(int from, String keyword) {
+    // identifiers only have ASCII letters, so ignoring the case is safe
+    return input.regionMatches(true, from, keyword, 0, keyword.length());
+  }
+
+  private int identifierEnd(int from) {
+    int p = from;
+    while (p < length && isIdentifierChar(input.charAt(p))) {
+      p++;
+    }
+    return p;
+  }
+
+  private int bracketIdentifier(int from) {
+    if (is(from + 1, ']')) {
+      return ~(from + 1);
+    }
+    int close = input.indexOf(']', from + 1);
+    return close != -1 ? close + 1 : ~length;
+  }
+
+  private int muleExpression(int from) {
+    if (!is(from + 1, '[')) {
+      return ~(from + 1);
+    }
+
+    int depth = 1;
+    int p = from + 2;
+    while (p < length) {
+      char c = input.charAt(p);
+      if (c == ']') {
+        p++;
+        if (--depth == 0) {
+          return p;
+        }
+      } else if (c == '[') {
+        depth++;
+        p++;
+      } else if (c == '\'' || c == '"') {
+        p = string(p);
+        if (p < 0) {
+          return p;
+        }
+      } else {
+        p++;
+      }
+    }
+    return ~length;
+  }
+
+  private int string(int from) {
+    char quote = input.charAt(from);
+    int p = from + 1;
+    while (p < length) {
+      char c = input.charAt(p);
+      if (c == quote) {
+        return p + 1;
+      } else if (c != '\\') {
+        p++;
+      } else if (is(p + 1, 'u')) {
+        for (int i = p + 2; i < p + 6; ++i) {
+          if (i >= length || !isHexDigit(input.charAt(i))) {
+            return ~Math.min(i, length);
+          }
+        }
+        p += 6;
+      } else if (p + 1 < length && "btnfr\"'\\".indexOf(input.charAt(p + 1)) != -1) {
+        p += 2;
+      } else {
+        // the escape sequence is not recognized, so only the backslash is skipped
+        return ~p;
+      }
+    }
+    return ~length;
+  }
+
+  private boolean is(int index, char c) {
+    return index < length && input.charAt(index) == c;
+  }
+
+  private static boolean isDigit(char c) {
+    return c >= '0' && c <= '9';
+  }
+
+  private static boolean isHexDigit(char c) {
+    return isDigit(c) || (c >= 'a' && c <= 'f') || (c >= 'A' && c <= 'F');
+  }
+
+  private static boolean isIdentifierChar(char c) {
+    return (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || isDigit(c) || c == '-' || c == '_' || c == '.';
+  }
+}
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import org.mule.runtime.extension.api.dsql.Direction;
+import org.mule.runtime.extension.api.dsql.DsqlQuery;
+import org.mule.runtime.extension.api.dsql.EntityType;
+import org.mule.runtime.extension.api.dsql.Field;
+import org.mule.runtime.extension.api.dsql.OperatorTranslator;
+import org.mule.runtime.extension.api.dsql.PreparedDsqlQuery;
+import org.mule.runtime.extension.api.dsql.QueryTranslator;
+import org.mule.runtime.extension.api.dsql.Value;
+import org.mule.runtime.extension.internal.value.MuleExpressionValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * {@link QueryTranslator} which delegates to another one, replacing the {@link MuleExpressionValue}s of the comparisons with
+ * placeholders. The placeholders are then located in the translation to build a {@link PreparedDsqlQuery}.
+ * <p>
+ * A placeholder is rendered by the delegate as any other {@link MuleExpressionValue}, so whatever the delegate adds around the
+ * value (such as quotes) is kept in the template.
+ *
+ * @since 1.10
+ */
+final class ExpressionPlaceholdersTranslator implements QueryTranslator {
+
+  /**
+   * Delimits the index of the expression in the placeholders. It is not expected to be part of any translation.
+   */
+  private static final char DELIMITER = '\u0000';
+
+  private final QueryTranslator delegate;
+  private final List<String> expressions = new ArrayList<>();
+
+  ExpressionPlaceholdersTranslator(QueryTranslator delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void translateComparison(String operator, Field field, Value<?> value) {
+    if (value instanceof MuleExpressionValue) {
+      expressions.add(((MuleExpressionValue) value).getValue());
+      value = new Placeholder(expressions.size() - 1);
+    }
+    delegate.translateComparison(operator, field, value);
+  }
+
+  /**
+   * Splits the translation of the given {@code query} into the fragments between the placeholders.
+   *
+   * @param query       the translated query
+   * @param translation the translation obtained through this translator
+   * @return a {@link PreparedDsqlQuery} with the fragments of the {@code translation}
+   */
+  PreparedDsqlQuery prepare(DsqlQuery query, String translation) {
+    List<String> fragments = new ArrayList<>();
+    List<String> boundExpressions = new ArrayList<>();
+
+    int fragmentStart = 0;
+    int placeholderStart = translation.indexOf(DELIMITER);
+    while (placeholderStart != -1) {
+      int placeholderEnd = translation.indexOf(DELIMITER, placeholderStart + 1);
+      if (placeholderEnd == -1) {
+        break;
+      }
+
+      fragments.add(translation.substring(fragmentStart, placeholderStart));
+      boundExpressions.add(expressions.get(Integer.parseInt(translation.substring(placeholderStart + 1, placeholderEnd))));
+      fragmentStart = placeholderEnd + 1;
+      placeholderStart = translation.indexOf(DELIMITER, fragmentStart);
+    }
+    fragments.add(translation.substring(fragmentStart));
+
+    return new PreparedDsqlQuery(query, fragments, boundExpressions);
+  }
+
+  @Override
+  public void translateFields(List<Field> fields) {
+    delegate.translateFields(fields);
+  }
+
+  @Override
+  public void translateTypes(EntityType types) {
+    delegate.translateTypes(types);
+  }
+
+  @Override
+  public void translateOrderByFields(List<Field> orderByFields, Direction direction) {
+    delegate.translateOrderByFields(orderByFields, direction);
+  }
+
+  @Override
+  public void translateAnd() {
+    delegate.translateAnd();
+  }
+
+  @Override
+  public void translateOR() {
+    delegate.translateOR();
+  }
+
+  @Override
+  public void translateBeginExpression() {
+    delegate.translateBeginExpression();
+  }
+
+  @Override
+  public void translateInitPrecedence() {
+    delegate.translateInitPrecedence();
+  }
+
+  @Override
+  public void translateEndPrecedence() {
+    delegate.translateEndPrecedence();
+  }
+
+  @Override
+  public void translateLimit(int limit) {
+    delegate.translateLimit(limit);
+  }
+
+  @Override
+  public void translateOffset(int offset) {
+    delegate.translateOffset(offset);
+  }
+
+  @Override
+  public OperatorTranslator operatorTranslator() {
+    return delegate.operatorTranslator();
+  }
+
+  @Override
+  public String getTranslation() {
+    return delegate.getTranslation();
+  }
+
+  private static final class Placeholder extends MuleExpressionValue {
+
+    private Placeholder(int index) {
+      super(DELIMITER + Integer.toString(index) + DELIMITER);
+    }
+  }
+}
@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static java.util.Collections.unmodifiableMap;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * {@link RecordAccessor} for records represented as {@link Map}s from field name to value. A field which is not in the record is
+ * read as {@code null}.
+ *
+ * @since 1.10
+ */
+final class MapRecordAccessor implements RecordAccessor<Map<String, ?>> {
+
+  static final MapRecordAccessor INSTANCE = new MapRecordAccessor();
+
+  private MapRecordAccessor() {}
+
+  @Override
+  public Function<Map<String, ?>, Object> field(String name) {
+    return record -> record.get(name);
+  }
+
+  @Override
+  public Map<String, Object> allFields(Map<String, ?> record) {
+    return unmodifiableMap(record);
+  }
+}
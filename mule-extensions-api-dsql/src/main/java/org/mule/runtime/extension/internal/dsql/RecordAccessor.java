@@ -0,0 +1,35 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Reads the fields of the records a {@link DefaultCompiledDsqlQuery} is evaluated over.
+ *
+ * @param <T> the generic type of the records
+ * @since 1.10
+ */
+interface RecordAccessor<T> {
+
+  /**
+   * Resolves the field with the given {@code name}. This is done once, when the query is compiled.
+   *
+   * @param name the name of the field
+   * @return a {@link Function} which reads the value of the field from a record
+   * @throws IllegalArgumentException if the records don't have a field with the given {@code name}
+   */
+  Function<T, Object> field(String name);
+
+  /**
+   * @param record a record
+   * @return all the fields of the given {@code record}, keyed by name
+   */
+  Map<String, Object> allFields(T record);
+
+}
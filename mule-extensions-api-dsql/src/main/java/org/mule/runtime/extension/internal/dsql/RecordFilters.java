@@ -0,0 +1,249 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static org.mule.runtime.extension.internal.dsql.RecordValues.INCOMPARABLE;
+import static org.mule.runtime.extension.internal.dsql.RecordValues.compare;
+import static org.mule.runtime.extension.internal.dsql.RecordValues.isFloatingPoint;
+import static org.mule.runtime.extension.internal.dsql.RecordValues.isIntegral;
+import static org.mule.runtime.extension.internal.dsql.RecordValues.literal;
+
+import static java.util.regex.Pattern.DOTALL;
+import static java.util.regex.Pattern.quote;
+
+import org.mule.runtime.extension.api.dsql.Expression;
+import org.mule.runtime.extension.api.dsql.Value;
+import org.mule.runtime.extension.internal.expression.And;
+import org.mule.runtime.extension.internal.expression.FieldComparison;
+import org.mule.runtime.extension.internal.expression.Not;
+import org.mule.runtime.extension.internal.expression.Or;
+import org.mule.runtime.extension.internal.operator.BinaryOperator;
+import org.mule.runtime.extension.internal.operator.ComparisonOperator;
+import org.mule.runtime.extension.internal.operator.EqualsOperator;
+import org.mule.runtime.extension.internal.operator.LikeOperator;
+import org.mule.runtime.extension.internal.operator.NotEqualsOperator;
+import org.mule.runtime.extension.internal.value.BooleanValue;
+import org.mule.runtime.extension.internal.value.DateTimeValue;
+import org.mule.runtime.extension.internal.value.DateValue;
+import org.mule.runtime.extension.internal.value.IdentifierValue;
+import org.mule.runtime.extension.internal.value.IntegerValue;
+import org.mule.runtime.extension.internal.value.MuleExpressionValue;
+import org.mule.runtime.extension.internal.value.NullValue;
+import org.mule.runtime.extension.internal.value.NumberValue;
+import org.mule.runtime.extension.internal.value.UnknownValue;
+
+import java.time.LocalDate;
+import java.util.Date;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.regex.Pattern;
+
+/**
+ * Compiles the filter {@link Expression} of a query into a {@link Predicate} over records.
+ * <p>
+ * As in SQL, a comparison in which the value of the field (or the other field it's compared against) is {@code null} doesn't
+ * match, unless it's a comparison against {@code NULL}. Values which can't be compared with each other are not equal, and
+ * neither is less nor greater than the other.
+ * <p>
+ * Such comparisons are unknown rather than false, so they don't match when negated either: {@code NOT} is pushed down to the
+ * comparisons, through De Morgan's laws, and a negated comparison only matches when its operands are known to not satisfy it.
+ *
+ * @since 1.10
+ */
+final class RecordFilters {
+
+  private RecordFilters() {}
+
+  /**
+   * @param expression the filter expression of a query
+   * @param accessor   the {@link RecordAccessor} to read the fields of the records with
+   * @param <T>        the generic type of the records
+   * @return a {@link Predicate} which matches the records that satisfy the {@code expression}
+   * @throws IllegalArgumentException if the {@code expression} can't be evaluated over records held in memory
+   */
+  static <T> Predicate<T> compile(Expression expression, RecordAccessor<T> accessor) {
+    return compile(expression, accessor, false);
+  }
+
+  private static <T> Predicate<T> compile(Expression expression, RecordAccessor<T> accessor, boolean negated) {
+    if (expression.isEmpty()) {
+      return record -> !negated;
+    } else if (expression instanceof And) {
+      And and = (And) expression;
+      Predicate<T> left = compile(and.getLeft(), accessor, negated);
+      Predicate<T> right = compile(and.getRight(), accessor, negated);
+      return negated ? left.or(right) : left.and(right);
+    } else if (expression instanceof Or) {
+      Or or = (Or) expression;
+      Predicate<T> left = compile(or.getLeft(), accessor, negated);
+      Predicate<T> right = compile(or.getRight(), accessor, negated);
+      return negated ? left.and(right) : left.or(right);
+    } else if (expression instanceof Not) {
+      return compile(((Not) expression).getRight(), accessor, !negated);
+    } else if (expression instanceof FieldComparison) {
+      return comparison((FieldComparison) expression, accessor, negated);
+    }
+
+    throw new IllegalArgumentException("Expressions of type " + expression.getClass().getSimpleName()
+        + " can't be evaluated in memory");
+  }
+
+  /**
+   * @param negated whether the comparison is the operand of a {@code NOT}, in which case the returned {@link Predicate} matches
+   *                the records for which it is known to not be satisfied
+   */
+  private static <T> Predicate<T> comparison(FieldComparison comparison, RecordAccessor<T> accessor, boolean negated) {
+    String fieldName = fieldName(comparison.getField().getName());
+    Function<T, Object> field = accessor.field(fieldName);
+    BinaryOperator operator = comparison.getOperator();
+    Value<?> value = comparison.getValue();
+
+    if (value instanceof MuleExpressionValue) {
+      throw new IllegalArgumentException("Field [" + fieldName + "] is compared against the Mule expression " + value.getValue()
+          + ", which has to be resolved before the query is evaluated");
+    } else if (value instanceof UnknownValue) {
+      throw new IllegalArgumentException("Field [" + fieldName + "] is compared against an unknown value: " + value.getValue());
+    }
+
+    if (value instanceof NullValue) {
+      if (operator instanceof EqualsOperator) {
+        return record -> (field.apply(record) == null) != negated;
+      } else if (operator instanceof NotEqualsOperator) {
+        return record -> (field.apply(record) != null) != negated;
+      }
+      return record -> false;
+    }
+
+    if (operator instanceof LikeOperator) {
+      Pattern pattern = likePattern(String.valueOf(value.getValue()));
+      return record -> {
+        Object fieldValue = field.apply(record);
+        return fieldValue != null && pattern.matcher(fieldValue.toString()).matches() != negated;
+      };
+    } else if (!(operator instanceof ComparisonOperator)) {
+      throw new IllegalArgumentException("Operator " + operator + " can't be evaluated in memory");
+    }
+
+    ComparisonOperator comparisonOperator = (ComparisonOperator) operator;
+
+    if (value instanceof IdentifierValue) {
+      Function<T, Object> other = accessor.field(((IdentifierValue) value).getValue());
+      return record -> {
+        Object left = field.apply(record);
+        Object right = other.apply(record);
+        return left != null && right != null && matches(comparisonOperator, compare(left, right), negated);
+      };
+    }
+
+    Predicate<Object> matchesLiteral;
+    try {
+      matchesLiteral = literalComparison(comparisonOperator, value, negated);
+    } catch (IllegalStateException e) {
+      throw new IllegalArgumentException("Field [" + fieldName + "] is compared against a malformed value: " + value.getValue(),
+                                         e);
+    }
+    return record -> {
+      Object fieldValue = field.apply(record);
+      return fieldValue != null && matchesLiteral.test(fieldValue);
+    };
+  }
+
+  /**
+   * Compares the non null values of a field against the given literal {@code value}. The literal was parsed when the query was
+   * built, so the values of the field are compared as primitives against it when they're of the type the literal is expected to
+   * be compared against. If {@code negated}, the values which are known to not satisfy the comparison are matched instead.
+   */
+  private static Predicate<Object> literalComparison(ComparisonOperator operator, Value<?> value, boolean negated) {
+    Object literal = literal(value);
+    Predicate<Object> compared = fieldValue -> matches(operator, compare(fieldValue, literal), negated);
+
+    if (value instanceof IntegerValue) {
+      long longLiteral = value.asLong();
+      double doubleLiteral = value.asDouble();
+      return fieldValue -> {
+        if (isIntegral(fieldValue)) {
+          return operator.test(((Number) fieldValue).longValue(), longLiteral) != negated;
+        } else if (isFloatingPoint(fieldValue)) {
+          return operator.test(((Number) fieldValue).doubleValue(), doubleLiteral) != negated;
+        }
+        return compared.test(fieldValue);
+      };
+    } else if (value instanceof NumberValue) {
+      double doubleLiteral = value.asDouble();
+      return fieldValue -> isIntegral(fieldValue) || isFloatingPoint(fieldValue)
+          ? operator.test(((Number) fieldValue).doubleValue(), doubleLiteral) != negated
+          : compared.test(fieldValue);
+    } else if (value instanceof BooleanValue) {
+      boolean booleanLiteral = value.asBoolean();
+      return fieldValue -> fieldValue instanceof Boolean
+          ? operator.test(Boolean.compare((Boolean) fieldValue, booleanLiteral)) != negated
+          : compared.test(fieldValue);
+    } else if (value instanceof DateValue) {
+      long epochDay = value.asLong();
+      return fieldValue -> fieldValue instanceof LocalDate
+          ? operator.test(((LocalDate) fieldValue).toEpochDay(), epochDay) != negated
+          : compared.test(fieldValue);
+    } else if (value instanceof DateTimeValue) {
+      long epochMilli = value.asLong();
+      return fieldValue -> fieldValue instanceof Date
+          ? operator.test(((Date) fieldValue).getTime(), epochMilli) != negated
+          : compared.test(fieldValue);
+    }
+    return compared;
+  }
+
+  /**
+   * @param comparison the result of {@link RecordValues#compare(Object, Object)}
+   * @param negated    whether to match when the {@code comparison} is known to not satisfy the {@code operator} instead
+   * @return whether the {@code comparison} satisfies the {@code operator}, or doesn't if {@code negated}. Values which can't be
+   *         compared are only known to be different, so they never match an ordering, negated or not.
+   */
+  private static boolean matches(ComparisonOperator operator, int comparison, boolean negated) {
+    if (comparison == INCOMPARABLE) {
+      if (operator instanceof EqualsOperator) {
+        return negated;
+      } else if (operator instanceof NotEqualsOperator) {
+        return !negated;
+      }
+      return false;
+    }
+    return operator.test(comparison) != negated;
+  }
+
+  /**
+   * Translates a {@code LIKE} pattern, in which {@code %} matches any sequence of characters and {@code _} matches any single
+   * character, into a regular expression.
+   */
+  static Pattern likePattern(String like) {
+    StringBuilder regex = new StringBuilder(like.length() + 16);
+    int literalStart = 0;
+    for (int i = 0; i < like.length(); ++i) {
+      char c = like.charAt(i);
+      if (c == '%' || c == '_') {
+        if (i > literalStart) {
+          regex.append(quote(like.substring(literalStart, i)));
+        }
+        regex.append(c == '%' ? ".*" : ".");
+        literalStart = i + 1;
+      }
+    }
+    if (literalStart < like.length()) {
+      regex.append(quote(like.substring(literalStart)));
+    }
+    return Pattern.compile(regex.toString(), DOTALL);
+  }
+
+  /**
+   * @return the given field name, without the brackets around it if it has them
+   */
+  static String fieldName(String name) {
+    if (name.length() > 1 && name.startsWith("[") && name.endsWith("]")) {
+      return name.substring(1, name.length() - 1);
+    }
+    return name;
+  }
+}
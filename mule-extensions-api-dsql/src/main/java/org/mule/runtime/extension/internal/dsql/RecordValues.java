@@ -0,0 +1,261 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static java.time.ZoneOffset.UTC;
+
+import org.mule.runtime.extension.api.dsql.Value;
+import org.mule.runtime.extension.internal.value.DateTimeValue;
+import org.mule.runtime.extension.internal.value.DateValue;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Calendar;
+import java.util.Date;
+
+/**
+ * Compares the values of the fields of the records a {@link DefaultCompiledDsqlQuery} is evaluated over, against each other or
+ * against the literals of the query.
+ * <p>
+ * Values of different types are compared when there's an obvious conversion between them: numbers of any type are compared by
+ * their numeric value, the date and time types of {@code java.time} and {@code java.util} are compared by the instant or the
+ * date they represent, and a text is compared against a date or a date time by parsing it in ISO-8601 format. Characters and
+ * enums are compared as text.
+ *
+ * @since 1.10
+ */
+final class RecordValues {
+
+  /**
+   * Returned by {@link #compare(Object, Object)} when the values can't be compared.
+   */
+  static final int INCOMPARABLE = Integer.MIN_VALUE;
+
+  private RecordValues() {}
+
+  /**
+   * @param value a literal of a query
+   * @return the value of the literal, converted to the type of the values it's expected to be compared against
+   * @throws IllegalStateException if the {@code value} is a malformed date or date time
+   */
+  static Object literal(Value<?> value) {
+    if (value instanceof DateValue) {
+      return LocalDate.ofEpochDay(value.asLong());
+    } else if (value instanceof DateTimeValue) {
+      return Instant.ofEpochMilli(value.asLong());
+    }
+    return value.getValue();
+  }
+
+  /**
+   * @return a negative number, zero or a positive number as the {@code left} value is less than, equal to or greater than the
+   *         {@code right} one, or {@link #INCOMPARABLE} if they can't be compared
+   */
+  static int compare(Object left, Object right) {
+    left = normalize(left);
+    right = normalize(right);
+
+    if (left instanceof Number && right instanceof Number) {
+      return compareNumbers((Number) left, (Number) right);
+    }
+
+    if (left instanceof String && !(right instanceof String)) {
+      left = parse((String) left, right);
+    } else if (right instanceof String && !(left instanceof String)) {
+      right = parse((String) right, left);
+    }
+
+    if (left instanceof LocalDate || right instanceof LocalDate) {
+      left = toLocalDate(left);
+      right = toLocalDate(right);
+    }
+
+    if (left != null && right != null && left.getClass() == right.getClass() && left instanceof Comparable) {
+      return Integer.signum(compareComparables(left, right));
+    }
+    return INCOMPARABLE;
+  }
+
+  /**
+   * Compares the given values to sort records. Unlike {@link #compare(Object, Object)} this is a total order, so that a column
+   * holding values of different types can be sorted. Values are first ranked by their kind, in this order: {@code null},
+   * booleans, numbers, dates, local date times, instants (including the other {@code java.time} and {@code java.util} types
+   * which represent one), texts and any other value. Only values of the same kind are compared against each other: numbers by
+   * their exact numeric value, dates and times chronologically, texts lexicographically and other values by type name and then
+   * by their natural order if they have one, or by their text otherwise.
+   */
+  static int compareForSort(Object left, Object right) {
+    left = normalize(left);
+    right = normalize(right);
+
+    int comparison = Integer.compare(sortRank(left), sortRank(right));
+    if (comparison != 0 || left == null) {
+      return comparison;
+    }
+
+    if (left instanceof Number) {
+      return compareNumbersForSort((Number) left, (Number) right);
+    } else if (left.getClass() == right.getClass() && left instanceof Comparable) {
+      return compareComparables(left, right);
+    }
+
+    comparison = left.getClass().getName().compareTo(right.getClass().getName());
+    return comparison != 0 ? comparison : left.toString().compareTo(right.toString());
+  }
+
+  /**
+   * @return the rank of the kind of the given normalized {@code value} in the sort order
+   */
+  private static int sortRank(Object value) {
+    if (value == null) {
+      return 0;
+    } else if (value instanceof Boolean) {
+      return 1;
+    } else if (value instanceof Number) {
+      return 2;
+    } else if (value instanceof LocalDate) {
+      return 3;
+    } else if (value instanceof LocalDateTime) {
+      return 4;
+    } else if (value instanceof Instant) {
+      return 5;
+    } else if (value instanceof String) {
+      return 6;
+    }
+    return 7;
+  }
+
+  /**
+   * Compares numbers by their exact value, so that the order is transitive regardless of their types. Non finite values come
+   * last, ordered as by {@link Double#compare(double, double)}.
+   */
+  private static int compareNumbersForSort(Number left, Number right) {
+    if (isIntegral(left) && isIntegral(right)) {
+      return Long.compare(left.longValue(), right.longValue());
+    }
+
+    boolean leftFinite = isFinite(left);
+    boolean rightFinite = isFinite(right);
+    if (!leftFinite || !rightFinite) {
+      if (leftFinite || rightFinite) {
+        double infinite = leftFinite ? right.doubleValue() : left.doubleValue();
+        int comparison = infinite == Double.NEGATIVE_INFINITY ? 1 : -1;
+        return leftFinite ? comparison : -comparison;
+      }
+      return Double.compare(left.doubleValue(), right.doubleValue());
+    }
+
+    return toExactBigDecimal(left).compareTo(toExactBigDecimal(right));
+  }
+
+  private static boolean isFinite(Number number) {
+    if (!isFloatingPoint(number)) {
+      return true;
+    }
+
+    double value = number.doubleValue();
+    return !Double.isNaN(value) && !Double.isInfinite(value);
+  }
+
+  private static BigDecimal toExactBigDecimal(Number number) {
+    if (isFloatingPoint(number)) {
+      return new BigDecimal(number.doubleValue());
+    }
+
+    try {
+      return toBigDecimal(number);
+    } catch (NumberFormatException e) {
+      return new BigDecimal(number.doubleValue());
+    }
+  }
+
+  private static Object normalize(Object value) {
+    if (value instanceof CharSequence || value instanceof Character || value instanceof Enum) {
+      return value.toString();
+    } else if (value instanceof Date) {
+      return Instant.ofEpochMilli(((Date) value).getTime());
+    } else if (value instanceof Calendar) {
+      return ((Calendar) value).toInstant();
+    } else if (value instanceof OffsetDateTime) {
+      return ((OffsetDateTime) value).toInstant();
+    } else if (value instanceof ZonedDateTime) {
+      return ((ZonedDateTime) value).toInstant();
+    }
+    return value;
+  }
+
+  /**
+   * Parses the given {@code text} as a value of the same type as {@code other}, if it's a date or a date time.
+   */
+  private static Object parse(String text, Object other) {
+    try {
+      if (other instanceof LocalDate) {
+        return LocalDate.parse(text);
+      } else if (other instanceof Instant) {
+        return OffsetDateTime.parse(text).toInstant();
+      } else if (other instanceof LocalDateTime) {
+        return LocalDateTime.parse(text);
+      }
+    } catch (DateTimeParseException e) {
+      // not comparable
+    }
+    return text;
+  }
+
+  private static Object toLocalDate(Object value) {
+    if (value instanceof LocalDateTime) {
+      return ((LocalDateTime) value).toLocalDate();
+    } else if (value instanceof Instant) {
+      return ((Instant) value).atOffset(UTC).toLocalDate();
+    }
+    return value;
+  }
+
+  static boolean isFloatingPoint(Object number) {
+    return number instanceof Double || number instanceof Float;
+  }
+
+  private static int compareNumbers(Number left, Number right) {
+    if (isIntegral(left) && isIntegral(right)) {
+      return Long.compare(left.longValue(), right.longValue());
+    } else if (isFloatingPoint(left) || isFloatingPoint(right)) {
+      return Double.compare(left.doubleValue(), right.doubleValue());
+    }
+
+    try {
+      return toBigDecimal(left).compareTo(toBigDecimal(right));
+    } catch (NumberFormatException e) {
+      return Double.compare(left.doubleValue(), right.doubleValue());
+    }
+  }
+
+  static boolean isIntegral(Object number) {
+    return number instanceof Integer || number instanceof Long || number instanceof Short || number instanceof Byte;
+  }
+
+  private static BigDecimal toBigDecimal(Number number) {
+    if (number instanceof BigDecimal) {
+      return (BigDecimal) number;
+    } else if (number instanceof BigInteger) {
+      return new BigDecimal((BigInteger) number);
+    } else if (isIntegral(number)) {
+      return BigDecimal.valueOf(number.longValue());
+    }
+    return new BigDecimal(number.toString());
+  }
+
+  @SuppressWarnings({"unchecked", "rawtypes"})
+  private static int compareComparables(Object left, Object right) {
+    return ((Comparable) left).compareTo(right);
+  }
+}
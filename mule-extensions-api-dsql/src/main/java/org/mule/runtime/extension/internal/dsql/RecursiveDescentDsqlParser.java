@@ -0,0 +1,440 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static org.mule.runtime.extension.internal.dsql.DefaultDsqlParser.DEFAULT_MAX_CACHED_QUERIES;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.AND;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.ASC;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.ASTERIX;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.BOOLEAN_LITERAL;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.BY;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.CLOSING_PARENTHESIS;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.COMMA;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.COMPARATOR;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.DATE_LITERAL;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.DATE_TIME_LITERAL;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.DESC;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.DOUBLE_LITERAL;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.EOF;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.FROM;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.IDENT;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.INTEGER_LITERAL;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.LIMIT;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.MULE_EXPRESSION;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.NOT;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.NULL_LITERAL;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.OFFSET;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.OPENING_PARENTHESIS;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.OPERATOR;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.OR;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.ORDER;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.SELECT;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.STRING_LITERAL;
+import static org.mule.runtime.extension.internal.dsql.DsqlLexer.WHERE;
+
+import static java.lang.Integer.parseInt;
+
+import org.mule.runtime.extension.api.dsql.DsqlQuery;
+import org.mule.runtime.extension.api.dsql.EntityType;
+import org.mule.runtime.extension.api.dsql.Expression;
+import org.mule.runtime.extension.api.dsql.Field;
+import org.mule.runtime.extension.api.dsql.QueryBuilder;
+import org.mule.runtime.extension.api.dsql.Value;
+import org.mule.runtime.extension.internal.exception.DsqlParsingException;
+import org.mule.runtime.extension.internal.expression.And;
+import org.mule.runtime.extension.internal.expression.FieldComparison;
+import org.mule.runtime.extension.internal.expression.Not;
+import org.mule.runtime.extension.internal.expression.Or;
+import org.mule.runtime.extension.internal.grammar.QueryModelDirectionFactory;
+import org.mule.runtime.extension.internal.grammar.QueryModelOperatorFactory;
+import org.mule.runtime.extension.internal.operator.BinaryOperator;
+import org.mule.runtime.extension.internal.value.BooleanValue;
+import org.mule.runtime.extension.internal.value.DateTimeValue;
+import org.mule.runtime.extension.internal.value.DateValue;
+import org.mule.runtime.extension.internal.value.IdentifierValue;
+import org.mule.runtime.extension.internal.value.IntegerValue;
+import org.mule.runtime.extension.internal.value.MuleExpressionValue;
+import org.mule.runtime.extension.internal.value.NullValue;
+import org.mule.runtime.extension.internal.value.NumberValue;
+import org.mule.runtime.extension.internal.value.StringValue;
+import org.mule.runtime.extension.internal.value.UnknownValue;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * {@link org.mule.runtime.extension.api.dsql.DsqlParser} which parses the {@code MuleDsql.g} grammar through a hand written
+ * recursive descent parser, building the {@link DsqlQuery} while the query is read instead of building an AST first and then
+ * visiting it, as {@link DefaultDsqlParser} does.
+ * <p>
+ * It accepts the same queries and builds the same {@link DsqlQuery}s as {@link DefaultDsqlParser}, including the way it handles
+ * odd filters such as {@code not a = 1}, which compares a field called {@code not}. Syntax errors are reported as a
+ * {@link DsqlParsingException} with the location of the offending token, as {@link DefaultDsqlParser} does for mismatched
+ * tokens.
+ * <p>
+ * Parsed queries are cached the same way {@link DefaultDsqlParser} does, in a cache of their own.
+ *
+ * @since 1.10
+ */
+public final class RecursiveDescentDsqlParser extends CachingDsqlParser {
+
+  private static final Cache<String, DsqlQuery> SHARED_PARSED_QUERIES = newParsedQueriesCache(DEFAULT_MAX_CACHED_QUERIES);
+
+  /**
+   * Creates a new instance which uses the shared cache of parsed queries.
+   */
+  public RecursiveDescentDsqlParser() {
+    super(SHARED_PARSED_QUERIES);
+  }
+
+  /**
+   * Creates a new instance with its own cache of parsed queries.
+   *
+   * @param maxCachedQueries the maximum amount of parsed queries to keep. If {@code 0}, every query is parsed each time.
+   */
+  public RecursiveDescentDsqlParser(int maxCachedQueries) {
+    super(maxCachedQueries);
+  }
+
+  @Override
+  DsqlQuery doParse(String query) {
+    QueryReader reader = new QueryReader(query);
+    reader.select();
+    try {
+      return reader.build();
+    } catch (IllegalArgumentException e) {
+      throw new DsqlParsingException(e);
+    }
+  }
+
+  /**
+   * The state of the parsing of a single query. Each method matches the rule of the grammar with the same name.
+   * <p>
+   * The fields, entity type and order of the query are added to the {@link QueryBuilder} as they are read. The filter, the
+   * limit and the offset are only built once the whole query is read, since building them may fail and syntax errors take
+   * precedence.
+   */
+  private static final class QueryReader {
+
+    private final DsqlLexer lexer;
+    private final QueryBuilder queryBuilder = DefaultQueryBuilder.getInstance();
+
+    // the steps to build the filter, in the order in which the AST built by the generated parser is visited
+    private final List<Step> filterSteps = new ArrayList<>();
+
+    // the token at the root of the last term, negation, relation or expression read
+    private int rootType;
+    private int rootStart;
+    private int rootEnd;
+
+    private String limit;
+    private String offset;
+
+    private QueryReader(String query) {
+      lexer = new DsqlLexer(query);
+    }
+
+    private void select() {
+      match(SELECT);
+      if (lexer.type() == ASTERIX) {
+        queryBuilder.addField(new Field("*", "string"));
+        lexer.next();
+      } else {
+        do {
+          queryBuilder.addField(new Field(fieldName(), "string"));
+        } while (skip(COMMA));
+      }
+
+      from();
+      if (skip(WHERE)) {
+        expression();
+      }
+      if (skip(ORDER)) {
+        orderBy();
+      }
+      if (skip(LIMIT)) {
+        limit = number();
+      }
+      if (skip(OFFSET)) {
+        offset = number();
+      }
+      match(EOF);
+    }
+
+    private void from() {
+      match(FROM);
+      do {
+        queryBuilder.setType(new EntityType(fieldName()));
+      } while (skip(COMMA));
+    }
+
+    private void orderBy() {
+      match(BY);
+      do {
+        queryBuilder.addOrderByField(new Field(fieldName()));
+      } while (skip(COMMA));
+
+      if (lexer.type() == ASC || lexer.type() == DESC) {
+        queryBuilder.setDirection(QueryModelDirectionFactory.getInstance().getDirection(lexer.text().toLowerCase()));
+        lexer.next();
+      }
+    }
+
+    private String fieldName() {
+      int type = lexer.type();
+      if (type != IDENT && type != STRING_LITERAL) {
+        throw invalidToken();
+      }
+
+      String text = textIfStringLiteral(type, lexer.text());
+      lexer.next();
+      return text;
+    }
+
+    private String number() {
+      int type = lexer.type();
+      if (type != DOUBLE_LITERAL && type != INTEGER_LITERAL && type != MULE_EXPRESSION) {
+        throw invalidToken();
+      }
+
+      String text = lexer.text();
+      lexer.next();
+      return text;
+    }
+
+    private void expression() {
+      relation();
+      while (lexer.type() == AND || lexer.type() == OR) {
+        int type = lexer.type();
+        int start = lexer.start();
+        int end = lexer.end();
+        lexer.next();
+
+        relation();
+        filterSteps.add(new Step(type, start, end));
+        root(type, start, end);
+      }
+    }
+
+    private void relation() {
+      int firstStep = filterSteps.size();
+      negation();
+      while (lexer.type() == OPERATOR || lexer.type() == COMPARATOR) {
+        int leftType = rootType;
+        int leftStart = rootStart;
+        int leftEnd = rootEnd;
+        int type = lexer.type();
+        int start = lexer.start();
+        int end = lexer.end();
+        lexer.next();
+
+        negation();
+
+        // the operands of a comparison are only used for their text, so the steps to evaluate them are discarded
+        filterSteps.subList(firstStep, filterSteps.size()).clear();
+        filterSteps.add(new Step(start, end, leftType, leftStart, leftEnd, rootType, rootStart, rootEnd));
+        root(type, start, end);
+      }
+    }
+
+    private void negation() {
+      int nots = 0;
+      int start = 0;
+      int end = 0;
+      while (lexer.type() == NOT) {
+        if (nots++ > 0) {
+          // each NOT is the root of the previous one, which ends up negating whatever is on top of the stack of expressions
+          filterSteps.add(new Step(NOT, start, end));
+        }
+        start = lexer.start();
+        end = lexer.end();
+        lexer.next();
+      }
+
+      term();
+      if (nots > 0) {
+        filterSteps.add(new Step(NOT, start, end));
+        root(NOT, start, end);
+      }
+    }
+
+    private void term() {
+      switch (lexer.type()) {
+        case IDENT:
+        case STRING_LITERAL:
+        case DOUBLE_LITERAL:
+        case INTEGER_LITERAL:
+        case MULE_EXPRESSION:
+        case BOOLEAN_LITERAL:
+        case DATE_TIME_LITERAL:
+        case DATE_LITERAL:
+        case NULL_LITERAL:
+          root(lexer.type(), lexer.start(), lexer.end());
+          lexer.next();
+          break;
+        case OPENING_PARENTHESIS:
+          int start = lexer.start();
+          int end = lexer.end();
+          lexer.next();
+          expression();
+          match(CLOSING_PARENTHESIS);
+          root(OPENING_PARENTHESIS, start, end);
+          break;
+        default:
+          throw invalidToken();
+      }
+    }
+
+    private void root(int type, int start, int end) {
+      rootType = type;
+      rootStart = start;
+      rootEnd = end;
+    }
+
+    private void match(int type) {
+      if (!skip(type)) {
+        throw invalidToken();
+      }
+    }
+
+    private boolean skip(int type) {
+      if (lexer.type() != type) {
+        return false;
+      }
+      if (type != EOF) {
+        lexer.next();
+      }
+      return true;
+    }
+
+    private DsqlParsingException invalidToken() {
+      return new DsqlParsingException("Invalid token at " + lexer.location(lexer.start()));
+    }
+
+    private DsqlQuery build() {
+      if (!filterSteps.isEmpty()) {
+        queryBuilder.setFilterExpression(filter());
+      }
+      if (limit != null) {
+        queryBuilder.setLimit(parseInt(limit));
+      }
+      if (offset != null) {
+        queryBuilder.setOffset(parseInt(offset));
+      }
+      return queryBuilder.build();
+    }
+
+    /**
+     * Evaluates the {@link #filterSteps}, with the same stack of expressions the visitor of the AST built by the generated
+     * parser uses. In a well formed filter each logical operator finds its operands on the stack, and the last step leaves the
+     * whole filter on top of it.
+     */
+    private Expression filter() {
+      Expression[] stack = new Expression[filterSteps.size()];
+      int size = 0;
+      for (Step step : filterSteps) {
+        if (step.type == AND || step.type == OR) {
+          if (size < 2) {
+            throw missingOperand(step);
+          }
+          Expression right = stack[--size];
+          Expression left = stack[--size];
+          stack[size++] = step.type == AND ? new And(left, right) : new Or(left, right);
+        } else if (step.type == NOT) {
+          if (size < 1) {
+            throw missingOperand(step);
+          }
+          stack[size - 1] = new Not(stack[size - 1]);
+        } else {
+          stack[size++] = comparison(step);
+        }
+      }
+      return stack[size - 1];
+    }
+
+    private DsqlParsingException missingOperand(Step step) {
+      return new DsqlParsingException("Invalid token at " + lexer.location(step.start));
+    }
+
+    private Expression comparison(Step step) {
+      Field field = new Field(textIfStringLiteral(step.leftType, lexer.text(step.leftStart, step.leftEnd)));
+      Value<?> value = value(step.rightType, lexer.text(step.rightStart, step.rightEnd));
+      String operator = lexer.text(step.start, step.end);
+      return new FieldComparison((BinaryOperator) QueryModelOperatorFactory.getInstance().getOperator(operator), field, value);
+    }
+
+    private static Value<?> value(int type, String text) {
+      switch (type) {
+        case DOUBLE_LITERAL:
+          return NumberValue.fromLiteral(text);
+        case INTEGER_LITERAL:
+          return IntegerValue.fromLiteral(text);
+        case BOOLEAN_LITERAL:
+          return BooleanValue.fromLiteral(text);
+        case DATE_LITERAL:
+          return DateValue.fromLiteral(text);
+        case DATE_TIME_LITERAL:
+          return DateTimeValue.fromLiteral(text);
+        case NULL_LITERAL:
+          return new NullValue();
+        case IDENT:
+          return IdentifierValue.fromLiteral(text);
+        case MULE_EXPRESSION:
+          return MuleExpressionValue.fromLiteral(text);
+        case STRING_LITERAL:
+          return StringValue.fromLiteral(text);
+        default:
+          return UnknownValue.fromLiteral(text);
+      }
+    }
+
+    private static String textIfStringLiteral(int type, String text) {
+      return type == STRING_LITERAL ? StringValue.fromLiteral(text).getValue() : text;
+    }
+  }
+
+  /**
+   * A step in the evaluation of a filter: either a logical operator applied to the expressions on top of the stack, or a
+   * comparison pushed to it. Positions are indexes of the query.
+   */
+  private static final class Step {
+
+    private final int type;
+    private final int start;
+    private final int end;
+
+    private final int leftType;
+    private final int leftStart;
+    private final int leftEnd;
+    private final int rightType;
+    private final int rightStart;
+    private final int rightEnd;
+
+    private Step(int type, int start, int end) {
+      this(type, start, end, 0, 0, 0, 0, 0, 0);
+    }
+
+    private Step(int start, int end, int leftType, int leftStart, int leftEnd, int rightType, int rightStart, int rightEnd) {
+      this(OPERATOR, start, end, leftType, leftStart, leftEnd, rightType, rightStart, rightEnd);
+    }
+
+    private Step(int type, int start, int end, int leftType, int leftStart, int leftEnd, int rightType, int rightStart,
+                 int rightEnd) {
+      this.type = type;
+      this.start = start;
+      this.end = end;
+      this.leftType = leftType;
+      this.leftStart = leftStart;
+      this.leftEnd = leftEnd;
+      this.rightType = rightType;
+      this.rightStart = rightStart;
+      this.rightEnd = rightEnd;
+    }
+  }
+}
@@ -17,7 +17,7 @@ import java.util.HashMap;
  *
  * @since 1.0
  */
-final class QueryModelDirectionFactory {
+public final class QueryModelDirectionFactory {
 
   private static QueryModelDirectionFactory INSTANCE = new QueryModelDirectionFactory();
 
@@ -30,11 +30,11 @@ final class QueryModelDirectionFactory {
     directions.put("descending", Direction.DESC);
   }
 
-  static QueryModelDirectionFactory getInstance() {
+  public static QueryModelDirectionFactory getInstance() {
     return INSTANCE;
   }
 
-  Direction getDirection(String direction) {
+  public Direction getDirection(String direction) {
     return directions.get(direction);
   }
 }
@@ -24,7 +24,7 @@ import java.util.Map;
  *
  * @since 1.0
  */
-final class QueryModelOperatorFactory {
+public final class QueryModelOperatorFactory {
 
   private static QueryModelOperatorFactory INSTANCE = new QueryModelOperatorFactory();
   private Map<String, Operator> operators = new HashMap<>();
@@ -43,7 +43,7 @@ final class QueryModelOperatorFactory {
     return INSTANCE;
   }
 
-  Operator getOperator(String symbol) {
+  public Operator getOperator(String symbol) {
     return operators.get(symbol.toLowerCase().trim());
   }
 }
@@ -0,0 +1,37 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.operator;
+
+/**
+ * A {@link BinaryOperator} which compares its operands by order, and so tells whether a given comparison satisfies it. This
+ * allows queries to be evaluated without translating them.
+ *
+ * @since 1.10
+ */
+public interface ComparisonOperator extends BinaryOperator {
+
+  /**
+   * @param comparison the result of comparing the left operand against the right one, as returned by
+   *                   {@link Comparable#compareTo(Object)}
+   * @return whether the operands satisfy this operator
+   */
+  boolean test(int comparison);
+
+  /**
+   * @return whether the given operands satisfy this operator
+   */
+  default boolean test(long left, long right) {
+    return test(Long.compare(left, right));
+  }
+
+  /**
+   * @return whether the given operands satisfy this operator
+   */
+  default boolean test(double left, double right) {
+    return test(Double.compare(left, right));
+  }
+}
@@ -11,10 +11,15 @@ import org.mule.runtime.extension.api.dsql.OperatorTranslator;
 /**
  * Represents an equal operator
  */
-public class EqualsOperator extends AbstractBinaryOperator {
+public class EqualsOperator extends AbstractBinaryOperator implements ComparisonOperator {
 
   @Override
   public String accept(OperatorTranslator operatorTranslator) {
     return operatorTranslator.equalsOperator();
   }
+
+  @Override
+  public boolean test(int comparison) {
+    return comparison == 0;
+  }
 }
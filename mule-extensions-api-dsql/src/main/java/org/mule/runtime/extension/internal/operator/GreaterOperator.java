@@ -11,10 +11,15 @@ import org.mule.runtime.extension.api.dsql.OperatorTranslator;
 /**
  * Represents a greater operator
  */
-public class GreaterOperator extends AbstractBinaryOperator {
+public class GreaterOperator extends AbstractBinaryOperator implements ComparisonOperator {
 
   @Override
   public String accept(OperatorTranslator operatorTranslator) {
     return operatorTranslator.greaterOperator();
   }
+
+  @Override
+  public boolean test(int comparison) {
+    return comparison > 0;
+  }
 }
@@ -11,10 +11,15 @@ import org.mule.runtime.extension.api.dsql.OperatorTranslator;
 /**
  * Represents a less or equals operator
  */
-public class GreaterOrEqualsOperator extends AbstractBinaryOperator {
+public class GreaterOrEqualsOperator extends AbstractBinaryOperator implements ComparisonOperator {
 
   @Override
   public String accept(OperatorTranslator operatorTranslator) {
     return operatorTranslator.greaterOrEqualsOperator();
   }
+
+  @Override
+  public boolean test(int comparison) {
+    return comparison >= 0;
+  }
 }
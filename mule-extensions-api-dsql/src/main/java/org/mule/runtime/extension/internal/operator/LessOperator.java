@@ -11,10 +11,15 @@ import org.mule.runtime.extension.api.dsql.OperatorTranslator;
 /**
  * Represent a less operator
  */
-public class LessOperator extends AbstractBinaryOperator {
+public class LessOperator extends AbstractBinaryOperator implements ComparisonOperator {
 
   @Override
   public String accept(OperatorTranslator operatorTranslator) {
     return operatorTranslator.lessOperator();
   }
+
+  @Override
+  public boolean test(int comparison) {
+    return comparison < 0;
+  }
 }
@@ -11,10 +11,15 @@ import org.mule.runtime.extension.api.dsql.OperatorTranslator;
 /**
  * Represents an less or equals operator
  */
-public class LessOrEqualsOperator extends AbstractBinaryOperator {
+public class LessOrEqualsOperator extends AbstractBinaryOperator implements ComparisonOperator {
 
   @Override
   public String accept(OperatorTranslator operatorTranslator) {
     return operatorTranslator.lessOrEqualsOperator();
   }
+
+  @Override
+  public boolean test(int comparison) {
+    return comparison <= 0;
+  }
 }
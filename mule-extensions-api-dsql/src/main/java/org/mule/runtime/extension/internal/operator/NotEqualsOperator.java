@@ -11,10 +11,15 @@ import org.mule.runtime.extension.api.dsql.OperatorTranslator;
 /**
  * Represents an not equals operator
  */
-public class NotEqualsOperator extends AbstractBinaryOperator {
+public class NotEqualsOperator extends AbstractBinaryOperator implements ComparisonOperator {
 
   @Override
   public String accept(OperatorTranslator operatorTranslator) {
     return operatorTranslator.notEqualsOperator();
   }
+
+  @Override
+  public boolean test(int comparison) {
+    return comparison != 0;
+  }
 }
@@ -18,11 +18,19 @@ import org.mule.runtime.extension.api.dsql.Value;
  */
 public class BooleanValue extends Value<Boolean> {
 
+  private final boolean booleanValue;
+
   public BooleanValue(Boolean value) {
     super(value);
+    this.booleanValue = value;
   }
 
   public static BooleanValue fromLiteral(String literal) {
     return new BooleanValue(Boolean.parseBoolean(literal));
   }
+
+  @Override
+  public boolean asBoolean() {
+    return booleanValue;
+  }
 }
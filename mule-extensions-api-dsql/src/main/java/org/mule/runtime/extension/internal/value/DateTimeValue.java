@@ -8,18 +8,50 @@ package org.mule.runtime.extension.internal.value;
 
 import org.mule.runtime.extension.api.dsql.Value;
 
+import java.time.OffsetDateTime;
+import java.time.format.DateTimeParseException;
+
 /**
  * {@link Value} implementation, that represents a Date Time value.
+ * <p>
+ * The value is the date time as written in the query, and it's also parsed once into its epoch millisecond, available through
+ * {@link #asLong()}.
  *
  * @since 1.0
  */
 public class DateTimeValue extends Value<String> {
 
+  private final long epochMilli;
+  private final boolean wellFormed;
+
   public DateTimeValue(String value) {
     super(value);
+
+    long parsed = 0;
+    boolean parsedWell = false;
+    try {
+      parsed = OffsetDateTime.parse(value).toInstant().toEpochMilli();
+      parsedWell = true;
+    } catch (DateTimeParseException e) {
+      // kept as text, since it's still valid for translating the query
+    }
+    this.epochMilli = parsed;
+    this.wellFormed = parsedWell;
   }
 
   public static DateTimeValue fromLiteral(String literal) {
     return new DateTimeValue(literal);
   }
+
+  /**
+   * @return the epoch millisecond of this date time
+   * @throws IllegalStateException if the date time is not a valid ISO-8601 date time with offset
+   */
+  @Override
+  public long asLong() {
+    if (!wellFormed) {
+      throw new IllegalStateException("Malformed date time: " + getValue());
+    }
+    return epochMilli;
+  }
 }
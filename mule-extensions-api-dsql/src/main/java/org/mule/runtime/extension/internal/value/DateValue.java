@@ -11,18 +11,50 @@ package org.mule.runtime.extension.internal.value;
 
 import org.mule.runtime.extension.api.dsql.Value;
 
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+
 /**
  * {@link Value} implementation, that represents a Date.
+ * <p>
+ * The value is the date as written in the query, and it's also parsed once into its epoch day, available through
+ * {@link #asLong()}.
  *
  * @since 1.0
  */
 public class DateValue extends Value<String> {
 
+  private final long epochDay;
+  private final boolean wellFormed;
+
   public DateValue(String value) {
     super(value);
+
+    long parsed = 0;
+    boolean parsedWell = false;
+    try {
+      parsed = LocalDate.parse(value).toEpochDay();
+      parsedWell = true;
+    } catch (DateTimeParseException e) {
+      // kept as text, since it's still valid for translating the query
+    }
+    this.epochDay = parsed;
+    this.wellFormed = parsedWell;
   }
 
   public static DateValue fromLiteral(String literal) {
     return new DateValue(literal);
   }
+
+  /**
+   * @return the epoch day of this date
+   * @throws IllegalStateException if the date is not a valid ISO-8601 date
+   */
+  @Override
+  public long asLong() {
+    if (!wellFormed) {
+      throw new IllegalStateException("Malformed date: " + getValue());
+    }
+    return epochDay;
+  }
 }
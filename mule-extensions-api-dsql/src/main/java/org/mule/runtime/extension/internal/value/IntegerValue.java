@@ -15,11 +15,24 @@ import org.mule.runtime.extension.api.dsql.Value;
  */
 public class IntegerValue extends Value<Integer> {
 
+  private final int intValue;
+
   public IntegerValue(Integer value) {
     super(value);
+    this.intValue = value;
   }
 
   public static IntegerValue fromLiteral(String literal) {
     return new IntegerValue(Integer.parseInt(literal));
   }
+
+  @Override
+  public long asLong() {
+    return intValue;
+  }
+
+  @Override
+  public double asDouble() {
+    return intValue;
+  }
 }
@@ -15,13 +15,20 @@ import org.mule.runtime.extension.api.dsql.Value;
  */
 public class NumberValue extends Value<Double> {
 
+  private final double doubleValue;
 
   public NumberValue(Double value) {
     super(value);
+    this.doubleValue = value;
   }
 
 
   public static NumberValue fromLiteral(String literal) {
     return new NumberValue(Double.parseDouble(literal));
   }
+
+  @Override
+  public double asDouble() {
+    return doubleValue;
+  }
 }
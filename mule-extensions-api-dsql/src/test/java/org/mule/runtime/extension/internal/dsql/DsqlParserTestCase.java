@@ -6,29 +6,52 @@
  */
 package org.mule.runtime.extension.internal.dsql;
 
+import static java.util.Arrays.asList;
+
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.fail;
 import org.mule.runtime.extension.internal.operator.EqualsOperator;
 import org.mule.runtime.extension.api.dsql.Direction;
 import org.mule.runtime.extension.api.dsql.DsqlParser;
 import org.mule.runtime.extension.api.dsql.DsqlQuery;
+import org.mule.runtime.extension.internal.exception.DsqlParsingException;
 import org.mule.runtime.extension.internal.expression.FieldComparison;
 import org.mule.runtime.extension.internal.operator.LessOperator;
 
+import java.util.Collection;
+
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
 /**
  *
  */
+@RunWith(Parameterized.class)
 public class DsqlParserTestCase {
 
-  private static final DsqlParser PARSER = DsqlParser.getInstance();
+  @Parameterized.Parameters(name = "{0}")
+  public static Collection<Object[]> data() {
+    return asList(new Object[][] {
+        {"ANTLR", new DefaultDsqlParser(), new DefaultDsqlParser(0)},
+        {"recursive descent", new RecursiveDescentDsqlParser(), new RecursiveDescentDsqlParser(0)}});
+  }
+
+  private final DsqlParser parser;
+  private final DsqlParser uncachedParser;
+
+  public DsqlParserTestCase(String parserName, DsqlParser parser, DsqlParser uncachedParser) {
+    this.parser = parser;
+    this.uncachedParser = uncachedParser;
+  }
 
   @Test
   public void testEmptyParse() {
     try {
-      DsqlQuery dsqlQuery = PARSER.parse("dsql:select * from users");
+      DsqlQuery dsqlQuery = parser.parse("dsql:select * from users");
       assertEquals("*", dsqlQuery.getFields().get(0).getName());
       assertEquals("users", dsqlQuery.getType().getName());
     } catch (Throwable e) {
@@ -38,7 +61,7 @@ public class DsqlParserTestCase {
 
   @Test
   public void testWithMuleExpressionDsql() {
-    DsqlQuery dsqlQuery = PARSER.parse("dsql:select * from addresses where name='#[payload.get(\\'id\\')]' order by name desc");
+    DsqlQuery dsqlQuery = parser.parse("dsql:select * from addresses where name='#[payload.get(\\'id\\')]' order by name desc");
     assertEquals("*", dsqlQuery.getFields().get(0).getName());
     assertEquals("addresses", dsqlQuery.getType().getName());
     assertTrue(dsqlQuery.getFilterExpression() instanceof FieldComparison);
@@ -51,7 +74,7 @@ public class DsqlParserTestCase {
   @Test
   public void testWithMuleExpression() {
     DsqlQuery dsqlQuery =
-        PARSER.parse("dsql:SELECT * from addresses where name='#[payload.get(\\'id\\')]' order by name desc");
+        parser.parse("dsql:SELECT * from addresses where name='#[payload.get(\\'id\\')]' order by name desc");
     assertEquals("*", dsqlQuery.getFields().get(0).getName());
     assertEquals("addresses", dsqlQuery.getType().getName());
     assertTrue(dsqlQuery.getFilterExpression() instanceof FieldComparison);
@@ -64,7 +87,7 @@ public class DsqlParserTestCase {
   @Test
   public void testWithMuleExpressionFlowVarDsql() {
     DsqlQuery dsqlQuery =
-        PARSER.parse("dsql:select id,name from addresses where name<'#[flowVars[\"id\"]]' order by name desc");
+        parser.parse("dsql:select id,name from addresses where name<'#[flowVars[\"id\"]]' order by name desc");
     assertEquals(2, dsqlQuery.getFields().size());
     assertEquals("id", dsqlQuery.getFields().get(0).getName());
     assertEquals("name", dsqlQuery.getFields().get(1).getName());
@@ -79,7 +102,7 @@ public class DsqlParserTestCase {
 
   @Test
   public void testWithMuleExpressionFlowVar() {
-    DsqlQuery dsqlQuery = PARSER.parse("dsql:SELECT id,name from addresses where name<'#[flowVars[\"id\"]]' order by name desc");
+    DsqlQuery dsqlQuery = parser.parse("dsql:SELECT id,name from addresses where name<'#[flowVars[\"id\"]]' order by name desc");
     assertEquals(2, dsqlQuery.getFields().size());
     assertEquals("id", dsqlQuery.getFields().get(0).getName());
     assertEquals("name", dsqlQuery.getFields().get(1).getName());
@@ -90,4 +113,36 @@ public class DsqlParserTestCase {
     assertEquals("'#[flowVars[\"id\"]]'", ((FieldComparison) dsqlQuery.getFilterExpression()).getValue().toString());
     assertEquals("name", dsqlQuery.getOrderByFields().get(0).getName());
   }
+
+  @Test
+  public void parsedQueriesAreCached() {
+    DsqlQuery dsqlQuery = parser.parse("dsql:SELECT id FROM addresses WHERE name = 'a  b'");
+    assertSame(dsqlQuery, parser.parse("dsql:  SELECT id\n  FROM addresses   WHERE name = 'a  b'  "));
+    assertNotSame(dsqlQuery, parser.parse("dsql:SELECT id FROM addresses WHERE name = 'a b'"));
+  }
+
+  @Test
+  public void parsedQueriesAreNotCachedWithoutCache() {
+    assertNotSame(uncachedParser.parse("dsql:SELECT id FROM addresses"), uncachedParser.parse("dsql:SELECT id FROM addresses"));
+  }
+
+  @Test
+  public void invalidTokenLocationIsReported() {
+    try {
+      parser.parse("dsql:SELECT id, name\n  addresses");
+      fail();
+    } catch (DsqlParsingException e) {
+      assertEquals("Invalid token at 2:2", e.getMessage());
+    }
+  }
+
+  @Test
+  public void normalizeKeepsSignificantWhitespace() {
+    assertEquals("SELECT a FROM X", CachingDsqlParser.normalize(" SELECT  a\tFROM\n\nX "));
+    assertEquals("SELECT a FROM X WHERE b = ' c  d\\'  e '",
+                 CachingDsqlParser.normalize("SELECT a FROM X WHERE b = ' c  d\\'  e '"));
+    assertEquals("SELECT [a  b] FROM X WHERE c = #[vars.d  ++  'e']",
+                 CachingDsqlParser.normalize("SELECT  [a  b] FROM X WHERE c =  #[vars.d  ++  'e']"));
+    assertEquals("SELECT a FROM X -- all\n  WHERE b = 1", CachingDsqlParser.normalize("SELECT a FROM X -- all\n  WHERE b = 1"));
+  }
 }
@@ -0,0 +1,323 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+
+import org.mule.runtime.extension.api.dsql.DsqlParser;
+import org.mule.runtime.extension.api.dsql.DsqlQueryEvaluator;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+
+import org.junit.Test;
+
+public class DsqlQueryEvaluatorTestCase {
+
+  private static final DsqlParser PARSER = DsqlParser.getInstance();
+  private static final DsqlQueryEvaluator EVALUATOR = new DefaultDsqlQueryEvaluator();
+
+  private static final List<Map<String, Object>> ACCOUNTS = asList(account(1, "Juan", 30, "Mendoza"),
+                                                                   account(2, "Ana", 25, "Rosario"),
+                                                                   account(3, "Pedro", null, "Mendoza"),
+                                                                   account(4, "Alberto", 41, "Cordoba"),
+                                                                   account(5, "Maria", 25, "Mendoza"));
+
+  @Test
+  public void filterAndProject() {
+    assertEquals(asList(row("id", 1, "name", "Juan"), row("id", 4, "name", "Alberto")),
+                 evaluate("dsql:SELECT id, name FROM Account WHERE age > 25 AND NOT (city = 'Rosario')"));
+  }
+
+  @Test
+  public void orAndParentheses() {
+    assertEquals(asList(row("id", 2), row("id", 3)),
+                 evaluate("dsql:SELECT id FROM Account WHERE (city = 'Rosario' OR age = null) AND id < 5"));
+  }
+
+  @Test
+  public void selectAllFields() {
+    assertEquals(asList(ACCOUNTS.get(1)), evaluate("dsql:SELECT * FROM Account WHERE name = 'Ana'"));
+  }
+
+  @Test
+  public void nullsOnlyMatchNullComparisons() {
+    assertEquals(asList(row("id", 3)), evaluate("dsql:SELECT id FROM Account WHERE age = null"));
+    assertEquals(asList(row("id", 1), row("id", 2), row("id", 4), row("id", 5)),
+                 evaluate("dsql:SELECT id FROM Account WHERE age <> null"));
+    assertEquals(asList(row("id", 1), row("id", 4)), evaluate("dsql:SELECT id FROM Account WHERE age <> 25"));
+  }
+
+  @Test
+  public void negatedComparisonsDontMatchNulls() {
+    assertEquals(asList(row("id", 2), row("id", 5)), evaluate("dsql:SELECT id FROM Account WHERE NOT (age > 25)"));
+    assertEquals(asList(row("id", 1), row("id", 4)), evaluate("dsql:SELECT id FROM Account WHERE NOT (age = 25)"));
+    assertEquals(asList(row("id", 1), row("id", 4)), evaluate("dsql:SELECT id FROM Account WHERE NOT (NOT (age > 25))"));
+    assertEquals(asList(row("id", 5)), evaluate("dsql:SELECT id FROM Account WHERE NOT (age > 25 OR city = 'Rosario')"));
+    assertEquals(asList(row("id", 1), row("id", 2), row("id", 4), row("id", 5)),
+                 evaluate("dsql:SELECT id FROM Account WHERE NOT (age = null)"));
+    assertEquals(asList(row("id", 1), row("id", 3), row("id", 4), row("id", 5)),
+                 evaluate("dsql:SELECT id FROM Account WHERE NOT (age = 25 AND city = 'Rosario')"));
+  }
+
+  @Test
+  public void like() {
+    assertEquals(asList(row("name", "Ana"), row("name", "Alberto")),
+                 evaluate("dsql:SELECT name FROM Account WHERE name like 'A%'"));
+    assertEquals(asList(row("name", "Juan"), row("name", "Maria")),
+                 evaluate("dsql:SELECT name FROM Account WHERE name like '_u%' OR name like '%i_'"));
+  }
+
+  @Test
+  public void orderByWithNullsFirst() {
+    assertEquals(asList(row("id", 3), row("id", 2), row("id", 5), row("id", 1), row("id", 4)),
+                 evaluate("dsql:SELECT id FROM Account ORDER BY age, id"));
+    assertEquals(asList(row("id", 4), row("id", 1), row("id", 5), row("id", 2), row("id", 3)),
+                 evaluate("dsql:SELECT id FROM Account ORDER BY age, id DESC"));
+  }
+
+  @Test
+  public void orderByWithLimitAndOffset() {
+    assertEquals(asList(row("id", 5), row("id", 1)),
+                 evaluate("dsql:SELECT id FROM Account ORDER BY age, id LIMIT 2 OFFSET 2"));
+    assertEquals(asList(row("id", 5), row("id", 1)),
+                 evaluate("dsql:SELECT id FROM Account WHERE city <> 'Cordoba' ORDER BY age LIMIT 10 OFFSET 2"));
+  }
+
+  @Test
+  public void limitWithoutOrderStopsReading() {
+    CountingIterable records = new CountingIterable(ACCOUNTS);
+    Iterator<Map<String, Object>> result = EVALUATOR.compile(PARSER.parse("dsql:SELECT id FROM Account WHERE city = 'Mendoza' "
+        + "LIMIT 2 OFFSET 1")).evaluate(records).iterator();
+
+    assertEquals(row("id", 3), result.next());
+    assertEquals(3, records.read);
+    assertEquals(row("id", 5), result.next());
+    assertFalse(result.hasNext());
+    assertEquals(5, records.read);
+  }
+
+  @Test
+  public void topRecordsMatchFullSort() {
+    Random random = new Random(42);
+    List<Map<String, Object>> records = new ArrayList<>();
+    for (int i = 0; i < 1000; ++i) {
+      records.add(account(i, "name" + random.nextInt(50), random.nextInt(10) == 0 ? null : random.nextInt(100), "city"));
+    }
+
+    String query = "dsql:SELECT id FROM Account WHERE age > 10 ORDER BY name, age DESC";
+    List<Map<String, Object>> sorted = evaluate(query, records);
+    assertEquals(sorted.subList(15, 35), evaluate(query + " LIMIT 20 OFFSET 15", records));
+    assertEquals(sorted.subList(0, 1), evaluate(query + " LIMIT 1", records));
+    assertEquals(sorted.subList(sorted.size() - 3, sorted.size()),
+                 evaluate(query + " LIMIT 100 OFFSET " + (sorted.size() - 3), records));
+  }
+
+  @Test
+  public void orderByColumnOfDifferentTypes() {
+    List<Object> values = asList(null, true, 2.5d, new BigDecimal("2.75"), 3, Double.NaN, LocalDate.of(2023, 4, 5),
+                                 LocalDateTime.of(2023, 4, 4, 10, 30), new Date(1680690600000L), "2023-04-04", "abc",
+                                 UUID.fromString("00000000-0000-0000-0000-000000000001"));
+    List<Map<String, Object>> records = new ArrayList<>();
+    List<Map<String, Object>> expected = new ArrayList<>();
+    for (int i = 0; i < values.size(); ++i) {
+      records.add(value(i, values.get(i)));
+      expected.add(row("id", i));
+    }
+    Collections.reverse(records);
+
+    assertEquals(expected, evaluate("dsql:SELECT id FROM Value ORDER BY value", records));
+  }
+
+  @Test
+  public void sortingMixedColumnIsConsistent() {
+    Random random = new Random(42);
+    List<Map<String, Object>> records = new ArrayList<>();
+    for (int i = 0; i < 2000; ++i) {
+      Object value;
+      switch (random.nextInt(8)) {
+        case 0:
+          value = random.nextInt(100);
+          break;
+        case 1:
+          value = random.nextInt(100) / 4d;
+          break;
+        case 2:
+          value = LocalDate.of(2023, 4, 1).plusDays(random.nextInt(10));
+          break;
+        case 3:
+          value = OffsetDateTime.parse("2023-04-01T00:00:00Z").plusHours(random.nextInt(240));
+          break;
+        case 4:
+          value = LocalDate.of(2023, 4, 1).plusDays(random.nextInt(10)).toString();
+          break;
+        case 5:
+          value = String.valueOf(random.nextInt(100));
+          break;
+        case 6:
+          value = random.nextBoolean();
+          break;
+        default:
+          value = null;
+      }
+      records.add(value(i, value));
+    }
+
+    String query = "dsql:SELECT id FROM Value ORDER BY value, id";
+    List<Map<String, Object>> sorted = evaluate(query, records);
+    Collections.shuffle(records, random);
+    assertEquals(sorted, evaluate(query, records));
+    assertEquals(sorted.subList(100, 150), evaluate(query + " LIMIT 50 OFFSET 100", records));
+  }
+
+  @Test
+  public void compareFieldsOfDifferentTypes() {
+    Map<String, Object> record = new HashMap<>();
+    record.put("amount", 10L);
+    record.put("total", 10.5d);
+    record.put("created", LocalDate.of(2023, 4, 5));
+    record.put("updated", new Date(1680690600000L));
+    record.put("shipped", OffsetDateTime.parse("2023-04-05T10:30:00.001Z"));
+
+    assertEquals(1, evaluate("dsql:SELECT * FROM Sale WHERE amount < total AND amount = 10 AND total > 10", asList(record))
+        .size());
+    assertEquals(1, evaluate("dsql:SELECT * FROM Sale WHERE created >= 2023-04-01 AND created < 2023-05-01", asList(record))
+        .size());
+    assertEquals(1, evaluate("dsql:SELECT * FROM Sale WHERE updated = 2023-04-05T07:30:00-03:00 "
+        + "AND shipped > 2023-04-05T10:30:00Z", asList(record)).size());
+    assertEquals(1, evaluate("dsql:SELECT * FROM Sale WHERE amount >= 10.0 AND total <= 11 AND amount <> 'ten'", asList(record))
+        .size());
+  }
+
+  @Test
+  public void beans() {
+    List<Account> records = asList(new Account("Juan", 30, true), new Account("Ana", 25, false), new Account("Pedro", 41, true));
+
+    List<Map<String, Object>> result = new ArrayList<>();
+    EVALUATOR.compile(PARSER.parse("dsql:SELECT name, age FROM Account WHERE active = true ORDER BY age DESC"), Account.class)
+        .evaluate(records).forEach(result::add);
+
+    assertEquals(asList(row("name", "Pedro", "age", 41), row("name", "Juan", "age", 30)), result);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void unknownBeanField() {
+    EVALUATOR.compile(PARSER.parse("dsql:SELECT name, email FROM Account"), Account.class);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void unresolvedExpression() {
+    EVALUATOR.compile(PARSER.parse("dsql:SELECT name FROM Account WHERE name = #[vars.name]"));
+  }
+
+  private static List<Map<String, Object>> evaluate(String query) {
+    return evaluate(query, ACCOUNTS);
+  }
+
+  private static List<Map<String, Object>> evaluate(String query, List<Map<String, Object>> records) {
+    List<Map<String, Object>> result = new ArrayList<>();
+    EVALUATOR.compile(PARSER.parse(query)).evaluate(records).forEach(result::add);
+    return result;
+  }
+
+  private static Map<String, Object> account(int id, String name, Integer age, String city) {
+    Map<String, Object> account = new LinkedHashMap<>();
+    account.put("id", id);
+    account.put("name", name);
+    account.put("age", age);
+    account.put("city", city);
+    return account;
+  }
+
+  private static Map<String, Object> value(int id, Object value) {
+    Map<String, Object> record = new LinkedHashMap<>();
+    record.put("id", id);
+    record.put("value", value);
+    return record;
+  }
+
+  private static Map<String, Object> row(Object... keysAndValues) {
+    if (keysAndValues.length == 2) {
+      return singletonMap((String) keysAndValues[0], keysAndValues[1]);
+    }
+
+    Map<String, Object> row = new LinkedHashMap<>();
+    for (int i = 0; i < keysAndValues.length; i += 2) {
+      row.put((String) keysAndValues[i], keysAndValues[i + 1]);
+    }
+    return row;
+  }
+
+  private static final class CountingIterable implements Iterable<Map<String, Object>> {
+
+    private final List<Map<String, Object>> records;
+    private int read;
+
+    private CountingIterable(List<Map<String, Object>> records) {
+      this.records = records;
+    }
+
+    @Override
+    public Iterator<Map<String, Object>> iterator() {
+      Iterator<Map<String, Object>> iterator = records.iterator();
+      return new Iterator<Map<String, Object>>() {
+
+        @Override
+        public boolean hasNext() {
+          return iterator.hasNext();
+        }
+
+        @Override
+        public Map<String, Object> next() {
+          read++;
+          return iterator.next();
+        }
+      };
+    }
+  }
+
+  public static final class Account {
+
+    private final String name;
+    private final int age;
+    private final boolean active;
+
+    public Account(String name, int age, boolean active) {
+      this.name = name;
+      this.age = age;
+      this.active = active;
+    }
+
+    public String getName() {
+      return name;
+    }
+
+    public int getAge() {
+      return age;
+    }
+
+    public boolean isActive() {
+      return active;
+    }
+  }
+}
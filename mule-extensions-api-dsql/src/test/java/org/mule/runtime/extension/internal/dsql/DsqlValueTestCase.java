@@ -20,6 +20,7 @@ import org.mule.runtime.extension.internal.value.IdentifierValue;
 import org.mule.runtime.extension.internal.value.IntegerValue;
 import org.mule.runtime.extension.internal.value.MuleExpressionValue;
 import org.mule.runtime.extension.internal.value.NullValue;
+import org.mule.runtime.extension.internal.value.NumberValue;
 import org.mule.runtime.extension.internal.value.StringValue;
 
 import org.hamcrest.CoreMatchers;
@@ -72,6 +73,7 @@ public class DsqlValueTestCase {
     Assert.assertThat((FieldComparison) parse.getFilterExpression(), CoreMatchers.isA(FieldComparison.class));
     FieldComparison fieldComparison = (FieldComparison) parse.getFilterExpression();
     Assert.assertThat(fieldComparison.getValue(), CoreMatchers.instanceOf(DateTimeValue.class));
+    Assert.assertThat(fieldComparison.getValue().asLong(), CoreMatchers.is(1378409966621L));
   }
 
   @Test
@@ -80,6 +82,7 @@ public class DsqlValueTestCase {
     Assert.assertThat((FieldComparison) parse.getFilterExpression(), CoreMatchers.isA(FieldComparison.class));
     FieldComparison fieldComparison = (FieldComparison) parse.getFilterExpression();
     Assert.assertThat(fieldComparison.getValue(), CoreMatchers.instanceOf(DateValue.class));
+    Assert.assertThat(fieldComparison.getValue().asLong(), CoreMatchers.is(10592L));
   }
 
 
@@ -89,6 +92,17 @@ public class DsqlValueTestCase {
     Assert.assertThat((FieldComparison) parse.getFilterExpression(), CoreMatchers.isA(FieldComparison.class));
     FieldComparison fieldComparison = (FieldComparison) parse.getFilterExpression();
     Assert.assertThat(fieldComparison.getValue(), CoreMatchers.instanceOf(IntegerValue.class));
+    Assert.assertThat(fieldComparison.getValue().asLong(), CoreMatchers.is(30L));
+    Assert.assertThat(fieldComparison.getValue().asDouble(), CoreMatchers.is(30d));
+  }
+
+  @Test
+  public void parseNumberValue() {
+    DsqlQuery parse = DSQL_PARSER.parse("dsql:SELECT name from account where balance > 30.25");
+    Assert.assertThat((FieldComparison) parse.getFilterExpression(), CoreMatchers.isA(FieldComparison.class));
+    FieldComparison fieldComparison = (FieldComparison) parse.getFilterExpression();
+    Assert.assertThat(fieldComparison.getValue(), CoreMatchers.instanceOf(NumberValue.class));
+    Assert.assertThat(fieldComparison.getValue().asDouble(), CoreMatchers.is(30.25d));
   }
 
   @Test
@@ -97,6 +111,12 @@ public class DsqlValueTestCase {
     Assert.assertThat((FieldComparison) parse.getFilterExpression(), CoreMatchers.isA(FieldComparison.class));
     FieldComparison fieldComparison = (FieldComparison) parse.getFilterExpression();
     Assert.assertThat((BooleanValue) fieldComparison.getValue(), CoreMatchers.isA(BooleanValue.class));
+    Assert.assertThat(fieldComparison.getValue().asBoolean(), CoreMatchers.is(true));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void stringValueIsNotNumeric() {
+    new StringValue("30").asLong();
   }
 
   @Test
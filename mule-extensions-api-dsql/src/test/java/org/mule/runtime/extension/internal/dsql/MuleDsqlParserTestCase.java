@@ -6,6 +6,8 @@
  */
 package org.mule.runtime.extension.internal.dsql;
 
+import static java.util.Arrays.asList;
+
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.isA;
 import static org.junit.Assert.assertThat;
@@ -23,6 +25,7 @@ import org.mule.runtime.extension.internal.operator.Operator;
 import org.mule.runtime.extension.internal.value.IntegerValue;
 import org.mule.runtime.extension.internal.value.NumberValue;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.antlr.runtime.ANTLRStringStream;
@@ -33,14 +36,28 @@ import org.antlr.runtime.tree.CommonTree;
 
 import org.junit.Assert;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
 import org.hamcrest.CoreMatchers;
 
+@RunWith(Parameterized.class)
 public class MuleDsqlParserTestCase {
 
+  @Parameterized.Parameters(name = "{0}")
+  public static Collection<Object[]> data() {
+    return asList(new Object[][] {{"ANTLR", new DefaultDsqlParser()}, {"recursive descent", new RecursiveDescentDsqlParser()}});
+  }
+
   // Debug toggle to show ASTs being parsed by the tests
   private static final boolean PRINT_AST = false;
 
+  private final DsqlParser parser;
+
+  public MuleDsqlParserTestCase(String parserName, DsqlParser parser) {
+    this.parser = parser;
+  }
+
   @Test
   public void testEasyParse() {
     DsqlQuery dsqlQuery = parse("dsql:SELECT * from users where name='alejo'");
@@ -479,7 +496,6 @@ public class MuleDsqlParserTestCase {
         throw new DsqlParsingException(e);
       }
     }
-    DsqlParser parser = DsqlParser.getInstance();
     DsqlQueryTranslator visitor = new DsqlQueryTranslator();
     DsqlQuery parse = parser.parse(string);
     parse.translate(visitor);
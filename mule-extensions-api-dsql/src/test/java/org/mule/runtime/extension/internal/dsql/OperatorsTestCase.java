@@ -9,12 +9,16 @@ package org.mule.runtime.extension.internal.dsql;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.not;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertThat;
+import static org.junit.Assert.assertTrue;
 import org.mule.runtime.extension.internal.operator.EqualsOperator;
 import org.mule.runtime.extension.internal.operator.GreaterOperator;
 import org.mule.runtime.extension.internal.operator.GreaterOrEqualsOperator;
 import org.mule.runtime.extension.internal.operator.LessOperator;
+import org.mule.runtime.extension.internal.operator.LessOrEqualsOperator;
 import org.mule.runtime.extension.internal.operator.LikeOperator;
+import org.mule.runtime.extension.internal.operator.NotEqualsOperator;
 
 import org.junit.Test;
 
@@ -36,4 +40,22 @@ public class OperatorsTestCase {
     assertThat(new EqualsOperator(), is(not(equalTo(new LikeOperator()))));
   }
 
+  @Test
+  public void testComparisons() {
+    assertTrue(new EqualsOperator().test(3L, 3L));
+    assertFalse(new EqualsOperator().test(3.5d, 3d));
+    assertTrue(new NotEqualsOperator().test(-1));
+    assertTrue(new GreaterOperator().test(4L, 3L));
+    assertFalse(new GreaterOperator().test(0));
+    assertTrue(new GreaterOrEqualsOperator().test(0));
+    assertTrue(new LessOperator().test(-0.5d, 0d));
+    assertTrue(new LessOrEqualsOperator().test(2L, 2L));
+    assertFalse(new LessOrEqualsOperator().test(1));
+  }
+
+  @Test(expected = UnsupportedOperationException.class)
+  public void likeDoesNotCompare() {
+    new LikeOperator().test(0);
+  }
+
 }
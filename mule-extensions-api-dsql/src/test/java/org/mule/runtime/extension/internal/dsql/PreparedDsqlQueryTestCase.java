@@ -0,0 +1,64 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.dsql;
+
+import static java.util.Arrays.asList;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import org.mule.runtime.extension.api.dsql.DsqlParser;
+import org.mule.runtime.extension.api.dsql.DsqlQuery;
+import org.mule.runtime.extension.api.dsql.PreparedDsqlQuery;
+
+import org.junit.Test;
+
+public class PreparedDsqlQueryTestCase {
+
+  private static final DsqlParser PARSER = DsqlParser.getInstance();
+
+  private static final String OWNER = "#[vars.owner]";
+  private static final String NAME = "#[vars.name]";
+
+  @Test
+  public void expressionsAreBound() {
+    DsqlQuery query =
+        PARSER.parse("dsql:SELECT id FROM Account WHERE owner = " + OWNER + " AND (name = " + NAME + " OR age > 18)");
+    String translation = query.translate(new DsqlQueryTranslator());
+
+    PreparedDsqlQuery prepared = query.prepare(new DsqlQueryTranslator());
+
+    assertTrue(prepared.hasExpressions());
+    assertEquals(asList(OWNER, NAME), prepared.getExpressions());
+    assertEquals(translation, prepared.toString());
+    assertEquals(translation.replace(OWNER, "'juan'").replace(NAME, "'perez'"),
+                 prepared.bind(expression -> expression.equals(OWNER) ? "'juan'" : "'perez'"));
+  }
+
+  @Test
+  public void repeatedExpressionsAreBoundEachTime() {
+    DsqlQuery query = PARSER.parse("dsql:SELECT id FROM Account WHERE owner = " + OWNER + " OR creator = " + OWNER);
+
+    PreparedDsqlQuery prepared = query.prepare(new DsqlQueryTranslator());
+
+    assertEquals(asList(OWNER, OWNER), prepared.getExpressions());
+    assertEquals(query.translate(new DsqlQueryTranslator()).replace(OWNER, "1"), prepared.bind(expression -> 1));
+  }
+
+  @Test
+  public void queryWithoutExpressions() {
+    DsqlQuery query = PARSER.parse("dsql:SELECT id, name FROM Account WHERE age > 18 ORDER BY name DESC LIMIT 10");
+
+    PreparedDsqlQuery prepared = query.prepare(new DsqlQueryTranslator());
+
+    assertFalse(prepared.hasExpressions());
+    assertEquals(query.translate(new DsqlQueryTranslator()), prepared.bind(expression -> {
+      throw new AssertionError("Unexpected expression " + expression);
+    }));
+  }
+}
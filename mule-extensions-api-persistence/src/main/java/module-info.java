@@ -17,6 +17,7 @@ module org.mule.runtime.extensions.api.persistence {
   requires org.mule.runtime.metadata.model.api;
   requires org.mule.runtime.metadata.model.persistence;
 
+  requires com.github.benmanes.caffeine;
   requires com.google.common;
   requires com.google.gson;
   requires org.apache.commons.lang3;
@@ -28,6 +29,8 @@ module org.mule.runtime.extensions.api.persistence {
   exports org.mule.runtime.extension.internal.persistence to
       org.mule.runtime.extensions.api.persistence.test;
 
+  uses org.mule.runtime.extension.api.persistence.ModelPropertyClassProvider;
+
   provides org.mule.metadata.persistence.api.TypeAnnotationSerializerExtender
       with org.mule.runtime.extension.internal.persistence.ExtensionTypeAnnotationSerializerExtender;
 
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence;
+
+import static org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer.buildGson;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.model.ImmutableExtensionModel;
+import org.mule.runtime.extension.internal.persistence.BinaryJsonReader;
+import org.mule.runtime.extension.internal.persistence.BinaryJsonWriter;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Type;
+import java.util.List;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Serializer that converts a {@link ExtensionModel} into a compact binary representation and back.
+ * <p>
+ * The binary representation holds the same information as the one generated by the {@link ExtensionModelJsonSerializer}, and
+ * has the same considerations regarding {@link org.mule.runtime.api.meta.model.ModelProperty model properties}. However:
+ * <ul>
+ * <li>Each distinct string (names, type ids, stereotypes, error identifiers, etc.) is written only once. Following appearances
+ * are written as a reference to the first one.</li>
+ * <li>Each {@link MetadataType} instance shared between components is written only once, and deserialized as a single
+ * instance.</li>
+ * <li>The content starts with a header which contains the version of the format.</li>
+ * </ul>
+ * <p>
+ * Instances are thread-safe, and reusing them is encouraged.
+ *
+ * @since 1.10
+ */
+public class ExtensionModelBinarySerializer {
+
+  private static final Type EXTENSION_MODEL_LIST_TYPE = new TypeToken<List<ExtensionModel>>() {}.getType();
+  private static final Type IMMUTABLE_EXTENSION_MODEL_LIST_TYPE = new TypeToken<List<ImmutableExtensionModel>>() {}.getType();
+
+  private final Gson gson = buildGson(false, true);
+
+  /**
+   * Serializes an {@link ExtensionModel}
+   *
+   * @param extensionModel {@link ExtensionModel} to be serialized
+   * @return the binary representation of the {@link ExtensionModel}
+   */
+  public byte[] serialize(ExtensionModel extensionModel) {
+    return write(extensionModel, ExtensionModel.class);
+  }
+
+  /**
+   * @param extensionModelList List of {@link ExtensionModel} to be serialized
+   * @return the binary representation of the {@link List} of {@link ExtensionModel}
+   */
+  public byte[] serializeList(List<ExtensionModel> extensionModelList) {
+    return write(extensionModelList, EXTENSION_MODEL_LIST_TYPE);
+  }
+
+  /**
+   * Deserializes a binary representation of an {@link ExtensionModel}, to an actual instance of it.
+   *
+   * @param extensionModel serialized {@link ExtensionModel}
+   * @return an instance of {@link ExtensionModel}
+   * @throws JsonParseException if the content is not a valid binary representation
+   */
+  public ExtensionModel deserialize(byte[] extensionModel) {
+    return read(new ByteArrayInputStream(extensionModel), ImmutableExtensionModel.class);
+  }
+
+  /**
+   * Deserializes a binary representation of an {@link ExtensionModel}, to an actual instance of it.
+   *
+   * @param extensionModel stream with the serialized {@link ExtensionModel}. It will not be closed.
+   * @return an instance of {@link ExtensionModel}
+   * @throws JsonParseException if the content is not a valid binary representation
+   */
+  public ExtensionModel deserialize(InputStream extensionModel) {
+    return read(extensionModel, ImmutableExtensionModel.class);
+  }
+
+  /**
+   * Deserializes a binary representation of a {@link List} of {@link ExtensionModel}, to an actual instance of it.
+   *
+   * @param extensionModelList serialized {@link List} {@link ExtensionModel}
+   * @return the {@link List} of {@link ExtensionModel}
+   * @throws JsonParseException if the content is not a valid binary representation
+   */
+  public List<ExtensionModel> deserializeList(byte[] extensionModelList) {
+    return read(new ByteArrayInputStream(extensionModelList), IMMUTABLE_EXTENSION_MODEL_LIST_TYPE);
+  }
+
+  private byte[] write(Object value, Type type) {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    try {
+      BinaryJsonWriter writer = new BinaryJsonWriter(out);
+      gson.toJson(value, type, writer);
+      writer.flush();
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+    return out.toByteArray();
+  }
+
+  private <T> T read(InputStream in, Type type) {
+    try {
+      // the adapter is used directly, so that a failure to read the content is not reported as a syntax error
+      return (T) gson.getAdapter(TypeToken.get(type)).read(new BinaryJsonReader(in));
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    } catch (IllegalStateException e) {
+      throw new JsonSyntaxException(e);
+    }
+  }
+}
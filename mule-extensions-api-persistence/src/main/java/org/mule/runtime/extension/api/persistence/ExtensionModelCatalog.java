@@ -0,0 +1,113 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence;
+
+import static org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer.buildGson;
+
+import static java.lang.String.format;
+import static java.nio.channels.FileChannel.MapMode.READ_ONLY;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.util.Optional.ofNullable;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogDecoder;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import com.google.gson.JsonParseException;
+
+/**
+ * Provides access to the {@link ExtensionModel extension models} of a catalog written by an {@link ExtensionModelCatalogWriter}.
+ * <p>
+ * Opening a catalog only reads its index. Each {@link ExtensionModel} is decoded the first time it is requested, without its
+ * configurations, operations, functions, constructs, connection providers and message sources, which are decoded one by one the
+ * first time each of them is accessed. Hence, the cost of reading a catalog is proportional to the part of it that is actually
+ * used, rather than to its size.
+ * <p>
+ * The returned {@link ExtensionModel extension models}, and each of their components, are decoded only once. Instances are
+ * thread-safe.
+ *
+ * @since 1.10
+ */
+public class ExtensionModelCatalog {
+
+  private final ExtensionModelCatalogDecoder decoder;
+
+  private ExtensionModelCatalog(ExtensionModelCatalogDecoder decoder) {
+    this.decoder = decoder;
+  }
+
+  /**
+   * Opens the catalog in the given {@code file} by memory mapping it, so that only the parts of it which are used are loaded.
+   * <p>
+   * The file must not be modified while the returned catalog, or any of the {@link ExtensionModel extension models} obtained
+   * from it, are in use. The mapping is released once those are garbage collected.
+   *
+   * @param file a file written by an {@link ExtensionModelCatalogWriter}
+   * @return the opened catalog
+   * @throws IOException        if the file could not be read
+   * @throws JsonParseException if the file is not a valid catalog
+   */
+  public static ExtensionModelCatalog open(Path file) throws IOException {
+    try (FileChannel channel = FileChannel.open(file, READ)) {
+      long size = channel.size();
+      if (size > Integer.MAX_VALUE) {
+        throw new IOException(format("Catalog '%s' is too big to be mapped (%d bytes)", file, size));
+      }
+
+      // the mapping remains valid once the channel is closed
+      return from(channel.map(READ_ONLY, 0, size));
+    }
+  }
+
+  /**
+   * Opens the catalog held by the given {@code buffer}.
+   *
+   * @param buffer the content of a catalog written by an {@link ExtensionModelCatalogWriter}, from its current position. It must
+   *               not be modified afterwards.
+   * @return the opened catalog
+   * @throws IOException        if the index of the catalog could not be read
+   * @throws JsonParseException if the content is not a valid catalog
+   */
+  public static ExtensionModelCatalog from(ByteBuffer buffer) throws IOException {
+    return new ExtensionModelCatalog(new ExtensionModelCatalogDecoder(buffer, buildGson(false, false)));
+  }
+
+  /**
+   * @return the names of the extensions in this catalog, in the order in which they were written
+   */
+  public Set<String> getExtensionNames() {
+    return decoder.getExtensionNames();
+  }
+
+  /**
+   * @param name the name of an extension
+   * @return the {@link ExtensionModel} of the extension with the given {@code name}, or {@link Optional#empty()} if it is not
+   *         part of this catalog
+   */
+  public Optional<ExtensionModel> getExtensionModel(String name) {
+    return ofNullable(decoder.getExtensionModel(name));
+  }
+
+  /**
+   * @return the {@link ExtensionModel extension models} in this catalog, in the order in which they were written
+   */
+  public List<ExtensionModel> getExtensionModels() {
+    List<ExtensionModel> extensionModels = new ArrayList<>();
+    for (String name : getExtensionNames()) {
+      extensionModels.add(decoder.getExtensionModel(name));
+    }
+    return extensionModels;
+  }
+}
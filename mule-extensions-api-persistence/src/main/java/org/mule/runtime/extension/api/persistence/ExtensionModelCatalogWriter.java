@@ -0,0 +1,65 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence;
+
+import static org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer.buildGson;
+
+import static java.nio.file.Files.newOutputStream;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogEncoder;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Collection;
+
+/**
+ * Writes many {@link ExtensionModel extension models} into a single indexed catalog, to be read through an
+ * {@link ExtensionModelCatalog}.
+ * <p>
+ * Each extension, and each of its configurations, operations, functions, constructs, connection providers and message sources,
+ * is written as an independent document in the binary representation used by the {@link ExtensionModelBinarySerializer}. The
+ * catalog starts with an index with the location of each of those documents, which allows the reader to decode only the parts
+ * of the catalog that are actually used.
+ * <p>
+ * Instances are thread-safe, and reusing them is encouraged.
+ *
+ * @since 1.10
+ */
+public class ExtensionModelCatalogWriter {
+
+  // the components are decoded in any order, so the types shared between them cannot be deduplicated
+  private final ExtensionModelCatalogEncoder encoder = new ExtensionModelCatalogEncoder(buildGson(false, false));
+
+  /**
+   * Writes the given {@code extensionModels} into {@code out}
+   *
+   * @param extensionModels the {@link ExtensionModel extension models} to write. Their names must be unique.
+   * @param out             the stream to write the catalog to. It will not be closed.
+   * @throws IOException              if the catalog could not be written
+   * @throws IllegalArgumentException if two of the {@code extensionModels} have the same name
+   */
+  public void write(Collection<ExtensionModel> extensionModels, OutputStream out) throws IOException {
+    encoder.encode(extensionModels, out);
+  }
+
+  /**
+   * Writes the given {@code extensionModels} into the given {@code file}, replacing its content if it already exists.
+   *
+   * @param extensionModels the {@link ExtensionModel extension models} to write. Their names must be unique.
+   * @param file            the file to write the catalog to
+   * @throws IOException              if the catalog could not be written
+   * @throws IllegalArgumentException if two of the {@code extensionModels} have the same name
+   */
+  public void write(Collection<ExtensionModel> extensionModels, Path file) throws IOException {
+    try (OutputStream out = new BufferedOutputStream(newOutputStream(file))) {
+      write(extensionModels, out);
+    }
+  }
+}
@@ -6,14 +6,11 @@
  */
 package org.mule.runtime.extension.api.persistence;
 
-import static java.util.Collections.emptySet;
-import static org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils.getId;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.current;
 
 import org.mule.metadata.api.model.MetadataType;
-import org.mule.metadata.api.model.ObjectType;
 import org.mule.metadata.persistence.MetadataTypeGsonTypeAdapter;
 import org.mule.metadata.persistence.ObjectTypeReferenceHandler;
-import org.mule.metadata.persistence.SerializationContext;
 import org.mule.metadata.persistence.type.adapter.OptionalTypeAdapterFactory;
 import org.mule.runtime.api.artifact.ArtifactCoordinates;
 import org.mule.runtime.api.meta.MuleVersion;
@@ -48,15 +45,19 @@ import org.mule.runtime.extension.api.model.parameter.ImmutableExclusiveParamete
 import org.mule.runtime.extension.api.model.parameter.ImmutableParameterGroupModel;
 import org.mule.runtime.extension.api.model.parameter.ImmutableParameterModel;
 import org.mule.runtime.extension.api.model.source.ImmutableSourceCallbackModel;
-import org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils;
 import org.mule.runtime.extension.internal.persistence.ArtifactCoordinatesTypeAdapter;
+import org.mule.runtime.extension.internal.persistence.BinaryJsonMapTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.ConstructModelTypeAdapterFactory;
+import org.mule.runtime.extension.internal.persistence.ContextualObjectTypeReferenceHandler;
+import org.mule.runtime.extension.internal.persistence.DeduplicatingMetadataTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.DefaultImplementationTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.ElementDslModelTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.ErrorModelToIdentifierTypeAdapter;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelListTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.ExtensionModelTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.FunctionModelTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.ImportedTypesModelTypeAdapter;
+import org.mule.runtime.extension.internal.persistence.InterningTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.MetadataKeyPartModelPropertyTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.ModelPropertyMapTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.MuleVersionTypeAdapter;
@@ -64,23 +65,25 @@ import org.mule.runtime.extension.internal.persistence.NestableElementModelTypeA
 import org.mule.runtime.extension.internal.persistence.NotificationModelToIdentifierTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.OAuthGrantTypeTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.OperationModelTypeAdapterFactory;
-import org.mule.runtime.extension.internal.persistence.RestrictedTypesObjectTypeReferenceHandler;
 import org.mule.runtime.extension.internal.persistence.SourceModelTypeAdapterFactory;
+import org.mule.runtime.extension.internal.persistence.StereotypeModelDictionaryTypeAdapterFactory;
 import org.mule.runtime.extension.internal.persistence.SubTypesModelTypeAdapter;
 import org.mule.runtime.extension.internal.persistence.XmlDslModelTypeAdapter;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.List;
-import java.util.Map;
-import java.util.Optional;
-import java.util.Set;
-import java.util.stream.Collectors;
 
 import com.google.gson.Gson;
 import com.google.gson.GsonBuilder;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
 import com.google.gson.TypeAdapter;
 import com.google.gson.TypeAdapterFactory;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
 
 /**
  * Serializer that can convert a {@link ExtensionModel} into a readable and processable JSON representation and from a JSON
@@ -102,9 +105,8 @@ import com.google.gson.reflect.TypeToken;
  */
 public class ExtensionModelJsonSerializer {
 
-  private final boolean prettyPrint;
-  private Set<ObjectType> registeredTypes = emptySet();
-  private Set<ObjectType> importedTypes = emptySet();
+  private final Gson gson;
+  private final ExtensionModelListTypeAdapter listTypeAdapter;
 
   /**
    * Creates a new instance of the {@link ExtensionModelJsonSerializer}. This serializer is capable of serializing and
@@ -116,30 +118,36 @@ public class ExtensionModelJsonSerializer {
 
   /**
    * Creates a new instance of the {@link ExtensionModelJsonSerializer}.
+   * <p>
+   * The instance is thread-safe, and reusing it is encouraged since the adapters used to handle each of the model's components
+   * are built only once, here.
    *
    * @param prettyPrint boolean indicating if the serialization of the {@link ExtensionModel} should be printed in a human
    *                    readable or into compact and more performable format
    */
   public ExtensionModelJsonSerializer(boolean prettyPrint) {
-    this.prettyPrint = prettyPrint;
+    this.gson = buildGson(prettyPrint, false);
+    this.listTypeAdapter = new ExtensionModelListTypeAdapter(new ExtensionModelTypeAdapter(gson), prettyPrint);
   }
 
-  private Gson buildGson() {
-    final SerializationContext serializationContext = new SerializationContext();
-
-    Map<String, ErrorModel> errorModelRepository = new HashMap<>();
-    Map<String, NotificationModel> notificationModelRepository = new HashMap<>();
-    Gson gsonDelegate =
-        gsonBuilder(serializationContext, prettyPrint, errorModelRepository, notificationModelRepository).create();
+  /**
+   * Builds the {@link Gson} instance which handles {@link ExtensionModel} instances.
+   *
+   * @param prettyPrint      whether the output should be human readable
+   * @param deduplicateTypes whether each {@link MetadataType} instance should be written only once, see
+   *                         {@link DeduplicatingMetadataTypeAdapter}
+   * @return a new {@link Gson} instance, which can be shared between threads
+   */
+  static Gson buildGson(boolean prettyPrint, boolean deduplicateTypes) {
+    Gson gsonDelegate = gsonBuilder(prettyPrint, deduplicateTypes).create();
 
-    return gsonBuilder(serializationContext, prettyPrint, errorModelRepository, notificationModelRepository)
+    return gsonBuilder(prettyPrint, deduplicateTypes)
         .registerTypeAdapterFactory(new TypeAdapterFactory() {
 
           @Override
           public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
             if (ExtensionModel.class.isAssignableFrom(type.getRawType())) {
-              return (TypeAdapter<T>) new ExtensionModelTypeAdapter(gsonDelegate, serializationContext, errorModelRepository,
-                                                                    notificationModelRepository);
+              return (TypeAdapter<T>) new ExtensionModelTypeAdapter(gsonDelegate);
             }
 
             return null;
@@ -148,21 +156,12 @@ public class ExtensionModelJsonSerializer {
         .create();
   }
 
-  private GsonBuilder gsonBuilder(SerializationContext serializationContext, boolean prettyPrint,
-                                  Map<String, ErrorModel> errorModelRepository,
-                                  Map<String, NotificationModel> notificationModelRepository) {
-    Set<String> registeredTypeIds = registeredTypes.stream()
-        .map(ExtensionMetadataTypeUtils::getId)
-        .filter(Optional::isPresent)
-        .map(Optional::get).collect(Collectors.toSet());
-
-    importedTypes.forEach(type -> {
-      getId(type).ifPresent(registeredTypeIds::add);
-      serializationContext.registerObjectType(type);
-    });
-
-    final ObjectTypeReferenceHandler referenceHandler =
-        new RestrictedTypesObjectTypeReferenceHandler(serializationContext, registeredTypeIds);
+  private static GsonBuilder gsonBuilder(boolean prettyPrint, boolean deduplicateTypes) {
+    // the state of each serialization is kept in the ExtensionModelSerializationContext bound by the ExtensionModelTypeAdapter
+    final ObjectTypeReferenceHandler referenceHandler = new ContextualObjectTypeReferenceHandler();
+    final TypeAdapter<MetadataType> metadataTypeAdapter = deduplicateTypes
+        ? new DeduplicatingMetadataTypeAdapter(new MetadataTypeGsonTypeAdapter(referenceHandler))
+        : new MetadataTypeGsonTypeAdapter(referenceHandler);
 
     final DefaultImplementationTypeAdapterFactory configurationModelTypeAdapterFactory =
         new DefaultImplementationTypeAdapterFactory<>(ConfigurationModel.class, ImmutableConfigurationModel.class);
@@ -186,14 +185,17 @@ public class ExtensionModelJsonSerializer {
         new DefaultImplementationTypeAdapterFactory<>(DeprecationModel.class, ImmutableDeprecationModel.class);
 
     final GsonBuilder gsonBuilder = new GsonBuilder()
-        .registerTypeAdapter(MetadataType.class, new MetadataTypeGsonTypeAdapter(referenceHandler))
+        // must be the first one, since it wraps the adapters of the maps not handled by the following ones
+        .registerTypeAdapterFactory(new BinaryJsonMapTypeAdapterFactory())
+        .registerTypeAdapter(MetadataType.class, metadataTypeAdapter)
         .registerTypeAdapter(MuleVersion.class, new MuleVersionTypeAdapter().nullSafe())
         .registerTypeAdapter(ImportedTypeModel.class, new ImportedTypesModelTypeAdapter())
         .registerTypeAdapter(SubTypesModel.class, new SubTypesModelTypeAdapter(referenceHandler))
         .registerTypeAdapter(XmlDslModel.class, new XmlDslModelTypeAdapter())
         .registerTypeAdapter(ParameterDslConfiguration.class, new ElementDslModelTypeAdapter())
-        .registerTypeAdapter(ErrorModel.class, new ErrorModelToIdentifierTypeAdapter(errorModelRepository))
-        .registerTypeAdapter(NotificationModel.class, new NotificationModelToIdentifierTypeAdapter(notificationModelRepository))
+        .registerTypeAdapter(ErrorModel.class, new ErrorModelToIdentifierTypeAdapter(() -> current().getErrorModelRepository()))
+        .registerTypeAdapter(NotificationModel.class,
+                             new NotificationModelToIdentifierTypeAdapter(() -> current().getNotificationModelRepository()))
         .registerTypeAdapter(ArtifactCoordinates.class, new ArtifactCoordinatesTypeAdapter())
         .registerTypeAdapterFactory(new OptionalTypeAdapterFactory())
         .registerTypeAdapterFactory(new ModelPropertyMapTypeAdapterFactory())
@@ -213,7 +215,10 @@ public class ExtensionModelJsonSerializer {
         .registerTypeAdapterFactory(new OAuthGrantTypeTypeAdapterFactory())
         .registerTypeAdapterFactory(outputModelTypeAdapterFactory)
         .registerTypeAdapterFactory(stereotypeModelTypeAdapter)
-        .registerTypeAdapterFactory(deprecationModelTypeAdapter);
+        .registerTypeAdapterFactory(deprecationModelTypeAdapter)
+        .registerTypeAdapterFactory(new StereotypeModelDictionaryTypeAdapterFactory())
+        // must be the last one, since it wraps the adapters of the previous ones
+        .registerTypeAdapterFactory(new InterningTypeAdapterFactory());
 
     if (prettyPrint) {
       gsonBuilder.setPrettyPrinting();
@@ -228,12 +233,7 @@ public class ExtensionModelJsonSerializer {
    * @return {@link String} JSON representation of the {@link ExtensionModel}
    */
   public String serialize(ExtensionModel extensionModel) {
-    registeredTypes = extensionModel.getTypes();
-    importedTypes =
-        extensionModel.getImportedTypes().stream()
-            .map(ImportedTypeModel::getImportedType)
-            .collect(Collectors.toSet());
-    return buildGson().toJson(extensionModel);
+    return gson.toJson(extensionModel);
   }
 
   /**
@@ -241,7 +241,30 @@ public class ExtensionModelJsonSerializer {
    * @return {@link String} JSON representation of the {@link List} of {@link ExtensionModel}
    */
   public String serializeList(List<ExtensionModel> extensionModelList) {
-    return buildGson().toJson(extensionModelList);
+    return gson.toJson(extensionModelList);
+  }
+
+  /**
+   * Serializes a {@link List} of {@link ExtensionModel} into a more compact JSON than the one of
+   * {@link #serializeList(List)}, which is also faster to deserialize: the errors, notifications, catalog and imported types and
+   * stereotypes shared by the extensions are written only once, in a dictionary which the extensions reference.
+   * <p>
+   * The result can be deserialized through {@link #deserializeList(String)}.
+   *
+   * @param extensionModelList List of {@link ExtensionModel} to be serialized
+   * @return {@link String} JSON representation of the {@link List} of {@link ExtensionModel}
+   * @since 1.10
+   */
+  public String serializeListWithDictionary(List<ExtensionModel> extensionModelList) {
+    StringWriter json = new StringWriter();
+    try {
+      JsonWriter out = gson.newJsonWriter(json);
+      listTypeAdapter.write(out, extensionModelList);
+      out.flush();
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+    return json.toString();
   }
 
   /**
@@ -251,16 +274,40 @@ public class ExtensionModelJsonSerializer {
    * @return an instance of {@link ExtensionModel} based in the JSON
    */
   public ExtensionModel deserialize(String extensionModel) {
-    return buildGson().fromJson(extensionModel, ImmutableExtensionModel.class);
+    return gson.fromJson(extensionModel, ImmutableExtensionModel.class);
   }
 
   /**
-   * Deserializes a JSON representation of a {@link List} of {@link ExtensionModel}, to an actual instance of it.
+   * Deserializes a JSON representation of a {@link List} of {@link ExtensionModel}, to an actual instance of it. The JSON can be
+   * the one of either {@link #serializeList(List)} or {@link #serializeListWithDictionary(List)}.
    *
    * @param extensionModelList serialized {@link List} {@link ExtensionModel}
    * @return an instance of {@link ExtensionModel} based in the JSON
    */
   public List<ExtensionModel> deserializeList(String extensionModelList) {
-    return buildGson().fromJson(extensionModelList, new TypeToken<List<ImmutableExtensionModel>>() {}.getType());
+    if (!isListWithDictionary(extensionModelList)) {
+      return gson.fromJson(extensionModelList, new TypeToken<List<ImmutableExtensionModel>>() {}.getType());
+    }
+
+    try {
+      return listTypeAdapter.read(gson.newJsonReader(new StringReader(extensionModelList)));
+    } catch (MalformedJsonException | IllegalStateException e) {
+      throw new JsonSyntaxException(e);
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+  }
+
+  /**
+   * @return whether the given JSON is an object, as written by {@link #serializeListWithDictionary(List)}, rather than an array
+   */
+  private boolean isListWithDictionary(String extensionModelList) {
+    for (int i = 0; i < extensionModelList.length(); ++i) {
+      char c = extensionModelList.charAt(i);
+      if (!Character.isWhitespace(c)) {
+        return c == '{';
+      }
+    }
+    return false;
   }
 }
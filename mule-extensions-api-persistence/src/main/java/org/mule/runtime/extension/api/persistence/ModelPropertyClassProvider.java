@@ -0,0 +1,29 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence;
+
+import org.mule.runtime.api.meta.model.ModelProperty;
+
+import java.util.Collection;
+
+/**
+ * Allows extensions to register the {@link ModelProperty} classes that may be found when deserializing their models, so that
+ * they are known beforehand instead of being looked up by name in the {@link ClassLoader} of the deserialization.
+ * <p>
+ * Implementations are discovered through {@link java.util.ServiceLoader}, in the {@link ClassLoader} through which the model
+ * properties are resolved, which is the context {@link ClassLoader} of the thread that deserializes the model.
+ *
+ * @since 1.10
+ */
+public interface ModelPropertyClassProvider {
+
+  /**
+   * @return the {@link ModelProperty} classes to register. Each one is registered with the name used to serialize it, its fully
+   *         qualified name.
+   */
+  Collection<Class<? extends ModelProperty>> getModelPropertyClasses();
+}
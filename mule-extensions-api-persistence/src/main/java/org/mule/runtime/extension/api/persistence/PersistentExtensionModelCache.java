@@ -0,0 +1,435 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelCacheKey.hash;
+
+import static java.lang.Thread.currentThread;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.meta.model.EnrichableModel;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.meta.model.connection.HasConnectionProviderModels;
+import org.mule.runtime.api.meta.model.construct.ConstructModel;
+import org.mule.runtime.api.meta.model.construct.HasConstructModels;
+import org.mule.runtime.api.meta.model.function.FunctionModel;
+import org.mule.runtime.api.meta.model.function.HasFunctionModels;
+import org.mule.runtime.api.meta.model.operation.HasOperationModels;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
+import org.mule.runtime.api.meta.model.source.HasSourceModels;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.api.meta.model.util.ExtensionWalker;
+import org.mule.runtime.api.util.Reference;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelCacheKey;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.NoSuchFileException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+import org.slf4j.Logger;
+
+/**
+ * A cache of the {@link ExtensionModel}s loaded through {@link ExtensionModelLoader}s, which keeps them in a directory so they
+ * outlive the process. When an extension which has not changed is loaded again, such as when the process is restarted, its
+ * model is deserialized from the directory instead of being declared, enriched and validated again.
+ * <p>
+ * Each entry is keyed by the artifact coordinates of the extension, the id of the loader, the parameters, flags, enrichers and
+ * validators of the request and the extensions the request depends on. It is only used if it was built from the same content
+ * of the extension classes and of the models of the extensions it depends on, and with the same versions of the APIs.
+ * Otherwise, as when the entry is corrupted, the model is rebuilt and the entry replaced. Failing to read or write an entry
+ * never fails the loading.
+ * <p>
+ * The content hash of the extension classes is computed from the jars and directories of the
+ * {@link ExtensionModelLoadingRequest#getExtensionClassLoader() extension class loader} by default, see
+ * {@link Builder#setContentHash(Function)}. Requests for which it can't be computed, or which have parameters whose values are
+ * not strings, primitives, enums, classes or collections of those, are not cached.
+ * <p>
+ * The models are stored through the {@link ExtensionModelBinarySerializer}, which only keeps the {@link ModelProperty model
+ * properties} that are public. Hence, models with any {@link ModelProperty} which is not public are not cached, so that they
+ * are always returned with it.
+ * <p>
+ * Instances are thread-safe. Many processes may share the same directory.
+ *
+ * @since 1.10
+ */
+public final class PersistentExtensionModelCache {
+
+  private static final Logger LOGGER = getLogger(PersistentExtensionModelCache.class);
+
+  private static final int MAGIC = 0x4D45584D;
+  private static final int VERSION = 1;
+  private static final int MAX_KEY_LENGTH = 1 << 20;
+  private static final String ENTRY_EXTENSION = ".model";
+
+  /**
+   * Builder for creating a new {@link PersistentExtensionModelCache}
+   */
+  public static final class Builder {
+
+    private final Path directory;
+    private Function<ExtensionModelLoadingRequest, Optional<String>> contentHash =
+        ExtensionModelCacheKey::hashExtensionClassLoader;
+
+    private Builder(Path directory) {
+      this.directory = directory;
+    }
+
+    /**
+     * Sets how the content hash of the classes of an extension is computed. By default, it is the hash of the jars and
+     * directories of the {@link ExtensionModelLoadingRequest#getExtensionClassLoader() extension class loader}, as long as it is
+     * an {@link java.net.URLClassLoader} over local files.
+     *
+     * @param contentHash a function which computes the content hash of the classes of the extension of a request, or returns
+     *                    {@link Optional#empty()} if the request should not be cached
+     * @return this builder
+     */
+    public Builder setContentHash(Function<ExtensionModelLoadingRequest, Optional<String>> contentHash) {
+      checkArgument(contentHash != null, "contentHash cannot be null");
+      this.contentHash = contentHash;
+      return this;
+    }
+
+    /**
+     * @return The built cache
+     */
+    public PersistentExtensionModelCache build() {
+      return new PersistentExtensionModelCache(directory, contentHash);
+    }
+  }
+
+  /**
+   * @param directory the directory to keep the models in. It is created when the first model is stored.
+   * @return a new {@link Builder}
+   */
+  public static Builder builder(Path directory) {
+    checkArgument(directory != null, "directory cannot be null");
+    return new Builder(directory);
+  }
+
+  private final Path directory;
+  private final Function<ExtensionModelLoadingRequest, Optional<String>> contentHash;
+  private final ExtensionModelBinarySerializer serializer = new ExtensionModelBinarySerializer();
+  private final LongAdder hits = new LongAdder();
+  private final LongAdder misses = new LongAdder();
+  private final LongAdder rebuilds = new LongAdder();
+  private final LongAdder bypasses = new LongAdder();
+
+  private PersistentExtensionModelCache(Path directory,
+                                        Function<ExtensionModelLoadingRequest, Optional<String>> contentHash) {
+    this.directory = directory;
+    this.contentHash = contentHash;
+  }
+
+  /**
+   * Obtains the {@link ExtensionModel} that the given {@code loader} creates from the given {@code request}, either from this
+   * cache or by loading it through {@link ExtensionModelLoader#loadExtensionModel(ExtensionModelLoadingRequest)}.
+   *
+   * @param loader  the loader to load the model with, if it is not cached
+   * @param request the request to load the model with
+   * @return the {@link ExtensionModel}
+   */
+  public ExtensionModel loadExtensionModel(ExtensionModelLoader loader, ExtensionModelLoadingRequest request) {
+    Optional<ExtensionModelCacheKey> key = ExtensionModelCacheKey.of(loader, request, contentHash);
+    if (!key.isPresent()) {
+      bypasses.increment();
+      return loader.loadExtensionModel(request);
+    }
+
+    Path entry = directory.resolve(hash(key.get().getIdentity()) + ENTRY_EXTENSION);
+    CachedEntry cached = read(entry, key.get(), request);
+    if (cached.state == EntryState.VALID) {
+      hits.increment();
+      return cached.extensionModel;
+    }
+
+    ExtensionModel extensionModel = loader.loadExtensionModel(request);
+    if (hasNonPublicModelProperties(extensionModel)) {
+      // the cached model would lack them
+      bypasses.increment();
+      delete(entry);
+    } else {
+      if (cached.state == EntryState.MISSING) {
+        misses.increment();
+      } else {
+        rebuilds.increment();
+      }
+      write(entry, key.get(), extensionModel);
+    }
+    return extensionModel;
+  }
+
+  /**
+   * @return the statistics of the loads done through this cache
+   */
+  public CacheStats getStats() {
+    return new CacheStats(hits.sum(), misses.sum(), rebuilds.sum(), bypasses.sum());
+  }
+
+  /**
+   * @return the entry, holding the cached model if it is valid
+   */
+  private CachedEntry read(Path entry, ExtensionModelCacheKey key, ExtensionModelLoadingRequest request) {
+    try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(entry)))) {
+      if (in.readInt() != MAGIC || in.readInt() != VERSION
+          || !key.getIdentity().equals(readString(in)) || !key.getFingerprint().equals(readString(in))) {
+        LOGGER.debug("Cached extension model at '{}' is outdated, rebuilding it", entry);
+        return CachedEntry.OUTDATED;
+      }
+
+      // the model properties are resolved through the extension class loader, as the loader does
+      ClassLoader currentClassLoader = currentThread().getContextClassLoader();
+      currentThread().setContextClassLoader(request.getExtensionClassLoader());
+      try {
+        return new CachedEntry(EntryState.VALID, serializer.deserialize(in));
+      } finally {
+        currentThread().setContextClassLoader(currentClassLoader);
+      }
+    } catch (NoSuchFileException e) {
+      return CachedEntry.MISSING;
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Could not read the cached extension model at '{}', rebuilding it", entry, e);
+      return CachedEntry.OUTDATED;
+    }
+  }
+
+  private void write(Path entry, ExtensionModelCacheKey key, ExtensionModel extensionModel) {
+    try {
+      byte[] serialized = serializer.serialize(extensionModel);
+      Files.createDirectories(directory);
+
+      // written apart and then moved, so that other threads and processes never read a partially written entry
+      Path temporary = Files.createTempFile(directory, entry.getFileName().toString(), ".tmp");
+      try {
+        try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temporary)))) {
+          out.writeInt(MAGIC);
+          out.writeInt(VERSION);
+          writeString(out, key.getIdentity());
+          writeString(out, key.getFingerprint());
+          out.write(serialized);
+        }
+        move(temporary, entry);
+      } finally {
+        Files.deleteIfExists(temporary);
+      }
+    } catch (IOException | RuntimeException e) {
+      LOGGER.warn("Could not cache the extension model '{}' at '{}'", extensionModel.getName(), entry, e);
+    }
+  }
+
+  private void delete(Path entry) {
+    try {
+      Files.deleteIfExists(entry);
+    } catch (IOException e) {
+      LOGGER.warn("Could not delete the cached extension model at '{}'", entry, e);
+    }
+  }
+
+  private void move(Path source, Path target) throws IOException {
+    try {
+      Files.move(source, target, ATOMIC_MOVE, REPLACE_EXISTING);
+    } catch (AtomicMoveNotSupportedException e) {
+      Files.move(source, target, REPLACE_EXISTING);
+    }
+  }
+
+  /**
+   * @return whether the given model, or any of its components, parameters or outputs, has a {@link ModelProperty} which is not
+   *         public
+   */
+  private static boolean hasNonPublicModelProperties(ExtensionModel extensionModel) {
+    Reference<Boolean> result = new Reference<>(hasNonPublicModelProperty(extensionModel));
+    if (result.get()) {
+      return true;
+    }
+
+    new ExtensionWalker() {
+
+      @Override
+      public void onConfiguration(ConfigurationModel model) {
+        check(model);
+      }
+
+      @Override
+      public void onConnectionProvider(HasConnectionProviderModels owner, ConnectionProviderModel model) {
+        check(model);
+      }
+
+      @Override
+      public void onOperation(HasOperationModels owner, OperationModel model) {
+        check(model);
+        check(model.getOutput());
+        check(model.getOutputAttributes());
+      }
+
+      @Override
+      public void onSource(HasSourceModels owner, SourceModel model) {
+        check(model);
+        check(model.getOutput());
+        check(model.getOutputAttributes());
+      }
+
+      @Override
+      public void onFunction(HasFunctionModels owner, FunctionModel model) {
+        check(model);
+        check(model.getOutput());
+      }
+
+      @Override
+      public void onConstruct(HasConstructModels owner, ConstructModel model) {
+        check(model);
+      }
+
+      @Override
+      public void onParameterGroup(ParameterizedModel owner, ParameterGroupModel model) {
+        check(model);
+      }
+
+      @Override
+      public void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
+        check(model);
+      }
+
+      private void check(EnrichableModel model) {
+        if (hasNonPublicModelProperty(model)) {
+          result.set(true);
+          stop();
+        }
+      }
+    }.walk(extensionModel);
+
+    return result.get();
+  }
+
+  private static boolean hasNonPublicModelProperty(EnrichableModel model) {
+    return model.getModelProperties().stream().anyMatch(modelProperty -> !modelProperty.isPublic());
+  }
+
+  private static void writeString(DataOutputStream out, String value) throws IOException {
+    byte[] bytes = value.getBytes(UTF_8);
+    out.writeInt(bytes.length);
+    out.write(bytes);
+  }
+
+  private static String readString(DataInputStream in) throws IOException {
+    int length = in.readInt();
+    if (length < 0 || length > MAX_KEY_LENGTH) {
+      throw new IOException("Invalid key length " + length);
+    }
+    byte[] bytes = new byte[length];
+    in.readFully(bytes);
+    return new String(bytes, UTF_8);
+  }
+
+  private enum EntryState {
+    /**
+     * There is no entry for the key.
+     */
+    MISSING,
+    /**
+     * The entry was built for another fingerprint, or could not be read, so it has to be rebuilt.
+     */
+    OUTDATED,
+    /**
+     * The entry holds the model for the key.
+     */
+    VALID
+  }
+
+  /**
+   * The result of reading an entry.
+   */
+  private static final class CachedEntry {
+
+    private static final CachedEntry MISSING = new CachedEntry(EntryState.MISSING, null);
+    private static final CachedEntry OUTDATED = new CachedEntry(EntryState.OUTDATED, null);
+
+    private final EntryState state;
+    private final ExtensionModel extensionModel;
+
+    private CachedEntry(EntryState state, ExtensionModel extensionModel) {
+      this.state = state;
+      this.extensionModel = extensionModel;
+    }
+  }
+
+  /**
+   * Immutable snapshot of the statistics of the loads done through a {@link PersistentExtensionModelCache}.
+   *
+   * @since 1.10
+   */
+  public static final class CacheStats {
+
+    private final long hitCount;
+    private final long missCount;
+    private final long rebuildCount;
+    private final long bypassCount;
+
+    private CacheStats(long hitCount, long missCount, long rebuildCount, long bypassCount) {
+      this.hitCount = hitCount;
+      this.missCount = missCount;
+      this.rebuildCount = rebuildCount;
+      this.bypassCount = bypassCount;
+    }
+
+    /**
+     * @return the amount of models which were deserialized from the cache
+     */
+    public long hitCount() {
+      return hitCount;
+    }
+
+    /**
+     * @return the amount of models which were loaded because they were not in the cache
+     */
+    public long missCount() {
+      return missCount;
+    }
+
+    /**
+     * @return the amount of models which were loaded because their entry was outdated or corrupted
+     */
+    public long rebuildCount() {
+      return rebuildCount;
+    }
+
+    /**
+     * @return the amount of models which were loaded without the cache, since their request could not be keyed or they have
+     *         {@link ModelProperty model properties} which are not public
+     */
+    public long bypassCount() {
+      return bypassCount;
+    }
+
+    @Override
+    public String toString() {
+      return "CacheStats{hitCount=" + hitCount + ", missCount=" + missCount + ", rebuildCount=" + rebuildCount
+          + ", bypassCount=" + bypassCount + "}";
+    }
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence;
+
+import org.mule.runtime.extension.api.persistence.metadata.ComponentMetadataTypesDescriptorResultJsonSerializer;
+import org.mule.runtime.extension.api.persistence.metadata.ComponentResultJsonSerializer;
+import org.mule.runtime.extension.api.persistence.metadata.EntityMetadataResultJsonSerializer;
+import org.mule.runtime.extension.api.persistence.metadata.MetadataKeysResultJsonSerializer;
+import org.mule.runtime.extension.api.persistence.value.ValueResultJsonSerializer;
+import org.mule.runtime.extension.internal.persistence.JsonSerializersRegistry;
+
+/**
+ * Utilities for the serializers of metadata and value results, that is, {@link MetadataKeysResultJsonSerializer},
+ * {@link ComponentResultJsonSerializer}, {@link ComponentMetadataTypesDescriptorResultJsonSerializer},
+ * {@link EntityMetadataResultJsonSerializer} and {@link ValueResultJsonSerializer}.
+ * <p>
+ * These serializers share the underlying JSON infrastructure, which is built once for each combination of their options.
+ *
+ * @since 1.10
+ */
+public final class ResultJsonSerializers {
+
+  private ResultJsonSerializers() {}
+
+  /**
+   * Builds the JSON infrastructure shared by the serializers for every combination of their options, along with the adapters of
+   * the types they handle. Otherwise, that's done by the first serializations, since it involves reflection.
+   * <p>
+   * Meant to be called once during startup, possibly on a background thread, so that the first metadata or value resolution
+   * doesn't pay for it. Calling it more than once is harmless.
+   */
+  public static void warmUp() {
+    JsonSerializersRegistry.warmUp();
+  }
+}
@@ -6,17 +6,32 @@
  */
 package org.mule.runtime.extension.api.persistence.metadata;
 
-import static java.util.Collections.emptyMap;
+import static java.util.Collections.emptyList;
 import static org.mule.runtime.api.metadata.resolving.MetadataResult.failure;
 import static org.mule.runtime.api.metadata.resolving.MetadataResult.success;
+
+import static com.google.gson.stream.JsonToken.NULL;
+
 import org.mule.runtime.api.metadata.MetadataKey;
 import org.mule.runtime.api.metadata.MetadataKeysContainer;
 import org.mule.runtime.api.metadata.MetadataKeysContainerBuilder;
 import org.mule.runtime.api.metadata.resolving.MetadataFailure;
 import org.mule.runtime.api.metadata.resolving.MetadataResult;
 
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+import com.google.gson.stream.MalformedJsonException;
 
+import java.io.IOException;
+import java.io.Reader;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -24,17 +39,29 @@ import java.util.Set;
 /**
  * Serializer that can convert a {@link MetadataResult} of a {@link MetadataKeysContainer} type into a readable and processable
  * JSON representation and from a JSON {@link String} to an {@link MetadataResult} instance
+ * <p>
+ * Keys are written and read one by one, straight to and from the JSON stream, so that huge keys trees don't need any
+ * intermediate representation. {@link #serialize(MetadataResult, Writer)} and {@link #deserialize(Reader)} also avoid holding
+ * the whole JSON in memory.
  *
  * @since 1.0
  */
 public class MetadataKeysResultJsonSerializer extends AbstractMetadataResultJsonSerializer {
 
+  private static final String KEYS = "keys";
+  private static final String FAILURES = "failures";
+
+  private final TypeAdapter<MetadataKey> keyAdapter;
+  private final TypeAdapter<List<MetadataFailure>> failuresAdapter;
+
   public MetadataKeysResultJsonSerializer() {
-    super(false);
+    this(false);
   }
 
   public MetadataKeysResultJsonSerializer(boolean prettyPrint) {
     super(prettyPrint);
+    keyAdapter = gson.getAdapter(MetadataKey.class);
+    failuresAdapter = gson.getAdapter(new TypeToken<List<MetadataFailure>>() {});
   }
 
   /**
@@ -42,7 +69,57 @@ public class MetadataKeysResultJsonSerializer extends AbstractMetadataResultJson
    */
   @Override
   public String serialize(MetadataResult metadataResult) {
-    return gson.toJson(new MetadataKeysResult(metadataResult));
+    StringWriter writer = new StringWriter();
+    serialize(metadataResult, writer);
+    return writer.toString();
+  }
+
+  /**
+   * Serializes the given {@code metadataResult} into the given {@code writer}.
+   *
+   * @param metadataResult the {@link MetadataResult} to be serialized
+   * @param writer         the {@link Writer} to write the JSON representation of the {@code metadataResult} to. It's flushed but
+   *                       not closed.
+   * @throws JsonIOException if there was a problem writing to the {@code writer}
+   * @since 1.10
+   */
+  public void serialize(MetadataResult<MetadataKeysContainer> metadataResult, Writer writer) {
+    try {
+      JsonWriter out = gson.newJsonWriter(writer);
+      out.beginObject();
+
+      out.name(KEYS).beginObject();
+      if (metadataResult.get() != null) {
+        for (Map.Entry<String, Set<MetadataKey>> category : metadataResult.get().getKeysByCategory().entrySet()) {
+          out.name(category.getKey());
+          writeKeys(out, category.getValue());
+        }
+      }
+      out.endObject();
+
+      if (metadataResult.getFailures() != null) {
+        out.name(FAILURES);
+        failuresAdapter.write(out, metadataResult.getFailures());
+      }
+
+      out.endObject();
+      out.flush();
+    } catch (IOException e) {
+      throw new JsonIOException(e);
+    }
+  }
+
+  private void writeKeys(JsonWriter out, Set<MetadataKey> keys) throws IOException {
+    if (keys == null) {
+      out.nullValue();
+      return;
+    }
+
+    out.beginArray();
+    for (MetadataKey key : keys) {
+      keyAdapter.write(out, key);
+    }
+    out.endArray();
   }
 
   /**
@@ -50,29 +127,73 @@ public class MetadataKeysResultJsonSerializer extends AbstractMetadataResultJson
    */
   @Override
   public MetadataResult<MetadataKeysContainer> deserialize(String metadataResult) {
-    MetadataKeysResult result = gson.fromJson(metadataResult, new TypeToken<MetadataKeysResult>() {}.getType());
-    return result.toKeysMetadataResult();
+    return deserialize(new StringReader(metadataResult));
   }
 
   /**
-   * DTO that represents a {@link MetadataResult} of {@link MetadataKeysContainer}
+   * Deserializes the JSON representation of a {@link MetadataResult} read from the given {@code reader}.
    *
-   * @since 1.0
+   * @param reader the {@link Reader} to read the JSON representation from. It's not closed.
+   * @return an instance of {@link MetadataResult} based on the serialized JSON
+   * @throws JsonSyntaxException if the JSON is malformed
+   * @throws JsonIOException     if there was a problem reading from the {@code reader}
+   * @since 1.10
    */
-  private class MetadataKeysResult {
+  public MetadataResult<MetadataKeysContainer> deserialize(Reader reader) {
+    MetadataKeysContainerBuilder builder = MetadataKeysContainerBuilder.getInstance();
+    List<MetadataFailure> failures = emptyList();
 
-    private final Map<String, Set<MetadataKey>> keys;
-    private final List<MetadataFailure> failures;
+    try {
+      JsonReader in = gson.newJsonReader(reader);
+      in.setLenient(true);
 
-    @SuppressWarnings("unchecked")
-    MetadataKeysResult(MetadataResult<MetadataKeysContainer> result) {
-      this.failures = result.getFailures();
-      this.keys = result.get() != null ? (Map) result.get().getKeysByCategory() : emptyMap();
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case KEYS:
+            readKeys(in, builder);
+            break;
+          case FAILURES:
+            failures = failuresAdapter.read(in);
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+    } catch (MalformedJsonException | IllegalStateException e) {
+      throw new JsonSyntaxException(e);
+    } catch (IOException e) {
+      throw new JsonIOException(e);
     }
 
-    MetadataResult<MetadataKeysContainer> toKeysMetadataResult() {
-      MetadataKeysContainerBuilder builder = MetadataKeysContainerBuilder.getInstance();
-      return failures.isEmpty() ? success(builder.addAll((Map) keys).build()) : failure(builder.build(), failures);
+    return failures == null || failures.isEmpty()
+        ? success(builder.build())
+        : failure(MetadataKeysContainerBuilder.getInstance().build(), failures);
+  }
+
+  private void readKeys(JsonReader in, MetadataKeysContainerBuilder builder) throws IOException {
+    if (in.peek() == NULL) {
+      in.nextNull();
+      return;
+    }
+
+    in.beginObject();
+    while (in.hasNext()) {
+      String category = in.nextName();
+      if (in.peek() == NULL) {
+        in.nextNull();
+        continue;
+      }
+
+      Set<MetadataKey> keys = new LinkedHashSet<>();
+      in.beginArray();
+      while (in.hasNext()) {
+        keys.add(keyAdapter.read(in));
+      }
+      in.endArray();
+      builder.add(category, keys);
     }
+    in.endObject();
   }
 }
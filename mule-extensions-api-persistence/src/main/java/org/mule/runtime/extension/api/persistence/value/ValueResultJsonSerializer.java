@@ -6,15 +6,13 @@
  */
 package org.mule.runtime.extension.api.persistence.value;
 
+import static org.mule.runtime.extension.internal.persistence.JsonSerializersRegistry.valueResultGson;
+
 import org.mule.runtime.api.value.ImmutableValueResult;
-import org.mule.runtime.api.value.Value;
 import org.mule.runtime.api.value.ValueResult;
 import org.mule.runtime.extension.api.values.ImmutableValue;
-import org.mule.runtime.extension.internal.persistence.DefaultImplementationTypeAdapterFactory;
-import org.mule.runtime.extension.internal.persistence.value.ValueTypeAdapter;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
 
 /**
  * Serializer that can convert a {@link ValueResult} type into a readable and processable JSON representation and from a JSON
@@ -31,16 +29,7 @@ public final class ValueResultJsonSerializer {
   }
 
   public ValueResultJsonSerializer(boolean prettyPrinting) {
-    GsonBuilder gsonBuilder = new GsonBuilder();
-
-    if (prettyPrinting) {
-      gsonBuilder.setPrettyPrinting();
-    }
-
-    gson = gsonBuilder
-        .registerTypeAdapterFactory(new DefaultImplementationTypeAdapterFactory<>(ValueResult.class, ImmutableValueResult.class))
-        .registerTypeAdapter(Value.class, new ValueTypeAdapter())
-        .create();
+    gson = valueResultGson(prettyPrinting);
   }
 
   /**
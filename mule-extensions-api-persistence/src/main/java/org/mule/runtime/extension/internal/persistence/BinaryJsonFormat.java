@@ -0,0 +1,47 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+/**
+ * Constants of the binary encoding written by {@link BinaryJsonWriter} and read by {@link BinaryJsonReader}.
+ * <p>
+ * A document starts with the {@link #MAGIC} number followed by the {@link #VERSION} of the format. Then, each json token is
+ * written as a one byte tag, followed by its payload:
+ * <ul>
+ * <li>names and strings are followed by a string reference</li>
+ * <li>longs by its zig-zag encoded variable length value</li>
+ * <li>doubles by its 8 bytes IEEE 754 representation</li>
+ * <li>other numbers by a string reference with its textual representation</li>
+ * </ul>
+ * Strings are interned: a string reference is a variable length int which is {@code 0} the first time the string appears in the
+ * document, followed by the length of its UTF-8 representation and the bytes themselves. Following appearances of the same
+ * string are written as {@code index + 1}, where {@code index} is the order in which the string first appeared.
+ *
+ * @since 1.10
+ */
+final class BinaryJsonFormat {
+
+  static final int MAGIC = 0x4D455842;
+  static final int VERSION = 1;
+
+  static final byte BEGIN_OBJECT = 1;
+  static final byte END_OBJECT = 2;
+  static final byte BEGIN_ARRAY = 3;
+  static final byte END_ARRAY = 4;
+  static final byte NAME = 5;
+  static final byte STRING = 6;
+  static final byte TRUE = 7;
+  static final byte FALSE = 8;
+  static final byte NULL = 9;
+  static final byte LONG = 10;
+  static final byte DOUBLE = 11;
+  static final byte NUMBER = 12;
+
+  static final int NEW_STRING = 0;
+
+  private BinaryJsonFormat() {}
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static com.google.gson.stream.JsonToken.BEGIN_OBJECT;
+
+import java.io.IOException;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParser;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * {@link TypeAdapterFactory} for the {@link Map}s which are not handled by other factories, so that they can be read from a
+ * {@link BinaryJsonReader}.
+ * <p>
+ * Gson reads the keys of a map written as an object through an internal hook which only works with its own readers. Hence, when
+ * reading from a {@link BinaryJsonReader}, the object is read as a tree and then handed to the adapter of the factories
+ * registered before this one. Otherwise, that adapter is used directly.
+ *
+ * @since 1.10
+ */
+public final class BinaryJsonMapTypeAdapterFactory implements TypeAdapterFactory {
+
+  @Override
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    if (!Map.class.isAssignableFrom(type.getRawType())) {
+      return null;
+    }
+
+    final TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+    return new TypeAdapter<T>() {
+
+      @Override
+      public void write(JsonWriter out, T value) throws IOException {
+        delegate.write(out, value);
+      }
+
+      @Override
+      public T read(JsonReader in) throws IOException {
+        if (in instanceof BinaryJsonReader && in.peek() == BEGIN_OBJECT) {
+          return delegate.fromJsonTree(new JsonParser().parse(in));
+        }
+        return delegate.read(in);
+      }
+    };
+  }
+}
@@ -0,0 +1,492 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.BEGIN_ARRAY;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.BEGIN_OBJECT;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.DOUBLE;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.END_ARRAY;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.END_OBJECT;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.FALSE;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.LONG;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.MAGIC;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.NAME;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.NEW_STRING;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.NULL;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.NUMBER;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.STRING;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.TRUE;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.VERSION;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOf;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
+
+/**
+ * A {@link JsonReader} which, instead of text, reads the tokens of a document written by a {@link BinaryJsonWriter}.
+ * <p>
+ * Since it is a {@link JsonReader}, the same type adapters used to read the json representation of a model can be used to read
+ * the binary one, streaming from the content as they do with the text. Content which is not a valid document is rejected with
+ * a {@link JsonParseException}, or with a {@link JsonIOException} if it ends abruptly. The latter is not an {@link IOException}
+ * so that it is not reported as a syntax error by the adapters which parse part of the document as a tree.
+ * <p>
+ * Gson reads maps whose keys are written as names through an internal hook that only works with its own readers, so the maps
+ * read from this reader have to go through the {@link BinaryJsonMapTypeAdapterFactory}.
+ *
+ * @since 1.10
+ */
+public final class BinaryJsonReader extends JsonReader {
+
+  private static final Reader UNREADABLE_READER = new Reader() {
+
+    @Override
+    public int read(char[] buffer, int offset, int length) {
+      throw new AssertionError();
+    }
+
+    @Override
+    public void close() {}
+  };
+
+  private static final byte NONE = 0;
+
+  // the scopes of the stack
+  private static final int DOCUMENT = 0;
+  private static final int ARRAY = 1;
+  private static final int OBJECT_EXPECTING_NAME = 2;
+  private static final int OBJECT_EXPECTING_VALUE = 3;
+
+  // strings longer than this are read as their content arrives, so a corrupted length doesn't allocate a huge buffer
+  private static final int CHUNK_SIZE = 8192;
+
+  private final DataInputStream in;
+  private final List<String> strings = new ArrayList<>();
+  private int[] stack = new int[32];
+  private int depth;
+  private boolean documentRead;
+  private byte peeked = NONE;
+
+  /**
+   * Creates a new instance and reads the header of the document from the given {@code in}
+   *
+   * @param in the stream to read from
+   * @throws IOException        if the header could not be read
+   * @throws JsonParseException if the stream does not start with the header of a document of a supported version
+   */
+  public BinaryJsonReader(InputStream in) throws IOException {
+    super(UNREADABLE_READER);
+    this.in = new DataInputStream(in);
+    if (this.in.readInt() != MAGIC) {
+      throw new JsonParseException("The given content is not a binary serialized ExtensionModel");
+    }
+    int version = this.in.readUnsignedByte();
+    if (version != VERSION) {
+      throw new JsonParseException(format("Unsupported binary format version %d, only version %d is supported",
+                                          version, VERSION));
+    }
+  }
+
+  @Override
+  public void beginArray() throws IOException {
+    consume(BEGIN_ARRAY, JsonToken.BEGIN_ARRAY);
+    push(ARRAY);
+  }
+
+  @Override
+  public void endArray() throws IOException {
+    consume(END_ARRAY, JsonToken.END_ARRAY);
+    depth--;
+    valueRead();
+  }
+
+  @Override
+  public void beginObject() throws IOException {
+    consume(BEGIN_OBJECT, JsonToken.BEGIN_OBJECT);
+    push(OBJECT_EXPECTING_NAME);
+  }
+
+  @Override
+  public void endObject() throws IOException {
+    consume(END_OBJECT, JsonToken.END_OBJECT);
+    depth--;
+    valueRead();
+  }
+
+  @Override
+  public boolean hasNext() throws IOException {
+    JsonToken token = peek();
+    return token != JsonToken.END_OBJECT && token != JsonToken.END_ARRAY && token != JsonToken.END_DOCUMENT;
+  }
+
+  @Override
+  public JsonToken peek() throws IOException {
+    switch (peekTag()) {
+      case NONE:
+        return JsonToken.END_DOCUMENT;
+      case BEGIN_OBJECT:
+        return JsonToken.BEGIN_OBJECT;
+      case END_OBJECT:
+        return JsonToken.END_OBJECT;
+      case BEGIN_ARRAY:
+        return JsonToken.BEGIN_ARRAY;
+      case END_ARRAY:
+        return JsonToken.END_ARRAY;
+      case NAME:
+        return JsonToken.NAME;
+      case STRING:
+        return JsonToken.STRING;
+      case TRUE:
+      case FALSE:
+        return JsonToken.BOOLEAN;
+      case NULL:
+        return JsonToken.NULL;
+      default:
+        return JsonToken.NUMBER;
+    }
+  }
+
+  @Override
+  public String nextName() throws IOException {
+    consume(NAME, JsonToken.NAME);
+    stack[depth - 1] = OBJECT_EXPECTING_VALUE;
+    return readString();
+  }
+
+  @Override
+  public String nextString() throws IOException {
+    String value;
+    switch (peekTag()) {
+      case STRING:
+      case NUMBER:
+        peeked = NONE;
+        value = readString();
+        break;
+      case LONG:
+        peeked = NONE;
+        value = Long.toString(readLong());
+        break;
+      case DOUBLE:
+        peeked = NONE;
+        value = Double.toString(readDouble());
+        break;
+      default:
+        throw unexpected(JsonToken.STRING);
+    }
+    valueRead();
+    return value;
+  }
+
+  @Override
+  public boolean nextBoolean() throws IOException {
+    byte tag = peekTag();
+    if (tag != TRUE && tag != FALSE) {
+      throw unexpected(JsonToken.BOOLEAN);
+    }
+    peeked = NONE;
+    valueRead();
+    return tag == TRUE;
+  }
+
+  @Override
+  public void nextNull() throws IOException {
+    consume(NULL, JsonToken.NULL);
+    valueRead();
+  }
+
+  @Override
+  public double nextDouble() throws IOException {
+    double value;
+    switch (peekTag()) {
+      case LONG:
+        peeked = NONE;
+        value = readLong();
+        break;
+      case DOUBLE:
+        peeked = NONE;
+        value = readDouble();
+        break;
+      case STRING:
+      case NUMBER:
+        peeked = NONE;
+        value = Double.parseDouble(readString());
+        break;
+      default:
+        throw unexpected(JsonToken.NUMBER);
+    }
+    valueRead();
+    return value;
+  }
+
+  @Override
+  public long nextLong() throws IOException {
+    long value;
+    switch (peekTag()) {
+      case LONG:
+        peeked = NONE;
+        value = readLong();
+        break;
+      case DOUBLE:
+        peeked = NONE;
+        double doubleValue = readDouble();
+        value = (long) doubleValue;
+        if (value != doubleValue) {
+          throw new NumberFormatException("Expected a long but was " + doubleValue);
+        }
+        break;
+      case STRING:
+      case NUMBER:
+        peeked = NONE;
+        value = parseLong(readString());
+        break;
+      default:
+        throw unexpected(JsonToken.NUMBER);
+    }
+    valueRead();
+    return value;
+  }
+
+  @Override
+  public int nextInt() throws IOException {
+    long value = nextLong();
+    if ((int) value != value) {
+      throw new NumberFormatException("Expected an int but was " + value);
+    }
+    return (int) value;
+  }
+
+  @Override
+  public void skipValue() throws IOException {
+    int count = 0;
+    do {
+      switch (peek()) {
+        case BEGIN_ARRAY:
+          beginArray();
+          count++;
+          break;
+        case BEGIN_OBJECT:
+          beginObject();
+          count++;
+          break;
+        case END_ARRAY:
+          endArray();
+          count--;
+          break;
+        case END_OBJECT:
+          endObject();
+          count--;
+          break;
+        case NAME:
+          nextName();
+          break;
+        case BOOLEAN:
+          nextBoolean();
+          break;
+        case NULL:
+          nextNull();
+          break;
+        case END_DOCUMENT:
+          return;
+        default:
+          nextString();
+      }
+    } while (count != 0);
+  }
+
+  @Override
+  public void close() throws IOException {
+    peeked = NONE;
+    depth = 0;
+    documentRead = true;
+    in.close();
+  }
+
+  @Override
+  public String toString() {
+    return getClass().getSimpleName();
+  }
+
+  /**
+   * @return the tag of the next token, or {@link #NONE} if the document was completely read
+   */
+  private byte peekTag() throws IOException {
+    if (peeked == NONE && !documentRead) {
+      peeked = readTag();
+    }
+    return peeked;
+  }
+
+  private byte readTag() throws IOException {
+    byte tag = readByte();
+    int scope = depth == 0 ? DOCUMENT : stack[depth - 1];
+
+    boolean valid;
+    switch (tag) {
+      case NAME:
+      case END_OBJECT:
+        valid = scope == OBJECT_EXPECTING_NAME;
+        break;
+      case END_ARRAY:
+        valid = scope == ARRAY;
+        break;
+      case BEGIN_OBJECT:
+      case BEGIN_ARRAY:
+      case STRING:
+      case TRUE:
+      case FALSE:
+      case NULL:
+      case LONG:
+      case DOUBLE:
+      case NUMBER:
+        valid = scope != OBJECT_EXPECTING_NAME;
+        break;
+      default:
+        valid = false;
+    }
+
+    if (!valid) {
+      throw new JsonParseException(format("Unexpected token %d", tag));
+    }
+    return tag;
+  }
+
+  private void consume(byte tag, JsonToken token) throws IOException {
+    if (peekTag() != tag) {
+      throw unexpected(token);
+    }
+    peeked = NONE;
+  }
+
+  private IllegalStateException unexpected(JsonToken expected) throws IOException {
+    return new IllegalStateException(format("Expected %s but was %s", expected, peek()));
+  }
+
+  private void push(int scope) {
+    if (depth == stack.length) {
+      stack = copyOf(stack, depth * 2);
+    }
+    stack[depth++] = scope;
+  }
+
+  private void valueRead() {
+    if (depth == 0) {
+      documentRead = true;
+    } else if (stack[depth - 1] == OBJECT_EXPECTING_VALUE) {
+      stack[depth - 1] = OBJECT_EXPECTING_NAME;
+    }
+  }
+
+  private String readString() throws IOException {
+    long reference = readVarLong();
+    if (reference != NEW_STRING) {
+      if (reference < 0 || reference > strings.size()) {
+        throw new JsonParseException(format("Invalid reference to the string %d, only %d were read",
+                                            reference, strings.size()));
+      }
+      return strings.get((int) reference - 1);
+    }
+
+    long length = readVarLong();
+    if (length < 0 || length > Integer.MAX_VALUE) {
+      throw new JsonParseException(format("Invalid string length %d", length));
+    }
+    String value = new String(readBytes((int) length), UTF_8);
+    strings.add(value);
+    return value;
+  }
+
+  private byte[] readBytes(int length) throws IOException {
+    if (length <= CHUNK_SIZE) {
+      byte[] bytes = new byte[length];
+      try {
+        in.readFully(bytes);
+      } catch (EOFException e) {
+        throw truncated(e);
+      }
+      return bytes;
+    }
+
+    ByteArrayOutputStream bytes = new ByteArrayOutputStream(CHUNK_SIZE);
+    byte[] chunk = new byte[CHUNK_SIZE];
+    for (int remaining = length; remaining > 0;) {
+      int read = in.read(chunk, 0, min(remaining, CHUNK_SIZE));
+      if (read == -1) {
+        throw truncated(new EOFException());
+      }
+      bytes.write(chunk, 0, read);
+      remaining -= read;
+    }
+    return bytes.toByteArray();
+  }
+
+  private long readLong() throws IOException {
+    long zigZag = readVarLong();
+    return (zigZag >>> 1) ^ -(zigZag & 1);
+  }
+
+  private long readVarLong() throws IOException {
+    long value = 0;
+    int shift = 0;
+    byte b;
+    do {
+      if (shift > 63) {
+        throw new JsonParseException("Malformed variable length number");
+      }
+      b = readByte();
+      value |= (long) (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+
+  private byte readByte() throws IOException {
+    try {
+      return in.readByte();
+    } catch (EOFException e) {
+      throw truncated(e);
+    }
+  }
+
+  private double readDouble() throws IOException {
+    try {
+      return in.readDouble();
+    } catch (EOFException e) {
+      throw truncated(e);
+    }
+  }
+
+  private static JsonIOException truncated(EOFException e) {
+    return new JsonIOException("The content ended before the end of the document", e);
+  }
+
+  private static long parseLong(String value) {
+    try {
+      return Long.parseLong(value);
+    } catch (NumberFormatException e) {
+      try {
+        return new BigDecimal(value).longValueExact();
+      } catch (ArithmeticException | NumberFormatException e2) {
+        throw new NumberFormatException("Expected a long but was " + value);
+      }
+    }
+  }
+}
@@ -0,0 +1,270 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.BEGIN_ARRAY;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.BEGIN_OBJECT;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.DOUBLE;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.END_ARRAY;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.END_OBJECT;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.FALSE;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.LONG;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.MAGIC;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.NAME;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.NEW_STRING;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.NULL;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.NUMBER;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.STRING;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.TRUE;
+import static org.mule.runtime.extension.internal.persistence.BinaryJsonFormat.VERSION;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.requireNonNull;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.HashMap;
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A {@link JsonWriter} which, instead of text, writes the tokens in the binary encoding described in {@link BinaryJsonFormat}.
+ * <p>
+ * Since it is a {@link JsonWriter}, the same type adapters used to write the json representation of a model can be used to
+ * write the binary one.
+ *
+ * @since 1.10
+ */
+public final class BinaryJsonWriter extends JsonWriter {
+
+  private static final Writer UNWRITABLE_WRITER = new Writer() {
+
+    @Override
+    public void write(char[] buffer, int offset, int counter) {
+      throw new AssertionError();
+    }
+
+    @Override
+    public void flush() {
+      throw new AssertionError();
+    }
+
+    @Override
+    public void close() {
+      throw new AssertionError();
+    }
+  };
+
+  private final DataOutputStream out;
+  private final Map<String, Integer> strings = new HashMap<>();
+  private String pendingName;
+
+  /**
+   * Creates a new instance and writes the header of the document into the given {@code out}
+   *
+   * @param out the stream to write to
+   * @throws IOException if the header could not be written
+   */
+  public BinaryJsonWriter(OutputStream out) throws IOException {
+    super(UNWRITABLE_WRITER);
+    this.out = new DataOutputStream(out);
+    this.out.writeInt(MAGIC);
+    this.out.writeByte(VERSION);
+  }
+
+  @Override
+  public JsonWriter beginArray() throws IOException {
+    return writeToken(BEGIN_ARRAY);
+  }
+
+  @Override
+  public JsonWriter endArray() throws IOException {
+    return writeToken(END_ARRAY);
+  }
+
+  @Override
+  public JsonWriter beginObject() throws IOException {
+    return writeToken(BEGIN_OBJECT);
+  }
+
+  @Override
+  public JsonWriter endObject() throws IOException {
+    if (pendingName != null) {
+      throw new IllegalStateException("Dangling name: " + pendingName);
+    }
+    return writeToken(END_OBJECT);
+  }
+
+  @Override
+  public JsonWriter name(String name) throws IOException {
+    requireNonNull(name, "name == null");
+    if (pendingName != null) {
+      throw new IllegalStateException("Already wrote a name, expecting a value.");
+    }
+    pendingName = name;
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(String value) throws IOException {
+    if (value == null) {
+      return nullValue();
+    }
+    writeToken(STRING);
+    writeString(value);
+    return this;
+  }
+
+  @Override
+  public JsonWriter jsonValue(String value) throws IOException {
+    if (value == null) {
+      return nullValue();
+    }
+    writeElement(new JsonParser().parse(value));
+    return this;
+  }
+
+  @Override
+  public JsonWriter nullValue() throws IOException {
+    if (pendingName != null && !getSerializeNulls()) {
+      // mimic the text writer, which skips the name of null members
+      pendingName = null;
+      return this;
+    }
+    return writeToken(NULL);
+  }
+
+  @Override
+  public JsonWriter value(boolean value) throws IOException {
+    return writeToken(value ? TRUE : FALSE);
+  }
+
+  @Override
+  public JsonWriter value(Boolean value) throws IOException {
+    if (value == null) {
+      return nullValue();
+    }
+    return value(value.booleanValue());
+  }
+
+  // Not annotated with @Override since it is not present in all the Gson versions
+  public JsonWriter value(float value) throws IOException {
+    return value((double) value);
+  }
+
+  @Override
+  public JsonWriter value(double value) throws IOException {
+    if (!isLenient() && (Double.isNaN(value) || Double.isInfinite(value))) {
+      throw new IllegalArgumentException("Numeric values must be finite, but was " + value);
+    }
+    writeToken(DOUBLE);
+    out.writeDouble(value);
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(long value) throws IOException {
+    writeToken(LONG);
+    writeVarLong((value << 1) ^ (value >> 63));
+    return this;
+  }
+
+  @Override
+  public JsonWriter value(Number value) throws IOException {
+    if (value == null) {
+      return nullValue();
+    }
+
+    if (value instanceof Integer || value instanceof Long || value instanceof Short || value instanceof Byte) {
+      return value(value.longValue());
+    } else if (value instanceof Double || value instanceof Float) {
+      return value(value.doubleValue());
+    }
+
+    writeToken(NUMBER);
+    writeString(value.toString());
+    return this;
+  }
+
+  @Override
+  public void flush() throws IOException {
+    out.flush();
+  }
+
+  @Override
+  public void close() throws IOException {
+    out.close();
+  }
+
+  private JsonWriter writeToken(byte token) throws IOException {
+    if (pendingName != null) {
+      out.writeByte(NAME);
+      writeString(pendingName);
+      pendingName = null;
+    }
+    out.writeByte(token);
+    return this;
+  }
+
+  private void writeString(String value) throws IOException {
+    Integer index = strings.get(value);
+    if (index != null) {
+      writeVarLong(index + 1L);
+      return;
+    }
+
+    strings.put(value, strings.size());
+    byte[] bytes = value.getBytes(UTF_8);
+    writeVarLong(NEW_STRING);
+    writeVarLong(bytes.length);
+    out.write(bytes);
+  }
+
+  private void writeVarLong(long value) throws IOException {
+    while ((value & ~0x7FL) != 0) {
+      out.writeByte((int) ((value & 0x7F) | 0x80));
+      value >>>= 7;
+    }
+    out.writeByte((int) value);
+  }
+
+  private void writeElement(JsonElement element) throws IOException {
+    if (element.isJsonNull()) {
+      nullValue();
+    } else if (element.isJsonPrimitive()) {
+      JsonPrimitive primitive = element.getAsJsonPrimitive();
+      if (primitive.isBoolean()) {
+        value(primitive.getAsBoolean());
+      } else if (primitive.isNumber()) {
+        value(primitive.getAsNumber());
+      } else {
+        value(primitive.getAsString());
+      }
+    } else if (element.isJsonArray()) {
+      beginArray();
+      for (JsonElement item : (JsonArray) element) {
+        writeElement(item);
+      }
+      endArray();
+    } else {
+      beginObject();
+      for (Map.Entry<String, JsonElement> entry : ((JsonObject) element).entrySet()) {
+        name(entry.getKey());
+        writeElement(entry.getValue());
+      }
+      endObject();
+    }
+  }
+}
@@ -0,0 +1,43 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.current;
+
+import org.mule.metadata.api.builder.TypeBuilder;
+import org.mule.metadata.api.model.ObjectType;
+import org.mule.metadata.persistence.ObjectTypeReferenceHandler;
+
+import java.util.Optional;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Implementation of {@link ObjectTypeReferenceHandler} which delegates into the
+ * {@link ExtensionModelSerializationContext#getReferenceHandler() reference handler} of the
+ * {@link ExtensionModelSerializationContext#current() current context}, so that the adapters using it can be shared between
+ * serializations.
+ *
+ * @since 1.10
+ */
+public final class ContextualObjectTypeReferenceHandler implements ObjectTypeReferenceHandler {
+
+  @Override
+  public Optional<TypeBuilder> readReference(String typeReference) {
+    return current().getReferenceHandler().readReference(typeReference);
+  }
+
+  @Override
+  public boolean shouldWriteReference(ObjectType type) {
+    return current().getReferenceHandler().shouldWriteReference(type);
+  }
+
+  @Override
+  public Optional<String> writeReference(ObjectType type, JsonWriter writer) {
+    return current().getReferenceHandler().writeReference(type, writer);
+  }
+}
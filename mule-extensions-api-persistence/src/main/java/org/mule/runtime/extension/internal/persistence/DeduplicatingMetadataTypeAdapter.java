@@ -0,0 +1,87 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.current;
+
+import static java.lang.String.format;
+
+import static com.google.gson.stream.JsonToken.NULL;
+import static com.google.gson.stream.JsonToken.NUMBER;
+
+import org.mule.metadata.api.model.MetadataType;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonParseException;
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * {@link TypeAdapter} for {@link MetadataType} which writes each instance only once per {@link ExtensionModelSerializationContext}.
+ * Following appearances of the same instance (for example, a POJO used as the type of parameters of many operations) are
+ * written as the index in which the first one was written. When read, all the appearances resolve to the same instance.
+ * <p>
+ * Since the output depends on the order in which the types are read, this is only meant for formats which are always read in
+ * the same order as they were written.
+ *
+ * @since 1.10
+ */
+public final class DeduplicatingMetadataTypeAdapter extends TypeAdapter<MetadataType> {
+
+  private final TypeAdapter<MetadataType> delegate;
+
+  /**
+   * Creates a new instance
+   *
+   * @param delegate the adapter to use for the first appearance of each type
+   */
+  public DeduplicatingMetadataTypeAdapter(TypeAdapter<MetadataType> delegate) {
+    this.delegate = delegate;
+  }
+
+  @Override
+  public void write(JsonWriter out, MetadataType value) throws IOException {
+    if (value == null) {
+      out.nullValue();
+      return;
+    }
+
+    Map<MetadataType, Integer> writtenTypes = current().getWrittenTypes();
+    Integer index = writtenTypes.get(value);
+    if (index != null) {
+      out.value(index);
+    } else {
+      writtenTypes.put(value, writtenTypes.size());
+      delegate.write(out, value);
+    }
+  }
+
+  @Override
+  public MetadataType read(JsonReader in) throws IOException {
+    if (in.peek() == NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    List<MetadataType> readTypes = current().getReadTypes();
+    if (in.peek() == NUMBER) {
+      int index = in.nextInt();
+      if (index < 0 || index >= readTypes.size()) {
+        throw new JsonParseException(format("Invalid reference to the type %d, only %d were read", index, readTypes.size()));
+      }
+      return readTypes.get(index);
+    }
+
+    MetadataType type = delegate.read(in);
+    readTypes.add(type);
+    return type;
+  }
+}
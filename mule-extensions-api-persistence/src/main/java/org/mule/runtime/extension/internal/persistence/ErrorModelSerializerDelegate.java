@@ -16,13 +16,14 @@ import org.mule.runtime.api.meta.model.error.ErrorModel;
 import org.mule.runtime.api.meta.model.error.ErrorModelBuilder;
 import org.mule.runtime.api.util.Pair;
 
-import com.google.gson.JsonArray;
-import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
@@ -64,7 +65,27 @@ class ErrorModelSerializerDelegate {
     out.endArray();
   }
 
-  private void writeError(JsonWriter out, ErrorModel errorModel) throws IOException {
+  /**
+   * Serializes a {@link Set} of {@link ErrorModel} as references to the entries of the given {@code dictionary}, which holds the
+   * errors shared by all the extensions of a list.
+   *
+   * @param errorModels Errors to serialize
+   * @param out         json writer where the references will be written
+   * @param dictionary  the dictionary the errors are added to
+   * @throws IOException if an error occurs trying to serialize the errors
+   */
+  void writeErrorReferences(Set<ErrorModel> errorModels, JsonWriter out, ExtensionModelDictionaryBuilder dictionary)
+      throws IOException {
+    Set<ErrorModel> models = flatenizeErrors(errorModels);
+    out.name(ERRORS);
+    out.beginArray();
+    for (ErrorModel errorModel : models) {
+      out.value(dictionary.errorIndex(errorModel));
+    }
+    out.endArray();
+  }
+
+  static void writeError(JsonWriter out, ErrorModel errorModel) throws IOException {
     out.beginObject();
     out.name(ERROR).value(serialize(errorModel));
     if (errorModel.getParent().isPresent()) {
@@ -89,28 +110,76 @@ class ErrorModelSerializerDelegate {
   }
 
   /**
-   * Given a {@link JsonArray} representing a {@link Set} of {@link ErrorModel}, it will deserialize them. Also contribute with
-   * the given {@link this#errorModelRespository}.
+   * Given a {@link JsonReader} positioned at the start of an array representing a {@link Set} of {@link ErrorModel}, it will
+   * deserialize them, consuming the array. Also contribute with the given {@link this#errorModelRespository}.
    *
-   * @param errors The json array
+   * @param in the json reader
    * @return The a {@link Map} with the Error Identifier as key and the represented {@link ErrorModel}
+   * @throws IOException if an error occurs trying to read the errors
    */
-  Map<String, ErrorModel> parseErrors(JsonArray errors) {
-    Map<String, Pair<String, ErrorModelBuilder>> buildingErrors = new LinkedHashMap<>();
+  Map<String, ErrorModel> parseErrors(JsonReader in) throws IOException {
+    List<SerializedError> errors = new ArrayList<>();
+
+    in.beginArray();
+    while (in.hasNext()) {
+      errors.add(readError(in));
+    }
+    in.endArray();
+
+    return buildErrors(errors);
+  }
 
-    errors.iterator().forEachRemaining(element -> {
-      JsonObject error = element.getAsJsonObject();
-      String anError = error.get(ERROR).getAsString();
-      String parentError = EMPTY;
-      if (error.has(PARENT)) {
-        parentError = error.get(PARENT).getAsString();
+  /**
+   * Given a {@link JsonReader} positioned at the start of an object representing an {@link ErrorModel}, it will read it,
+   * consuming the object.
+   *
+   * @param in the json reader
+   * @return the read error, which still has to be built through {@link #buildErrors(List)}
+   * @throws IOException if an error occurs trying to read the error
+   */
+  static SerializedError readError(JsonReader in) throws IOException {
+    String anError = null;
+    String parentError = EMPTY;
+    Boolean handleable = null;
+
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case ERROR:
+          anError = in.nextString();
+          break;
+        case PARENT:
+          parentError = in.nextString();
+          break;
+        case HANDLEABLE:
+          handleable = in.nextBoolean();
+          break;
+        default:
+          in.skipValue();
       }
-      ErrorModelBuilder errorModelBuilder = newError(buildFromStringRepresentation(anError));
-      if (error.has(HANDLEABLE)) {
-        errorModelBuilder.handleable(error.get(HANDLEABLE).getAsBoolean());
+    }
+    in.endObject();
+
+    return new SerializedError(anError, parentError, handleable);
+  }
+
+  /**
+   * Builds the given {@code errors}, resolving their parents among them. Also contribute with the given
+   * {@link this#errorModelRespository}.
+   *
+   * @param errors the read errors
+   * @return The a {@link Map} with the Error Identifier as key and the represented {@link ErrorModel}
+   */
+  Map<String, ErrorModel> buildErrors(List<SerializedError> errors) {
+    Map<String, Pair<String, ErrorModelBuilder>> buildingErrors = new LinkedHashMap<>();
+
+    for (SerializedError error : errors) {
+      ErrorModelBuilder errorModelBuilder = newError(buildFromStringRepresentation(error.error));
+      if (error.handleable != null) {
+        errorModelBuilder.handleable(error.handleable);
       }
-      buildingErrors.put(anError, new Pair<>(parentError, errorModelBuilder));
-    });
+      buildingErrors.put(error.error, new Pair<>(error.parent, errorModelBuilder));
+    }
 
     buildingErrors.keySet().forEach(key -> buildError(key, buildingErrors, errorModelRespository));
 
@@ -150,4 +219,20 @@ class ErrorModelSerializerDelegate {
     builtErrors.put(identifier.toString(), errorModel);
     return errorModel;
   }
+
+  /**
+   * An {@link ErrorModel} as it was read, before resolving its parent.
+   */
+  static final class SerializedError {
+
+    private final String error;
+    private final String parent;
+    private final Boolean handleable;
+
+    private SerializedError(String error, String parent, Boolean handleable) {
+      this.error = error;
+      this.parent = parent;
+      this.handleable = handleable;
+    }
+  }
 }
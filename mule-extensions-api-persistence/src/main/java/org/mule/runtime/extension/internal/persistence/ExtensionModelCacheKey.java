@@ -0,0 +1,292 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.Files.getLastModifiedTime;
+import static java.nio.file.Files.isDirectory;
+import static java.nio.file.Files.isRegularFile;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+import static java.util.stream.Collectors.toList;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.artifact.ArtifactCoordinates;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.api.persistence.ExtensionModelBinarySerializer;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * The key of an {@link ExtensionModel} in a persistent cache. It has two parts:
+ * <ul>
+ * <li>The {@link #getIdentity() identity} tells which extension is loaded and how: the artifact coordinates, the id of the
+ * {@link ExtensionModelLoader}, the parameters, flags, enrichers and validators of the request, and the extensions the request
+ * depends on. Each identity has a single entry in the cache.</li>
+ * <li>The {@link #getFingerprint() fingerprint} tells whether an entry is still valid: the content hash of the extension
+ * classes, the hash of the serialized form of each extension the request depends on, and the versions of the APIs the model was
+ * built and serialized with. An entry with another fingerprint is rebuilt.</li>
+ * </ul>
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelCacheKey {
+
+  private static final String HASH_ALGORITHM = "SHA-256";
+  private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+  private static final String API_VERSIONS = apiVersions();
+
+  private static final ExtensionModelJsonSerializer DEPENDENCY_SERIALIZER = new ExtensionModelJsonSerializer();
+  // the same dependency models are part of the requests of many extensions, so each one is only serialized once
+  private static final Cache<ExtensionModel, String> DEPENDENCY_HASHES = newBuilder().weakKeys().build();
+
+  /**
+   * Creates the key of the {@link ExtensionModel} loaded by the given {@code loader} with the given {@code request}.
+   *
+   * @param loader      the loader the model is loaded with
+   * @param request     the request the model is loaded with
+   * @param contentHash a function which computes the content hash of the classes of the extension of a request
+   * @return the key, or {@link Optional#empty()} if the request can't be keyed: either the content hash of its classes is not
+   *         available, a parameter has a value which has no stable representation, or an extension it depends on can't be
+   *         serialized
+   */
+  public static Optional<ExtensionModelCacheKey> of(ExtensionModelLoader loader, ExtensionModelLoadingRequest request,
+                                                    Function<ExtensionModelLoadingRequest, Optional<String>> contentHash) {
+    StringBuilder identity = new StringBuilder();
+    ArtifactCoordinates coordinates = request.getArtifactCoordinates();
+    if (coordinates != null) {
+      identity.append(coordinates.getGroupId()).append(':').append(coordinates.getArtifactId()).append(':')
+          .append(coordinates.getVersion());
+    }
+    identity.append('\n').append(loader.getId());
+
+    // sorted, so the identity does not depend on the order in which the parameters were added
+    for (Map.Entry<String, Object> parameter : new TreeMap<>(request.getParameters()).entrySet()) {
+      identity.append('\n').append(parameter.getKey()).append('=');
+      if (!appendValue(identity, parameter.getValue())) {
+        return empty();
+      }
+    }
+
+    identity.append("\nocs=").append(request.isOCSEnabled())
+        .append("\nforceValidation=").append(request.isForceExtensionValidation())
+        .append("\nresolveMinMuleVersion=").append(request.isResolveMinMuleVersion());
+    request.getEnrichers().forEach(enricher -> identity.append("\nenricher=").append(enricher.getClass().getName()));
+    request.getValidators().forEach(validator -> identity.append("\nvalidator=").append(validator.getClass().getName()));
+
+    // sorted by name and version, so that the hashes of the dependencies are in the same order as they are in the identity
+    Map<String, ExtensionModel> dependencies = new TreeMap<>();
+    request.getDslResolvingContext().getExtensions()
+        .forEach(extension -> dependencies.put(extension.getName() + ':' + extension.getVersion(), extension));
+    StringBuilder dependencyHashes = new StringBuilder();
+    for (Map.Entry<String, ExtensionModel> dependency : dependencies.entrySet()) {
+      identity.append("\ndependency=").append(dependency.getKey());
+      Optional<String> dependencyHash = hashDependency(dependency.getValue());
+      if (!dependencyHash.isPresent()) {
+        return empty();
+      }
+      dependencyHashes.append(dependencyHash.get()).append('\n');
+    }
+
+    return contentHash.apply(request)
+        .map(hash -> new ExtensionModelCacheKey(identity.toString(), hash + '\n' + dependencyHashes + API_VERSIONS));
+  }
+
+  /**
+   * The models of the dependencies may change without their version changing, as when they are snapshots or loaded with other
+   * parameters. Hence, their whole content is hashed.
+   */
+  private static Optional<String> hashDependency(ExtensionModel dependency) {
+    try {
+      return of(DEPENDENCY_HASHES.get(dependency, extension -> hash(DEPENDENCY_SERIALIZER.serialize(extension))));
+    } catch (RuntimeException e) {
+      return empty();
+    }
+  }
+
+  /**
+   * Computes the content hash of the classes of the extension of the given {@code request}, as the hash of the jars and
+   * directories of its {@link ExtensionModelLoadingRequest#getExtensionClassLoader() class loader}. The ones of its parents are
+   * not considered.
+   *
+   * @param request the request to compute the hash for
+   * @return the hash, or {@link Optional#empty()} if the class loader is not an {@link URLClassLoader}, or has URLs which are not
+   *         local files
+   */
+  public static Optional<String> hashExtensionClassLoader(ExtensionModelLoadingRequest request) {
+    if (!(request.getExtensionClassLoader() instanceof URLClassLoader)) {
+      return empty();
+    }
+
+    URL[] urls = ((URLClassLoader) request.getExtensionClassLoader()).getURLs();
+    if (urls.length == 0) {
+      return empty();
+    }
+
+    try {
+      MessageDigest digest = newDigest();
+      for (URL url : urls) {
+        if (!"file".equals(url.getProtocol())) {
+          return empty();
+        }
+
+        // only the content is hashed, so moving the extension does not invalidate its entry
+        Path path = Paths.get(url.toURI());
+        if (isDirectory(path)) {
+          for (Path file : filesIn(path)) {
+            digest.update(path.relativize(file).toString().getBytes(UTF_8));
+            update(digest, file);
+          }
+        } else if (isRegularFile(path)) {
+          update(digest, path);
+        }
+      }
+      return of(hex(digest.digest()));
+    } catch (IOException | URISyntaxException e) {
+      return empty();
+    }
+  }
+
+  /**
+   * @param value a {@link String}
+   * @return the hexadecimal representation of the hash of the given {@code value}
+   */
+  public static String hash(String value) {
+    return hex(newDigest().digest(value.getBytes(UTF_8)));
+  }
+
+  private static boolean appendValue(StringBuilder identity, Object value) {
+    if (value == null || value instanceof String || value instanceof Number || value instanceof Boolean
+        || value instanceof Character || value instanceof Enum) {
+      identity.append(value);
+    } else if (value instanceof Class) {
+      identity.append(((Class<?>) value).getName());
+    } else if (value instanceof Collection) {
+      identity.append('[');
+      for (Object item : (Collection<?>) value) {
+        if (!appendValue(identity, item)) {
+          return false;
+        }
+        identity.append(',');
+      }
+      identity.append(']');
+    } else {
+      return false;
+    }
+    return true;
+  }
+
+  private static List<Path> filesIn(Path directory) throws IOException {
+    try (Stream<Path> files = Files.walk(directory)) {
+      return files.filter(Files::isRegularFile).sorted().collect(toList());
+    }
+  }
+
+  private static void update(MessageDigest digest, Path file) throws IOException {
+    byte[] buffer = new byte[8192];
+    try (InputStream content = Files.newInputStream(file)) {
+      int read;
+      while ((read = content.read(buffer)) != -1) {
+        digest.update(buffer, 0, read);
+      }
+    }
+  }
+
+  /**
+   * The versions of the APIs involved in building and serializing a model. When a jar has no version in its manifest, as it
+   * happens when running from an IDE, its location and last modification time are used instead.
+   */
+  private static String apiVersions() {
+    List<String> versions = new ArrayList<>();
+    for (Class<?> type : new Class<?>[] {ExtensionModel.class, MetadataType.class, ExtensionModelLoader.class,
+        ExtensionModelBinarySerializer.class}) {
+      Package typePackage = type.getPackage();
+      String version = typePackage != null ? typePackage.getImplementationVersion() : null;
+      versions.add(version != null ? version : locationOf(type));
+    }
+    return String.join("\n", versions);
+  }
+
+  private static String locationOf(Class<?> type) {
+    CodeSource codeSource = type.getProtectionDomain().getCodeSource();
+    if (codeSource == null || codeSource.getLocation() == null) {
+      return "unknown";
+    }
+
+    String location = codeSource.getLocation().toString();
+    try {
+      return location + '@' + getLastModifiedTime(Paths.get(codeSource.getLocation().toURI())).toMillis();
+    } catch (IOException | URISyntaxException | RuntimeException e) {
+      return location;
+    }
+  }
+
+  private static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (NoSuchAlgorithmException e) {
+      // every Java platform is required to support it
+      throw new IllegalStateException(e);
+    }
+  }
+
+  private static String hex(byte[] bytes) {
+    char[] hex = new char[bytes.length * 2];
+    for (int i = 0; i < bytes.length; ++i) {
+      hex[i * 2] = HEX_DIGITS[(bytes[i] >> 4) & 0xF];
+      hex[i * 2 + 1] = HEX_DIGITS[bytes[i] & 0xF];
+    }
+    return new String(hex);
+  }
+
+  private final String identity;
+  private final String fingerprint;
+
+  private ExtensionModelCacheKey(String identity, String fingerprint) {
+    this.identity = identity;
+    this.fingerprint = fingerprint;
+  }
+
+  /**
+   * @return which extension is loaded and how
+   */
+  public String getIdentity() {
+    return identity;
+  }
+
+  /**
+   * @return the content hash of the extension classes, the hashes of the extensions it depends on and the versions of the APIs
+   */
+  public String getFingerprint() {
+    return fingerprint;
+  }
+}
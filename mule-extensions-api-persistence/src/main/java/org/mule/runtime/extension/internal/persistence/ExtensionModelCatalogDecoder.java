@@ -0,0 +1,166 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.MAGIC;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.VERSION;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.restore;
+
+import static java.lang.String.format;
+import static java.util.Collections.unmodifiableSet;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.ComponentKind;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.Entry;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.ExtensionEntry;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonSyntaxException;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * Reads the {@link ExtensionModel extension models} of a catalog written by a {@link ExtensionModelCatalogEncoder}.
+ * <p>
+ * Only the index is read when the instance is created. Each {@link ExtensionModel} is decoded the first time it is requested,
+ * and its components are decoded the first time they are accessed. The content is read directly from the given
+ * {@link ByteBuffer}, so when that is a memory mapped file only the parts of it which are actually used are loaded.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelCatalogDecoder {
+
+  private final ByteBuffer documents;
+  private final Gson gson;
+  private final ExtensionModelTypeAdapter extensionModelTypeAdapter;
+  private final Map<String, ExtensionEntry> index;
+  private final Map<String, ExtensionModel> extensionModels = new ConcurrentHashMap<>();
+
+  /**
+   * Creates a new instance, reading the index of the catalog.
+   *
+   * @param catalog the content of the catalog, from its current position. It must not be modified afterwards.
+   * @param gson    the {@link Gson} to use for the components of the models
+   * @throws IOException        if the index could not be read
+   * @throws JsonParseException if the content is not a valid catalog
+   */
+  public ExtensionModelCatalogDecoder(ByteBuffer catalog, Gson gson) throws IOException {
+    this.gson = gson;
+    this.extensionModelTypeAdapter = new ExtensionModelTypeAdapter(gson);
+
+    ByteBuffer content = catalog.duplicate();
+    DataInputStream in = new DataInputStream(new ByteBufferInputStream(content));
+    if (in.readInt() != MAGIC) {
+      throw new JsonParseException("The given content is not an ExtensionModel catalog");
+    }
+    int version = in.readUnsignedByte();
+    if (version != VERSION) {
+      throw new JsonParseException(format("Unsupported catalog format version %d, only version %d is supported",
+                                          version, VERSION));
+    }
+
+    int extensionsCount = in.readInt();
+    Map<String, ExtensionEntry> index = new LinkedHashMap<>();
+    for (int i = 0; i < extensionsCount; i++) {
+      Entry extension = readEntry(in);
+      Map<ComponentKind, List<Entry>> components = new EnumMap<>(ComponentKind.class);
+      for (ComponentKind kind : ComponentKind.values()) {
+        int componentsCount = in.readInt();
+        List<Entry> entries = new ArrayList<>(componentsCount);
+        for (int j = 0; j < componentsCount; j++) {
+          entries.add(readEntry(in));
+        }
+        components.put(kind, entries);
+      }
+      index.put(extension.getName(), new ExtensionEntry(extension, components));
+    }
+
+    this.index = index;
+    // the offsets in the index are relative to its end
+    this.documents = content.slice();
+  }
+
+  /**
+   * @return the names of the extensions in the catalog, in the order in which they were written
+   */
+  public Set<String> getExtensionNames() {
+    return unmodifiableSet(index.keySet());
+  }
+
+  /**
+   * @param name the name of an extension
+   * @return the {@link ExtensionModel} of the extension with the given {@code name}, or {@code null} if it is not part of the
+   *         catalog
+   * @throws JsonParseException if the content of the extension is not valid
+   */
+  public ExtensionModel getExtensionModel(String name) {
+    ExtensionEntry entry = index.get(name);
+    if (entry == null) {
+      return null;
+    }
+
+    return extensionModels.computeIfAbsent(name, n -> decodeExtensionModel(entry));
+  }
+
+  private ExtensionModel decodeExtensionModel(ExtensionEntry entry) {
+    ExtensionModelSerializationContext context = new ExtensionModelSerializationContext();
+    // reads the extension with the given context, so that it holds its types, errors and notifications afterwards
+    ExtensionModel extension = decode(entry.getExtension(), context, in -> extensionModelTypeAdapter.read(in, context));
+
+    return new LazyExtensionModel(extension, entry, new LazyExtensionModel.ComponentDecoder() {
+
+      @Override
+      public <T> T decode(Entry componentEntry, Class<T> type) {
+        // the context of the extension is not meant to be used concurrently
+        synchronized (context) {
+          return ExtensionModelCatalogDecoder.this.decode(componentEntry, context, in -> gson.getAdapter(type).read(in));
+        }
+      }
+    });
+  }
+
+  private <T> T decode(Entry entry, ExtensionModelSerializationContext context, DocumentReader<T> reader) {
+    ByteBuffer document = documents.duplicate();
+    document.position(entry.getOffset());
+    document.limit(entry.getOffset() + entry.getLength());
+
+    ExtensionModelSerializationContext previous = context.bind();
+    try {
+      return reader.read(new BinaryJsonReader(new ByteBufferInputStream(document)));
+    } catch (IOException e) {
+      throw new JsonIOException(format("Could not read '%s' from the catalog", entry.getName()), e);
+    } catch (IllegalStateException e) {
+      throw new JsonSyntaxException(format("Could not read '%s' from the catalog", entry.getName()), e);
+    } finally {
+      restore(previous);
+    }
+  }
+
+  private Entry readEntry(DataInputStream in) throws IOException {
+    return new Entry(in.readUTF(), in.readInt(), in.readInt());
+  }
+
+  @FunctionalInterface
+  private interface DocumentReader<T> {
+
+    T read(JsonReader in) throws IOException;
+  }
+}
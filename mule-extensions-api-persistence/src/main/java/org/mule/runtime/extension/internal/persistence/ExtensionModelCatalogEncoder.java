@@ -0,0 +1,144 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.MAGIC;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.VERSION;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.forWriting;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.restore;
+
+import static java.lang.String.format;
+
+import org.mule.runtime.api.meta.NamedObject;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.ComponentKind;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.Entry;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.ExtensionEntry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.Gson;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Writes many {@link ExtensionModel extension models} into a single catalog, in the format described in
+ * {@link ExtensionModelCatalogFormat}.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelCatalogEncoder {
+
+  private final Gson gson;
+  private final ExtensionModelTypeAdapter extensionModelTypeAdapter;
+
+  /**
+   * Creates a new instance
+   *
+   * @param gson the {@link Gson} to use for the components of the models. It must not deduplicate types, since the components
+   *             are not necessarily read in the same order in which they were written.
+   */
+  public ExtensionModelCatalogEncoder(Gson gson) {
+    this.gson = gson;
+    this.extensionModelTypeAdapter = new ExtensionModelTypeAdapter(gson);
+  }
+
+  /**
+   * Writes the given {@code extensionModels} into {@code out}
+   *
+   * @param extensionModels the {@link ExtensionModel extension models} to write
+   * @param out             the stream to write the catalog to. It will not be closed.
+   * @throws IOException              if the catalog could not be written
+   * @throws IllegalArgumentException if two of the {@code extensionModels} have the same name
+   */
+  public void encode(Collection<ExtensionModel> extensionModels, OutputStream out) throws IOException {
+    ByteArrayOutputStream documents = new ByteArrayOutputStream();
+    List<ExtensionEntry> index = new ArrayList<>(extensionModels.size());
+    Set<String> names = new HashSet<>();
+
+    for (ExtensionModel extensionModel : extensionModels) {
+      if (!names.add(extensionModel.getName())) {
+        throw new IllegalArgumentException(format("Extension '%s' was given more than once", extensionModel.getName()));
+      }
+      index.add(writeExtension(extensionModel, documents));
+    }
+
+    DataOutputStream dataOut = new DataOutputStream(out);
+    dataOut.writeInt(MAGIC);
+    dataOut.writeByte(VERSION);
+    dataOut.writeInt(index.size());
+    for (ExtensionEntry extensionEntry : index) {
+      writeEntry(extensionEntry.getExtension(), dataOut);
+      for (ComponentKind kind : ComponentKind.values()) {
+        List<Entry> components = extensionEntry.getComponents(kind);
+        dataOut.writeInt(components.size());
+        for (Entry component : components) {
+          writeEntry(component, dataOut);
+        }
+      }
+    }
+    documents.writeTo(dataOut);
+    dataOut.flush();
+  }
+
+  private ExtensionEntry writeExtension(ExtensionModel extensionModel, ByteArrayOutputStream documents) throws IOException {
+    // the components are written while the context of the extension is bound, so that they reference its types, errors and
+    // notifications exactly as if they were written as part of it
+    ExtensionModelSerializationContext context = forWriting(extensionModel);
+    ExtensionModelSerializationContext previous = context.bind();
+    try {
+      Entry extension = writeDocument(extensionModel.getName(), documents,
+                                      writer -> extensionModelTypeAdapter.writeWithoutComponents(writer, extensionModel,
+                                                                                                  context));
+
+      Map<ComponentKind, List<Entry>> components = new EnumMap<>(ComponentKind.class);
+      for (ComponentKind kind : ComponentKind.values()) {
+        List<Entry> entries = new ArrayList<>();
+        for (NamedObject component : kind.getComponents(extensionModel)) {
+          entries.add(writeDocument(component.getName(), documents, writer -> gson.toJson(component, kind.getType(), writer)));
+        }
+        components.put(kind, entries);
+      }
+
+      return new ExtensionEntry(extension, components);
+    } finally {
+      restore(previous);
+    }
+  }
+
+  private Entry writeDocument(String name, ByteArrayOutputStream documents, DocumentWriter documentWriter) throws IOException {
+    int offset = documents.size();
+    BinaryJsonWriter writer = new BinaryJsonWriter(documents);
+    documentWriter.write(writer);
+    writer.flush();
+
+    return new Entry(name, offset, documents.size() - offset);
+  }
+
+  private void writeEntry(Entry entry, DataOutputStream out) throws IOException {
+    out.writeUTF(entry.getName());
+    out.writeInt(entry.getOffset());
+    out.writeInt(entry.getLength());
+  }
+
+  @FunctionalInterface
+  private interface DocumentWriter {
+
+    void write(JsonWriter writer) throws IOException;
+  }
+}
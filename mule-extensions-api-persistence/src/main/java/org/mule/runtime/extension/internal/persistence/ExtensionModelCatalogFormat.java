@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Collections.unmodifiableMap;
+
+import org.mule.runtime.api.meta.NamedObject;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.meta.model.construct.ConstructModel;
+import org.mule.runtime.api.meta.model.function.FunctionModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Constants and index structures of the catalog written by {@link ExtensionModelCatalogEncoder} and read by
+ * {@link ExtensionModelCatalogDecoder}.
+ * <p>
+ * A catalog starts with the {@link #MAGIC} number, the {@link #VERSION} of the format and the amount of extensions in it. Then
+ * comes the index: for each extension, the location of its document without components, followed by the name and location of
+ * each of its components, grouped by {@link ComponentKind}. A location is the offset of the document, relative to the end of the
+ * index, and its length. After the index come the documents themselves, each one encoded as described in
+ * {@link BinaryJsonFormat}.
+ * <p>
+ * Since each component is an independent document, it can be decoded without decoding the rest of the extension.
+ *
+ * @since 1.10
+ */
+final class ExtensionModelCatalogFormat {
+
+  static final int MAGIC = 0x4D455843;
+  static final int VERSION = 1;
+
+  /**
+   * The kinds of components of an {@link ExtensionModel} which are written as independent documents. The order of the constants
+   * is the order in which they appear in the index.
+   */
+  enum ComponentKind {
+
+    CONFIGURATION(ConfigurationModel.class, ExtensionModel::getConfigurationModels),
+
+    OPERATION(OperationModel.class, ExtensionModel::getOperationModels),
+
+    FUNCTION(FunctionModel.class, ExtensionModel::getFunctionModels),
+
+    CONSTRUCT(ConstructModel.class, ExtensionModel::getConstructModels),
+
+    CONNECTION_PROVIDER(ConnectionProviderModel.class, ExtensionModel::getConnectionProviders),
+
+    SOURCE(SourceModel.class, ExtensionModel::getSourceModels);
+
+    private final Class<? extends NamedObject> type;
+    private final Function<ExtensionModel, List<? extends NamedObject>> components;
+
+    ComponentKind(Class<? extends NamedObject> type, Function<ExtensionModel, List<? extends NamedObject>> components) {
+      this.type = type;
+      this.components = components;
+    }
+
+    Class<? extends NamedObject> getType() {
+      return type;
+    }
+
+    List<? extends NamedObject> getComponents(ExtensionModel extensionModel) {
+      return components.apply(extensionModel);
+    }
+  }
+
+  /**
+   * The location of a document in the catalog.
+   */
+  static final class Entry {
+
+    private final String name;
+    private final int offset;
+    private final int length;
+
+    Entry(String name, int offset, int length) {
+      this.name = name;
+      this.offset = offset;
+      this.length = length;
+    }
+
+    String getName() {
+      return name;
+    }
+
+    int getOffset() {
+      return offset;
+    }
+
+    int getLength() {
+      return length;
+    }
+  }
+
+  /**
+   * The index of the documents of a single {@link ExtensionModel}.
+   */
+  static final class ExtensionEntry {
+
+    private final Entry extension;
+    private final Map<ComponentKind, List<Entry>> components;
+
+    ExtensionEntry(Entry extension, Map<ComponentKind, List<Entry>> components) {
+      this.extension = extension;
+      this.components = unmodifiableMap(components);
+    }
+
+    Entry getExtension() {
+      return extension;
+    }
+
+    List<Entry> getComponents(ComponentKind kind) {
+      return unmodifiableList(components.get(kind));
+    }
+  }
+
+  private ExtensionModelCatalogFormat() {}
+}
@@ -0,0 +1,181 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.ErrorModelSerializerDelegate.readError;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelTypeAdapter.ERRORS;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelTypeAdapter.NOTIFICATIONS;
+
+import static java.lang.String.format;
+
+import org.mule.metadata.api.model.ObjectType;
+import org.mule.metadata.persistence.JsonMetadataTypeLoader;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.error.ErrorModel;
+import org.mule.runtime.api.meta.model.notification.NotificationModel;
+import org.mule.runtime.api.meta.model.stereotype.ImmutableStereotypeModel;
+import org.mule.runtime.api.meta.model.stereotype.StereotypeModel;
+import org.mule.runtime.extension.internal.persistence.ErrorModelSerializerDelegate.SerializedError;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonParser;
+import com.google.gson.stream.JsonReader;
+
+/**
+ * The dictionary shared by the {@link ExtensionModel}s of a list, as read from the document written by
+ * {@link ExtensionModelListTypeAdapter}.
+ * <p>
+ * The dictionary holds the entries which would otherwise be repeated by each extension of the list: the
+ * {@link ErrorModel errors} (most extensions declare the same {@code MULE} ones), the {@link NotificationModel notifications},
+ * the {@link ObjectType types} of the catalogs and the imported ones, and the {@link StereotypeModel stereotypes} of the
+ * components. Each section is an array, and the extensions reference its entries by their position in it. The entries have the
+ * same form they have when an extension is written on its own, except for the stereotypes, whose parent is the index of another
+ * stereotype which always precedes it.
+ * <p>
+ * The stereotypes are materialized once and shared by all the extensions which reference them, since they are immutable. The
+ * types are materialized for each extension which references them, since some of their annotations, such as the allowed
+ * stereotypes, are resolved in place for each extension. The errors and notifications are built for each extension too, since
+ * they depend on the rest of the extension.
+ *
+ * @since 1.10
+ */
+final class ExtensionModelDictionary {
+
+  static final String TYPES = "types";
+  static final String STEREOTYPES = "stereotypes";
+  static final String TYPE = "type";
+  static final String NAMESPACE = "namespace";
+  static final String PARENT = "parent";
+
+  private final List<SerializedError> errors = new ArrayList<>();
+  private final List<JsonElement> notifications = new ArrayList<>();
+  private final List<JsonElement> types = new ArrayList<>();
+  private final List<StereotypeModel> stereotypes = new ArrayList<>();
+  private final JsonMetadataTypeLoader typeLoader = new JsonMetadataTypeLoader();
+
+  /**
+   * Reads a dictionary from a {@link JsonReader} positioned at the start of it, consuming it.
+   *
+   * @param in the json reader
+   * @return the read dictionary
+   * @throws IOException if the dictionary could not be read
+   */
+  static ExtensionModelDictionary read(JsonReader in) throws IOException {
+    ExtensionModelDictionary dictionary = new ExtensionModelDictionary();
+    JsonParser parser = new JsonParser();
+
+    in.beginObject();
+    while (in.hasNext()) {
+      String section = in.nextName();
+      in.beginArray();
+      while (in.hasNext()) {
+        switch (section) {
+          case ERRORS:
+            dictionary.errors.add(readError(in));
+            break;
+          case NOTIFICATIONS:
+            dictionary.notifications.add(parser.parse(in));
+            break;
+          case TYPES:
+            dictionary.types.add(parser.parse(in));
+            break;
+          case STEREOTYPES:
+            dictionary.stereotypes.add(dictionary.readStereotype(in));
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endArray();
+    }
+    in.endObject();
+
+    return dictionary;
+  }
+
+  private StereotypeModel readStereotype(JsonReader in) throws IOException {
+    String type = null;
+    String namespace = null;
+    StereotypeModel parent = null;
+
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case TYPE:
+          type = in.nextString();
+          break;
+        case NAMESPACE:
+          namespace = in.nextString();
+          break;
+        case PARENT:
+          parent = getStereotype(in.nextInt());
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+
+    return new ImmutableStereotypeModel(type, namespace, parent);
+  }
+
+  /**
+   * @param indexes the indexes of the errors of an extension
+   * @return the referenced errors, to be built through {@link ErrorModelSerializerDelegate#buildErrors(List)}
+   */
+  List<SerializedError> getErrors(List<Integer> indexes) {
+    List<SerializedError> referenced = new ArrayList<>(indexes.size());
+    for (int index : indexes) {
+      referenced.add(get(errors, index, ERRORS));
+    }
+    return referenced;
+  }
+
+  /**
+   * @param indexes the indexes of the notifications of an extension
+   * @return the referenced notifications, to be parsed through
+   *         {@link NotificationModelSerializerDelegate#parseNotifications(JsonArray)}
+   */
+  JsonArray getNotifications(List<Integer> indexes) {
+    JsonArray referenced = new JsonArray();
+    for (int index : indexes) {
+      referenced.add(get(notifications, index, NOTIFICATIONS));
+    }
+    return referenced;
+  }
+
+  /**
+   * Materializes a referenced type. Each invocation returns a new instance, so the extensions don't share it.
+   *
+   * @param index the index of a type of the catalog of an extension, or imported by it
+   * @return the referenced type, or {@code null} if its entry yields no type
+   */
+  ObjectType loadType(int index) {
+    return typeLoader.load(get(types, index, TYPES)).map(ExtensionModelTypeAdapter::asCatalogType).orElse(null);
+  }
+
+  /**
+   * @param index the index of a stereotype
+   * @return the referenced stereotype
+   */
+  StereotypeModel getStereotype(int index) {
+    return get(stereotypes, index, STEREOTYPES);
+  }
+
+  private static <T> T get(List<T> entries, int index, String section) {
+    if (index < 0 || index >= entries.size()) {
+      throw new IllegalArgumentException(format("Invalid reference to the entry %d of the '%s' of the dictionary, which has %d",
+                                                index, section, entries.size()));
+    }
+    return entries.get(index);
+  }
+}
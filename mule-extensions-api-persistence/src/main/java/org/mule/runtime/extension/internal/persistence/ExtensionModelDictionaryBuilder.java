@@ -0,0 +1,187 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.ErrorModelSerializerDelegate.writeError;
+import static org.mule.runtime.extension.internal.persistence.ErrorModelToIdentifierSerializer.serialize;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelDictionary.NAMESPACE;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelDictionary.PARENT;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelDictionary.STEREOTYPES;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelDictionary.TYPE;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelDictionary.TYPES;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelTypeAdapter.ERRORS;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelTypeAdapter.NOTIFICATIONS;
+
+import org.mule.metadata.api.model.ObjectType;
+import org.mule.metadata.persistence.JsonMetadataTypeWriter;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.error.ErrorModel;
+import org.mule.runtime.api.meta.model.stereotype.StereotypeModel;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * Collects the entries of the dictionary shared by the {@link ExtensionModel}s of a list while they are being written, assigning
+ * each distinct entry the index through which the extensions reference it. See {@link ExtensionModelDictionary} for the format.
+ * <p>
+ * Entries are compared by their serialized form, so two extensions only share an entry when reading it back for any of them
+ * yields the same model.
+ * <p>
+ * Instances are not thread-safe, and are meant to be used for writing a single list.
+ *
+ * @since 1.10
+ */
+final class ExtensionModelDictionaryBuilder {
+
+  private static final int NO_PARENT = -1;
+
+  private final boolean serializeNulls;
+  private final JsonMetadataTypeWriter typeWriter = new JsonMetadataTypeWriter();
+
+  private final Map<String, Integer> errorIndexes = new HashMap<>();
+  private final List<ErrorModel> errors = new ArrayList<>();
+  private final Map<String, Integer> notificationIndexes = new HashMap<>();
+  private final List<String> notifications = new ArrayList<>();
+  private final Map<ObjectType, Integer> typeInstanceIndexes = new IdentityHashMap<>();
+  private final Map<String, Integer> typeIndexes = new HashMap<>();
+  private final List<String> types = new ArrayList<>();
+  private final Map<String, Integer> stereotypeIndexes = new HashMap<>();
+  private final List<StereotypeModel> stereotypes = new ArrayList<>();
+  private final List<Integer> stereotypeParents = new ArrayList<>();
+
+  /**
+   * @param serializeNulls whether the writers created through {@link #newJsonWriter(Writer)} should write {@code null} values,
+   *                        as the writer of the whole list does
+   */
+  ExtensionModelDictionaryBuilder(boolean serializeNulls) {
+    this.serializeNulls = serializeNulls;
+  }
+
+  /**
+   * @param writer the {@link Writer} to write to
+   * @return a {@link JsonWriter} to write an entry or an extension apart from the list, with the settings of the list writer
+   */
+  JsonWriter newJsonWriter(Writer writer) {
+    JsonWriter jsonWriter = new JsonWriter(writer);
+    jsonWriter.setSerializeNulls(serializeNulls);
+    return jsonWriter;
+  }
+
+  /**
+   * @param errorModel an error of an extension, whose parent is added on its own
+   * @return the index of the entry for the given {@code errorModel}
+   */
+  int errorIndex(ErrorModel errorModel) {
+    String key = serialize(errorModel) + ':' + errorModel.getParent().map(ErrorModelToIdentifierSerializer::serialize).orElse("")
+        + ':' + errorModel.isHandleable();
+    return indexOf(key, errorModel, errorIndexes, errors);
+  }
+
+  /**
+   * @param notification a notification of an extension, serialized in the context of that extension
+   * @return the index of the entry for the given {@code notification}
+   */
+  int notificationIndex(String notification) {
+    return indexOf(notification, notification, notificationIndexes, notifications);
+  }
+
+  /**
+   * @param type a type of the catalog of an extension, or imported by it
+   * @return the index of the entry for the given {@code type}
+   * @throws IOException if the type could not be serialized
+   */
+  int typeIndex(ObjectType type) throws IOException {
+    Integer index = typeInstanceIndexes.get(type);
+    if (index == null) {
+      StringWriter json = new StringWriter();
+      typeWriter.write(type, newJsonWriter(json));
+      index = indexOf(json.toString(), json.toString(), typeIndexes, types);
+      typeInstanceIndexes.put(type, index);
+    }
+    return index;
+  }
+
+  /**
+   * @param stereotype a stereotype of a component of an extension
+   * @return the index of the entry for the given {@code stereotype}
+   */
+  int stereotypeIndex(StereotypeModel stereotype) {
+    // parents are added first, so the reader has always built them by the time it finds their children
+    int parent = stereotype.getParent().map(this::stereotypeIndex).orElse(NO_PARENT);
+    String key = stereotype.getNamespace() + ':' + stereotype.getType() + ':' + parent;
+    Integer index = stereotypeIndexes.get(key);
+    if (index == null) {
+      index = stereotypes.size();
+      stereotypeIndexes.put(key, index);
+      stereotypes.add(stereotype);
+      stereotypeParents.add(parent);
+    }
+    return index;
+  }
+
+  /**
+   * Writes the dictionary with all the entries added so far.
+   *
+   * @param out the writer to write the dictionary to
+   * @throws IOException if the dictionary could not be written
+   */
+  void write(JsonWriter out) throws IOException {
+    out.beginObject();
+
+    out.name(ERRORS).beginArray();
+    for (ErrorModel errorModel : errors) {
+      writeError(out, errorModel);
+    }
+    out.endArray();
+
+    out.name(NOTIFICATIONS).beginArray();
+    for (String notification : notifications) {
+      out.jsonValue(notification);
+    }
+    out.endArray();
+
+    out.name(TYPES).beginArray();
+    for (String type : types) {
+      out.jsonValue(type);
+    }
+    out.endArray();
+
+    out.name(STEREOTYPES).beginArray();
+    for (int i = 0; i < stereotypes.size(); ++i) {
+      StereotypeModel stereotype = stereotypes.get(i);
+      out.beginObject();
+      out.name(TYPE).value(stereotype.getType());
+      out.name(NAMESPACE).value(stereotype.getNamespace());
+      if (stereotypeParents.get(i) != NO_PARENT) {
+        out.name(PARENT).value(stereotypeParents.get(i));
+      }
+      out.endObject();
+    }
+    out.endArray();
+
+    out.endObject();
+  }
+
+  private static <T> int indexOf(String key, T entry, Map<String, Integer> indexes, List<T> entries) {
+    Integer index = indexes.get(key);
+    if (index == null) {
+      index = entries.size();
+      indexes.put(key, index);
+      entries.add(entry);
+    }
+    return index;
+  }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static java.util.Collections.emptyList;
+
+import static com.google.gson.stream.JsonToken.NULL;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.google.gson.TypeAdapter;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * A {@link TypeAdapter} to handle a {@link List} of {@link ExtensionModel}s which share part of their content, as the ones of
+ * the same application do.
+ * <p>
+ * The list is written as an object with two members: the {@code dictionary}, described in {@link ExtensionModelDictionary}, and
+ * the {@code extensions}, each one written by the {@link ExtensionModelTypeAdapter} with references to the dictionary instead of
+ * its errors, notifications, types and stereotypes. The dictionary always comes first, so the extensions are read while
+ * streaming. Since the dictionary is only complete once all the extensions have been written, these are held in memory until
+ * then.
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelListTypeAdapter extends TypeAdapter<List<ExtensionModel>> {
+
+  private static final String DICTIONARY = "dictionary";
+  private static final String EXTENSIONS = "extensions";
+  private static final String INDENT = "  ";
+
+  private final ExtensionModelTypeAdapter extensionModelTypeAdapter;
+  private final boolean prettyPrint;
+
+  /**
+   * Creates a new instance, which can be used concurrently.
+   *
+   * @param extensionModelTypeAdapter the adapter to write and read each {@link ExtensionModel} with
+   * @param prettyPrint               whether the extensions should be written in a human readable format
+   */
+  public ExtensionModelListTypeAdapter(ExtensionModelTypeAdapter extensionModelTypeAdapter, boolean prettyPrint) {
+    this.extensionModelTypeAdapter = extensionModelTypeAdapter;
+    this.prettyPrint = prettyPrint;
+  }
+
+  @Override
+  public void write(JsonWriter out, List<ExtensionModel> extensionModels) throws IOException {
+    ExtensionModelDictionaryBuilder dictionary = new ExtensionModelDictionaryBuilder(out.getSerializeNulls());
+    List<String> extensions = new ArrayList<>(extensionModels.size());
+    for (ExtensionModel extensionModel : extensionModels) {
+      StringWriter extension = new StringWriter();
+      JsonWriter writer = dictionary.newJsonWriter(extension);
+      writer.setHtmlSafe(out.isHtmlSafe());
+      if (prettyPrint) {
+        writer.setIndent(INDENT);
+      }
+
+      if (extensionModel == null) {
+        writer.nullValue();
+      } else {
+        extensionModelTypeAdapter.write(writer, extensionModel, dictionary);
+      }
+      writer.flush();
+      extensions.add(extension.toString());
+    }
+
+    out.beginObject();
+    out.name(DICTIONARY);
+    dictionary.write(out);
+    out.name(EXTENSIONS).beginArray();
+    for (String extension : extensions) {
+      out.jsonValue(extension);
+    }
+    out.endArray();
+    out.endObject();
+  }
+
+  @Override
+  public List<ExtensionModel> read(JsonReader in) throws IOException {
+    ExtensionModelDictionary dictionary = null;
+    List<ExtensionModel> extensionModels = emptyList();
+
+    in.beginObject();
+    while (in.hasNext()) {
+      switch (in.nextName()) {
+        case DICTIONARY:
+          dictionary = ExtensionModelDictionary.read(in);
+          break;
+        case EXTENSIONS:
+          if (dictionary == null) {
+            throw new IllegalArgumentException("The 'dictionary' must come before the 'extensions' which reference it");
+          }
+          extensionModels = readExtensions(in, dictionary);
+          break;
+        default:
+          in.skipValue();
+      }
+    }
+    in.endObject();
+
+    return extensionModels;
+  }
+
+  private List<ExtensionModel> readExtensions(JsonReader in, ExtensionModelDictionary dictionary) throws IOException {
+    List<ExtensionModel> extensionModels = new ArrayList<>();
+
+    in.beginArray();
+    while (in.hasNext()) {
+      if (in.peek() == NULL) {
+        in.nextNull();
+        extensionModels.add(null);
+      } else {
+        extensionModels.add(extensionModelTypeAdapter.read(in, dictionary));
+      }
+    }
+    in.endArray();
+
+    return extensionModels;
+  }
+}
@@ -0,0 +1,210 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils.getId;
+
+import static java.util.Collections.emptySet;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.metadata.api.model.ObjectType;
+import org.mule.metadata.persistence.ObjectTypeReferenceHandler;
+import org.mule.metadata.persistence.SerializationContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.ImportedTypeModel;
+import org.mule.runtime.api.meta.model.error.ErrorModel;
+import org.mule.runtime.api.meta.model.notification.NotificationModel;
+import org.mule.runtime.extension.internal.model.ModelInterner;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import com.google.gson.Gson;
+
+/**
+ * Holds the state required to serialize or deserialize a single {@link ExtensionModel}: the {@link SerializationContext} in which
+ * the types catalog is registered, the {@link ObjectTypeReferenceHandler} that decides which types are written as references and
+ * the repositories of the {@link ErrorModel errors} and {@link NotificationModel notifications} declared by the extension.
+ * <p>
+ * This allows the {@link Gson} instances and its adapters to be built once and shared between threads. The adapters which need
+ * this state obtain it through {@link #current()}, which returns the context bound by the {@link ExtensionModelTypeAdapter} to
+ * the current thread for the duration of the operation.
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelSerializationContext {
+
+  private static final ThreadLocal<ExtensionModelSerializationContext> CURRENT = new ThreadLocal<>();
+
+  private final SerializationContext serializationContext;
+  private final ObjectTypeReferenceHandler referenceHandler;
+  private final Map<String, ErrorModel> errorModelRepository;
+  private final Map<String, NotificationModel> notificationModelRepository;
+  private Map<MetadataType, Integer> writtenTypes;
+  private List<MetadataType> readTypes;
+  private ModelInterner interner;
+  private ExtensionModelDictionaryBuilder dictionaryBuilder;
+  private ExtensionModelDictionary dictionary;
+
+  /**
+   * Creates a context for deserializing an {@link ExtensionModel}.
+   */
+  public ExtensionModelSerializationContext() {
+    this(new SerializationContext(), emptySet(), new HashMap<>(), new HashMap<>());
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param serializationContext        the {@link SerializationContext} to keep track of the references
+   * @param referenceableTypeIds        the ids of the {@link ObjectType} that can be written as references
+   * @param errorModelRepository        repository of the {@link ErrorModel errors}, by identifier
+   * @param notificationModelRepository repository of the {@link NotificationModel notifications}, by identifier
+   */
+  public ExtensionModelSerializationContext(SerializationContext serializationContext, Set<String> referenceableTypeIds,
+                                            Map<String, ErrorModel> errorModelRepository,
+                                            Map<String, NotificationModel> notificationModelRepository) {
+    this.serializationContext = serializationContext;
+    this.referenceHandler = new RestrictedTypesObjectTypeReferenceHandler(serializationContext, referenceableTypeIds);
+    this.errorModelRepository = errorModelRepository;
+    this.notificationModelRepository = notificationModelRepository;
+  }
+
+  /**
+   * Creates a context for serializing the given {@code extensionModel}. Only the types in its catalog and the ones it imports
+   * will be written as references.
+   *
+   * @param extensionModel the {@link ExtensionModel} to be serialized
+   * @return a new context
+   */
+  public static ExtensionModelSerializationContext forWriting(ExtensionModel extensionModel) {
+    SerializationContext serializationContext = new SerializationContext();
+    Set<String> referenceableTypeIds = new HashSet<>();
+
+    extensionModel.getTypes().forEach(type -> getId(type).ifPresent(referenceableTypeIds::add));
+    for (ImportedTypeModel importedTypeModel : extensionModel.getImportedTypes()) {
+      ObjectType type = importedTypeModel.getImportedType();
+      getId(type).ifPresent(referenceableTypeIds::add);
+      serializationContext.registerObjectType(type);
+    }
+
+    return new ExtensionModelSerializationContext(serializationContext, referenceableTypeIds, new HashMap<>(), new HashMap<>());
+  }
+
+  /**
+   * @return the context bound to the current thread
+   * @throws IllegalStateException if no {@link ExtensionModel} is being serialized or deserialized in the current thread
+   */
+  public static ExtensionModelSerializationContext current() {
+    ExtensionModelSerializationContext context = CURRENT.get();
+    if (context == null) {
+      throw new IllegalStateException("No ExtensionModel is being serialized or deserialized in the current thread");
+    }
+    return context;
+  }
+
+  /**
+   * Binds this context to the current thread.
+   *
+   * @return the context that was previously bound, to be passed to {@link #restore(ExtensionModelSerializationContext)}
+   */
+  ExtensionModelSerializationContext bind() {
+    ExtensionModelSerializationContext previous = CURRENT.get();
+    CURRENT.set(this);
+    return previous;
+  }
+
+  /**
+   * Restores the context that was bound to the current thread before {@link #bind()} was invoked.
+   *
+   * @param previous the value returned by {@link #bind()}
+   */
+  static void restore(ExtensionModelSerializationContext previous) {
+    if (previous == null) {
+      CURRENT.remove();
+    } else {
+      CURRENT.set(previous);
+    }
+  }
+
+  public SerializationContext getSerializationContext() {
+    return serializationContext;
+  }
+
+  public ObjectTypeReferenceHandler getReferenceHandler() {
+    return referenceHandler;
+  }
+
+  public Map<String, ErrorModel> getErrorModelRepository() {
+    return errorModelRepository;
+  }
+
+  public Map<String, NotificationModel> getNotificationModelRepository() {
+    return notificationModelRepository;
+  }
+
+  /**
+   * @return the {@link MetadataType} instances written so far, with the order in which they were written. Used to deduplicate
+   *         the types shared between components.
+   */
+  Map<MetadataType, Integer> getWrittenTypes() {
+    if (writtenTypes == null) {
+      writtenTypes = new IdentityHashMap<>();
+    }
+    return writtenTypes;
+  }
+
+  /**
+   * @return the {@link MetadataType} instances read so far, in the order in which they were read. Used to resolve the
+   *         deduplicated types shared between components.
+   */
+  List<MetadataType> getReadTypes() {
+    if (readTypes == null) {
+      readTypes = new ArrayList<>();
+    }
+    return readTypes;
+  }
+
+  /**
+   * @return the {@link ModelInterner} through which the deserialized model is canonicalized
+   */
+  ModelInterner getInterner() {
+    if (interner == null) {
+      interner = new ModelInterner();
+    }
+    return interner;
+  }
+
+  /**
+   * @return the builder of the dictionary of the list the {@link ExtensionModel} is being written as part of, or {@code null} if
+   *         it is being written on its own
+   */
+  ExtensionModelDictionaryBuilder getDictionaryBuilder() {
+    return dictionaryBuilder;
+  }
+
+  void setDictionaryBuilder(ExtensionModelDictionaryBuilder dictionaryBuilder) {
+    this.dictionaryBuilder = dictionaryBuilder;
+  }
+
+  /**
+   * @return the dictionary of the list the {@link ExtensionModel} is being read as part of, or {@code null} if it is being read
+   *         on its own
+   */
+  ExtensionModelDictionary getDictionary() {
+    return dictionary;
+  }
+
+  void setDictionary(ExtensionModelDictionary dictionary) {
+    this.dictionary = dictionary;
+  }
+}
@@ -8,10 +8,18 @@ package org.mule.runtime.extension.internal.persistence;
 
 import static org.mule.runtime.extension.api.ExtensionConstants.DEFAULT_SUPPORTED_JAVA_VERSIONS;
 import static org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils.getId;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.forWriting;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.restore;
 
 import static java.lang.String.format;
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyMap;
 import static java.util.Collections.emptySet;
+import static java.util.Collections.unmodifiableSet;
 
+import static com.google.gson.stream.JsonToken.NULL;
+
+import org.mule.metadata.api.model.MetadataType;
 import org.mule.metadata.api.model.ObjectType;
 import org.mule.metadata.persistence.JsonMetadataTypeLoader;
 import org.mule.metadata.persistence.JsonMetadataTypeWriter;
@@ -38,7 +46,10 @@ import org.mule.runtime.extension.api.model.ImmutableExtensionModel;
 import org.mule.runtime.extension.api.util.HierarchyClassMap;
 
 import java.io.IOException;
-import java.util.Collections;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -48,7 +59,6 @@ import java.util.stream.Collectors;
 import com.google.gson.Gson;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.TypeAdapter;
 import com.google.gson.reflect.TypeToken;
@@ -89,23 +99,69 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
   static final String NOTIFICATIONS = "notifications";
   private static final String ARTIFACT_COORDINATES = "artifactCoordinates";
 
+  private static final Set<String> TYPES_DEPENDENCIES = unmodifiableSet(new HashSet<>(asList(TYPES, IMPORTED_TYPES)));
+  private static final Set<String> COMPONENT_DEPENDENCIES =
+      unmodifiableSet(new HashSet<>(asList(TYPES, IMPORTED_TYPES, ERRORS, NOTIFICATIONS)));
+
   private final Gson gsonDelegate;
-  private final JsonMetadataTypeLoader typeLoader = new JsonMetadataTypeLoader();
-  private final JsonMetadataTypeWriter typeWriter = new JsonMetadataTypeWriter();
-  private final SerializationContext serializationContext;
-  private final ErrorModelSerializerDelegate errorModelDelegate;
-  private final NotificationModelSerializerDelegate notificationModelDelegate;
-
-  public ExtensionModelTypeAdapter(Gson gsonDelegate, SerializationContext serializationContext,
-                                   Map<String, ErrorModel> errorModelMap, Map<String, NotificationModel> notificationModelMap) {
+
+  /**
+   * Creates a new instance. The state of each serialization is kept in a {@link ExtensionModelSerializationContext}, which is
+   * bound to the current thread while an {@link ExtensionModel} is being read or written. Hence, as long as the adapters
+   * registered in the {@code gsonDelegate} obtain such state through {@link ExtensionModelSerializationContext#current()}, this
+   * instance can be used concurrently.
+   *
+   * @param gsonDelegate the {@link Gson} to use for the inner elements of the model
+   */
+  public ExtensionModelTypeAdapter(Gson gsonDelegate) {
     this.gsonDelegate = gsonDelegate;
-    this.serializationContext = serializationContext;
-    this.errorModelDelegate = new ErrorModelSerializerDelegate(errorModelMap);
-    this.notificationModelDelegate = new NotificationModelSerializerDelegate(notificationModelMap, gsonDelegate);
   }
 
   @Override
   public void write(JsonWriter out, ExtensionModel model) throws IOException {
+    write(out, model, forWriting(model));
+  }
+
+  /**
+   * Writes the given {@code model} as part of a list, adding the entries it shares with the other extensions of the list to the
+   * given {@code dictionary} and writing references to them instead.
+   *
+   * @param out        the writer to write the model to
+   * @param model      the {@link ExtensionModel} to write
+   * @param dictionary the dictionary of the list
+   */
+  void write(JsonWriter out, ExtensionModel model, ExtensionModelDictionaryBuilder dictionary) throws IOException {
+    ExtensionModelSerializationContext context = forWriting(model);
+    context.setDictionaryBuilder(dictionary);
+    write(out, model, context);
+  }
+
+  private void write(JsonWriter out, ExtensionModel model, ExtensionModelSerializationContext context) throws IOException {
+    ExtensionModelSerializationContext previous = context.bind();
+    try {
+      doWrite(out, model, context, true);
+    } finally {
+      restore(previous);
+    }
+  }
+
+  /**
+   * Writes the given {@code model} without its configurations, operations, functions, constructs, connection providers and
+   * message sources, which the caller is expected to write on its own while the given {@code context} is still bound.
+   *
+   * @param out     the writer to write the model to
+   * @param model   the {@link ExtensionModel} to write
+   * @param context the {@link ExtensionModelSerializationContext} bound to the current thread
+   */
+  void writeWithoutComponents(JsonWriter out, ExtensionModel model, ExtensionModelSerializationContext context)
+      throws IOException {
+    doWrite(out, model, context, false);
+  }
+
+  private void doWrite(JsonWriter out, ExtensionModel model, ExtensionModelSerializationContext context,
+                       boolean includeComponents)
+      throws IOException {
+    JsonMetadataTypeWriter typeWriter = new JsonMetadataTypeWriter();
     out.beginObject();
 
     out.name(NAME).value(model.getName());
@@ -125,157 +181,462 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
     writeWithDelegate(model.getCategory(), CATEGORY, out, new TypeToken<Category>() {});
     writeWithDelegate(model.getXmlDslModel(), XML_DSL, out, new TypeToken<XmlDslModel>() {});
     writeWithDelegate(model.getResources(), RESOURCES, out, new TypeToken<Set<String>>() {});
-    writeWithDelegate(model.getSubTypes(), SUB_TYPES, out, new TypeToken<Set<SubTypesModel>>() {});
     writeWithDelegate(model.getPrivilegedPackages(), PRIVILEGED_PACKAGES, out, new TypeToken<Set<String>>() {});
     writeWithDelegate(model.getPrivilegedArtifacts(), PRIVILEGED_ARTIFACTS, out, new TypeToken<Set<String>>() {});
     writeWithDelegate(model.getExternalLibraryModels(), EXTERNAL_LIBRARIES, out, new TypeToken<Set<ExternalLibraryModel>>() {});
 
-    writeImportedTypes(out, model.getImportedTypes());
+    // The types, errors and notifications are referenced from the rest of the model. Writing them first allows the reader to
+    // resolve those references while streaming, instead of having to buffer the sections which use them.
+    ExtensionModelDictionaryBuilder dictionary = context.getDictionaryBuilder();
+    NotificationModelSerializerDelegate notificationModelDelegate =
+        new NotificationModelSerializerDelegate(context.getNotificationModelRepository(), gsonDelegate);
+    ErrorModelSerializerDelegate errorModelDelegate = new ErrorModelSerializerDelegate(context.getErrorModelRepository());
+    if (dictionary == null) {
+      writeTypes(TYPES, out, model.getTypes(), typeWriter);
+      writeTypes(IMPORTED_TYPES, out, importedTypesOf(model), typeWriter);
+      notificationModelDelegate.writeNotifications(model.getNotificationModels(), out);
+      errorModelDelegate.writeErrors(model.getErrorModels(), out);
+    } else {
+      writeTypeReferences(TYPES, out, model.getTypes(), dictionary);
+      writeTypeReferences(IMPORTED_TYPES, out, importedTypesOf(model), dictionary);
+      notificationModelDelegate.writeNotificationReferences(model.getNotificationModels(), out, dictionary);
+      errorModelDelegate.writeErrorReferences(model.getErrorModels(), out, dictionary);
+    }
 
+    writeWithDelegate(model.getSubTypes(), SUB_TYPES, out, new TypeToken<Set<SubTypesModel>>() {});
     writeWithDelegate(model.getDisplayModel().orElse(null), DISPLAY_MODEL, out, new TypeToken<DisplayModel>() {});
-    writeWithDelegate(model.getConfigurationModels(), CONFIGURATIONS, out, new TypeToken<List<ConfigurationModel>>() {});
-    writeWithDelegate(model.getOperationModels(), OPERATIONS, out, new TypeToken<List<OperationModel>>() {});
-    writeWithDelegate(model.getFunctionModels(), FUNCTIONS, out, new TypeToken<List<FunctionModel>>() {});
-    writeWithDelegate(model.getConstructModels(), CONSTRUCTS, out, new TypeToken<List<ConstructModel>>() {});
-    writeWithDelegate(model.getConnectionProviders(), CONNECTION_PROVIDERS, out,
-                      new TypeToken<List<ConnectionProviderModel>>() {});
-    writeWithDelegate(model.getSourceModels(), MESSAGE_SOURCES, out, new TypeToken<List<SourceModel>>() {});
+    if (includeComponents) {
+      writeWithDelegate(model.getConfigurationModels(), CONFIGURATIONS, out, new TypeToken<List<ConfigurationModel>>() {});
+      writeWithDelegate(model.getOperationModels(), OPERATIONS, out, new TypeToken<List<OperationModel>>() {});
+      writeWithDelegate(model.getFunctionModels(), FUNCTIONS, out, new TypeToken<List<FunctionModel>>() {});
+      writeWithDelegate(model.getConstructModels(), CONSTRUCTS, out, new TypeToken<List<ConstructModel>>() {});
+      writeWithDelegate(model.getConnectionProviders(), CONNECTION_PROVIDERS, out,
+                        new TypeToken<List<ConnectionProviderModel>>() {});
+      writeWithDelegate(model.getSourceModels(), MESSAGE_SOURCES, out, new TypeToken<List<SourceModel>>() {});
+    }
 
     if (model.getArtifactCoordinates().isPresent()) {
       writeWithDelegate(model.getArtifactCoordinates().get(), ARTIFACT_COORDINATES, out, new TypeToken<ArtifactCoordinates>() {});
     }
 
-    notificationModelDelegate.writeNotifications(model.getNotificationModels(), out);
-    errorModelDelegate.writeErrors(model.getErrorModels(), out);
     writeExtensionLevelModelProperties(out, model);
-    writeTypes(TYPES, out, model.getTypes());
     out.endObject();
   }
 
+  /**
+   * Reads the {@link ExtensionModel}, section by section.
+   * <p>
+   * Sections are consumed from the stream in the order in which they appear. The ones which reference the types catalog, the
+   * errors or the notifications (components, subtypes and model properties) can only be parsed after those. Documents written
+   * by this adapter have them at the beginning, so they are streamed without materializing the document in memory.
+   * <p>
+   * Documents with the legacy layout, in which the types catalog is the last section, are still supported but not streamed:
+   * every section which depends on a section not yet read is held as a {@link JsonElement} tree until the end of the document.
+   * Since that includes all the components, reading them costs about as much memory as parsing the whole document. Such
+   * documents stream once they are written again by this adapter.
+   */
   @Override
   public ExtensionModel read(JsonReader in) throws IOException {
-    JsonObject json = new JsonParser().parse(in).getAsJsonObject();
-
-    Set<ObjectType> types = parseTypes(TYPES, json);
-    MuleVersion minMuleVersion = null;
-    if (json.has(MIN_MULE_VERSION)) {
-      minMuleVersion = new MuleVersion(json.get(MIN_MULE_VERSION).getAsString());
+    ExtensionModelSerializationContext context = new ExtensionModelSerializationContext();
+    ExtensionModelSerializationContext previous = context.bind();
+    try {
+      return read(in, context);
+    } finally {
+      restore(previous);
     }
+  }
 
-    Map<String, NotificationModel> parsedNotifications;
-    if (json.has(NOTIFICATIONS)) {
-      JsonArray notifications = json.get(NOTIFICATIONS).getAsJsonArray();
-      parsedNotifications = notificationModelDelegate.parseNotifications(notifications);
-    } else {
-      parsedNotifications = Collections.emptyMap();
+  /**
+   * Reads an {@link ExtensionModel} using the given {@code context}, which must be bound to the current thread. Once this
+   * method returns, the {@code context} holds the types catalog, errors and notifications of the read model, so it can be used
+   * to read components of that model which were written apart.
+   *
+   * @param in      the reader to read the model from
+   * @param context the {@link ExtensionModelSerializationContext} bound to the current thread
+   * @return the read {@link ExtensionModel}
+   */
+  ExtensionModel read(JsonReader in, ExtensionModelSerializationContext context) throws IOException {
+    return new ExtensionModelReader(context).read(in);
+  }
+
+  /**
+   * Reads an {@link ExtensionModel} written as part of a list, resolving the references to the given {@code dictionary}.
+   *
+   * @param in         the reader to read the model from
+   * @param dictionary the dictionary of the list
+   * @return the read {@link ExtensionModel}
+   */
+  ExtensionModel read(JsonReader in, ExtensionModelDictionary dictionary) throws IOException {
+    ExtensionModelSerializationContext context = new ExtensionModelSerializationContext();
+    context.setDictionary(dictionary);
+    ExtensionModelSerializationContext previous = context.bind();
+    try {
+      return read(in, context);
+    } finally {
+      restore(previous);
     }
+  }
 
-    JsonArray errors = json.get(ERRORS).getAsJsonArray();
-
-    Map<String, ErrorModel> parsedErrors = errorModelDelegate.parseErrors(errors);
-
-    Set<ImportedTypeModel> importedTypes = parseImportedTypes(json);
-    Set<String> resources = parseWithDelegate(json, RESOURCES, new TypeToken<Set<String>>() {});
-    Set<SubTypesModel> subTypes = parseWithDelegate(json, SUB_TYPES, new TypeToken<Set<SubTypesModel>>() {});
-    Set<String> privilegedPackages = parseWithDelegate(json, PRIVILEGED_PACKAGES, new TypeToken<Set<String>>() {});
-    Set<String> privilegedArtifacts = parseWithDelegate(json, PRIVILEGED_ARTIFACTS, new TypeToken<Set<String>>() {});
-    Set<ExternalLibraryModel> externalLibraries =
-        parseWithDelegate(json, EXTERNAL_LIBRARIES, new TypeToken<Set<ExternalLibraryModel>>() {});
-    List<ConfigurationModel> configs = parseWithDelegate(json, CONFIGURATIONS, new TypeToken<List<ConfigurationModel>>() {});
-    List<OperationModel> operations = parseWithDelegate(json, OPERATIONS, new TypeToken<List<OperationModel>>() {});
-    List<ConnectionProviderModel> providers =
-        parseWithDelegate(json, CONNECTION_PROVIDERS, new TypeToken<List<ConnectionProviderModel>>() {});
-    List<SourceModel> sources = parseWithDelegate(json, MESSAGE_SOURCES, new TypeToken<List<SourceModel>>() {});
-    List<FunctionModel> functions = parseWithDelegate(json, FUNCTIONS, new TypeToken<List<FunctionModel>>() {});
-    List<ConstructModel> constructs = parseWithDelegate(json, CONSTRUCTS, new TypeToken<List<ConstructModel>>() {});
-    ArtifactCoordinates coordinates = parseWithDelegate(json, ARTIFACT_COORDINATES, new TypeToken<ArtifactCoordinates>() {});
-
-    return new ImmutableExtensionModel(json.get(NAME).getAsString(),
-                                       json.get(DESCRIPTION).getAsString(),
-                                       json.get(VERSION).getAsString(),
-                                       json.get(VENDOR).getAsString(),
-                                       gsonDelegate.fromJson(json.get(CATEGORY), Category.class),
-                                       configs,
-                                       operations,
-                                       providers,
-                                       sources,
-                                       functions,
-                                       constructs,
-                                       gsonDelegate.fromJson(json.get(DISPLAY_MODEL), DisplayModel.class),
-                                       gsonDelegate.fromJson(json.get(XML_DSL), XmlDslModel.class),
-                                       subTypes,
-                                       types,
-                                       resources,
-                                       importedTypes,
-                                       new LinkedHashSet<>(parsedErrors.values()),
-                                       externalLibraries,
-                                       privilegedPackages, privilegedArtifacts, parseExtensionLevelModelProperties(json),
-                                       new LinkedHashSet<>(parsedNotifications.values()),
-                                       null,
-                                       coordinates,
-                                       minMuleVersion,
-                                       parseSupportedJavaVersions(json));
+  private static Set<String> dependenciesOf(String section) {
+    switch (section) {
+      case CONFIGURATIONS:
+      case OPERATIONS:
+      case FUNCTIONS:
+      case CONSTRUCTS:
+      case CONNECTION_PROVIDERS:
+      case MESSAGE_SOURCES:
+        return COMPONENT_DEPENDENCIES;
+      case SUB_TYPES:
+      case NOTIFICATIONS:
+      case MODEL_PROPERTIES:
+        return TYPES_DEPENDENCIES;
+      default:
+        return emptySet();
+    }
   }
 
-  private <T> T parseWithDelegate(JsonObject json, String elementName, TypeToken<T> typeToken) {
-    JsonElement element = json.get(elementName);
-    if (element != null) {
-      return gsonDelegate.fromJson(element, typeToken.getType());
+  /**
+   * Holds the state of a single {@link #read(JsonReader)} invocation.
+   */
+  private final class ExtensionModelReader {
+
+    private final SerializationContext serializationContext;
+    private final ExtensionModelDictionary dictionary;
+    private final ErrorModelSerializerDelegate errorModelDelegate;
+    private final NotificationModelSerializerDelegate notificationModelDelegate;
+    private final JsonMetadataTypeLoader typeLoader = new JsonMetadataTypeLoader();
+    private final Set<String> readSections = new HashSet<>();
+    private final Map<String, JsonElement> deferredSections = new LinkedHashMap<>();
+
+    private String name;
+    private String description;
+    private String version;
+    private String vendor;
+    private MuleVersion minMuleVersion;
+    private Set<String> supportedJavaVersions = DEFAULT_SUPPORTED_JAVA_VERSIONS;
+    private Category category;
+    private XmlDslModel xmlDslModel;
+    private DisplayModel displayModel;
+    private ArtifactCoordinates coordinates;
+    private Set<ObjectType> types = emptySet();
+    private Set<ImportedTypeModel> importedTypes = emptySet();
+    private Set<String> resources;
+    private Set<String> privilegedPackages;
+    private Set<String> privilegedArtifacts;
+    private Set<ExternalLibraryModel> externalLibraries;
+    private Set<SubTypesModel> subTypes;
+    private List<ConfigurationModel> configs;
+    private List<OperationModel> operations;
+    private List<ConnectionProviderModel> providers;
+    private List<SourceModel> sources;
+    private List<FunctionModel> functions;
+    private List<ConstructModel> constructs;
+    private Set<ModelProperty> modelProperties = emptySet();
+    private Map<String, ErrorModel> parsedErrors = emptyMap();
+    private Map<String, NotificationModel> parsedNotifications = emptyMap();
+
+    private ExtensionModelReader(ExtensionModelSerializationContext context) {
+      serializationContext = context.getSerializationContext();
+      dictionary = context.getDictionary();
+      errorModelDelegate = new ErrorModelSerializerDelegate(context.getErrorModelRepository());
+      notificationModelDelegate = new NotificationModelSerializerDelegate(context.getNotificationModelRepository(), gsonDelegate);
     }
 
-    return null;
-  }
+    private ExtensionModel read(JsonReader in) throws IOException {
+      in.beginObject();
+      while (in.hasNext()) {
+        String section = in.nextName();
+        if (in.peek() == NULL) {
+          in.nextNull();
+        } else if (isResolvable(section)) {
+          readSection(section, in);
+          readSections.add(section);
+          flushDeferredSections(false);
+        } else {
+          deferredSections.put(section, new JsonParser().parse(in));
+        }
+      }
+      in.endObject();
+
+      flushDeferredSections(true);
+
+      return new ImmutableExtensionModel(name,
+                                         description,
+                                         version,
+                                         vendor,
+                                         category,
+                                         configs,
+                                         operations,
+                                         providers,
+                                         sources,
+                                         functions,
+                                         constructs,
+                                         displayModel,
+                                         xmlDslModel,
+                                         subTypes,
+                                         types,
+                                         resources,
+                                         importedTypes,
+                                         new LinkedHashSet<>(parsedErrors.values()),
+                                         externalLibraries,
+                                         privilegedPackages, privilegedArtifacts, modelProperties,
+                                         new LinkedHashSet<>(parsedNotifications.values()),
+                                         null,
+                                         coordinates,
+                                         minMuleVersion,
+                                         supportedJavaVersions);
+    }
 
-  private <T> void writeWithDelegate(T value, String elementName, JsonWriter out, TypeToken<T> typeToken) throws IOException {
-    out.name(elementName);
-    gsonDelegate.toJson(value, typeToken.getType(), out);
-  }
+    private boolean isResolvable(String section) {
+      return readSections.containsAll(dependenciesOf(section));
+    }
+
+    /**
+     * Parses the buffered sections which dependencies are now available. Notifications go first since the components may
+     * reference them. When {@code force} is {@code true} the whole document has already been read, so everything that is still
+     * pending gets parsed.
+     */
+    private void flushDeferredSections(boolean force) throws IOException {
+      if (deferredSections.isEmpty()) {
+        return;
+      }
+
+      if (deferredSections.containsKey(NOTIFICATIONS) && (force || isResolvable(NOTIFICATIONS))) {
+        JsonArray notifications = deferredSections.remove(NOTIFICATIONS).getAsJsonArray();
+        if (dictionary != null) {
+          List<Integer> indexes = new ArrayList<>(notifications.size());
+          notifications.forEach(index -> indexes.add(index.getAsInt()));
+          notifications = dictionary.getNotifications(indexes);
+        }
+        parsedNotifications = notificationModelDelegate.parseNotifications(notifications);
+        readSections.add(NOTIFICATIONS);
+      }
+
+      Iterator<Map.Entry<String, JsonElement>> deferred = deferredSections.entrySet().iterator();
+      while (deferred.hasNext()) {
+        Map.Entry<String, JsonElement> entry = deferred.next();
+        if (force || isResolvable(entry.getKey())) {
+          deferred.remove();
+          JsonElement element = entry.getValue();
+          readDelegateSection(entry.getKey(), new SectionSource() {
+
+            @Override
+            <T> T read(TypeToken<T> typeToken) {
+              return gsonDelegate.fromJson(element, typeToken.getType());
+            }
+          });
+          readSections.add(entry.getKey());
+        }
+      }
+    }
+
+    private void readSection(String section, JsonReader in) throws IOException {
+      switch (section) {
+        case NAME:
+          name = in.nextString();
+          break;
+        case DESCRIPTION:
+          description = in.nextString();
+          break;
+        case VERSION:
+          version = in.nextString();
+          break;
+        case VENDOR:
+          vendor = in.nextString();
+          break;
+        case MIN_MULE_VERSION:
+          minMuleVersion = new MuleVersion(in.nextString());
+          break;
+        case SUPPORTED_JAVA_VERSIONS:
+          supportedJavaVersions = readSupportedJavaVersions(in);
+          break;
+        case TYPES:
+          types = dictionary == null ? readTypes(in) : readTypeReferences(in);
+          break;
+        case IMPORTED_TYPES:
+          importedTypes = toImportedTypes(dictionary == null ? readTypes(in) : readTypeReferences(in));
+          break;
+        case ERRORS:
+          parsedErrors = dictionary == null
+              ? errorModelDelegate.parseErrors(in)
+              : errorModelDelegate.buildErrors(dictionary.getErrors(readIndexes(in)));
+          break;
+        case NOTIFICATIONS:
+          parsedNotifications = dictionary == null
+              ? notificationModelDelegate.parseNotifications(in)
+              : notificationModelDelegate.parseNotifications(dictionary.getNotifications(readIndexes(in)));
+          break;
+        default:
+          boolean known = readDelegateSection(section, new SectionSource() {
+
+            @Override
+            <T> T read(TypeToken<T> typeToken) {
+              return gsonDelegate.fromJson(in, typeToken.getType());
+            }
+          });
+          if (!known) {
+            in.skipValue();
+          }
+      }
+    }
 
-  private Set<ObjectType> parseTypes(String label, JsonObject json) {
-    final Set<ObjectType> types = new LinkedHashSet<>();
-    final JsonElement jsonElement = json.get(label);
-    JsonArray typesArray = jsonElement != null ? jsonElement.getAsJsonArray() : null;
+    private Set<ObjectType> readTypes(JsonReader in) throws IOException {
+      final Set<ObjectType> types = new LinkedHashSet<>();
+      final JsonParser parser = new JsonParser();
+
+      in.beginArray();
+      while (in.hasNext()) {
+        // each type is self contained, so only one of them needs to be held as a tree at a time
+        typeLoader.load(parser.parse(in)).ifPresent(type -> {
+          final ObjectType objectType = asCatalogType(type);
+          serializationContext.registerObjectType(objectType);
+          types.add(objectType);
+        });
+      }
+      in.endArray();
 
-    if (typesArray == null) {
-      return emptySet();
+      return types;
     }
 
-    typesArray.forEach(typeElement -> typeLoader.load(typeElement).ifPresent(type -> {
-      if (!(type instanceof ObjectType)) {
-        throw new IllegalArgumentException(format("Was expecting an object type but %s was found instead",
-                                                  type.getClass().getSimpleName()));
+    private Set<ObjectType> readTypeReferences(JsonReader in) throws IOException {
+      final Set<ObjectType> types = new LinkedHashSet<>();
+
+      in.beginArray();
+      while (in.hasNext()) {
+        ObjectType type = dictionary.loadType(in.nextInt());
+        if (type != null) {
+          serializationContext.registerObjectType(type);
+          types.add(type);
+        }
       }
-      getId(type)
-          .orElseThrow(() -> new IllegalArgumentException("Invalid json element found in 'types', only ObjectTypes "
-              + "with a 'typeId' can be part of the 'types' catalog"));
+      in.endArray();
 
-      final ObjectType objectType = (ObjectType) type;
-      serializationContext.registerObjectType(objectType);
-      types.add(objectType);
-    }));
+      return types;
+    }
 
-    return types;
-  }
+    private List<Integer> readIndexes(JsonReader in) throws IOException {
+      final List<Integer> indexes = new ArrayList<>();
 
-  private Set<String> parseSupportedJavaVersions(JsonObject json) {
-    JsonArray array = json.getAsJsonArray(SUPPORTED_JAVA_VERSIONS);
-    if (array == null) {
-      return DEFAULT_SUPPORTED_JAVA_VERSIONS;
+      in.beginArray();
+      while (in.hasNext()) {
+        indexes.add(in.nextInt());
+      }
+      in.endArray();
+
+      return indexes;
     }
 
+    /**
+     * Parses a section which is handled by the {@link #gsonDelegate}.
+     *
+     * @return whether the section is a known one
+     */
+    private boolean readDelegateSection(String section, SectionSource source) {
+      switch (section) {
+        case CATEGORY:
+          category = source.read(new TypeToken<Category>() {});
+          break;
+        case XML_DSL:
+          xmlDslModel = source.read(new TypeToken<XmlDslModel>() {});
+          break;
+        case DISPLAY_MODEL:
+          displayModel = source.read(new TypeToken<DisplayModel>() {});
+          break;
+        case ARTIFACT_COORDINATES:
+          coordinates = source.read(new TypeToken<ArtifactCoordinates>() {});
+          break;
+        case RESOURCES:
+          resources = source.read(new TypeToken<Set<String>>() {});
+          break;
+        case PRIVILEGED_PACKAGES:
+          privilegedPackages = source.read(new TypeToken<Set<String>>() {});
+          break;
+        case PRIVILEGED_ARTIFACTS:
+          privilegedArtifacts = source.read(new TypeToken<Set<String>>() {});
+          break;
+        case EXTERNAL_LIBRARIES:
+          externalLibraries = source.read(new TypeToken<Set<ExternalLibraryModel>>() {});
+          break;
+        case SUB_TYPES:
+          subTypes = source.read(new TypeToken<Set<SubTypesModel>>() {});
+          break;
+        case CONFIGURATIONS:
+          configs = source.read(new TypeToken<List<ConfigurationModel>>() {});
+          break;
+        case OPERATIONS:
+          operations = source.read(new TypeToken<List<OperationModel>>() {});
+          break;
+        case CONNECTION_PROVIDERS:
+          providers = source.read(new TypeToken<List<ConnectionProviderModel>>() {});
+          break;
+        case MESSAGE_SOURCES:
+          sources = source.read(new TypeToken<List<SourceModel>>() {});
+          break;
+        case FUNCTIONS:
+          functions = source.read(new TypeToken<List<FunctionModel>>() {});
+          break;
+        case CONSTRUCTS:
+          constructs = source.read(new TypeToken<List<ConstructModel>>() {});
+          break;
+        case MODEL_PROPERTIES:
+          Map<Class<? extends ModelProperty>, ModelProperty> properties =
+              source.read(new TypeToken<Map<Class<? extends ModelProperty>, ModelProperty>>() {});
+          modelProperties = properties != null ? new LinkedHashSet<>(properties.values()) : emptySet();
+          break;
+        default:
+          return false;
+      }
+      return true;
+    }
+  }
+
+  /**
+   * Abstracts where a section is parsed from: either the stream being read or a buffered tree.
+   */
+  private abstract static class SectionSource {
+
+    abstract <T> T read(TypeToken<T> typeToken);
+  }
+
+  private <T> void writeWithDelegate(T value, String elementName, JsonWriter out, TypeToken<T> typeToken) throws IOException {
+    out.name(elementName);
+    gsonDelegate.toJson(value, typeToken.getType(), out);
+  }
+
+  private Set<String> readSupportedJavaVersions(JsonReader in) throws IOException {
     Set<String> versions = new LinkedHashSet<>();
-    array.forEach(version -> versions.add(version.getAsString()));
+    in.beginArray();
+    while (in.hasNext()) {
+      versions.add(in.nextString());
+    }
+    in.endArray();
 
     return versions.isEmpty() ? DEFAULT_SUPPORTED_JAVA_VERSIONS : versions;
   }
 
-  private Set<ImportedTypeModel> parseImportedTypes(JsonObject json) {
-    return parseTypes(IMPORTED_TYPES, json)
-        .stream().map(ImportedTypeModel::new)
-        .collect(Collectors.toSet());
+  /**
+   * @param type a type read from the types catalog of an extension, or from the ones it imports
+   * @return the given {@code type}, as an {@link ObjectType}
+   * @throws IllegalArgumentException if the {@code type} is not an {@link ObjectType} with an id
+   */
+  static ObjectType asCatalogType(MetadataType type) {
+    if (!(type instanceof ObjectType)) {
+      throw new IllegalArgumentException(format("Was expecting an object type but %s was found instead",
+                                                type.getClass().getSimpleName()));
+    }
+    getId(type)
+        .orElseThrow(() -> new IllegalArgumentException("Invalid json element found in 'types', only ObjectTypes "
+            + "with a 'typeId' can be part of the 'types' catalog"));
+
+    return (ObjectType) type;
+  }
+
+  private Set<ImportedTypeModel> toImportedTypes(Set<ObjectType> types) {
+    return types.stream().map(ImportedTypeModel::new).collect(Collectors.toSet());
   }
 
-  private void writeTypes(String label, JsonWriter out, Set<ObjectType> additionalTypes) throws IOException {
+  private void writeTypes(String label, JsonWriter out, Set<ObjectType> additionalTypes, JsonMetadataTypeWriter typeWriter)
+      throws IOException {
     out.name(label);
     out.beginArray();
     final Set<ObjectType> objectTypes = new LinkedHashSet<>();
@@ -286,11 +647,22 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
     out.endArray();
   }
 
-  private void writeImportedTypes(JsonWriter out, Set<ImportedTypeModel> importedTypeModels) throws IOException {
-    writeTypes(IMPORTED_TYPES, out, importedTypeModels
+  private void writeTypeReferences(String label, JsonWriter out, Set<ObjectType> types,
+                                   ExtensionModelDictionaryBuilder dictionary)
+      throws IOException {
+    out.name(label);
+    out.beginArray();
+    for (ObjectType type : types) {
+      out.value(dictionary.typeIndex(type));
+    }
+    out.endArray();
+  }
+
+  private Set<ObjectType> importedTypesOf(ExtensionModel model) {
+    return model.getImportedTypes()
         .stream()
         .map(ImportedTypeModel::getImportedType)
-        .collect(Collectors.toCollection(LinkedHashSet::new)));
+        .collect(Collectors.toCollection(LinkedHashSet::new));
   }
 
   private void writeExtensionLevelModelProperties(JsonWriter out, ExtensionModel model) throws IOException {
@@ -301,12 +673,4 @@ public final class ExtensionModelTypeAdapter extends TypeAdapter<ExtensionModel>
 
     }.getType(), out);
   }
-
-  private Set<ModelProperty> parseExtensionLevelModelProperties(JsonObject json) {
-    Map<Class<? extends ModelProperty>, ModelProperty> properties =
-        gsonDelegate.fromJson(json.get(MODEL_PROPERTIES), new TypeToken<Map<Class<? extends ModelProperty>, ModelProperty>>() {
-
-        }.getType());
-    return new LinkedHashSet<>(properties.values());
-  }
 }
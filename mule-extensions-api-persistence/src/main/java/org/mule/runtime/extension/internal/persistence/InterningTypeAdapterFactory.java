@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.current;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.meta.model.ParameterDslConfiguration;
+import org.mule.runtime.api.meta.model.display.DisplayModel;
+import org.mule.runtime.api.meta.model.display.LayoutModel;
+import org.mule.runtime.api.meta.model.stereotype.StereotypeModel;
+import org.mule.runtime.extension.internal.model.ModelInterner;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * {@link TypeAdapterFactory} which canonicalizes the deserialized instances of the types handled by a {@link ModelInterner}, the
+ * same way as it is done when an extension model is built from its declaration. The {@link ModelInterner} is the one of the
+ * {@link ExtensionModelSerializationContext#current() current context}.
+ * <p>
+ * It wraps the adapters of the factories registered before it, so it must be registered after them. Serialization is not
+ * affected.
+ *
+ * @since 1.10
+ */
+public final class InterningTypeAdapterFactory implements TypeAdapterFactory {
+
+  private static final Set<Class<?>> INTERNED_TYPES = new HashSet<>(Arrays.asList(LayoutModel.class,
+                                                                                  DisplayModel.class,
+                                                                                  ParameterDslConfiguration.class,
+                                                                                  StereotypeModel.class,
+                                                                                  MetadataType.class));
+
+  @Override
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    if (!INTERNED_TYPES.contains(type.getRawType())) {
+      return null;
+    }
+
+    final TypeAdapter<T> delegate = gson.getDelegateAdapter(this, type);
+    return new TypeAdapter<T>() {
+
+      @Override
+      public void write(JsonWriter out, T value) throws IOException {
+        delegate.write(out, value);
+      }
+
+      @Override
+      public T read(JsonReader in) throws IOException {
+        return current().getInterner().intern(delegate.read(in));
+      }
+    };
+  }
+}
@@ -0,0 +1,209 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.metadata.persistence.MetadataTypeGsonTypeAdapter;
+import org.mule.metadata.persistence.reduced.ReducedMetadataTypeGsonTypeAdapter;
+import org.mule.metadata.persistence.type.adapter.OptionalTypeAdapterFactory;
+import org.mule.runtime.api.meta.MuleVersion;
+import org.mule.runtime.api.meta.model.OutputModel;
+import org.mule.runtime.api.meta.model.deprecated.DeprecationModel;
+import org.mule.runtime.api.meta.model.error.ErrorModel;
+import org.mule.runtime.api.meta.model.error.ImmutableErrorModel;
+import org.mule.runtime.api.meta.model.notification.NotificationModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.parameter.ActingParameterModel;
+import org.mule.runtime.api.meta.model.parameter.ExclusiveParametersModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.api.meta.model.source.SourceCallbackModel;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.api.meta.model.stereotype.ImmutableStereotypeModel;
+import org.mule.runtime.api.meta.model.stereotype.StereotypeModel;
+import org.mule.runtime.api.metadata.MetadataKey;
+import org.mule.runtime.api.metadata.resolving.MetadataFailure;
+import org.mule.runtime.api.value.ImmutableValueResult;
+import org.mule.runtime.api.value.Value;
+import org.mule.runtime.api.value.ValueResult;
+import org.mule.runtime.extension.api.model.ImmutableOutputModel;
+import org.mule.runtime.extension.api.model.deprecated.ImmutableDeprecationModel;
+import org.mule.runtime.extension.api.model.notification.ImmutableNotificationModel;
+import org.mule.runtime.extension.api.model.operation.ImmutableOperationModel;
+import org.mule.runtime.extension.api.model.parameter.ImmutableActingParameterModel;
+import org.mule.runtime.extension.api.model.parameter.ImmutableExclusiveParametersModel;
+import org.mule.runtime.extension.api.model.parameter.ImmutableParameterGroupModel;
+import org.mule.runtime.extension.api.model.parameter.ImmutableParameterModel;
+import org.mule.runtime.extension.api.model.source.ImmutableSourceCallbackModel;
+import org.mule.runtime.extension.api.model.source.ImmutableSourceModel;
+import org.mule.runtime.extension.internal.persistence.metadata.ComponentMetadataTypesTypeAdapterFactory;
+import org.mule.runtime.extension.internal.persistence.metadata.ComponentResultTypeAdapterFactory;
+import org.mule.runtime.extension.internal.persistence.metadata.FailureCodeTypeAdapterFactory;
+import org.mule.runtime.extension.internal.persistence.metadata.MetadataKeyTypeAdapter;
+import org.mule.runtime.extension.internal.persistence.metadata.TypeMetadata;
+import org.mule.runtime.extension.internal.persistence.value.ValueTypeAdapter;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.IntFunction;
+
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.TypeAdapter;
+import com.google.gson.reflect.TypeToken;
+
+/**
+ * Keeps the {@link Gson} instances used by the metadata and value result serializers, so that they are shared by every
+ * serializer instead of being built each time a serializer is created.
+ * <p>
+ * There is one {@link Gson} for each combination of the options of the serializers. Each one is built the first time it's
+ * needed, or by {@link #warmUp()}. {@link Gson} instances are immutable and thread-safe, and so are all the type adapters
+ * registered in them, so they can be shared by serializers used concurrently.
+ *
+ * @since 1.10
+ */
+public final class JsonSerializersRegistry {
+
+  private static final int PRETTY_PRINT = 1;
+  private static final int REDUCED = 2;
+
+  private static final AtomicReferenceArray<Gson> METADATA_RESULT_GSONS = new AtomicReferenceArray<>(4);
+  private static final AtomicReferenceArray<Gson> VALUE_RESULT_GSONS = new AtomicReferenceArray<>(2);
+  private static final Gson DEFAULT_GSON = new GsonBuilder().create();
+
+  private JsonSerializersRegistry() {}
+
+  /**
+   * @param prettyPrint whether the JSON is to be pretty printed
+   * @param reduced     whether {@link MetadataType}s are to be written in their reduced form
+   * @return the {@link Gson} for metadata results with the given options
+   */
+  public static Gson metadataResultGson(boolean prettyPrint, boolean reduced) {
+    return get(METADATA_RESULT_GSONS, (prettyPrint ? PRETTY_PRINT : 0) | (reduced ? REDUCED : 0),
+               JsonSerializersRegistry::buildMetadataResultGson);
+  }
+
+  /**
+   * @param prettyPrint whether the JSON is to be pretty printed
+   * @return the {@link Gson} for value results with the given options
+   */
+  public static Gson valueResultGson(boolean prettyPrint) {
+    return get(VALUE_RESULT_GSONS, prettyPrint ? PRETTY_PRINT : 0, JsonSerializersRegistry::buildValueResultGson);
+  }
+
+  /**
+   * @return a {@link Gson} with the default configuration, for adapters which delegate to reflective serialization
+   */
+  public static Gson defaultGson() {
+    return DEFAULT_GSON;
+  }
+
+  /**
+   * Builds every {@link Gson} of this registry and creates the type adapters of the types handled by the serializers, so that
+   * the reflection they involve is not done by the first serialization.
+   */
+  public static void warmUp() {
+    for (int options = 0; options < METADATA_RESULT_GSONS.length(); ++options) {
+      Gson gson = get(METADATA_RESULT_GSONS, options, JsonSerializersRegistry::buildMetadataResultGson);
+      gson.getAdapter(ComponentMetadataResult.class);
+      gson.getAdapter(ComponentMetadataTypesDescriptorResult.class);
+      gson.getAdapter(TypeMetadata.class);
+      gson.getAdapter(MetadataKey.class);
+      gson.getAdapter(new TypeToken<List<MetadataFailure>>() {});
+    }
+
+    for (int options = 0; options < VALUE_RESULT_GSONS.length(); ++options) {
+      get(VALUE_RESULT_GSONS, options, JsonSerializersRegistry::buildValueResultGson).getAdapter(ImmutableValueResult.class);
+    }
+  }
+
+  private static Gson get(AtomicReferenceArray<Gson> gsons, int options, IntFunction<Gson> builder) {
+    Gson gson = gsons.get(options);
+    if (gson == null) {
+      // concurrent first uses may build more than one, but all of them are equivalent and only the first one is kept
+      gsons.compareAndSet(options, null, builder.apply(options));
+      gson = gsons.get(options);
+    }
+    return gson;
+  }
+
+  private static Gson buildMetadataResultGson(int options) {
+    final DefaultImplementationTypeAdapterFactory operationModelTypeAdapterFactory =
+        new DefaultImplementationTypeAdapterFactory<>(OperationModel.class, ImmutableOperationModel.class);
+    final DefaultImplementationTypeAdapterFactory sourceModelTypeAdapterFactory =
+        new DefaultImplementationTypeAdapterFactory<>(SourceModel.class, ImmutableSourceModel.class);
+    final DefaultImplementationTypeAdapterFactory sourceCallbackModelTypeAdapterFactory =
+        new DefaultImplementationTypeAdapterFactory<>(SourceCallbackModel.class, ImmutableSourceCallbackModel.class);
+    final DefaultImplementationTypeAdapterFactory parameterModelTypeAdapterFactory =
+        new DefaultImplementationTypeAdapterFactory<>(ParameterModel.class, ImmutableParameterModel.class);
+    final DefaultImplementationTypeAdapterFactory parameterGroupModelTypeAdapterFactory =
+        new DefaultImplementationTypeAdapterFactory<>(ParameterGroupModel.class, ImmutableParameterGroupModel.class);
+    final DefaultImplementationTypeAdapterFactory exclusiveParametersTypeAdapterFactory =
+        new DefaultImplementationTypeAdapterFactory<>(ExclusiveParametersModel.class, ImmutableExclusiveParametersModel.class);
+    final DefaultImplementationTypeAdapterFactory outputModelTypeAdapterFactory =
+        new DefaultImplementationTypeAdapterFactory<>(OutputModel.class, ImmutableOutputModel.class);
+    final DefaultImplementationTypeAdapterFactory<ErrorModel, ImmutableErrorModel> errorModelTypeAdapter =
+        new DefaultImplementationTypeAdapterFactory<>(ErrorModel.class, ImmutableErrorModel.class);
+    final DefaultImplementationTypeAdapterFactory<StereotypeModel, ImmutableStereotypeModel> stereotypeModelTypeAdapter =
+        new DefaultImplementationTypeAdapterFactory<>(StereotypeModel.class, ImmutableStereotypeModel.class);
+    final DefaultImplementationTypeAdapterFactory stereoTypeModelTypeAdapterFactory =
+        new DefaultImplementationTypeAdapterFactory<>(StereotypeModel.class, ImmutableStereotypeModel.class);
+    final DefaultImplementationTypeAdapterFactory notificationModelTypeAdapterFactory =
+        new DefaultImplementationTypeAdapterFactory<>(NotificationModel.class, ImmutableNotificationModel.class);
+    final DefaultImplementationTypeAdapterFactory<DeprecationModel, ImmutableDeprecationModel> deprecationModelTypeAdapterFactory =
+        new DefaultImplementationTypeAdapterFactory<>(DeprecationModel.class, ImmutableDeprecationModel.class);
+    final DefaultImplementationTypeAdapterFactory<ActingParameterModel, ImmutableActingParameterModel> actingParameterModelTypeAdapterFactory =
+        new DefaultImplementationTypeAdapterFactory<>(ActingParameterModel.class, ImmutableActingParameterModel.class);
+
+    final GsonBuilder gsonBuilder = new GsonBuilder()
+        .registerTypeAdapterFactory(new FailureCodeTypeAdapterFactory())
+        .registerTypeAdapter(MetadataType.class, getMetadataTypeAdapterFactory((options & REDUCED) != 0))
+        .registerTypeAdapterFactory(new OptionalTypeAdapterFactory())
+        .registerTypeAdapterFactory(new ModelPropertyMapTypeAdapterFactory())
+        .registerTypeAdapterFactory(new MetadataKeyPartModelPropertyTypeAdapterFactory())
+        .registerTypeAdapterFactory(new ComponentResultTypeAdapterFactory())
+        .registerTypeAdapterFactory(new ComponentMetadataTypesTypeAdapterFactory())
+        .registerTypeAdapter(MetadataKey.class, new MetadataKeyTypeAdapter())
+        .registerTypeAdapter(MuleVersion.class, new MuleVersionTypeAdapter().nullSafe())
+        .registerTypeAdapterFactory(sourceModelTypeAdapterFactory)
+        .registerTypeAdapterFactory(sourceCallbackModelTypeAdapterFactory)
+        .registerTypeAdapterFactory(parameterModelTypeAdapterFactory)
+        .registerTypeAdapterFactory(parameterGroupModelTypeAdapterFactory)
+        .registerTypeAdapterFactory(exclusiveParametersTypeAdapterFactory)
+        .registerTypeAdapterFactory(operationModelTypeAdapterFactory)
+        .registerTypeAdapterFactory(outputModelTypeAdapterFactory)
+        .registerTypeAdapterFactory(stereotypeModelTypeAdapter)
+        .registerTypeAdapterFactory(errorModelTypeAdapter)
+        .registerTypeAdapterFactory(stereoTypeModelTypeAdapterFactory)
+        .registerTypeAdapterFactory(notificationModelTypeAdapterFactory)
+        .registerTypeAdapterFactory(deprecationModelTypeAdapterFactory)
+        .registerTypeAdapterFactory(actingParameterModelTypeAdapterFactory);
+
+    if ((options & PRETTY_PRINT) != 0) {
+      gsonBuilder.setPrettyPrinting();
+    }
+
+    return gsonBuilder.create();
+  }
+
+  private static TypeAdapter getMetadataTypeAdapterFactory(boolean reduced) {
+    return reduced ? new ReducedMetadataTypeGsonTypeAdapter() : new MetadataTypeGsonTypeAdapter();
+  }
+
+  private static Gson buildValueResultGson(int options) {
+    GsonBuilder gsonBuilder = new GsonBuilder();
+
+    if ((options & PRETTY_PRINT) != 0) {
+      gsonBuilder.setPrettyPrinting();
+    }
+
+    return gsonBuilder
+        .registerTypeAdapterFactory(new DefaultImplementationTypeAdapterFactory<>(ValueResult.class, ImmutableValueResult.class))
+        .registerTypeAdapter(Value.class, new ValueTypeAdapter())
+        .create();
+  }
+}
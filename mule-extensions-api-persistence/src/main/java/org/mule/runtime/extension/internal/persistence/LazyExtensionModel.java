@@ -0,0 +1,243 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.ComponentKind.CONFIGURATION;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.ComponentKind.CONNECTION_PROVIDER;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.ComponentKind.CONSTRUCT;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.ComponentKind.FUNCTION;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.ComponentKind.OPERATION;
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.ComponentKind.SOURCE;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+import org.mule.runtime.api.meta.NamedObject;
+import org.mule.runtime.api.meta.model.ComponentModel;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.meta.model.construct.ConstructModel;
+import org.mule.runtime.api.meta.model.function.FunctionModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.extension.api.model.ImmutableExtensionModel;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.Entry;
+import org.mule.runtime.extension.internal.persistence.ExtensionModelCatalogFormat.ExtensionEntry;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * An {@link ExtensionModel} read from a catalog which decodes each of its components the first time it is accessed. Once
+ * decoded, a component is kept, so following accesses return the same instance.
+ * <p>
+ * Everything but the components is decoded upfront.
+ *
+ * @since 1.10
+ */
+final class LazyExtensionModel extends ImmutableExtensionModel {
+
+  /**
+   * Decodes a single component of the extension.
+   */
+  interface ComponentDecoder {
+
+    <T> T decode(Entry entry, Class<T> type);
+  }
+
+  private final LazyComponents<ConfigurationModel> configurations;
+  private final LazyComponents<OperationModel> operations;
+  private final LazyComponents<FunctionModel> functions;
+  private final LazyComponents<ConstructModel> constructs;
+  private final LazyComponents<ConnectionProviderModel> connectionProviders;
+  private final LazyComponents<SourceModel> sources;
+
+  /**
+   * Creates a new instance
+   *
+   * @param extension the decoded {@link ExtensionModel}, without components
+   * @param entry     the index of the documents of the extension
+   * @param decoder   the {@link ComponentDecoder} to decode the components with
+   */
+  LazyExtensionModel(ExtensionModel extension, ExtensionEntry entry, ComponentDecoder decoder) {
+    super(extension.getName(),
+          extension.getDescription(),
+          extension.getVersion(),
+          extension.getVendor(),
+          extension.getCategory(),
+          emptyList(),
+          emptyList(),
+          emptyList(),
+          emptyList(),
+          emptyList(),
+          emptyList(),
+          extension.getDisplayModel().orElse(null),
+          extension.getXmlDslModel(),
+          extension.getSubTypes(),
+          extension.getTypes(),
+          extension.getResources(),
+          extension.getImportedTypes(),
+          extension.getErrorModels(),
+          extension.getExternalLibraryModels(),
+          extension.getPrivilegedPackages(),
+          extension.getPrivilegedArtifacts(),
+          extension.getModelProperties(),
+          extension.getNotificationModels(),
+          null,
+          extension.getArtifactCoordinates().orElse(null),
+          extension.getMinMuleVersion().orElse(null),
+          extension.getSupportedJavaVersions());
+
+    configurations = new LazyComponents<>(ConfigurationModel.class, entry.getComponents(CONFIGURATION), decoder);
+    operations = new LazyComponents<>(OperationModel.class, entry.getComponents(OPERATION), decoder);
+    functions = new LazyComponents<>(FunctionModel.class, entry.getComponents(FUNCTION), decoder);
+    constructs = new LazyComponents<>(ConstructModel.class, entry.getComponents(CONSTRUCT), decoder);
+    connectionProviders = new LazyComponents<>(ConnectionProviderModel.class, entry.getComponents(CONNECTION_PROVIDER), decoder);
+    sources = new LazyComponents<>(SourceModel.class, entry.getComponents(SOURCE), decoder);
+  }
+
+  @Override
+  public List<ConfigurationModel> getConfigurationModels() {
+    return configurations.getAll();
+  }
+
+  @Override
+  public Optional<ConfigurationModel> getConfigurationModel(String name) {
+    return configurations.get(name);
+  }
+
+  @Override
+  public List<OperationModel> getOperationModels() {
+    return operations.getAll();
+  }
+
+  @Override
+  public Optional<OperationModel> getOperationModel(String name) {
+    return operations.get(name);
+  }
+
+  @Override
+  public List<FunctionModel> getFunctionModels() {
+    return functions.getAll();
+  }
+
+  @Override
+  public Optional<FunctionModel> getFunctionModel(String name) {
+    return functions.get(name);
+  }
+
+  @Override
+  public List<ConstructModel> getConstructModels() {
+    return constructs.getAll();
+  }
+
+  @Override
+  public Optional<ConstructModel> getConstructModel(String name) {
+    return constructs.get(name);
+  }
+
+  @Override
+  public List<ConnectionProviderModel> getConnectionProviders() {
+    return connectionProviders.getAll();
+  }
+
+  @Override
+  public Optional<ConnectionProviderModel> getConnectionProviderModel(String name) {
+    return connectionProviders.get(name);
+  }
+
+  @Override
+  public List<SourceModel> getSourceModels() {
+    return sources.getAll();
+  }
+
+  @Override
+  public Optional<SourceModel> getSourceModel(String name) {
+    return sources.get(name);
+  }
+
+  @Override
+  public Optional<ComponentModel> findComponentModel(String componentName) {
+    Optional<ComponentModel> component = super.findComponentModel(componentName);
+    if (component.isPresent()) {
+      return component;
+    }
+
+    // the inherited lookup only goes through the configurations held by the parent class, which are empty in this case
+    for (ConfigurationModel configurationModel : getConfigurationModels()) {
+      Optional<? extends ComponentModel> configComponent = configurationModel.getOperationModel(componentName);
+      if (!configComponent.isPresent()) {
+        configComponent = configurationModel.getSourceModel(componentName);
+      }
+      if (configComponent.isPresent()) {
+        return of(configComponent.get());
+      }
+    }
+
+    return empty();
+  }
+
+  /**
+   * The components of a given kind, which are decoded on demand.
+   */
+  private static final class LazyComponents<T extends NamedObject> {
+
+    private final Class<T> type;
+    private final List<Entry> entries;
+    private final ComponentDecoder decoder;
+    private final Map<String, Integer> indexes;
+    private final AtomicReferenceArray<T> decoded;
+    private volatile List<T> all;
+
+    private LazyComponents(Class<T> type, List<Entry> entries, ComponentDecoder decoder) {
+      this.type = type;
+      this.entries = entries;
+      this.decoder = decoder;
+      this.decoded = new AtomicReferenceArray<>(entries.size());
+      this.indexes = new HashMap<>();
+      for (int i = 0; i < entries.size(); i++) {
+        indexes.put(entries.get(i).getName(), i);
+      }
+    }
+
+    private List<T> getAll() {
+      List<T> components = all;
+      if (components == null) {
+        List<T> decodedComponents = new ArrayList<>(entries.size());
+        for (int i = 0; i < entries.size(); i++) {
+          decodedComponents.add(get(i));
+        }
+        components = unmodifiableList(decodedComponents);
+        all = components;
+      }
+      return components;
+    }
+
+    private Optional<T> get(String name) {
+      Integer index = indexes.get(name);
+      return index != null ? of(get(index)) : empty();
+    }
+
+    private T get(int index) {
+      T component = decoded.get(index);
+      if (component == null) {
+        component = decoder.decode(entries.get(index), type);
+        if (!decoded.compareAndSet(index, null, component)) {
+          component = decoded.get(index);
+        }
+      }
+      return component;
+    }
+  }
+}
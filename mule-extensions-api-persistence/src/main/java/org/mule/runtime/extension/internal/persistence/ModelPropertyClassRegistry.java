@@ -0,0 +1,194 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+import static org.slf4j.LoggerFactory.getLogger;
+
+import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.extension.api.persistence.ModelPropertyClassProvider;
+
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import org.apache.commons.lang3.ClassUtils;
+import org.slf4j.Logger;
+
+/**
+ * Resolves the {@link ModelProperty} classes by the name they were serialized with, keeping both the classes found and the names
+ * which were not found, so that each name is looked up only once in each {@link ClassLoader}.
+ * <p>
+ * Resolutions are scoped by {@link ClassLoader}, which is held through a weak reference. The resolutions of a
+ * {@link ClassLoader} start with the classes of the {@link ModelPropertyClassProvider}s available through it. The resolved
+ * classes are held through weak references too, since a class references the {@link ClassLoader} which defined it. Hence, the
+ * resolutions of a {@link ClassLoader} don't prevent it from being collected once it is disposed of, and they are discarded
+ * along with it. If a resolved class is collected while the {@link ClassLoader} it was resolved through is still in use, its
+ * name is looked up again.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 1.10
+ */
+public final class ModelPropertyClassRegistry {
+
+  private static final Logger LOGGER = getLogger(ModelPropertyClassRegistry.class);
+
+  private static final ModelPropertyClassRegistry DEFAULT = new ModelPropertyClassRegistry();
+
+  /**
+   * @return the process-wide instance, used by the {@link ModelPropertyMapTypeAdapter}s
+   */
+  public static ModelPropertyClassRegistry getDefault() {
+    return DEFAULT;
+  }
+
+  private final Function<ClassLoader, ? extends Collection<? extends ModelPropertyClassProvider>> providers;
+  private final Cache<ClassLoader, Map<String, Resolution>> resolutions =
+      newBuilder().weakKeys().build();
+
+  /**
+   * Creates a new instance which discovers the {@link ModelPropertyClassProvider}s through {@link ServiceLoader}. They are
+   * discovered from this module, since it's the one declaring the service, and only once for each {@link ClassLoader}.
+   */
+  public ModelPropertyClassRegistry() {
+    this(ModelPropertyClassRegistry::discoverProviders);
+  }
+
+  /**
+   * @param providers returns the {@link ModelPropertyClassProvider}s available through a given {@link ClassLoader}
+   */
+  public ModelPropertyClassRegistry(Function<ClassLoader, ? extends Collection<? extends ModelPropertyClassProvider>> providers) {
+    this.providers = providers;
+  }
+
+  /**
+   * Resolves the {@link ModelProperty} class with the given {@code name} through the context {@link ClassLoader} of the current
+   * thread, or the {@link ClassLoader} of this class if there is none.
+   *
+   * @param name the name the {@link ModelProperty} was serialized with
+   * @return the {@link ModelProperty} class, or an empty {@link Optional} if it's not found
+   */
+  public Optional<Class<? extends ModelProperty>> resolve(String name) {
+    ClassLoader classLoader = currentThread().getContextClassLoader();
+    return resolve(name, classLoader != null ? classLoader : ModelPropertyClassRegistry.class.getClassLoader());
+  }
+
+  /**
+   * Resolves the {@link ModelProperty} class with the given {@code name} through the given {@code classLoader}.
+   * <p>
+   * The first time a name is not found in a {@link ClassLoader} a warning is logged, and the name is not looked up again in that
+   * {@link ClassLoader}. The lookup is not done while holding any lock, so concurrent resolutions of the same name may look it up
+   * more than once, but the result of the first lookup is the one kept.
+   *
+   * @param name        the name the {@link ModelProperty} was serialized with
+   * @param classLoader the {@link ClassLoader} to resolve the class through
+   * @return the {@link ModelProperty} class, or an empty {@link Optional} if it's not found
+   */
+  public Optional<Class<? extends ModelProperty>> resolve(String name, ClassLoader classLoader) {
+    Map<String, Resolution> classes = resolutions.get(classLoader, this::registeredClasses);
+    Resolution resolution = classes.get(name);
+    Optional<Class<? extends ModelProperty>> resolved = resolution != null ? resolution.get() : null;
+    if (resolved != null) {
+      return resolved;
+    }
+
+    resolved = lookup(name, classLoader);
+    Resolution lookedUp = new Resolution(resolved);
+    boolean first = resolution == null
+        ? classes.putIfAbsent(name, lookedUp) == null
+        : classes.replace(name, resolution, lookedUp);
+    if (!first) {
+      Resolution previous = classes.get(name);
+      Optional<Class<? extends ModelProperty>> previouslyResolved = previous != null ? previous.get() : null;
+      return previouslyResolved != null ? previouslyResolved : resolved;
+    }
+
+    if (!resolved.isPresent()) {
+      LOGGER.warn(String.format("Error loading [%s] ModelProperty. Class not found in the current classloader", name));
+    }
+    return resolved;
+  }
+
+  private Map<String, Resolution> registeredClasses(ClassLoader classLoader) {
+    Map<String, Resolution> classes = new ConcurrentHashMap<>();
+    for (ModelPropertyClassProvider provider : providers.apply(classLoader)) {
+      for (Class<? extends ModelProperty> modelPropertyClass : provider.getModelPropertyClasses()) {
+        classes.put(modelPropertyClass.getName(), new Resolution(of(modelPropertyClass)));
+      }
+    }
+    return classes;
+  }
+
+  private static List<ModelPropertyClassProvider> discoverProviders(ClassLoader classLoader) {
+    List<ModelPropertyClassProvider> discovered = new ArrayList<>();
+    ServiceLoader.load(ModelPropertyClassProvider.class, classLoader).forEach(discovered::add);
+    return discovered;
+  }
+
+  private Optional<Class<? extends ModelProperty>> lookup(String name, ClassLoader classLoader) {
+    try {
+      return of((Class<? extends ModelProperty>) ClassUtils.getClass(classLoader, name));
+    } catch (ClassNotFoundException e) {
+      return empty();
+    }
+  }
+
+  /**
+   * Discards the resolutions of every {@link ClassLoader}.
+   */
+  public void refresh() {
+    resolutions.invalidateAll();
+  }
+
+  /**
+   * Discards the resolutions of the given {@code classLoader}, so its names are looked up again and its
+   * {@link ModelPropertyClassProvider}s are queried again.
+   * <p>
+   * This is not needed for a disposed {@link ClassLoader} to be collected, but it releases its resolutions right away.
+   *
+   * @param classLoader the {@link ClassLoader} whose resolutions are to be discarded
+   */
+  public void refresh(ClassLoader classLoader) {
+    resolutions.invalidate(classLoader);
+  }
+
+  /**
+   * The result of resolving a name: either the class found, held through a weak reference, or that it was not found.
+   */
+  private static final class Resolution {
+
+    private final WeakReference<Class<? extends ModelProperty>> modelPropertyClass;
+
+    private Resolution(Optional<Class<? extends ModelProperty>> modelPropertyClass) {
+      this.modelPropertyClass = modelPropertyClass.isPresent() ? new WeakReference<>(modelPropertyClass.get()) : null;
+    }
+
+    /**
+     * @return the resolved class, an empty {@link Optional} if it was not found, or {@code null} if it was collected
+     */
+    private Optional<Class<? extends ModelProperty>> get() {
+      if (modelPropertyClass == null) {
+        return empty();
+      }
+
+      Class<? extends ModelProperty> resolved = modelPropertyClass.get();
+      return resolved != null ? of(resolved) : null;
+    }
+  }
+}
@@ -6,8 +6,7 @@
  */
 package org.mule.runtime.extension.internal.persistence;
 
-import static java.util.Optional.ofNullable;
-import static org.slf4j.LoggerFactory.getLogger;
+import static java.util.Optional.of;
 
 import org.mule.runtime.api.meta.model.EnrichableModel;
 import org.mule.runtime.api.meta.model.ModelProperty;
@@ -17,6 +16,7 @@ import org.mule.runtime.extension.api.property.RequiredForMetadataModelProperty;
 import org.mule.runtime.extension.api.property.MetadataKeyIdModelProperty;
 import org.mule.runtime.extension.api.property.SinceMuleVersionModelProperty;
 import org.mule.runtime.extension.api.property.TypeResolversInformationModelProperty;
+import org.mule.runtime.extension.internal.model.CompactModelPropertyMap;
 
 import java.io.IOException;
 import java.util.HashMap;
@@ -28,8 +28,6 @@ import com.google.gson.Gson;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
-import org.apache.commons.lang3.ClassUtils;
-import org.slf4j.Logger;
 
 /**
  * {@link TypeAdapter} implementation that knows how to serialize and deserialize
@@ -42,14 +40,14 @@ import org.slf4j.Logger;
  * of the class.
  * <p>
  * When deserializing a {@link ModelProperty}s, their full qualified name will be used, if the class is not found in the
- * ClassLoader the {@link ModelProperty} object will be discarded
+ * ClassLoader the {@link ModelProperty} object will be discarded. Classes are resolved through a
+ * {@link ModelPropertyClassRegistry}, so each name is looked up only once per ClassLoader, whether it is found or not. The
+ * deserialized properties are kept in a {@link CompactModelPropertyMap}, as the ones of the models built in memory.
  *
  * @since 1.0
  */
 public final class ModelPropertyMapTypeAdapter extends TypeAdapter<Map<Class<? extends ModelProperty>, ModelProperty>> {
 
-  private static final Logger LOGGER = getLogger(ModelPropertyMapTypeAdapter.class);
-
   private static final Map<Class<? extends ModelProperty>, String> classNameMapping;
   private static final Map<String, Class<? extends ModelProperty>> nameClassMapping;
 
@@ -70,9 +68,11 @@ public final class ModelPropertyMapTypeAdapter extends TypeAdapter<Map<Class<? e
   }
 
   private final Gson gson;
+  private final ModelPropertyClassRegistry modelPropertyClasses;
 
-  ModelPropertyMapTypeAdapter(Gson gson) {
+  ModelPropertyMapTypeAdapter(Gson gson, ModelPropertyClassRegistry modelPropertyClasses) {
     this.gson = gson;
+    this.modelPropertyClasses = modelPropertyClasses;
   }
 
   @Override
@@ -110,25 +110,12 @@ public final class ModelPropertyMapTypeAdapter extends TypeAdapter<Map<Class<? e
       }
     }
     in.endObject();
-    return modelPropertyHashMap;
+    return CompactModelPropertyMap.copyOf(modelPropertyHashMap);
   }
 
   private Optional<Class<? extends ModelProperty>> getClassForModelProperty(String modelPropertyName) {
-    Class<? extends ModelProperty> modelPropertyClass = null;
-    if (nameClassMapping.containsKey(modelPropertyName)) {
-      modelPropertyClass = nameClassMapping.get(modelPropertyName);
-    } else {
-      try {
-        modelPropertyClass = (Class<? extends ModelProperty>) ClassUtils.getClass(modelPropertyName);
-      } catch (ClassNotFoundException e) {
-        LOGGER.warn(String
-            .format(
-                    "Error loading [%s] ModelProperty. Class not found in the current classloader",
-                    modelPropertyName));
-      }
-    }
-
-    return ofNullable(modelPropertyClass);
+    Class<? extends ModelProperty> modelPropertyClass = nameClassMapping.get(modelPropertyName);
+    return modelPropertyClass != null ? of(modelPropertyClass) : modelPropertyClasses.resolve(modelPropertyName);
   }
 
   private String getSerializableModelPropertyName(Class<?> modelPropertyClass) {
@@ -27,11 +27,25 @@ public final class ModelPropertyMapTypeAdapterFactory implements TypeAdapterFact
 
   private final Type mapType = new TypeToken<Map<Class<? extends ModelProperty>, ModelProperty>>() {}.getType();
   private final Type hierarchyClassMapType = new TypeToken<HierarchyClassMap<ModelProperty>>() {}.getType();
+  private final ModelPropertyClassRegistry modelPropertyClasses;
+
+  public ModelPropertyMapTypeAdapterFactory() {
+    this(ModelPropertyClassRegistry.getDefault());
+  }
+
+  /**
+   * @param modelPropertyClasses the {@link ModelPropertyClassRegistry} to resolve the deserialized {@link ModelProperty} classes
+   *                             through
+   * @since 1.10
+   */
+  public ModelPropertyMapTypeAdapterFactory(ModelPropertyClassRegistry modelPropertyClasses) {
+    this.modelPropertyClasses = modelPropertyClasses;
+  }
 
   @Override
   public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
     if (type.getType().equals(mapType) || type.getType().equals(hierarchyClassMapType)) {
-      return (TypeAdapter<T>) new ModelPropertyMapTypeAdapter(gson);
+      return (TypeAdapter<T>) new ModelPropertyMapTypeAdapter(gson, modelPropertyClasses);
     }
     return null;
   }
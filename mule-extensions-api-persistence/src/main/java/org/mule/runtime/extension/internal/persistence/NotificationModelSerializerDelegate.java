@@ -18,9 +18,11 @@ import org.mule.runtime.api.meta.model.notification.NotificationModel;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
+import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
 import java.io.IOException;
+import java.io.StringWriter;
 import java.util.Map;
 import java.util.Set;
 
@@ -61,6 +63,31 @@ class NotificationModelSerializerDelegate {
     out.endArray();
   }
 
+  /**
+   * Serializes a {@link Set} of {@link NotificationModel} as references to the entries of the given {@code dictionary}, which
+   * holds the notifications shared by all the extensions of a list. Each notification is written to the dictionary the same way
+   * {@link #writeNotifications(Set, JsonWriter)} does, so it must be invoked at the same point of the serialization.
+   *
+   * @param notificationModels Notifications to serialize
+   * @param out                json writer where the references will be written
+   * @param dictionary         the dictionary the notifications are added to
+   * @throws IOException if an error occurs trying to serialize the notifications
+   */
+  void writeNotificationReferences(Set<NotificationModel> notificationModels, JsonWriter out,
+                                   ExtensionModelDictionaryBuilder dictionary)
+      throws IOException {
+
+    TypeAdapter<MetadataType> metadataTypeTypeAdapter = gson.getAdapter(MetadataType.class);
+    out.name(NOTIFICATIONS);
+    out.beginArray();
+    for (NotificationModel notificationModel : notificationModels) {
+      StringWriter notification = new StringWriter();
+      writeNotification(dictionary.newJsonWriter(notification), notificationModel, metadataTypeTypeAdapter);
+      out.value(dictionary.notificationIndex(notification.toString()));
+    }
+    out.endArray();
+  }
+
   private void writeNotification(JsonWriter out, NotificationModel notificationModel,
                                  TypeAdapter<MetadataType> metadataTypeTypeAdapter)
       throws IOException {
@@ -71,6 +98,46 @@ class NotificationModelSerializerDelegate {
     out.endObject();
   }
 
+  /**
+   * Given a {@link JsonReader} positioned at the start of an array representing a {@link Set} of {@link NotificationModel}, it
+   * will deserialize them, consuming the array. Also contribute with the given {@link this#notificationModelRespository}.
+   *
+   * @param in the json reader
+   * @return The {@link Map} with the Notification Identifier as key and the represented {@link NotificationModel}
+   * @throws IOException if an error occurs trying to read the notifications
+   */
+  Map<String, NotificationModel> parseNotifications(JsonReader in) throws IOException {
+    TypeAdapter<MetadataType> metadataTypeTypeAdapter = gson.getAdapter(MetadataType.class);
+
+    in.beginArray();
+    while (in.hasNext()) {
+      String aNotification = null;
+      MetadataType metadataType = null;
+
+      in.beginObject();
+      while (in.hasNext()) {
+        switch (in.nextName()) {
+          case NOTIFICATION:
+            aNotification = in.nextString();
+            break;
+          case METADATA_TYPE:
+            metadataType = metadataTypeTypeAdapter.read(in);
+            break;
+          default:
+            in.skipValue();
+        }
+      }
+      in.endObject();
+
+      notificationModelRespository.put(aNotification,
+                                       newNotification(buildFromStringRepresentation(aNotification)).withType(metadataType)
+                                           .build());
+    }
+    in.endArray();
+
+    return notificationModelRespository;
+  }
+
   /**
    * Given a {@link JsonArray} representing a {@link Set} of {@link NotificationModel}, it will deserialize them. Also contribute
    * with the given {@link this#notificationModelRespository}.
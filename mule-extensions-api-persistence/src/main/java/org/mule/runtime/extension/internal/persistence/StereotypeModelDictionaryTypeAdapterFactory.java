@@ -0,0 +1,63 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.persistence;
+
+import static org.mule.runtime.extension.internal.persistence.ExtensionModelSerializationContext.current;
+
+import static com.google.gson.stream.JsonToken.NUMBER;
+
+import org.mule.runtime.api.meta.model.stereotype.StereotypeModel;
+
+import java.io.IOException;
+
+import com.google.gson.Gson;
+import com.google.gson.TypeAdapter;
+import com.google.gson.TypeAdapterFactory;
+import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonWriter;
+
+/**
+ * {@link TypeAdapterFactory} which writes the {@link StereotypeModel}s as references to the dictionary of the list of extensions
+ * being written, if any, and resolves such references when reading. The dictionary is the one of the
+ * {@link ExtensionModelSerializationContext#current() current context}. Otherwise, the stereotypes are handled by the adapters of
+ * the factories registered before this one.
+ *
+ * @since 1.10
+ */
+public final class StereotypeModelDictionaryTypeAdapterFactory implements TypeAdapterFactory {
+
+  @Override
+  public <T> TypeAdapter<T> create(Gson gson, TypeToken<T> type) {
+    if (!StereotypeModel.class.equals(type.getRawType())) {
+      return null;
+    }
+
+    final TypeAdapter<StereotypeModel> delegate = (TypeAdapter<StereotypeModel>) gson.getDelegateAdapter(this, type);
+    return (TypeAdapter<T>) new TypeAdapter<StereotypeModel>() {
+
+      @Override
+      public void write(JsonWriter out, StereotypeModel value) throws IOException {
+        ExtensionModelDictionaryBuilder dictionary = current().getDictionaryBuilder();
+        if (dictionary == null || value == null) {
+          delegate.write(out, value);
+        } else {
+          out.value(dictionary.stereotypeIndex(value));
+        }
+      }
+
+      @Override
+      public StereotypeModel read(JsonReader in) throws IOException {
+        ExtensionModelDictionary dictionary = current().getDictionary();
+        if (dictionary == null || in.peek() != NUMBER) {
+          return delegate.read(in);
+        }
+        return dictionary.getStereotype(in.nextInt());
+      }
+    };
+  }
+}
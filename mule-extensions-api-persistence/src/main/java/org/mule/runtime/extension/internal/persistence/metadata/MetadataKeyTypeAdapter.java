@@ -6,73 +6,200 @@
  */
 package org.mule.runtime.extension.internal.persistence.metadata;
 
+import static org.mule.runtime.extension.internal.persistence.JsonSerializersRegistry.defaultGson;
+
+import static com.google.gson.stream.JsonToken.NULL;
+
 import org.mule.runtime.api.metadata.DefaultMetadataKey;
 import org.mule.runtime.api.metadata.MetadataKey;
 import org.mule.runtime.api.metadata.MetadataKeyBuilder;
+import org.mule.runtime.api.metadata.MetadataProperty;
 import org.mule.runtime.extension.api.metadata.NullMetadataKey;
 
 import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
 
 import com.google.gson.Gson;
-import com.google.gson.GsonBuilder;
-import com.google.gson.JsonElement;
-import com.google.gson.JsonObject;
-import com.google.gson.JsonParser;
 import com.google.gson.TypeAdapter;
 import com.google.gson.stream.JsonReader;
 import com.google.gson.stream.JsonWriter;
 
+/**
+ * {@link TypeAdapter} for {@link MetadataKey}s, which writes and reads the keys straight to and from the JSON stream, without
+ * building an intermediate tree.
+ * <p>
+ * Keys trees are walked iteratively, keeping the pending levels in an explicit stack, so that their depth is not bounded by the
+ * size of the thread stack.
+ */
 public class MetadataKeyTypeAdapter extends TypeAdapter<MetadataKey> {
 
-  private Gson gson = new GsonBuilder().create();
+  private static final String ID = "id";
+  private static final String DISPLAY_NAME = "displayName";
+  private static final String PART_NAME = "partName";
+  private static final String PROPERTIES = "properties";
+  private static final String CHILDS = "childs";
+
+  private final Gson gson = defaultGson();
 
   @Override
   public void write(JsonWriter out, MetadataKey value) throws IOException {
-    if (value != null) {
-      if (value instanceof NullMetadataKey) {
-        gson.toJson(value, NullMetadataKey.class, out);
-      } else if (value instanceof DefaultMetadataKey) {
-        gson.toJson(value, DefaultMetadataKey.class, out);
+    if (value == null) {
+      out.nullValue();
+    } else if (value instanceof NullMetadataKey) {
+      out.beginObject().endObject();
+    } else if (value instanceof DefaultMetadataKey) {
+      writeTree(out, value);
+    } else {
+      throw new RuntimeException("Couldn't serialize MetadataKey for implementation: " + value.getClass());
+    }
+  }
+
+  private void writeTree(JsonWriter out, MetadataKey root) throws IOException {
+    Deque<Iterator<MetadataKey>> pendingChilds = new ArrayDeque<>();
+    pendingChilds.push(beginKey(out, root));
+
+    while (!pendingChilds.isEmpty()) {
+      Iterator<MetadataKey> childs = pendingChilds.peek();
+      if (!childs.hasNext()) {
+        out.endArray();
+        out.endObject();
+        pendingChilds.pop();
+        continue;
+      }
+
+      MetadataKey child = childs.next();
+      if (child == null) {
+        out.nullValue();
+      } else if (child instanceof NullMetadataKey) {
+        out.beginObject().endObject();
+      } else if (child instanceof DefaultMetadataKey) {
+        pendingChilds.push(beginKey(out, child));
       } else {
-        throw new RuntimeException("Couldn't serialize MetadataKey for implementation: " + value.getClass());
+        gson.toJson(child, child.getClass(), out);
       }
-    } else {
-      out.nullValue();
     }
   }
 
+  /**
+   * Writes the attributes of the given {@code key}, in the same order and with the same names as its fields, and opens the array
+   * of its childs.
+   *
+   * @return an {@link Iterator} over the childs of the {@code key}, to be written next
+   */
+  private Iterator<MetadataKey> beginKey(JsonWriter out, MetadataKey key) throws IOException {
+    out.beginObject();
+    out.name(ID).value(key.getId());
+    out.name(DISPLAY_NAME).value(key.getDisplayName());
+    out.name(PART_NAME).value(key.getPartName());
+
+    out.name(PROPERTIES).beginObject();
+    for (MetadataProperty property : key.getProperties()) {
+      out.name(String.valueOf(property.getClass()));
+      gson.toJson(property, property.getClass(), out);
+    }
+    out.endObject();
+
+    out.name(CHILDS).beginArray();
+    return key.getChilds().iterator();
+  }
+
   @Override
   public MetadataKey read(JsonReader in) throws IOException {
-    JsonElement jsonElement = new JsonParser().parse(in);
-    return toMetadataKey(jsonElement);
+    if (in.peek() == NULL) {
+      in.nextNull();
+      return null;
+    }
+
+    Deque<PartialKey> pendingKeys = new ArrayDeque<>();
+    in.beginObject();
+    pendingKeys.push(new PartialKey());
+
+    while (true) {
+      PartialKey key = pendingKeys.peek();
+      if (key.readingChilds) {
+        if (!in.hasNext()) {
+          in.endArray();
+          key.readingChilds = false;
+        } else if (in.peek() == NULL) {
+          in.nextNull();
+          key.childs.add(null);
+        } else {
+          in.beginObject();
+          pendingKeys.push(new PartialKey());
+        }
+      } else if (in.hasNext()) {
+        readAttribute(in, key);
+      } else {
+        in.endObject();
+        pendingKeys.pop();
+        MetadataKey metadataKey = key.toMetadataKey();
+        if (pendingKeys.isEmpty()) {
+          return metadataKey;
+        }
+        pendingKeys.peek().childs.add(metadataKey);
+      }
+    }
   }
 
-  private MetadataKey toMetadataKey(JsonElement jsonElement) {
-    if (jsonElement.isJsonNull()) {
-      return null;
+  private void readAttribute(JsonReader in, PartialKey key) throws IOException {
+    String name = in.nextName();
+    key.empty = false;
+
+    if (in.peek() == NULL) {
+      in.nextNull();
+      return;
     }
-    JsonObject metadataKey = jsonElement.getAsJsonObject();
 
-    if (metadataKey.entrySet().isEmpty()) {
-      return new NullMetadataKey();
+    switch (name) {
+      case ID:
+        key.id = in.nextString();
+        break;
+      case DISPLAY_NAME:
+        key.displayName = in.nextString();
+        break;
+      case PART_NAME:
+        key.partName = in.nextString();
+        break;
+      case CHILDS:
+        in.beginArray();
+        key.childs = new ArrayList<>();
+        key.readingChilds = true;
+        break;
+      default:
+        in.skipValue();
     }
+  }
 
-    JsonElement id = metadataKey.get("id");
-    JsonElement displayName = metadataKey.get("displayName");
-    JsonElement partName = metadataKey.get("partName");
-    JsonElement childs = metadataKey.get("childs");
+  /**
+   * The attributes of a key read so far, along with its already read childs.
+   */
+  private static final class PartialKey {
 
-    if (id != null && displayName != null && partName != null && childs != null) {
-      MetadataKeyBuilder key = MetadataKeyBuilder.newKey(id.getAsString())
-          .withDisplayName(displayName.getAsString())
-          .withPartName(partName.getAsString());
+    private boolean empty = true;
+    private String id;
+    private String displayName;
+    private String partName;
+    private List<MetadataKey> childs;
+    private boolean readingChilds;
 
-      childs.getAsJsonArray()
-          .forEach(child -> key.withChild(toMetadataKey(child)));
+    private MetadataKey toMetadataKey() {
+      if (empty) {
+        return new NullMetadataKey();
+      }
+
+      if (id == null || displayName == null || partName == null || childs == null) {
+        return null;
+      }
 
+      MetadataKeyBuilder key = MetadataKeyBuilder.newKey(id)
+          .withDisplayName(displayName)
+          .withPartName(partName);
+      childs.forEach(key::withChild);
       return key.build();
     }
-
-    return null;
   }
 }
@@ -0,0 +1,149 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOf;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
+import org.mule.runtime.extension.api.persistence.ExtensionModelBinarySerializer;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.List;
+
+import com.google.gson.JsonIOException;
+import com.google.gson.JsonParseException;
+
+import org.junit.Test;
+
+public class ExtensionModelBinarySerializerTestCase extends BasePersistenceTestCase {
+
+  private static final int BEGIN_OBJECT = 1;
+  private static final int NAME = 5;
+
+  private final ExtensionModelBinarySerializer binarySerializer = new ExtensionModelBinarySerializer();
+
+  @Test
+  public void roundTrip() throws IOException {
+    ExtensionModel deserialized = binarySerializer.deserialize(binarySerializer.serialize(originalExtensionModel));
+    assertSerializedJson(extensionModelJsonSerializer.serialize(deserialized), SERIALIZED_EXTENSION_MODEL_JSON);
+  }
+
+  @Test
+  public void compatibilityRoundTrip() throws IOException {
+    ExtensionModel deserialized = binarySerializer.deserialize(binarySerializer.serialize(compatibilityExtensionModel));
+    assertSerializedJson(extensionModelJsonSerializer.serialize(deserialized), SERIALIZED_EXTENSION_MODEL_COMPATIBILITY_JSON);
+  }
+
+  @Test
+  public void listRoundTrip() throws IOException {
+    List<ExtensionModel> deserialized = binarySerializer.deserializeList(binarySerializer.serializeList(extensionModelList));
+    assertSerializedJson(extensionModelJsonSerializer.serializeList(deserialized), LIST_OF_SERIALIZED_EXTENSION_MODEL_JSON);
+  }
+
+  @Test
+  public void jsonFixturesRoundTrip() throws IOException {
+    for (String fixture : new String[] {SERIALIZED_EXTENSION_MODEL_JSON, SERIALIZED_EXTENSION_MODEL_JSON_NO_CATALOG,
+        "/extension/xml-based-ext-model.json"}) {
+      ExtensionModel fromJson = extensionModelJsonSerializer.deserialize(getResourceAsString(fixture));
+      ExtensionModel fromBinary = binarySerializer.deserialize(binarySerializer.serialize(fromJson));
+
+      assertSerializedJson(extensionModelJsonSerializer.serialize(fromBinary), fixture, false);
+    }
+  }
+
+  @Test
+  public void smallerThanCompactJson() {
+    String json = new ExtensionModelJsonSerializer().serialize(originalExtensionModel);
+    byte[] binary = binarySerializer.serialize(originalExtensionModel);
+
+    assertThat(binary.length, lessThan(json.getBytes(UTF_8).length / 2));
+  }
+
+  @Test
+  public void sharedTypesAreDeserializedAsSingleInstance() {
+    // the fixture uses the same instance as the type of the name of the car, the outputs of the operation and the username
+    OperationModel originalOperation = originalExtensionModel.getOperationModel(GET_CAR_OPERATION_NAME).get();
+    assertThat(getParameterType(originalOperation, CAR_NAME_PARAMETER_NAME), is(sameInstance(stringType)));
+    assertThat(originalOperation.getOutput().getType(), is(sameInstance(stringType)));
+    assertThat(originalOperation.getOutputAttributes().getType(), is(sameInstance(stringType)));
+    assertThat(getParameterType(originalExtensionModel.getConnectionProviders().get(0), "username"),
+               is(sameInstance(stringType)));
+
+    ExtensionModel deserialized = binarySerializer.deserialize(binarySerializer.serialize(originalExtensionModel));
+
+    OperationModel operation = deserialized.getOperationModel(GET_CAR_OPERATION_NAME).get();
+    MetadataType carNameType = getParameterType(operation, CAR_NAME_PARAMETER_NAME);
+    assertThat(operation.getOutput().getType(), is(sameInstance(carNameType)));
+    assertThat(operation.getOutputAttributes().getType(), is(sameInstance(carNameType)));
+    assertThat(getParameterType(deserialized.getConnectionProviders().get(0), "username"), is(sameInstance(carNameType)));
+  }
+
+  @Test(expected = JsonParseException.class)
+  public void invalidHeader() {
+    binarySerializer.deserialize("{\"name\": \"not binary\"}".getBytes(UTF_8));
+  }
+
+  @Test(expected = JsonIOException.class)
+  public void truncatedContent() {
+    byte[] serialized = binarySerializer.serialize(originalExtensionModel);
+    binarySerializer.deserialize(copyOf(serialized, serialized.length / 2));
+  }
+
+  @Test(expected = JsonParseException.class)
+  public void invalidStringReference() {
+    // a name which references the fifth string, when none was read yet
+    binarySerializer.deserialize(document(BEGIN_OBJECT, NAME, 5));
+  }
+
+  @Test(expected = JsonParseException.class)
+  public void invalidStringLength() {
+    // a name with a length longer than the longest array
+    binarySerializer.deserialize(document(BEGIN_OBJECT, NAME, 0, 0xFF, 0xFF, 0xFF, 0xFF, 0x7F));
+  }
+
+  @Test(expected = JsonIOException.class)
+  public void stringLengthLongerThanContent() {
+    // a name of almost 2GB which is not there, which must not be allocated upfront
+    binarySerializer.deserialize(document(BEGIN_OBJECT, NAME, 0, 0xFE, 0xFF, 0xFF, 0xFF, 0x07));
+  }
+
+  @Test(expected = JsonParseException.class)
+  public void unexpectedToken() {
+    binarySerializer.deserialize(document(BEGIN_OBJECT, 0x7F));
+  }
+
+  private MetadataType getParameterType(ParameterizedModel model, String parameterName) {
+    return model.getAllParameterModels().stream()
+        .filter(parameter -> parameter.getName().equals(parameterName))
+        .findFirst()
+        .get()
+        .getType();
+  }
+
+  private byte[] document(int... content) {
+    ByteArrayOutputStream document = new ByteArrayOutputStream();
+    // the header, with the magic number and the version of the format
+    for (int b : new int[] {0x4D, 0x45, 0x58, 0x42, 1}) {
+      document.write(b);
+    }
+    for (int b : content) {
+      document.write(b);
+    }
+    return document.toByteArray();
+  }
+}
@@ -0,0 +1,112 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence.test;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.core.Is.is;
+import static org.hamcrest.core.IsSame.sameInstance;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.extension.api.persistence.ExtensionModelCatalog;
+import org.mule.runtime.extension.api.persistence.ExtensionModelCatalogWriter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.util.List;
+
+import com.google.gson.JsonParseException;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+import org.junit.rules.TemporaryFolder;
+
+public class ExtensionModelCatalogTestCase extends BasePersistenceTestCase {
+
+  private static final String XML_BASED_EXTENSION_MODEL_JSON = "/extension/xml-based-ext-model.json";
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final ExtensionModelCatalogWriter catalogWriter = new ExtensionModelCatalogWriter();
+
+  @Test
+  public void roundTrip() throws IOException {
+    ExtensionModel xmlBasedExtensionModel =
+        extensionModelJsonSerializer.deserialize(getResourceAsString(XML_BASED_EXTENSION_MODEL_JSON));
+    File catalogFile = temporaryFolder.newFile();
+    catalogWriter.write(asList(originalExtensionModel, xmlBasedExtensionModel), catalogFile.toPath());
+
+    ExtensionModelCatalog catalog = ExtensionModelCatalog.open(catalogFile.toPath());
+    assertThat(catalog.getExtensionNames(), contains(originalExtensionModel.getName(), xmlBasedExtensionModel.getName()));
+
+    ExtensionModel fromCatalog = catalog.getExtensionModel(originalExtensionModel.getName()).get();
+    assertSerializedJson(extensionModelJsonSerializer.serialize(fromCatalog), SERIALIZED_EXTENSION_MODEL_JSON);
+
+    fromCatalog = catalog.getExtensionModel(xmlBasedExtensionModel.getName()).get();
+    assertSerializedJson(extensionModelJsonSerializer.serialize(fromCatalog), XML_BASED_EXTENSION_MODEL_JSON, false);
+  }
+
+  @Test
+  public void unknownExtension() throws IOException {
+    ExtensionModelCatalog catalog = ExtensionModelCatalog.from(write(singletonList(originalExtensionModel)));
+    assertThat(catalog.getExtensionModel("NotInTheCatalog").isPresent(), is(false));
+  }
+
+  @Test
+  public void modelsAreDecodedOnce() throws IOException {
+    ExtensionModelCatalog catalog = ExtensionModelCatalog.from(write(singletonList(originalExtensionModel)));
+    ExtensionModel extensionModel = catalog.getExtensionModel(originalExtensionModel.getName()).get();
+
+    assertThat(catalog.getExtensionModels().get(0), is(sameInstance(extensionModel)));
+
+    OperationModel operation = extensionModel.getOperationModel(GET_CAR_OPERATION_NAME).get();
+    assertThat(extensionModel.getOperationModels().get(0), is(sameInstance(operation)));
+    assertThat(extensionModel.findComponentModel(GET_CAR_OPERATION_NAME).get(), is(sameInstance(operation)));
+  }
+
+  @Test
+  public void componentsAreDecodedOnlyWhenAccessed() throws IOException {
+    ByteBuffer catalogContent = write(singletonList(originalExtensionModel));
+    // the source is the last document of the catalog, so this corrupts the token which closes it
+    catalogContent.put(catalogContent.limit() - 1, (byte) 0x7F);
+
+    ExtensionModel extensionModel =
+        ExtensionModelCatalog.from(catalogContent).getExtensionModel(originalExtensionModel.getName()).get();
+    assertThat(extensionModel.getOperationModel(GET_CAR_OPERATION_NAME).get().getName(), is(GET_CAR_OPERATION_NAME));
+
+    expectedException.expect(JsonParseException.class);
+    extensionModel.getSourceModel(SOURCE_NAME);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void duplicatedExtensionNames() throws IOException {
+    write(extensionModelList);
+  }
+
+  @Test(expected = JsonParseException.class)
+  public void invalidHeader() throws IOException {
+    ExtensionModelCatalog.from(ByteBuffer.wrap("{\"name\": \"not a catalog\"}".getBytes(UTF_8)));
+  }
+
+  private ByteBuffer write(List<ExtensionModel> extensionModels) throws IOException {
+    ByteArrayOutputStream out = new ByteArrayOutputStream();
+    catalogWriter.write(extensionModels, out);
+    return ByteBuffer.wrap(out.toByteArray());
+  }
+}
@@ -8,10 +8,15 @@ package org.mule.runtime.extension.api.persistence.test;
 
 import static org.mule.metadata.java.api.utils.JavaTypeUtils.getType;
 
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
 import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.equalTo;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.hamcrest.core.Is.is;
 import static org.hamcrest.core.IsIterableContaining.hasItem;
 import static org.hamcrest.core.IsInstanceOf.instanceOf;
@@ -27,6 +32,7 @@ import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
 import org.mule.runtime.extension.api.declaration.type.annotation.ExtensibleTypeAnnotation;
 import org.mule.runtime.extension.api.declaration.type.annotation.ParameterDslAnnotation;
 import org.mule.runtime.extension.api.test.dsl.model.ComplexFieldsType;
@@ -35,12 +41,18 @@ import org.mule.runtime.extension.api.model.ImmutableExtensionModel;
 import org.mule.runtime.extension.api.model.connection.ImmutableConnectionProviderModel;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashSet;
+import java.util.List;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
 
 import org.apache.commons.io.IOUtils;
 
@@ -116,6 +128,40 @@ public class ExtensionModelPersistenceTestCase extends BasePersistenceTestCase {
     assertSerializedJson(serializedModel, SERIALIZED_EXTENSION_MODEL_JSON);
   }
 
+  @Test
+  public void nameIndexesAreNotSerialized() throws IOException {
+    // looking components up by name builds the indexes of the looked up models
+    originalExtensionModel.getOperationModel(GET_CAR_OPERATION_NAME);
+    originalExtensionModel.getSourceModel(SOURCE_NAME);
+    originalExtensionModel.getConnectionProviderModel(GET_CAR_OPERATION_NAME);
+    originalExtensionModel.getConfigurationModel(GET_CAR_OPERATION_NAME);
+    originalExtensionModel.getConstructModel(GET_CAR_OPERATION_NAME);
+    originalExtensionModel.getFunctionModel(GET_CAR_OPERATION_NAME);
+    originalExtensionModel.getOperationModel(GET_CAR_OPERATION_NAME).get().getParameterGroupModels().get(0)
+        .getParameter(GET_CAR_OPERATION_NAME);
+
+    String serializedModel = extensionModelJsonSerializer.serialize(originalExtensionModel);
+    assertSerializedJson(serializedModel, SERIALIZED_EXTENSION_MODEL_JSON);
+  }
+
+  @Test
+  public void equalSubModelsAreSharedAfterDeserialization() {
+    List<ParameterModel> parameters = new ArrayList<>();
+    deserializedExtensionModel.getOperationModels().forEach(operation -> parameters.addAll(operation.getAllParameterModels()));
+    deserializedExtensionModel.getSourceModels().forEach(source -> parameters.addAll(source.getAllParameterModels()));
+
+    for (ParameterModel parameter : parameters) {
+      for (ParameterModel other : parameters) {
+        if (parameter.getLayoutModel().equals(other.getLayoutModel()) && parameter.getLayoutModel().isPresent()) {
+          assertThat(parameter.getLayoutModel().get(), is(sameInstance(other.getLayoutModel().get())));
+        }
+        if (Objects.equals(parameter.getDslConfiguration(), other.getDslConfiguration())) {
+          assertThat(parameter.getDslConfiguration(), is(sameInstance(other.getDslConfiguration())));
+        }
+      }
+    }
+  }
+
   @Test
   public void validateJsonListStructure() throws IOException {
     final String serializedList = extensionModelJsonSerializer.serializeList(extensionModelList);
@@ -167,6 +213,128 @@ public class ExtensionModelPersistenceTestCase extends BasePersistenceTestCase {
     assertSerializedJson(serializedModel, SERIALIZED_EXTENSION_MODEL_JSON_NO_CATALOG, false);
   }
 
+  @Test
+  public void referencedSectionsAreSerializedBeforeComponents() {
+    List<String> sections = new ArrayList<>(serializedExtensionModel.getAsJsonObject().keySet());
+    int firstComponent = sections.indexOf("subTypes");
+
+    assertThat(sections.indexOf("types"), lessThan(firstComponent));
+    assertThat(sections.indexOf("importedTypes"), lessThan(firstComponent));
+    assertThat(sections.indexOf("notifications"), lessThan(firstComponent));
+    assertThat(sections.indexOf("errors"), lessThan(firstComponent));
+    assertThat(sections.indexOf("operations"), greaterThan(firstComponent));
+  }
+
+  @Test
+  public void legacyLayoutCorrectlyDeserialized() throws IOException {
+    // the fixture has the types catalog, errors and notifications after the components
+    ExtensionModel deserializedModel =
+        extensionModelJsonSerializer.deserialize(getResourceAsString(SERIALIZED_EXTENSION_MODEL_JSON));
+
+    assertSerializedJson(extensionModelJsonSerializer.serialize(deserializedModel), SERIALIZED_EXTENSION_MODEL_JSON);
+  }
+
+  @Test
+  public void concurrentSerializationWithSharedSerializer() throws Exception {
+    final String expectedModel = extensionModelJsonSerializer.serialize(originalExtensionModel);
+    final String expectedCompatibilityModel = extensionModelJsonSerializer.serialize(compatibilityExtensionModel);
+
+    ExecutorService executor = newFixedThreadPool(4);
+    try {
+      List<Future<?>> results = new ArrayList<>();
+      for (int i = 0; i < 50; i++) {
+        results.add(executor.submit(() -> {
+          assertThat(extensionModelJsonSerializer.serialize(originalExtensionModel), is(expectedModel));
+          assertThat(extensionModelJsonSerializer.serialize(compatibilityExtensionModel), is(expectedCompatibilityModel));
+          ExtensionModel deserialized = extensionModelJsonSerializer.deserialize(expectedModel);
+          assertThat(extensionModelJsonSerializer.serialize(deserialized), is(expectedModel));
+        }));
+      }
+
+      for (Future<?> result : results) {
+        result.get();
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void listSerializationDoesNotDependOnPreviousSerializations() throws IOException {
+    ExtensionModelJsonSerializer serializer = new ExtensionModelJsonSerializer(true);
+    assertSerializedJson(serializer.serializeList(extensionModelList), LIST_OF_SERIALIZED_EXTENSION_MODEL_JSON);
+  }
+
+  @Test
+  public void listWithDictionaryRoundTrip() throws IOException {
+    String serializedList = extensionModelJsonSerializer.serializeListWithDictionary(extensionModelList);
+    List<ExtensionModel> deserializedList = extensionModelJsonSerializer.deserializeList(serializedList);
+
+    assertThat(deserializedList.size(), is(extensionModelList.size()));
+    assertSerializedJson(extensionModelJsonSerializer.serializeList(deserializedList), LIST_OF_SERIALIZED_EXTENSION_MODEL_JSON);
+    assertThat(serializedList.length(), lessThan(extensionModelJsonSerializer.serializeList(extensionModelList).length()));
+  }
+
+  @Test
+  public void listWithDictionaryRoundTripOfDifferentExtensions() throws IOException {
+    List<ExtensionModel> extensionModels = new ArrayList<>();
+    for (String fixture : new String[] {SERIALIZED_EXTENSION_MODEL_JSON, SERIALIZED_EXTENSION_MODEL_JSON_NO_CATALOG,
+        "/extension/xml-based-ext-model.json"}) {
+      extensionModels.add(extensionModelJsonSerializer.deserialize(getResourceAsString(fixture)));
+    }
+
+    List<ExtensionModel> deserializedList =
+        extensionModelJsonSerializer.deserializeList(extensionModelJsonSerializer.serializeListWithDictionary(extensionModels));
+
+    assertThat(deserializedList.size(), is(extensionModels.size()));
+    JsonParser parser = new JsonParser();
+    for (int i = 0; i < extensionModels.size(); ++i) {
+      ExtensionModel expected = extensionModels.get(i);
+      ExtensionModel actual = deserializedList.get(i);
+
+      assertThat(actual.getName(), is(expected.getName()));
+      assertThat(actual.getVersion(), is(expected.getVersion()));
+      assertThat(actual.getXmlDslModel(), is(expected.getXmlDslModel()));
+      assertThat(actual.getTypes(), is(expected.getTypes()));
+      assertThat(actual.getImportedTypes(), is(expected.getImportedTypes()));
+      assertThat(actual.getErrorModels(), is(expected.getErrorModels()));
+      assertThat(actual.getNotificationModels(), is(expected.getNotificationModels()));
+      // every other field, as written on its own
+      assertThat(parser.parse(extensionModelJsonSerializer.serialize(actual)),
+                 is(parser.parse(extensionModelJsonSerializer.serialize(expected))));
+    }
+  }
+
+  @Test
+  public void listWithDictionaryDoesNotShareTypesBetweenExtensions() {
+    List<ExtensionModel> deserializedList = extensionModelJsonSerializer
+        .deserializeList(extensionModelJsonSerializer.serializeListWithDictionary(extensionModelList));
+
+    // the types may have annotations, such as the allowed stereotypes, which are resolved in place for each extension
+    ObjectType type = deserializedList.get(0).getTypes().iterator().next();
+    ObjectType sameTypeOfOtherExtension = deserializedList.get(1).getTypes().stream()
+        .filter(type::equals)
+        .findFirst().get();
+    assertThat(sameTypeOfOtherExtension, is(not(sameInstance(type))));
+  }
+
+  @Test
+  public void listWithDictionarySharesEntriesBetweenExtensions() {
+    JsonObject serializedList = new JsonParser()
+        .parse(new ExtensionModelJsonSerializer().serializeListWithDictionary(extensionModelList)).getAsJsonObject();
+    JsonObject dictionary = serializedList.getAsJsonObject("dictionary");
+    JsonArray extensions = serializedList.getAsJsonArray("extensions");
+
+    // both extensions of the list are equivalent, so they reference the same entries
+    assertThat(extensions.size(), is(2));
+    for (String section : new String[] {"types", "importedTypes", "notifications", "errors"}) {
+      assertThat(extensions.get(0).getAsJsonObject().get(section), equalTo(extensions.get(1).getAsJsonObject().get(section)));
+    }
+    assertThat(dictionary.getAsJsonArray("errors").size(),
+               is(extensions.get(0).getAsJsonObject().getAsJsonArray("errors").size()));
+    assertThat(dictionary.getAsJsonArray("stereotypes").size(), greaterThan(0));
+  }
+
   @Test
   public void operationMinMuleVersionCorrectlyDeserialized() {
     OperationModel operation = deserializedExtensionModel.getOperationModel(GET_CAR_OPERATION_NAME).get();
@@ -13,6 +13,7 @@ import static org.mule.runtime.api.metadata.resolving.MetadataFailure.Builder.ne
 import static org.mule.runtime.api.metadata.resolving.MetadataResult.failure;
 import static org.mule.runtime.api.metadata.resolving.MetadataResult.success;
 
+import static org.hamcrest.CoreMatchers.containsString;
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
 import static org.hamcrest.CoreMatchers.nullValue;
@@ -33,6 +34,8 @@ import org.mule.runtime.extension.api.persistence.metadata.EntityMetadataResultJ
 import org.mule.runtime.extension.api.persistence.metadata.MetadataKeysResultJsonSerializer;
 
 import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
 import java.util.Iterator;
 import java.util.LinkedHashSet;
 import java.util.Set;
@@ -214,6 +217,60 @@ public class MetadataKeyResultPersistenceTestCase extends AbstractMetadataPersis
     assertThat(iterator.next(), is(nullValue()));
   }
 
+  @Test
+  public void serializeAndDeserializeThroughStreams() throws IOException {
+    Set<MetadataKey> keys = new LinkedHashSet<>();
+    for (int i = 0; i < 100; i++) {
+      MetadataKeyBuilder key = newKey("key" + i);
+      for (int j = 0; j < 10; j++) {
+        key.withChild(newKey("key" + i + "-" + j).withPartName("part").withChild(newKey("key" + i + "-" + j + "-leaf")));
+      }
+      keys.add(key.build());
+    }
+    MetadataResult<MetadataKeysContainer> result = success(builder.add(CATEGORY_NAME, keys).build());
+
+    StringWriter writer = new StringWriter();
+    keysResultSerializer.serialize(result, writer);
+    assertThat(writer.toString(), is(keysResultSerializer.serialize(result)));
+
+    MetadataResult<MetadataKeysContainer> deserialized = keysResultSerializer.deserialize(new StringReader(writer.toString()));
+    assertThat(deserialized.get().getKeys(CATEGORY_NAME).get().size(), is(keys.size()));
+    assertLoadAndSerialize(writer.toString());
+  }
+
+  @Test
+  public void serializeDeepMetadataKeysTree() throws IOException {
+    MetadataKey key = newKey("leaf").build();
+    for (int i = 0; i < 2000; i++) {
+      key = newKey("level" + i).withChild(key).build();
+    }
+    Set<MetadataKey> keys = new LinkedHashSet<>();
+    keys.add(key);
+
+    String serialized = keysResultSerializer.serialize(success(builder.add(CATEGORY_NAME, keys).build()));
+    assertThat(serialized, containsString("\"id\": \"leaf\""));
+  }
+
+  @Test
+  public void deserializeDeepMetadataKeysTree() throws IOException {
+    MetadataKey key = newKey("leaf").build();
+    for (int i = 0; i < 50; i++) {
+      key = newKey("level" + i).withChild(key).build();
+    }
+    Set<MetadataKey> keys = new LinkedHashSet<>();
+    keys.add(key);
+    String serialized = keysResultSerializer.serialize(success(builder.add(CATEGORY_NAME, keys).build()));
+
+    MetadataKey deserialized = keysResultSerializer.deserialize(serialized).get().getKeys(CATEGORY_NAME).get().iterator().next();
+    int depth = 0;
+    while (!deserialized.getChilds().isEmpty()) {
+      deserialized = deserialized.getChilds().iterator().next();
+      depth++;
+    }
+    assertThat(depth, is(50));
+    assertThat(deserialized.getId(), is("leaf"));
+  }
+
   private void assertLoadAndSerialize(String json) {
     MetadataResult<MetadataKeysContainer> deserialized = keysResultSerializer.deserialize(json);
     String reSerialized = keysResultSerializer.serialize(deserialized);
@@ -0,0 +1,183 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence.test;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static java.util.Optional.empty;
+import static java.util.Optional.of;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.extension.api.persistence.ModelPropertyClassProvider;
+import org.mule.runtime.extension.internal.persistence.ModelPropertyClassRegistry;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.util.Collection;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+public class ModelPropertyClassRegistryTestCase {
+
+  private static final String MISSING = "org.mule.runtime.extension.api.persistence.test.MissingModelProperty";
+
+  private final ModelPropertyClassRegistry registry = new ModelPropertyClassRegistry(classLoader -> emptyList());
+  private final CountingClassLoader classLoader = new CountingClassLoader();
+
+  @Test
+  public void classIsLookedUpOnce() {
+    assertThat(registry.resolve(TestModelProperty.class.getName(), classLoader), is(of(TestModelProperty.class)));
+    int loads = classLoader.loads.get();
+
+    assertThat(registry.resolve(TestModelProperty.class.getName(), classLoader), is(of(TestModelProperty.class)));
+    assertThat(classLoader.loads.get(), is(loads));
+  }
+
+  @Test
+  public void missingClassIsLookedUpOnce() {
+    assertThat(registry.resolve(MISSING, classLoader), is(empty()));
+    int loads = classLoader.loads.get();
+    assertThat(loads, is(greaterThan(0)));
+
+    assertThat(registry.resolve(MISSING, classLoader), is(empty()));
+    assertThat(classLoader.loads.get(), is(loads));
+  }
+
+  @Test
+  public void resolutionsAreScopedByClassLoader() {
+    CountingClassLoader another = new CountingClassLoader();
+
+    registry.resolve(MISSING, classLoader);
+    registry.resolve(MISSING, another);
+
+    assertThat(another.loads.get(), is(classLoader.loads.get()));
+  }
+
+  @Test
+  public void providedClassesAreNotLookedUp() {
+    ModelPropertyClassRegistry registry = new ModelPropertyClassRegistry(classLoader -> singletonList(new TestProvider()));
+
+    assertThat(registry.resolve(TestModelProperty.class.getName(), classLoader), is(of(TestModelProperty.class)));
+    assertThat(classLoader.loads.get(), is(0));
+  }
+
+  @Test
+  public void refreshLooksUpAgain() {
+    registry.resolve(MISSING, classLoader);
+    int loads = classLoader.loads.get();
+
+    registry.refresh(classLoader);
+    registry.resolve(MISSING, classLoader);
+
+    assertThat(classLoader.loads.get(), is(loads * 2));
+  }
+
+  @Test
+  public void classLoaderOfResolvedClassIsCollected() throws Exception {
+    WeakReference<ClassLoader> isolatedClassLoader = resolveIsolated(TestModelProperty.class);
+
+    for (int i = 0; isolatedClassLoader.get() != null && i < 50; ++i) {
+      System.gc();
+      Thread.sleep(20);
+    }
+    assertThat(isolatedClassLoader.get(), is(nullValue()));
+  }
+
+  private WeakReference<ClassLoader> resolveIsolated(Class<?> modelPropertyClass) {
+    ClassLoader isolatedClassLoader = new IsolatingClassLoader(modelPropertyClass.getName());
+    Class<? extends ModelProperty> resolved = registry.resolve(modelPropertyClass.getName(), isolatedClassLoader).get();
+    assertThat(resolved.getClassLoader(), is(sameInstance(isolatedClassLoader)));
+    return new WeakReference<>(isolatedClassLoader);
+  }
+
+  private static final class CountingClassLoader extends ClassLoader {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private CountingClassLoader() {
+      super(ModelPropertyClassRegistryTestCase.class.getClassLoader());
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      loads.incrementAndGet();
+      return super.loadClass(name, resolve);
+    }
+  }
+
+  /**
+   * Defines the class with the given name itself, instead of delegating it to its parent.
+   */
+  private static final class IsolatingClassLoader extends ClassLoader {
+
+    private final String isolatedClassName;
+
+    private IsolatingClassLoader(String isolatedClassName) {
+      super(ModelPropertyClassRegistryTestCase.class.getClassLoader());
+      this.isolatedClassName = isolatedClassName;
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (!isolatedClassName.equals(name)) {
+        return super.loadClass(name, resolve);
+      }
+
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> clazz = findLoadedClass(name);
+        if (clazz == null) {
+          byte[] bytes = readClass(name);
+          clazz = defineClass(name, bytes, 0, bytes.length);
+        }
+        return clazz;
+      }
+    }
+
+    private byte[] readClass(String name) throws ClassNotFoundException {
+      try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        for (int read; (read = in.read(buffer)) != -1;) {
+          bytes.write(buffer, 0, read);
+        }
+        return bytes.toByteArray();
+      } catch (IOException e) {
+        throw new ClassNotFoundException(name, e);
+      }
+    }
+  }
+
+  private static final class TestProvider implements ModelPropertyClassProvider {
+
+    @Override
+    public Collection<Class<? extends ModelProperty>> getModelPropertyClasses() {
+      return singletonList(TestModelProperty.class);
+    }
+  }
+
+  public static final class TestModelProperty implements ModelProperty {
+
+    @Override
+    public String getName() {
+      return "test";
+    }
+
+    @Override
+    public boolean isPublic() {
+      return true;
+    }
+  }
+}
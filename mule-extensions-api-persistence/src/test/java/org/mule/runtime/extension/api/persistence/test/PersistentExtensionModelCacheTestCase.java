@@ -0,0 +1,261 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence.test;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Arrays.copyOf;
+import static java.util.Collections.emptySet;
+import static java.util.Collections.singleton;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayWithSize;
+import static org.hamcrest.core.Is.is;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.api.test.meta.model.tck.TestCoreExtensionDeclarer;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+import org.mule.runtime.extension.api.persistence.ExtensionModelJsonSerializer;
+import org.mule.runtime.extension.api.persistence.PersistentExtensionModelCache;
+import org.mule.runtime.extension.api.persistence.PersistentExtensionModelCache.CacheStats;
+import org.mule.runtime.extension.api.persistence.test.BasePersistenceTestCase.NonExternalizableModelProperty;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PersistentExtensionModelCacheTestCase {
+
+  @Rule
+  public TemporaryFolder temporaryFolder = new TemporaryFolder();
+
+  private final AtomicInteger loads = new AtomicInteger();
+  private ModelProperty modelProperty;
+  private final ExtensionModelLoader loader = new ExtensionModelLoader() {
+
+    @Override
+    public String getId() {
+      return "test";
+    }
+
+    @Override
+    protected void declareExtension(ExtensionLoadingContext context) {
+      loads.incrementAndGet();
+      new TestCoreExtensionDeclarer().declareOn(context.getExtensionDeclarer());
+      if (modelProperty != null) {
+        context.getExtensionDeclarer().withModelProperty(modelProperty);
+      }
+    }
+  };
+
+  private final ExtensionModelJsonSerializer serializer = new ExtensionModelJsonSerializer();
+
+  private File cacheDirectory;
+  private File extensionClasses;
+  private URLClassLoader extensionClassLoader;
+
+  @Before
+  public void before() throws IOException {
+    cacheDirectory = temporaryFolder.newFolder();
+    extensionClasses = temporaryFolder.newFolder();
+    write("content");
+    extensionClassLoader = new URLClassLoader(new URL[] {extensionClasses.toURI().toURL()}, getClass().getClassLoader());
+  }
+
+  @After
+  public void after() throws IOException {
+    extensionClassLoader.close();
+  }
+
+  @Test
+  public void warmLoadDoesNotIntrospect() {
+    ExtensionModel built = newCache().loadExtensionModel(loader, request(extensionClassLoader));
+    assertThat(loads.get(), is(1));
+
+    PersistentExtensionModelCache cache = newCache();
+    ExtensionModel cached = cache.loadExtensionModel(loader, request(extensionClassLoader));
+    assertThat(loads.get(), is(1));
+    assertThat(serializer.serialize(cached), is(serializer.serialize(built)));
+    assertStats(cache.getStats(), 1, 0, 0, 0);
+  }
+
+  @Test
+  public void changedContentIsRebuilt() throws IOException {
+    newCache().loadExtensionModel(loader, request(extensionClassLoader));
+    write("changed content");
+
+    PersistentExtensionModelCache cache = newCache();
+    cache.loadExtensionModel(loader, request(extensionClassLoader));
+    assertThat(loads.get(), is(2));
+    assertStats(cache.getStats(), 0, 0, 1, 0);
+
+    cache.loadExtensionModel(loader, request(extensionClassLoader));
+    assertThat(loads.get(), is(2));
+    assertStats(cache.getStats(), 1, 0, 1, 0);
+  }
+
+  @Test
+  public void changedDependencyIsRebuilt() {
+    ExtensionModel dependency = dependencyLoader("a dependency").loadExtensionModel(request(extensionClassLoader));
+    ExtensionModel changedDependency = dependencyLoader("a changed dependency")
+        .loadExtensionModel(request(extensionClassLoader));
+    assertThat(changedDependency.getVersion(), is(dependency.getVersion()));
+
+    newCache().loadExtensionModel(loader, request(extensionClassLoader, dependency));
+
+    PersistentExtensionModelCache cache = newCache();
+    cache.loadExtensionModel(loader, request(extensionClassLoader, changedDependency));
+    assertThat(loads.get(), is(2));
+    assertStats(cache.getStats(), 0, 0, 1, 0);
+
+    cache.loadExtensionModel(loader, request(extensionClassLoader, changedDependency));
+    assertThat(loads.get(), is(2));
+    assertStats(cache.getStats(), 1, 0, 1, 0);
+  }
+
+  @Test
+  public void corruptedEntryIsRebuilt() throws IOException {
+    PersistentExtensionModelCache cache = newCache();
+    ExtensionModel built = cache.loadExtensionModel(loader, request(extensionClassLoader));
+    assertStats(cache.getStats(), 0, 1, 0, 0);
+
+    File[] entries = cacheDirectory.listFiles();
+    assertThat(entries, arrayWithSize(1));
+    byte[] content = Files.readAllBytes(entries[0].toPath());
+    Files.write(entries[0].toPath(), copyOf(content, content.length / 2));
+
+    ExtensionModel rebuilt = cache.loadExtensionModel(loader, request(extensionClassLoader));
+    assertThat(loads.get(), is(2));
+    assertThat(serializer.serialize(rebuilt), is(serializer.serialize(built)));
+    assertStats(cache.getStats(), 0, 1, 1, 0);
+
+    cache.loadExtensionModel(loader, request(extensionClassLoader));
+    assertThat(loads.get(), is(2));
+    assertStats(cache.getStats(), 1, 1, 1, 0);
+
+    corruptFirstStringLength(entries[0].toPath());
+    rebuilt = cache.loadExtensionModel(loader, request(extensionClassLoader));
+    assertThat(loads.get(), is(3));
+    assertThat(serializer.serialize(rebuilt), is(serializer.serialize(built)));
+    assertStats(cache.getStats(), 1, 1, 2, 0);
+
+    cache.loadExtensionModel(loader, request(extensionClassLoader));
+    assertThat(loads.get(), is(3));
+    assertStats(cache.getStats(), 2, 1, 2, 0);
+  }
+
+  @Test
+  public void modelWithNonPublicModelPropertyIsNotCached() {
+    modelProperty = new NonExternalizableModelProperty();
+    PersistentExtensionModelCache cache = newCache();
+    cache.loadExtensionModel(loader, request(extensionClassLoader));
+    ExtensionModel loaded = cache.loadExtensionModel(loader, request(extensionClassLoader));
+
+    assertThat(loads.get(), is(2));
+    assertThat(loaded.getModelProperty(NonExternalizableModelProperty.class).isPresent(), is(true));
+    assertThat(cacheDirectory.listFiles(), arrayWithSize(0));
+    assertStats(cache.getStats(), 0, 0, 0, 2);
+  }
+
+  @Test
+  public void requestWithoutContentHashIsNotCached() {
+    ClassLoader classLoader = new ClassLoader(getClass().getClassLoader()) {};
+    PersistentExtensionModelCache cache = newCache();
+    cache.loadExtensionModel(loader, request(classLoader));
+    cache.loadExtensionModel(loader, request(classLoader));
+
+    assertThat(loads.get(), is(2));
+    assertThat(cacheDirectory.listFiles(), arrayWithSize(0));
+    assertStats(cache.getStats(), 0, 0, 0, 2);
+  }
+
+  @Test
+  public void requestWithUnkeyableParameterIsNotCached() {
+    PersistentExtensionModelCache cache = newCache();
+    cache.loadExtensionModel(loader, ExtensionModelLoadingRequest.builder(extensionClassLoader, getDefault(emptySet()))
+        .addParameter("unkeyable", new Object())
+        .build());
+
+    assertThat(cacheDirectory.listFiles(), arrayWithSize(0));
+    assertStats(cache.getStats(), 0, 0, 0, 1);
+  }
+
+  private PersistentExtensionModelCache newCache() {
+    return PersistentExtensionModelCache.builder(cacheDirectory.toPath()).build();
+  }
+
+  private ExtensionModelLoadingRequest request(ClassLoader classLoader) {
+    return ExtensionModelLoadingRequest.builder(classLoader, getDefault(emptySet())).build();
+  }
+
+  private ExtensionModelLoadingRequest request(ClassLoader classLoader, ExtensionModel dependency) {
+    return ExtensionModelLoadingRequest.builder(classLoader, getDefault(singleton(dependency))).build();
+  }
+
+  private ExtensionModelLoader dependencyLoader(String description) {
+    return new ExtensionModelLoader() {
+
+      @Override
+      public String getId() {
+        return "dependency";
+      }
+
+      @Override
+      protected void declareExtension(ExtensionLoadingContext context) {
+        new TestCoreExtensionDeclarer().declareOn(context.getExtensionDeclarer());
+        context.getExtensionDeclarer().describedAs(description);
+      }
+    };
+  }
+
+  private void write(String content) throws IOException {
+    Files.write(new File(extensionClasses, "Extension.class").toPath(), content.getBytes(UTF_8));
+  }
+
+  /**
+   * Replaces the length of the first string of the serialized model with one far longer than the entry.
+   */
+  private void corruptFirstStringLength(Path entry) throws IOException {
+    byte[] content = Files.readAllBytes(entry);
+    DataInputStream in = new DataInputStream(new ByteArrayInputStream(content));
+    in.skipBytes(8);
+    in.skipBytes(in.readInt());
+    in.skipBytes(in.readInt());
+    // the header of the binary format, the start of the model object, the name token and the reference of a new string
+    int lengthOffset = content.length - in.available() + 8;
+
+    ByteArrayOutputStream corrupted = new ByteArrayOutputStream();
+    corrupted.write(content, 0, lengthOffset);
+    corrupted.write(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x07});
+    corrupted.write(content, lengthOffset + 1, content.length - lengthOffset - 1);
+    Files.write(entry, corrupted.toByteArray());
+  }
+
+  private void assertStats(CacheStats stats, long hits, long misses, long rebuilds, long bypasses) {
+    assertThat(stats.toString(), stats.hitCount(), is(hits));
+    assertThat(stats.toString(), stats.missCount(), is(misses));
+    assertThat(stats.toString(), stats.rebuildCount(), is(rebuilds));
+    assertThat(stats.toString(), stats.bypassCount(), is(bypasses));
+  }
+}
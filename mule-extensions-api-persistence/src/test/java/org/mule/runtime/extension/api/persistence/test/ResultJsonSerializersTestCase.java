@@ -0,0 +1,77 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.persistence.test;
+
+import static org.mule.runtime.api.metadata.MetadataKeyBuilder.newKey;
+import static org.mule.runtime.api.metadata.resolving.MetadataResult.success;
+
+import static java.util.concurrent.Executors.newFixedThreadPool;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+
+import org.mule.runtime.api.metadata.MetadataKey;
+import org.mule.runtime.api.metadata.MetadataKeysContainer;
+import org.mule.runtime.api.metadata.MetadataKeysContainerBuilder;
+import org.mule.runtime.api.metadata.resolving.MetadataResult;
+import org.mule.runtime.extension.api.persistence.ResultJsonSerializers;
+import org.mule.runtime.extension.api.persistence.metadata.MetadataKeysResultJsonSerializer;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import org.junit.Test;
+
+public class ResultJsonSerializersTestCase {
+
+  @Test
+  public void serializersWorkAfterWarmUp() {
+    ResultJsonSerializers.warmUp();
+    ResultJsonSerializers.warmUp();
+
+    MetadataResult<MetadataKeysContainer> result = keysResult();
+    String serialized = new MetadataKeysResultJsonSerializer(true).serialize(result);
+
+    assertThat(new MetadataKeysResultJsonSerializer(true).serialize(new MetadataKeysResultJsonSerializer(true)
+        .deserialize(serialized)), is(serialized));
+  }
+
+  @Test
+  public void serializersCreatedConcurrentlyAreEquivalent() throws Exception {
+    MetadataResult<MetadataKeysContainer> result = keysResult();
+    String expected = new MetadataKeysResultJsonSerializer().serialize(result);
+
+    ExecutorService executor = newFixedThreadPool(8);
+    try {
+      List<Future<String>> serializations = new ArrayList<>();
+      for (int i = 0; i < 64; i++) {
+        serializations.add(executor.submit(() -> {
+          MetadataKeysResultJsonSerializer serializer = new MetadataKeysResultJsonSerializer();
+          return serializer.serialize(serializer.deserialize(serializer.serialize(result)));
+        }));
+      }
+
+      for (Future<String> serialization : serializations) {
+        assertThat(serialization.get(), is(expected));
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  private MetadataResult<MetadataKeysContainer> keysResult() {
+    Set<MetadataKey> keys = new LinkedHashSet<>();
+    for (int i = 0; i < 20; i++) {
+      keys.add(newKey("key" + i).withChild(newKey("key" + i + "-child")).build());
+    }
+    return success(MetadataKeysContainerBuilder.getInstance().add("category", keys).build());
+  }
+}
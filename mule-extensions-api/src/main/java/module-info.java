@@ -149,6 +149,10 @@ module org.mule.runtime.extensions.api {
   exports org.mule.runtime.extension.internal.loader.validator to
       org.mule.runtime.extensions.api.test;
 
+  exports org.mule.runtime.extension.internal.model to
+      org.mule.runtime.extensions.api.persistence,
+      org.mule.runtime.extensions.api.test;
+
   exports org.mule.runtime.extension.internal.property to
       org.mule.runtime.extensions.api.test;
 
@@ -196,6 +200,7 @@ module org.mule.runtime.extensions.api {
       com.google.gson;
 
   uses org.mule.runtime.extension.api.dsql.DsqlParser;
+  uses org.mule.runtime.extension.api.dsql.DsqlQueryEvaluator;
   uses org.mule.runtime.extension.api.dsl.syntax.resources.spi.DslResourceFactory;
   uses org.mule.runtime.extension.api.dsl.syntax.resources.spi.ExtensionSchemaGenerator;
   uses org.mule.runtime.extension.api.loader.ExtensionModelLoaderProvider;
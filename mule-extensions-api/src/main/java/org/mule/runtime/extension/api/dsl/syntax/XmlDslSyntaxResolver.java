@@ -43,6 +43,8 @@ import static java.util.Optional.empty;
 import static java.util.Optional.of;
 import static java.util.stream.Collectors.toList;
 
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
 import org.mule.metadata.api.builder.BaseTypeBuilder;
 import org.mule.metadata.api.model.ArrayType;
 import org.mule.metadata.api.model.MetadataType;
@@ -88,10 +90,10 @@ import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Deque;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 import javax.xml.namespace.QName;
 
@@ -102,20 +104,32 @@ import com.google.common.collect.ImmutableSet;
  * <p>
  * Provides the {@link DslElementSyntax} of any {@link NamedObject Component}, {@link ParameterModel Parameter} or
  * {@link MetadataType Type} within the context of the {@link ExtensionModel Extension model} where the Component was declared.
+ * <p>
+ * Instances are thread-safe, so a single one can be shared by every component that needs to resolve the DSL of the same
+ * {@link ExtensionModel}. The resolved {@link DslElementSyntax} are memoized, optionally up to a maximum amount of entries (see
+ * {@link #XmlDslSyntaxResolver(ExtensionModel, DslResolvingContext, long)}), after which the least used ones are evicted.
  *
  * @since 1.0
  */
 public class XmlDslSyntaxResolver implements DslSyntaxResolver {
 
+  /**
+   * Value for the {@code maximumCacheSize} which means that the resolved {@link DslElementSyntax} are never evicted.
+   *
+   * @since 1.10
+   */
+  public static final long UNBOUNDED_CACHE = -1;
+
   private static final DefaultStringType STRING_TYPE = BaseTypeBuilder.create(JAVA).stringType().build();
 
   private final ExtensionModel extensionModel;
   private final TypeCatalog typeCatalog;
   private final XmlDslModel languageModel;
-  private final Map<NamedObject, String> sanitizedElementNames = new HashMap<>();
-  private final Map<String, DslElementSyntax> resolvedTypes = new HashMap<>();
+  private final Map<NamedObject, String> sanitizedElementNames;
+  private final Map<String, DslElementSyntax> resolvedTypes;
   private final Map<MetadataType, XmlDslModel> importedTypes;
-  private final Deque<String> typeResolvingStack = new ArrayDeque<>();
+  // the types being resolved by each thread, to cut recursive type definitions
+  private final ThreadLocal<Deque<String>> typeResolvingStack = new ThreadLocal<>();
 
   /**
    * Creates an instance using the default implementation
@@ -127,10 +141,29 @@ public class XmlDslSyntaxResolver implements DslSyntaxResolver {
    *                                  {@link ExtensionModel} doesn't have any {@link ImportedTypeModel}
    */
   public XmlDslSyntaxResolver(ExtensionModel model, DslResolvingContext context) {
+    this(model, context, UNBOUNDED_CACHE);
+  }
+
+  /**
+   * Creates an instance using the default implementation, which keeps at most {@code maximumCacheSize} resolved
+   * {@link DslElementSyntax}.
+   *
+   * @param model            the {@link ExtensionModel} that provides context for resolving the component's
+   *                         {@link DslElementSyntax}
+   * @param context          the {@link DslResolvingContext} in which the Dsl resolution takes place
+   * @param maximumCacheSize the maximum amount of resolved {@link DslElementSyntax} to keep, or {@link #UNBOUNDED_CACHE}
+   * @throws IllegalArgumentException if the {@link ExtensionModel} declares an imported type from an {@link ExtensionModel} not
+   *                                  present in the provided {@link DslResolvingContext} or if the imported
+   *                                  {@link ExtensionModel} doesn't have any {@link ImportedTypeModel}
+   * @since 1.10
+   */
+  public XmlDslSyntaxResolver(ExtensionModel model, DslResolvingContext context, long maximumCacheSize) {
     this.extensionModel = model;
     this.languageModel = model.getXmlDslModel();
     this.typeCatalog = getTypeCatalog(model, context);
     this.importedTypes = new DefaultImportTypesStrategy(model, context).getImportedTypes();
+    this.sanitizedElementNames = createCache(maximumCacheSize);
+    this.resolvedTypes = createCache(maximumCacheSize);
   }
 
   /**
@@ -145,10 +178,39 @@ public class XmlDslSyntaxResolver implements DslSyntaxResolver {
    *                                  {@link ExtensionModel} doesn't have any {@link ImportedTypeModel}
    */
   public XmlDslSyntaxResolver(ExtensionModel model, ImportTypesStrategy importTypesStrategy) {
+    this(model, importTypesStrategy, UNBOUNDED_CACHE);
+  }
+
+  /**
+   * Creates an instance using the default implementation, which keeps at most {@code maximumCacheSize} resolved
+   * {@link DslElementSyntax}.
+   *
+   * @param model               the {@link ExtensionModel} that provides context for resolving the component's
+   *                            {@link DslElementSyntax}
+   * @param importTypesStrategy the {@link ImportTypesStrategy} used for external types resolution
+   * @param maximumCacheSize    the maximum amount of resolved {@link DslElementSyntax} to keep, or {@link #UNBOUNDED_CACHE}
+   * @throws IllegalArgumentException if the {@link ExtensionModel} declares an imported type from an {@link ExtensionModel} not
+   *                                  present in the provided {@link DslResolvingContext} or if the imported
+   *                                  {@link ExtensionModel} doesn't have any {@link ImportedTypeModel}
+   * @since 1.10
+   */
+  public XmlDslSyntaxResolver(ExtensionModel model, ImportTypesStrategy importTypesStrategy, long maximumCacheSize) {
     this.extensionModel = model;
     this.languageModel = model.getXmlDslModel();
     this.typeCatalog = TypeCatalog.getDefault(singleton(model));
     this.importedTypes = importTypesStrategy.getImportedTypes();
+    this.sanitizedElementNames = createCache(maximumCacheSize);
+    this.resolvedTypes = createCache(maximumCacheSize);
+  }
+
+  private static <K, V> Map<K, V> createCache(long maximumSize) {
+    if (maximumSize == UNBOUNDED_CACHE) {
+      return new ConcurrentHashMap<>();
+    }
+    if (maximumSize < 0) {
+      throw new IllegalArgumentException("maximumCacheSize cannot be negative");
+    }
+    return newBuilder().maximumSize(maximumSize).<K, V>build().asMap();
   }
 
   /**
@@ -387,8 +449,9 @@ public class XmlDslSyntaxResolver implements DslSyntaxResolver {
       return empty();
     }
 
-    if (resolvedTypes.containsKey(key.get())) {
-      return of(resolvedTypes.get(key.get()));
+    DslElementSyntax resolved = resolvedTypes.get(key.get());
+    if (resolved != null) {
+      return of(resolved);
     }
 
     final DslElementSyntaxBuilder builder = DslElementSyntaxBuilder.create()
@@ -400,7 +463,7 @@ public class XmlDslSyntaxResolver implements DslSyntaxResolver {
         .asWrappedElement(requiresWrapper);
 
     Optional<String> typeId = getTypeId(type);
-    if (typeId.isPresent() && !typeResolvingStack.contains(typeId.get())) {
+    if (typeId.isPresent() && !isBeingResolved(typeId.get())) {
       if (supportTopLevelElement || supportsInlineDeclaration) {
         withStackControl(typeId.get(), () -> declareFieldsAsChilds(builder, type.getFields(), prefix.get(), namespace.get()));
       }
@@ -872,11 +935,11 @@ public class XmlDslSyntaxResolver implements DslSyntaxResolver {
                              getNamespace(objectType, ownerNamespaceUri));
 
           String typeId = getId(objectType).orElse(null);
-          if (typeId != null && !typeResolvingStack.contains(typeId)) {
+          if (typeId != null && !isBeingResolved(typeId)) {
             withStackControl(typeId, () -> {
               List<ObjectFieldType> fields = objectType.getFields().stream()
                   .filter(f -> getId(f.getValue())
-                      .map(id -> !typeResolvingStack.contains(id))
+                      .map(id -> !isBeingResolved(id))
                       .orElse(true))
                   .collect(toList());
               addBeanDeclarationSupport(objectType, fields, objectFieldBuilder, ownerNamespace, ownerNamespaceUri, true);
@@ -1026,13 +1089,30 @@ public class XmlDslSyntaxResolver implements DslSyntaxResolver {
   }
 
   private void withStackControl(String stackId, Runnable action) {
-    if (!typeResolvingStack.contains(stackId)) {
-      typeResolvingStack.push(stackId);
+    Deque<String> stack = typeResolvingStack.get();
+    if (stack == null) {
+      stack = new ArrayDeque<>();
+      typeResolvingStack.set(stack);
+    } else if (stack.contains(stackId)) {
+      return;
+    }
+
+    stack.push(stackId);
+    try {
       action.run();
-      typeResolvingStack.pop();
+    } finally {
+      stack.pop();
+      if (stack.isEmpty()) {
+        typeResolvingStack.remove();
+      }
     }
   }
 
+  private boolean isBeingResolved(String typeId) {
+    Deque<String> stack = typeResolvingStack.get();
+    return stack != null && stack.contains(typeId);
+  }
+
   private Optional<QName> getCustomQName(ParameterModel parameter) {
     return parameter.getModelProperty(QNameModelProperty.class).map(QNameModelProperty::getValue);
   }
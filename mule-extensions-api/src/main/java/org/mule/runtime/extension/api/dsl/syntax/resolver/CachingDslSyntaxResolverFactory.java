@@ -0,0 +1,85 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.dsl.syntax.resolver;
+
+import static org.mule.runtime.extension.api.dsl.syntax.XmlDslSyntaxResolver.UNBOUNDED_CACHE;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import org.mule.runtime.api.dsl.DslResolvingContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.dsl.syntax.XmlDslSyntaxResolver;
+
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+/**
+ * Provides a {@link DslSyntaxResolver} per {@link ExtensionModel}, which is created the first time it is requested and then
+ * shared by every following request for the same {@link ExtensionModel} instance, for as long as the resolver is in use.
+ * <p>
+ * Since the provided resolvers are thread-safe, this allows tasks that resolve the DSL of the same extensions (such as schema
+ * generation and validation) to run in parallel without each of them resolving the same components and types again.
+ * <p>
+ * The resolvers are only weakly held, since each of them references its {@link ExtensionModel}: once no caller references a
+ * resolver anymore, it is released along with its entry, and a new one is created if its {@link ExtensionModel} is requested
+ * again. Instances of this class are thread-safe.
+ *
+ * @since 1.10
+ */
+public final class CachingDslSyntaxResolverFactory {
+
+  private final LoadingCache<ExtensionModel, DslSyntaxResolver> resolvers;
+
+  /**
+   * Creates a new instance which provides resolvers that resolve imported types through the given {@code context}.
+   *
+   * @param context the {@link DslResolvingContext} in which the Dsl resolution takes place
+   */
+  public CachingDslSyntaxResolverFactory(DslResolvingContext context) {
+    this(context, UNBOUNDED_CACHE);
+  }
+
+  /**
+   * Creates a new instance which provides resolvers that resolve imported types through the given {@code context}.
+   *
+   * @param context          the {@link DslResolvingContext} in which the Dsl resolution takes place
+   * @param maximumCacheSize the maximum amount of resolved elements that each resolver keeps, or
+   *                         {@link XmlDslSyntaxResolver#UNBOUNDED_CACHE}
+   */
+  public CachingDslSyntaxResolverFactory(DslResolvingContext context, long maximumCacheSize) {
+    this(model -> new XmlDslSyntaxResolver(model, context, maximumCacheSize));
+  }
+
+  /**
+   * Creates a new instance which provides resolvers that resolve imported types through the given {@code importTypesStrategy}.
+   *
+   * @param importTypesStrategy the {@link ImportTypesStrategy} used for external types resolution
+   * @param maximumCacheSize    the maximum amount of resolved elements that each resolver keeps, or
+   *                            {@link XmlDslSyntaxResolver#UNBOUNDED_CACHE}
+   */
+  public CachingDslSyntaxResolverFactory(ImportTypesStrategy importTypesStrategy, long maximumCacheSize) {
+    this(model -> new XmlDslSyntaxResolver(model, importTypesStrategy, maximumCacheSize));
+  }
+
+  private CachingDslSyntaxResolverFactory(Function<ExtensionModel, DslSyntaxResolver> resolverFactory) {
+    // weak keys are compared by identity, so equal but distinct models get their own resolver. The values are weak too, since
+    // they hold their key strongly and would otherwise keep it from ever being collected
+    this.resolvers = newBuilder().weakKeys().weakValues().build(resolverFactory::apply);
+  }
+
+  /**
+   * @param model the {@link ExtensionModel} that provides context for resolving the component's
+   *              {@link org.mule.runtime.extension.api.dsl.syntax.DslElementSyntax}
+   * @return the {@link DslSyntaxResolver} for the given {@code model}
+   * @throws IllegalArgumentException if the {@link ExtensionModel} declares an imported type from an {@link ExtensionModel} not
+   *                                  present in the {@link DslResolvingContext} of this factory
+   */
+  public DslSyntaxResolver getSyntaxResolver(ExtensionModel model) {
+    return resolvers.get(model);
+  }
+}
@@ -0,0 +1,39 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.dsql;
+
+import java.util.Map;
+
+/**
+ * A {@link DsqlQuery} compiled by a {@link DsqlQueryEvaluator} into a pipeline which filters, sorts, pages and projects records
+ * held in memory.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @param <T> the generic type of the records
+ * @since 1.10
+ */
+public interface CompiledDsqlQuery<T> {
+
+  /**
+   * @return the {@link DsqlQuery} this was compiled from
+   */
+  DsqlQuery getQuery();
+
+  /**
+   * Evaluates the query over the given {@code records}.
+   * <p>
+   * The result is lazy: the {@code records} are read as the result is iterated, and each iteration of the result evaluates the
+   * query again. Records are only buffered when the query is sorted, in which case at most {@code OFFSET + LIMIT} of them are
+   * kept, or all the records that match the filter if the query has no {@code LIMIT}.
+   *
+   * @param records the records to query
+   * @return the selected fields of the records that match the query, in order, keyed by field name
+   */
+  Iterable<Map<String, Object>> evaluate(Iterable<? extends T> records);
+
+}
@@ -6,7 +6,12 @@
  */
 package org.mule.runtime.extension.api.dsql;
 
-import java.util.ServiceLoader;
+import static org.mule.runtime.extension.privileged.spi.ServiceProviderRegistry.getDefault;
+
+import static java.lang.System.getProperty;
+
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
 /**
  * This class works as a processor of {@link DsqlQuery}s, conforming to the rules of the formal defined grammar.
@@ -23,10 +28,33 @@ public abstract class DsqlParser {
   private static final String DSQL_QUERY_PREFIX = "dsql:";
 
   /**
-   * @return a new {@link DsqlParser} instance.
+   * System property to choose which of the implementations discovered through SPI is returned by {@link #getInstance()}. Its
+   * value is either the fully qualified or the simple name of the implementation class.
+   *
+   * @since 1.10
+   */
+  public static final String DSQL_PARSER_PROPERTY = "mule.dsql.parser";
+
+  /**
+   * The implementation is discovered through SPI the first time this is called, and the same instance is returned afterwards.
+   * Implementations are stateless, so the instance may be shared.
+   * <p>
+   * If more than one implementation is available, the one named by the {@value #DSQL_PARSER_PROPERTY} system property is
+   * returned, or the first one found if it's not set.
+   *
+   * @return the {@link DsqlParser} instance.
+   * @throws NoSuchElementException if there is no implementation, or none with the name set in the
+   *                                {@value #DSQL_PARSER_PROPERTY} system property
    */
   public static DsqlParser getInstance() {
-    return ServiceLoader.load(DsqlParser.class, DsqlParser.class.getClassLoader()).iterator().next();
+    Stream<DsqlParser> parsers = getDefault().stream(DsqlParser.class, DsqlParser.class.getClassLoader());
+    String parserName = getProperty(DSQL_PARSER_PROPERTY);
+    if (parserName != null) {
+      parsers = parsers.filter(parser -> parser.getClass().getName().equals(parserName)
+          || parser.getClass().getSimpleName().equals(parserName));
+    }
+
+    return parsers.findFirst().orElseThrow(NoSuchElementException::new);
   }
 
   /**
@@ -6,6 +6,9 @@
  */
 package org.mule.runtime.extension.api.dsql;
 
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+
 import java.util.List;
 
 
@@ -59,4 +62,18 @@ public abstract class DsqlQuery {
    */
   public abstract String translate(QueryTranslator queryTranslator);
 
+  /**
+   * Translates {@code this} {@link DsqlQuery} once using the specified {@code queryTranslator}, into a template which can be
+   * bound to the values of the Mule expressions of the query each time it's executed.
+   * <p>
+   * The default implementation doesn't identify the Mule expressions, so the template has no placeholders.
+   *
+   * @param queryTranslator a new {@link QueryTranslator} instance used to translate from DSQL to another query language.
+   * @return a {@link PreparedDsqlQuery} with the translated query.
+   * @since 1.10
+   */
+  public PreparedDsqlQuery prepare(QueryTranslator queryTranslator) {
+    return new PreparedDsqlQuery(this, singletonList(translate(queryTranslator)), emptyList());
+  }
+
 }
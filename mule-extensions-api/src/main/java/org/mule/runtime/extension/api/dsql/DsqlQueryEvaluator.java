@@ -0,0 +1,60 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.dsql;
+
+import static org.mule.runtime.extension.privileged.spi.ServiceProviderRegistry.getDefault;
+
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Evaluates {@link DsqlQuery}s over records held in memory, for connectors whose data source has no query language of its own
+ * to translate the queries to.
+ * <p>
+ * A query is {@link #compile(DsqlQuery) compiled} once into a {@link CompiledDsqlQuery}, which may then be evaluated over any
+ * number of record sources.
+ *
+ * @since 1.10
+ */
+public abstract class DsqlQueryEvaluator {
+
+  /**
+   * The implementation is discovered through SPI. Implementations are stateless, so the instance may be shared.
+   *
+   * @return the {@link DsqlQueryEvaluator} instance.
+   * @throws NoSuchElementException if there is no implementation
+   */
+  public static DsqlQueryEvaluator getInstance() {
+    return getDefault().stream(DsqlQueryEvaluator.class, DsqlQueryEvaluator.class.getClassLoader())
+        .findFirst()
+        .orElseThrow(NoSuchElementException::new);
+  }
+
+  /**
+   * Compiles the given {@code query} to be evaluated over records represented as {@link Map}s from field name to value.
+   *
+   * @param query the {@link DsqlQuery} to compile
+   * @return a {@link CompiledDsqlQuery} for {@link Map} records
+   * @throws IllegalArgumentException if the {@code query} can't be evaluated in memory, for instance because it compares a field
+   *                                  against a Mule expression
+   */
+  public abstract CompiledDsqlQuery<Map<String, ?>> compile(DsqlQuery query);
+
+  /**
+   * Compiles the given {@code query} to be evaluated over records of the given {@code recordType}, whose fields are read through
+   * their public getters or public fields.
+   *
+   * @param query      the {@link DsqlQuery} to compile
+   * @param recordType the type of the records
+   * @param <T>        the generic type of the records
+   * @return a {@link CompiledDsqlQuery} for records of the given {@code recordType}
+   * @throws IllegalArgumentException if the {@code query} can't be evaluated in memory, or if it references a field that the
+   *                                  {@code recordType} doesn't have
+   */
+  public abstract <T> CompiledDsqlQuery<T> compile(DsqlQuery query, Class<T> recordType);
+
+}
@@ -0,0 +1,109 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.dsql;
+
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * The translation of a {@link DsqlQuery} to a Native Query Language, computed once as a template in which the Mule expressions
+ * of the query are left as placeholders.
+ * <p>
+ * A query which is executed many times, only changing the values its expressions evaluate to, can be translated once by
+ * {@link DsqlQuery#prepare(QueryTranslator)} and then {@link #bind(Function) bound} to the values of its expressions for each
+ * execution, without parsing nor translating it again.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @since 1.10
+ */
+public final class PreparedDsqlQuery {
+
+  private final DsqlQuery query;
+  private final String[] fragments;
+  private final String[] expressions;
+
+  /**
+   * Creates a new instance. The translated query is made up of the given {@code fragments} with each one of the
+   * {@code expressions} between them, that is, {@code fragments[0] + expressions[0] + fragments[1] + ... + fragments[n]}.
+   *
+   * @param query       the {@link DsqlQuery} which was translated
+   * @param fragments   the fixed parts of the translated query
+   * @param expressions the Mule expressions between each pair of {@code fragments}
+   * @throws IllegalArgumentException if there isn't exactly one fragment more than expressions
+   */
+  public PreparedDsqlQuery(DsqlQuery query, List<String> fragments, List<String> expressions) {
+    requireNonNull(query, "query cannot be null");
+    if (fragments.size() != expressions.size() + 1) {
+      throw new IllegalArgumentException("Expected " + (expressions.size() + 1) + " fragments for " + expressions.size()
+          + " expressions, but got " + fragments.size());
+    }
+
+    this.query = query;
+    this.fragments = fragments.toArray(new String[0]);
+    this.expressions = expressions.toArray(new String[0]);
+  }
+
+  /**
+   * @return the {@link DsqlQuery} this was prepared from
+   */
+  public DsqlQuery getQuery() {
+    return query;
+  }
+
+  /**
+   * @return the Mule expressions of the query in the order they appear in the translation, as they were written in the query.
+   *         An expression which appears more than once is repeated.
+   */
+  public List<String> getExpressions() {
+    List<String> list = new ArrayList<>(expressions.length);
+    for (String expression : expressions) {
+      list.add(expression);
+    }
+    return unmodifiableList(list);
+  }
+
+  /**
+   * @return whether the translation has any Mule expression to bind
+   */
+  public boolean hasExpressions() {
+    return expressions.length > 0;
+  }
+
+  /**
+   * Builds the translated query, replacing each Mule expression with the text given for it by {@code expressionResolver}.
+   *
+   * @param expressionResolver function that receives each one of the {@link #getExpressions() expressions}, as it was written
+   *                           in the query, and returns the text to put in its place in the translation. It is called once
+   *                           for each occurrence of an expression.
+   * @return the translated query
+   */
+  public String bind(Function<String, ?> expressionResolver) {
+    if (expressions.length == 0) {
+      return fragments[0];
+    }
+
+    StringBuilder translation = new StringBuilder(fragments[0]);
+    for (int i = 0; i < expressions.length; ++i) {
+      translation.append(expressionResolver.apply(expressions[i])).append(fragments[i + 1]);
+    }
+    return translation.toString();
+  }
+
+  /**
+   * @return the translated query, with the Mule expressions as they were written in the query. This is the same as
+   *         {@link DsqlQuery#translate(QueryTranslator)} returns.
+   */
+  @Override
+  public String toString() {
+    return bind(expression -> expression);
+  }
+}
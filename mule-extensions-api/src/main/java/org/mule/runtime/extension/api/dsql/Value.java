@@ -26,6 +26,38 @@ public abstract class Value<T> {
     return value;
   }
 
+  /**
+   * Integer literals are parsed once, when the query is built, so they can be compared without parsing nor boxing them again.
+   * Date literals are represented by their epoch day, and date time literals by their epoch millisecond.
+   *
+   * @return this value as a {@code long}
+   * @throws UnsupportedOperationException if this is not an integer, a date or a date time value
+   * @since 1.10
+   */
+  public long asLong() {
+    throw new UnsupportedOperationException(getClass().getSimpleName() + " can't be represented as a long");
+  }
+
+  /**
+   * Numeric literals are parsed once, when the query is built, so they can be compared without parsing nor boxing them again.
+   *
+   * @return this value as a {@code double}
+   * @throws UnsupportedOperationException if this is not a numeric value
+   * @since 1.10
+   */
+  public double asDouble() {
+    throw new UnsupportedOperationException(getClass().getSimpleName() + " can't be represented as a double");
+  }
+
+  /**
+   * @return this value as a {@code boolean}
+   * @throws UnsupportedOperationException if this is not a boolean value
+   * @since 1.10
+   */
+  public boolean asBoolean() {
+    throw new UnsupportedOperationException(getClass().getSimpleName() + " can't be represented as a boolean");
+  }
+
   @Override
   public String toString() {
     return String.valueOf(getValue());
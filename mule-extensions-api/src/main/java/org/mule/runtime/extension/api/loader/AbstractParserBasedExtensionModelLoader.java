@@ -9,15 +9,13 @@ package org.mule.runtime.extension.api.loader;
 import static org.mule.runtime.api.util.classloader.MuleImplementationLoaderUtils.getMuleImplementationsLoader;
 import static org.mule.runtime.extension.api.ExtensionConstants.VERSION_PROPERTY_NAME;
 
-import static java.util.ServiceLoader.load;
-import static java.util.stream.Collectors.collectingAndThen;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.StreamSupport.stream;
-
 import org.mule.api.annotation.NoImplement;
 import org.mule.runtime.extension.api.loader.delegate.ModelLoaderDelegate;
 import org.mule.runtime.extension.api.loader.delegate.ModelLoaderDelegateFactory;
 import org.mule.runtime.extension.api.loader.parser.ExtensionModelParserFactory;
+import org.mule.runtime.extension.privileged.spi.ServiceProviderRegistry;
+
+import java.util.List;
 
 /**
  * Base implementation for an {@link ExtensionModelLoader}
@@ -47,17 +45,14 @@ public abstract class AbstractParserBasedExtensionModelLoader extends ExtensionM
   }
 
   protected ModelLoaderDelegate getModelLoaderDelegate(ExtensionLoadingContext context, String version) {
-    return stream(load(ModelLoaderDelegateFactory.class, getMuleImplementationsLoader()).spliterator(), false)
-        .collect(collectingAndThen(toList(), list -> {
-          if (list.size() > 1) {
-            throw new IllegalStateException("Found more than one implementation for "
-                + ModelLoaderDelegateFactory.class.getName());
-          } else if (list.isEmpty()) {
-            throw new IllegalStateException("No implementation found for " + ModelLoaderDelegateFactory.class.getName());
-          }
-
-          return list.get(0);
-        }))
-        .getLoader(version, getId());
+    List<ModelLoaderDelegateFactory> factories =
+        ServiceProviderRegistry.getDefault().lookup(ModelLoaderDelegateFactory.class, getMuleImplementationsLoader());
+    if (factories.size() > 1) {
+      throw new IllegalStateException("Found more than one implementation for " + ModelLoaderDelegateFactory.class.getName());
+    } else if (factories.isEmpty()) {
+      throw new IllegalStateException("No implementation found for " + ModelLoaderDelegateFactory.class.getName());
+    }
+
+    return factories.get(0).getLoader(version, getId());
   }
 }
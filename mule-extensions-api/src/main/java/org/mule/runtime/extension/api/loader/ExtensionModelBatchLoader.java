@@ -0,0 +1,130 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.loader;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+
+import static java.util.Arrays.asList;
+import static java.util.concurrent.ForkJoinPool.commonPool;
+import static java.util.concurrent.ForkJoinPool.getCommonPoolParallelism;
+
+import org.mule.runtime.api.dsl.DslResolvingContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.internal.loader.ExtensionModelLoadingGraph;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Loads the {@link ExtensionModel}s of many extensions at once, such as the ones of all the plugins of an application.
+ * <p>
+ * Each extension is added with the ids of the other extensions of the batch it depends on. Extensions are loaded as soon as
+ * the ones they depend on are, so those which don't depend on each other are loaded concurrently. Each extension is loaded with
+ * a {@link DslResolvingContext} which delegates to the {@link ExtensionModelLoadingRequest#getDslResolvingContext() context of
+ * its request} and adds the ones it depends on, directly or transitively. Hence, the loaded models don't depend on how the
+ * loading was scheduled.
+ * <p>
+ * Instances are immutable, and may be loaded many times.
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelBatchLoader {
+
+  /**
+   * Builder for creating a new {@link ExtensionModelBatchLoader}
+   */
+  public static final class Builder {
+
+    private final ExtensionModelLoadingGraph graph = new ExtensionModelLoadingGraph();
+    private ForkJoinPool pool = getCommonPoolParallelism() > 1 ? commonPool() : null;
+
+    private Builder() {}
+
+    /**
+     * Adds an extension to the batch.
+     *
+     * @param id           identifies the extension within the batch, so that other extensions may depend on it
+     * @param loader       the {@link ExtensionModelLoader} to load the extension with
+     * @param request      the {@link ExtensionModelLoadingRequest} to load the extension with
+     * @param dependencies the ids of the extensions of the batch this one depends on
+     * @return this builder
+     */
+    public Builder addExtension(String id, ExtensionModelLoader loader, ExtensionModelLoadingRequest request,
+                                String... dependencies) {
+      return addExtension(id, loader, request, asList(dependencies));
+    }
+
+    /**
+     * Adds an extension to the batch.
+     *
+     * @param id           identifies the extension within the batch, so that other extensions may depend on it
+     * @param loader       the {@link ExtensionModelLoader} to load the extension with
+     * @param request      the {@link ExtensionModelLoadingRequest} to load the extension with
+     * @param dependencies the ids of the extensions of the batch this one depends on
+     * @return this builder
+     */
+    public Builder addExtension(String id, ExtensionModelLoader loader, ExtensionModelLoadingRequest request,
+                                Collection<String> dependencies) {
+      checkArgument(id != null && id.length() > 0, "id cannot be blank");
+      checkArgument(loader != null, "loader cannot be null");
+      checkArgument(request != null, "request cannot be null");
+      checkArgument(dependencies != null, "dependencies cannot be null");
+
+      graph.add(id, loader, request, dependencies);
+      return this;
+    }
+
+    /**
+     * Sets the {@link ForkJoinPool} on which the extensions are loaded. By default, that's the
+     * {@link ForkJoinPool#commonPool() common pool}, as long as it allows for any parallelism.
+     *
+     * @param pool the pool on which the extensions are loaded, or {@code null} to load all of them on the calling thread
+     * @return this builder
+     */
+    public Builder setPool(ForkJoinPool pool) {
+      this.pool = pool;
+      return this;
+    }
+
+    /**
+     * @return The built loader
+     * @throws IllegalArgumentException if an extension depends on one which is not part of the batch, or if the dependencies
+     *                                  are cyclic
+     */
+    public ExtensionModelBatchLoader build() {
+      return new ExtensionModelBatchLoader(graph.resolve(), pool);
+    }
+  }
+
+  /**
+   * @return a new {@link Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private final ExtensionModelLoadingGraph graph;
+  private final ForkJoinPool pool;
+
+  private ExtensionModelBatchLoader(ExtensionModelLoadingGraph graph, ForkJoinPool pool) {
+    this.graph = graph;
+    this.pool = pool;
+  }
+
+  /**
+   * Loads all the extensions of the batch.
+   * <p>
+   * If any of them fails to load, the ones which were not loaded yet are cancelled, and the failure of the first extension which
+   * failed, in the order they were added, is thrown.
+   *
+   * @return the loaded {@link ExtensionModel}s by the id of their extension, in the order they were added
+   */
+  public Map<String, ExtensionModel> load() {
+    return graph.load(pool);
+  }
+}
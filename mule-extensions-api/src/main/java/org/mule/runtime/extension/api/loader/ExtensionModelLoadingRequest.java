@@ -163,6 +163,28 @@ public final class ExtensionModelLoadingRequest {
     return new Builder(extensionClassLoader, dslResolvingContext);
   }
 
+  /**
+   * Creates a {@link Builder} initialized with the configuration of the given {@code request}, but with another
+   * {@link DslResolvingContext}. This is useful to load an extension once the extensions it depends on are available.
+   *
+   * @param request             the {@link ExtensionModelLoadingRequest} to copy
+   * @param dslResolvingContext a {@link DslResolvingContext}
+   * @return a new {@link Builder}
+   * @since 1.10
+   */
+  public static Builder builder(ExtensionModelLoadingRequest request, DslResolvingContext dslResolvingContext) {
+    Builder builder = new Builder(request.extensionClassLoader, dslResolvingContext);
+    ExtensionModelLoadingRequest product = builder.product;
+    product.validators.addAll(request.validators);
+    product.enrichers.addAll(request.enrichers);
+    product.parameters.putAll(request.parameters);
+    product.artifactCoordinates = request.artifactCoordinates;
+    product.ocsEnabled = request.ocsEnabled;
+    product.forceExtensionValidation = request.forceExtensionValidation;
+    product.resolveMinMuleVersion = request.resolveMinMuleVersion;
+    return builder;
+  }
+
   private final ClassLoader extensionClassLoader;
   private final DslResolvingContext dslResolvingContext;
   private final List<ExtensionModelValidator> validators = new LinkedList<>();
@@ -0,0 +1,157 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.loader;
+
+import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.meta.model.connection.HasConnectionProviderModels;
+import org.mule.runtime.api.meta.model.construct.ConstructModel;
+import org.mule.runtime.api.meta.model.construct.HasConstructModels;
+import org.mule.runtime.api.meta.model.function.FunctionModel;
+import org.mule.runtime.api.meta.model.function.HasFunctionModels;
+import org.mule.runtime.api.meta.model.operation.HasOperationModels;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
+import org.mule.runtime.api.meta.model.source.HasSourceModels;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.api.meta.model.util.IdempotentExtensionWalker;
+import org.mule.runtime.api.util.Reference;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator.ExtensionModelValidatorWalkDelegate;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A {@link ExtensionModelValidatorWalkDelegate} which assures that each component is visited only once, making it easy to handle
+ * the fact that some components such as {@link OperationModel}, {@link SourceModel}, {@link ConnectionProviderModel}, etc,
+ * implement the flyweight pattern, which means that the same instance might be present at different levels. This is the delegate
+ * equivalent of {@link IdempotentExtensionWalker} and should be used whenever a traditional walker would use it.
+ * <p>
+ * The use of this delegate makes it unnecessary to manually control if a given component has already been seen.
+ *
+ * @since 1.10
+ */
+public class IdempotentExtensionModelValidatorWalkDelegate extends ExtensionModelValidatorWalkDelegate {
+
+  private final Set<Reference<SourceModel>> sources = new HashSet<>();
+  private final Set<Reference<ParameterModel>> parameters = new HashSet<>();
+  private final Set<Reference<OperationModel>> operations = new HashSet<>();
+  private final Set<Reference<FunctionModel>> functions = new HashSet<>();
+  private final Set<Reference<ConstructModel>> constructs = new HashSet<>();
+  private final Set<Reference<ConnectionProviderModel>> connectionProviders = new HashSet<>();
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onSource(HasSourceModels owner, SourceModel model) {
+    doOnce(sources, model, this::onSource);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
+    doOnce(parameters, model, p -> onParameter(groupModel, p));
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onOperation(HasOperationModels owner, OperationModel model) {
+    doOnce(operations, model, this::onOperation);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onFunction(HasFunctionModels owner, FunctionModel model) {
+    doOnce(functions, model, this::onFunction);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onConstruct(HasConstructModels owner, ConstructModel model) {
+    doOnce(constructs, model, this::onConstruct);
+  }
+
+  /**
+   * {@inheritDoc}
+   */
+  @Override
+  public void onConnectionProvider(HasConnectionProviderModels owner, ConnectionProviderModel model) {
+    doOnce(connectionProviders, model, this::onConnectionProvider);
+  }
+
+  private <T> void doOnce(Set<Reference<T>> accumulator, T item, Consumer<T> delegate) {
+    if (accumulator.add(new Reference<>(item))) {
+      delegate.accept(item);
+    }
+  }
+
+  /**
+   * Invoked when a {@link ConnectionProviderModel} is found in the traversed {@code extensionModel}.
+   * <p>
+   * This method will only be invoked once per each found instance
+   *
+   * @param model the {@link ConnectionProviderModel}
+   */
+  protected void onConnectionProvider(ConnectionProviderModel model) {}
+
+  /**
+   * Invoked when a {@link SourceModel} is found in the traversed {@code extensionModel}.
+   * <p>
+   * This method will only be invoked once per each found instance
+   *
+   * @param model the {@link SourceModel}
+   */
+  protected void onSource(SourceModel model) {}
+
+  /**
+   * Invoked when a {@link ParameterModel} is found in the traversed {@code extensionModel}.
+   * <p>
+   * This method will only be invoked once per each found instance
+   *
+   * @param groupModel the {@link ParameterGroupModel} in which the {@code model} is contained
+   * @param model      the {@link ParameterModel}
+   */
+  protected void onParameter(ParameterGroupModel groupModel, ParameterModel model) {}
+
+  /**
+   * Invoked when an {@link OperationModel} is found in the traversed {@code extensionModel}.
+   * <p>
+   * This method will only be invoked once per each found instance
+   *
+   * @param model the {@link OperationModel}
+   */
+  protected void onOperation(OperationModel model) {}
+
+  /**
+   * Invoked when a {@link ConstructModel} is found in the traversed {@code extensionModel}.
+   * <p>
+   * This method will only be invoked once per each found instance
+   *
+   * @param model the {@link ConstructModel}
+   */
+  protected void onConstruct(ConstructModel model) {}
+
+  /**
+   * Invoked when a {@link FunctionModel} is found in the traversed {@code extensionModel}.
+   * <p>
+   * This method will only be invoked once per each found instance
+   *
+   * @param model the {@link FunctionModel}
+   */
+  protected void onFunction(FunctionModel model) {}
+}
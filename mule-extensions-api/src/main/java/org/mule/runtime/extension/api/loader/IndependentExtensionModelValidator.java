@@ -0,0 +1,26 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.loader;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+
+/**
+ * An {@link ExtensionModelValidator} which only reads the {@link ExtensionModel}, keeps no state between invocations and doesn't
+ * depend on the outcome of any other validator.
+ * <p>
+ * Validators implementing this interface may be executed concurrently with other independent validators, each of them reporting
+ * into its own {@link ProblemsReporter}. The {@link DslSyntaxResolver} passed to them is shared, so it must only be used through
+ * its thread-safe methods. The problems reported are still presented in the order in which the validators were registered.
+ * <p>
+ * Validators which don't implement this interface are always executed sequentially, before any of the independent ones.
+ *
+ * @since 1.10
+ */
+public interface IndependentExtensionModelValidator extends ExtensionModelValidator {
+
+}
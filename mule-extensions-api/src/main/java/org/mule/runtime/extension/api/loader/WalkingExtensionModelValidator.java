@@ -0,0 +1,225 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.loader;
+
+import org.mule.runtime.api.meta.model.ComposableModel;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.meta.model.connection.HasConnectionProviderModels;
+import org.mule.runtime.api.meta.model.construct.ConstructModel;
+import org.mule.runtime.api.meta.model.construct.HasConstructModels;
+import org.mule.runtime.api.meta.model.function.FunctionModel;
+import org.mule.runtime.api.meta.model.function.HasFunctionModels;
+import org.mule.runtime.api.meta.model.nested.NestableElementModel;
+import org.mule.runtime.api.meta.model.operation.HasOperationModels;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
+import org.mule.runtime.api.meta.model.source.HasSourceModels;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.api.meta.model.util.ExtensionWalker;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.SingleExtensionImportTypesStrategy;
+
+import java.util.Optional;
+
+/**
+ * Optimization for {@link ExtensionModelValidator validators} which would normally use an {@link ExtensionWalker} to implement
+ * their logic. Since most validators do so, several walks end up being performed over the same model.
+ * <p>
+ * This interface allows to optimize that by extracting the validation logic to the
+ * {@link #getWalkDelegate(ExtensionModel, DslSyntaxResolver, ProblemsReporter)} method, which gives Mule the ability to feed the
+ * delegates of many validators from a single walk.
+ * <p>
+ * This interface still adheres to the {@link ExtensionModelValidator} contract and thus the {@code validate} methods must still
+ * work, but delegating to the {@link ExtensionModelValidatorWalkDelegate} returned by the
+ * {@link #getWalkDelegate(ExtensionModel, DslSyntaxResolver, ProblemsReporter)} method.
+ *
+ * @since 1.10
+ */
+public interface WalkingExtensionModelValidator extends ExtensionModelValidator {
+
+  /**
+   * Validates the given {@code model} using a {@link DslSyntaxResolver} for that model alone.
+   *
+   * @param model            a {@link ExtensionModel}
+   * @param problemsReporter the {@link ProblemsReporter} in which the problems found are reported
+   * @deprecated since 1.9 use {@link #validate(ExtensionModel, DslSyntaxResolver, ProblemsReporter)} instead.
+   */
+  @Override
+  @Deprecated
+  default void validate(ExtensionModel model, ProblemsReporter problemsReporter) {
+    validate(model, DslSyntaxResolver.getDefault(model, new SingleExtensionImportTypesStrategy()), problemsReporter);
+  }
+
+  /**
+   * Validates the given {@code model} by using an {@link ExtensionWalker} with the result of
+   * {@link #getWalkDelegate(ExtensionModel, DslSyntaxResolver, ProblemsReporter)} as a delegate. If said method returns an
+   * {@link Optional#empty()} then nothing is done. {@link ExtensionModelValidatorWalkDelegate#onWalkFinished()} is invoked in
+   * compliance with the delegate's contract.
+   *
+   * @param model            a {@link ExtensionModel}
+   * @param syntaxResolver   the dsl syntax for the {@code model}
+   * @param problemsReporter the {@link ProblemsReporter} in which the problems found are reported
+   */
+  @Override
+  default void validate(ExtensionModel model, DslSyntaxResolver syntaxResolver, ProblemsReporter problemsReporter) {
+    getWalkDelegate(model, syntaxResolver, problemsReporter).ifPresent(delegate -> {
+      new ExtensionWalker() {
+
+        @Override
+        protected void onConfiguration(ConfigurationModel model) {
+          delegate.onConfiguration(model);
+        }
+
+        @Override
+        protected void onConnectionProvider(HasConnectionProviderModels owner, ConnectionProviderModel model) {
+          delegate.onConnectionProvider(owner, model);
+        }
+
+        @Override
+        protected void onSource(HasSourceModels owner, SourceModel model) {
+          delegate.onSource(owner, model);
+        }
+
+        @Override
+        protected void onOperation(HasOperationModels owner, OperationModel model) {
+          delegate.onOperation(owner, model);
+        }
+
+        @Override
+        protected void onFunction(HasFunctionModels owner, FunctionModel model) {
+          delegate.onFunction(owner, model);
+        }
+
+        @Override
+        protected void onConstruct(HasConstructModels owner, ConstructModel model) {
+          delegate.onConstruct(owner, model);
+        }
+
+        @Override
+        protected void onNestable(ComposableModel owner, NestableElementModel model) {
+          delegate.onNestable(owner, model);
+        }
+
+        @Override
+        protected void onParameterGroup(ParameterizedModel owner, ParameterGroupModel model) {
+          delegate.onParameterGroup(owner, model);
+        }
+
+        @Override
+        protected void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
+          delegate.onParameter(owner, groupModel, model);
+        }
+      }.walk(model);
+      delegate.onWalkFinished();
+    });
+  }
+
+  /**
+   * Optionally returns a {@link ExtensionModelValidatorWalkDelegate} that contains the validation logic.
+   * <p>
+   * If {@link Optional#empty()} is returned, it means that this validator does not apply to the given model and it should be
+   * skipped. A new delegate is expected to be returned on each invocation.
+   *
+   * @param model            the {@link ExtensionModel} to be validated
+   * @param syntaxResolver   the dsl syntax for the {@code model}
+   * @param problemsReporter the {@link ProblemsReporter} in which the delegate reports the problems it finds
+   * @return an optional delegate
+   */
+  Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel model, DslSyntaxResolver syntaxResolver,
+                                                                ProblemsReporter problemsReporter);
+
+  /**
+   * A delegate containing the validation logic of a {@link WalkingExtensionModelValidator}. Its callbacks are invoked from a
+   * single thread, but not necessarily the one which created it.
+   *
+   * @since 1.10
+   */
+  class ExtensionModelValidatorWalkDelegate {
+
+    /**
+     * Invoked when a {@link ConfigurationModel} is found in the traversed {@code extensionModel}
+     *
+     * @param model a {@link ConfigurationModel}
+     */
+    public void onConfiguration(ConfigurationModel model) {}
+
+    /**
+     * Invoked when a {@link ConnectionProviderModel} is found in the traversed {@code extensionModel}
+     *
+     * @param owner The component that owns the provider
+     * @param model the {@link ConnectionProviderModel}
+     */
+    public void onConnectionProvider(HasConnectionProviderModels owner, ConnectionProviderModel model) {}
+
+    /**
+     * Invoked when a {@link SourceModel} is found in the traversed {@code extensionModel}
+     *
+     * @param owner The component that owns the source
+     * @param model the {@link SourceModel}
+     */
+    public void onSource(HasSourceModels owner, SourceModel model) {}
+
+    /**
+     * Invoked when an {@link OperationModel} is found in the traversed {@code extensionModel}
+     *
+     * @param owner The component that owns the operation
+     * @param model the {@link OperationModel}
+     */
+    public void onOperation(HasOperationModels owner, OperationModel model) {}
+
+    /**
+     * Invoked when a {@link FunctionModel} is found in the traversed {@code extensionModel}
+     *
+     * @param owner The component that owns the function
+     * @param model the {@link FunctionModel}
+     */
+    public void onFunction(HasFunctionModels owner, FunctionModel model) {}
+
+    /**
+     * Invoked when a {@link ConstructModel} is found in the traversed {@code extensionModel}
+     *
+     * @param owner The component that owns the construct
+     * @param model the {@link ConstructModel}
+     */
+    public void onConstruct(HasConstructModels owner, ConstructModel model) {}
+
+    /**
+     * Invoked when a {@link NestableElementModel} is found in the traversed {@code extensionModel}
+     *
+     * @param owner The component that owns the nestable element
+     * @param model the {@link NestableElementModel}
+     */
+    public void onNestable(ComposableModel owner, NestableElementModel model) {}
+
+    /**
+     * Invoked when a {@link ParameterGroupModel} is found in the traversed {@code extensionModel}
+     *
+     * @param owner The component that owns the parameter group
+     * @param model the {@link ParameterGroupModel}
+     */
+    public void onParameterGroup(ParameterizedModel owner, ParameterGroupModel model) {}
+
+    /**
+     * Invoked when a {@link ParameterModel} is found in the traversed {@code extensionModel}
+     *
+     * @param owner      The component that owns the parameter
+     * @param groupModel the group to which the parameter belongs
+     * @param model      the {@link ParameterModel}
+     */
+    public void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {}
+
+    /**
+     * This method <b>MUST</b> be called when traversing is finished. The responsibility of calling this method lies upon the
+     * component orchestrating the validation.
+     */
+    public void onWalkFinished() {}
+  }
+}
@@ -10,6 +10,7 @@ import static com.google.common.collect.ImmutableList.copyOf;
 import static java.lang.String.format;
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
+import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
 
 import org.mule.runtime.api.meta.DescribedObject;
@@ -32,6 +33,7 @@ import com.google.common.collect.Multiset;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -50,6 +52,10 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
   private final List<SourceModel> messageSources;
   private final DeprecationModel deprecationModel;
 
+  private transient volatile Map<String, Optional<OperationModel>> operationsByName;
+  private transient volatile Map<String, Optional<ConnectionProviderModel>> connectionProvidersByName;
+  private transient volatile Map<String, Optional<SourceModel>> messageSourcesByName;
+
   public AbstractComplexModel(String name,
                               String description,
                               List<OperationModel> operationModels,
@@ -102,7 +108,11 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
    */
   @Override
   public Optional<SourceModel> getSourceModel(String name) {
-    return findModel(messageSources, name);
+    Map<String, Optional<SourceModel>> index = messageSourcesByName;
+    if (index == null) {
+      messageSourcesByName = index = indexByName(messageSources);
+    }
+    return index.getOrDefault(name, empty());
   }
 
   /**
@@ -110,7 +120,11 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
    */
   @Override
   public Optional<ConnectionProviderModel> getConnectionProviderModel(String name) {
-    return findModel(connectionProviders, name);
+    Map<String, Optional<ConnectionProviderModel>> index = connectionProvidersByName;
+    if (index == null) {
+      connectionProvidersByName = index = indexByName(connectionProviders);
+    }
+    return index.getOrDefault(name, empty());
   }
 
   /**
@@ -118,7 +132,11 @@ public abstract class AbstractComplexModel extends AbstractNamedImmutableModel
    */
   @Override
   public Optional<OperationModel> getOperationModel(String name) {
-    return findModel(operations, name);
+    Map<String, Optional<OperationModel>> index = operationsByName;
+    if (index == null) {
+      operationsByName = index = indexByName(operations);
+    }
+    return index.getOrDefault(name, empty());
   }
 
   /**
@@ -15,9 +15,8 @@ import static com.google.common.collect.ImmutableSet.of;
 import org.mule.runtime.api.meta.DescribedObject;
 import org.mule.runtime.api.meta.model.EnrichableModel;
 import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.extension.internal.model.CompactModelPropertyMap;
 
-import java.util.Collection;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -35,7 +34,7 @@ import com.google.common.collect.ImmutableList;
 public abstract class AbstractImmutableModel implements DescribedObject, EnrichableModel {
 
   protected String description;
-  protected final Map<Class<? extends ModelProperty>, ModelProperty> modelProperties = new LinkedHashMap<>();
+  protected final Map<Class<? extends ModelProperty>, ModelProperty> modelProperties;
 
   protected static void checkArgument(boolean condition, String message) {
     if (!condition) {
@@ -51,7 +50,7 @@ public abstract class AbstractImmutableModel implements DescribedObject, Enricha
    */
   protected AbstractImmutableModel(String description, Set<ModelProperty> modelProperties) {
     this.description = description != null ? description : "";
-    loadProperties(modelProperties);
+    this.modelProperties = CompactModelPropertyMap.of(modelProperties);
   }
 
   /**
@@ -71,11 +70,28 @@ public abstract class AbstractImmutableModel implements DescribedObject, Enricha
     return ofNullable((T) modelProperties.get(propertyType));
   }
 
+  /**
+   * Tells whether this model has a property of the given type, without allocating any object.
+   *
+   * @param propertyType the {@link Class} of the property
+   * @return whether a property of the given type is present
+   * @since 1.10
+   */
+  public boolean hasModelProperty(Class<? extends ModelProperty> propertyType) {
+    checkArgument(propertyType != null, "Cannot get model properties of a null type");
+    return modelProperties.containsKey(propertyType);
+  }
+
   /**
    * {@inheritDoc}
    */
   @Override
   public Set<ModelProperty> getModelProperties() {
+    if (modelProperties instanceof CompactModelPropertyMap) {
+      return ((CompactModelPropertyMap) modelProperties).valueSet();
+    }
+
+    // the map may have been replaced by a deserializer
     return unmodifiableSet(new LinkedHashSet<>(modelProperties.values()));
   }
 
@@ -94,10 +110,4 @@ public abstract class AbstractImmutableModel implements DescribedObject, Enricha
   protected <T> List<T> copy(List<T> values) {
     return values != null ? ImmutableList.copyOf(values) : ImmutableList.of();
   }
-
-  private void loadProperties(Collection<ModelProperty> properties) {
-    if (properties != null) {
-      properties.forEach(property -> modelProperties.put(property.getClass(), property));
-    }
-  }
 }
@@ -6,13 +6,19 @@
  */
 package org.mule.runtime.extension.api.model;
 
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Optional.of;
 import static java.util.Optional.ofNullable;
 
+import static com.google.common.collect.Maps.newHashMapWithExpectedSize;
+
 import org.mule.runtime.api.meta.NamedObject;
 import org.mule.runtime.api.meta.model.ModelProperty;
 import org.mule.runtime.api.meta.model.display.DisplayModel;
 import org.mule.runtime.api.meta.model.display.HasDisplayModel;
 
+import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -51,6 +57,25 @@ public abstract class AbstractNamedImmutableModel extends AbstractImmutableModel
     }
   }
 
+  /**
+   * Indexes the given {@code values} by name, keeping the first item found for each name. The index holds an {@link Optional} per
+   * item, so looking it up doesn't allocate.
+   * <p>
+   * Indexes are meant to be built lazily and kept in {@code transient} fields, so they are not serialized along with the model.
+   *
+   * @param values a {@link Collection} of {@link NamedObject} items
+   * @param <T>    the generic type of the {@code values} items
+   * @return an immutable {@link Map} with the {@code values} by name
+   * @since 1.10
+   */
+  protected static <T extends NamedObject> Map<String, Optional<T>> indexByName(Collection<T> values) {
+    Map<String, Optional<T>> index = newHashMapWithExpectedSize(values.size());
+    for (T value : values) {
+      index.putIfAbsent(value.getName(), of(value));
+    }
+    return unmodifiableMap(index);
+  }
+
   /**
    * {@inheritDoc}
    */
@@ -10,6 +10,7 @@ import static org.mule.runtime.extension.api.ExtensionConstants.DEFAULT_SUPPORTE
 
 import static java.util.Collections.emptySet;
 import static java.util.Collections.unmodifiableSet;
+import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
 
 import org.mule.metadata.api.model.ObjectType;
@@ -41,6 +42,7 @@ import org.mule.runtime.api.meta.model.source.SourceModel;
 import org.mule.runtime.extension.api.exception.IllegalModelDefinitionException;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -71,6 +73,10 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
   private final MuleVersion minMuleVersion;
   private final Set<String> supportedJavaVersions;
 
+  private transient volatile Map<String, Optional<ConfigurationModel>> configurationsByName;
+  private transient volatile Map<String, Optional<ConstructModel>> constructModelsByName;
+  private transient volatile Map<String, Optional<FunctionModel>> functionsByName;
+
   /**
    * Creates a new instance with the given state
    *
@@ -416,7 +422,11 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
    */
   @Override
   public Optional<ConfigurationModel> getConfigurationModel(String name) {
-    return findModel(configurations, name);
+    Map<String, Optional<ConfigurationModel>> index = configurationsByName;
+    if (index == null) {
+      configurationsByName = index = indexByName(configurations);
+    }
+    return index.getOrDefault(name, empty());
   }
 
   @Override
@@ -426,7 +436,11 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
 
   @Override
   public Optional<ConstructModel> getConstructModel(String name) {
-    return constructModels.stream().filter(c -> c.getName().equals(name)).findFirst();
+    Map<String, Optional<ConstructModel>> index = constructModelsByName;
+    if (index == null) {
+      constructModelsByName = index = indexByName(constructModels);
+    }
+    return index.getOrDefault(name, empty());
   }
 
   /**
@@ -443,7 +457,11 @@ public class ImmutableExtensionModel extends AbstractComplexModel implements Ext
    */
   @Override
   public Optional<FunctionModel> getFunctionModel(String name) {
-    return findModel(functions, name);
+    Map<String, Optional<FunctionModel>> index = functionsByName;
+    if (index == null) {
+      functionsByName = index = indexByName(functions);
+    }
+    return index.getOrDefault(name, empty());
   }
 
 
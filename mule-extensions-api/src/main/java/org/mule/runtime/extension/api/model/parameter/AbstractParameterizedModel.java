@@ -8,14 +8,19 @@ package org.mule.runtime.extension.api.model.parameter;
 
 import static java.util.Collections.emptyList;
 import static java.util.Collections.unmodifiableList;
+import static java.util.Optional.empty;
+
 import org.mule.runtime.api.meta.model.ModelProperty;
 import org.mule.runtime.api.meta.model.display.DisplayModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
 import org.mule.runtime.extension.api.model.AbstractNamedImmutableModel;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -27,6 +32,9 @@ public abstract class AbstractParameterizedModel extends AbstractNamedImmutableM
 
   private List<ParameterGroupModel> parameterGroupModels;
 
+  private transient volatile Map<String, Optional<ParameterGroupModel>> parameterGroupModelsByName;
+  private transient volatile Map<String, Optional<ParameterModel>> parameterModelsByName;
+
   /**
    * Creates a new instance
    *
@@ -54,6 +62,37 @@ public abstract class AbstractParameterizedModel extends AbstractNamedImmutableM
     return parameterGroupModels;
   }
 
+  /**
+   * Looks up a {@link ParameterGroupModel} by name.
+   *
+   * @param name the name of the group
+   * @return the {@link ParameterGroupModel} with the given {@code name}, if any
+   * @since 1.10
+   */
+  public Optional<ParameterGroupModel> getParameterGroupModel(String name) {
+    Map<String, Optional<ParameterGroupModel>> index = parameterGroupModelsByName;
+    if (index == null) {
+      parameterGroupModelsByName = index = indexByName(getParameterGroupModels());
+    }
+    return index.getOrDefault(name, empty());
+  }
+
+  /**
+   * Looks up a {@link ParameterModel} by name among the ones in all the {@link #getParameterGroupModels() parameter groups}. If
+   * more than one group has a parameter with the given {@code name}, the one in the first group is returned.
+   *
+   * @param name the name of the parameter
+   * @return the {@link ParameterModel} with the given {@code name}, if any
+   * @since 1.10
+   */
+  public Optional<ParameterModel> getParameterModel(String name) {
+    Map<String, Optional<ParameterModel>> index = parameterModelsByName;
+    if (index == null) {
+      parameterModelsByName = index = indexByName(getAllParameterModels());
+    }
+    return index.getOrDefault(name, empty());
+  }
+
   @Override
   public String toString() {
     return "AbstractParameterizedModel{" +
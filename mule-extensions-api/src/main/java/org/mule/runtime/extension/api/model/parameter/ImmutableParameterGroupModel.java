@@ -6,7 +6,9 @@
  */
 package org.mule.runtime.extension.api.model.parameter;
 
+import static java.util.Optional.empty;
 import static java.util.Optional.ofNullable;
+
 import org.mule.runtime.api.meta.model.ModelProperty;
 import org.mule.runtime.api.meta.model.display.DisplayModel;
 import org.mule.runtime.api.meta.model.display.LayoutModel;
@@ -16,6 +18,7 @@ import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.extension.api.model.AbstractNamedImmutableModel;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 
@@ -31,6 +34,8 @@ public final class ImmutableParameterGroupModel extends AbstractNamedImmutableMo
   private final LayoutModel layoutModel;
   private final boolean showInDsl;
 
+  private transient volatile Map<String, Optional<ParameterModel>> parametersByName;
+
   /**
    * Creates a new instance
    *
@@ -87,7 +92,11 @@ public final class ImmutableParameterGroupModel extends AbstractNamedImmutableMo
    */
   @Override
   public Optional<ParameterModel> getParameter(String name) {
-    return parameters.stream().filter(p -> p.getName().equals(name)).findFirst();
+    Map<String, Optional<ParameterModel>> index = parametersByName;
+    if (index == null) {
+      parametersByName = index = indexByName(parameters);
+    }
+    return index.getOrDefault(name, empty());
   }
 
   /**
@@ -6,6 +6,12 @@
  */
 package org.mule.runtime.extension.api.util;
 
+import static java.util.Collections.unmodifiableCollection;
+import static java.util.Collections.unmodifiableSet;
+import static java.util.Optional.ofNullable;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.LinkedHashMap;
@@ -43,6 +49,12 @@ import java.util.function.Function;
  * <p>
  * <h1>Performance considerations</h1> When there's an explicit mapping for a given key, the performance is the same as in the
  * backing map. When a deep search occurs, then the performance drops to O(n^n) (worst case).
+ * <p>
+ * Instances created with {@link #HierarchyClassMap(Map, boolean) resolutions caching} enabled remember which key each looked up
+ * class resolved to, including those which resolved to no key at all. Repeated lookups for the same class are then as fast as an
+ * explicit mapping. The cached resolutions are discarded whenever keys are added or removed, so the results are the same as
+ * without caching. To guarantee this, the {@link #keySet()}, {@link #values()} and {@link #entrySet()} views of such instances
+ * are unmodifiable. Looked up classes are weakly referenced by the cache.
  * <h1>Other methods</h1> Other than {@link #get(Object)} and {@link #containsKey(Object)}, no other method has been overridden.
  * Behaviour will be that of the backing map.
  *
@@ -52,6 +64,8 @@ import java.util.function.Function;
 public class HierarchyClassMap<V> implements Map<Class<?>, V> {
 
   private final Map<Class<?>, V> delegate;
+  private final boolean cacheResolutions;
+  private volatile Map<Class<?>, Optional<Class<?>>> resolutions;
 
   /**
    * Creates a new instance which behaves like a {@link HashMap}
@@ -66,7 +80,21 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
    * @param delegate a backing {@link Map} with predictable iteration order
    */
   public HierarchyClassMap(Map<Class<?>, V> delegate) {
+    this(delegate, false);
+  }
+
+  /**
+   * Creates a new instance which wraps the given {@code delegate}, inheriting its rules.
+   * <p>
+   * The resolutions cache is thread-safe, but this map is only as thread-safe as the given {@code delegate} is.
+   *
+   * @param delegate         a backing {@link Map} with predictable iteration order
+   * @param cacheResolutions whether to cache the key which each looked up class resolves to, as described on the class javadoc
+   * @since 1.10
+   */
+  public HierarchyClassMap(Map<Class<?>, V> delegate, boolean cacheResolutions) {
     this.delegate = delegate;
+    this.cacheResolutions = cacheResolutions;
   }
 
   /**
@@ -77,29 +105,56 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
    */
   @Override
   public V get(Object key) {
+    Class<?> resolvedKey = resolveKey(key);
+    return resolvedKey != null ? delegate.get(resolvedKey) : null;
+  }
+
+  private Class<?> resolveKey(Object key) {
+    if (!cacheResolutions || !(key instanceof Class)) {
+      return searchKey(key);
+    }
+
+    Map<Class<?>, Optional<Class<?>>> cache = resolutions;
+    if (cache == null) {
+      resolutions = cache = newBuilder().weakKeys().<Class<?>, Optional<Class<?>>>build().asMap();
+    }
+
+    Optional<Class<?>> resolvedKey = cache.get(key);
+    if (resolvedKey == null) {
+      resolvedKey = ofNullable(searchKey(key));
+      // if the keys changed meanwhile, this goes into an already discarded cache
+      cache.putIfAbsent((Class<?>) key, resolvedKey);
+    }
+
+    return resolvedKey.orElse(null);
+  }
+
+  /**
+   * @return the key of the first mapping which matches the given {@code key} following the rules described on the class javadoc,
+   *         or {@code null} if there's none
+   */
+  private Class<?> searchKey(Object key) {
     if (delegate.containsKey(key)) {
-      return delegate.get(key);
+      return (Class<?>) key;
     }
 
     Class<?> searchKey = (Class<?>) key;
     while (searchKey != null && !Object.class.equals(searchKey)) {
-      V value = searchAssignableFrom(searchKey);
-      if (value == null) {
-        searchKey = searchKey.getSuperclass();
-      } else {
-        return value;
+      for (Class<?> candidate : delegate.keySet()) {
+        if (searchKey.isAssignableFrom(candidate)) {
+          return candidate;
+        }
       }
+      searchKey = searchKey.getSuperclass();
     }
 
     return null;
   }
 
-  private V searchAssignableFrom(Class<?> searchKey) {
-    return entrySet().stream()
-        .filter(entry -> searchKey.isAssignableFrom(entry.getKey()))
-        .map(Entry::getValue)
-        .findFirst()
-        .orElse(null);
+  private void keysChanged() {
+    if (cacheResolutions) {
+      resolutions = null;
+    }
   }
 
   @Override
@@ -120,25 +175,7 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
    */
   @Override
   public boolean containsKey(Object key) {
-    if (delegate.containsKey(key)) {
-      return true;
-    }
-
-    Class<?> searchKey = (Class<?>) key;
-    while (searchKey != null && !Object.class.equals(searchKey)) {
-      final Class<?> lambdaKey = searchKey;
-      Optional<Class<?>> foundKey = delegate.keySet().stream()
-          .filter(clazz -> lambdaKey.isAssignableFrom(clazz))
-          .findFirst();
-
-      if (foundKey.isPresent()) {
-        return true;
-      } else {
-        searchKey = searchKey.getSuperclass();
-      }
-    }
-
-    return false;
+    return resolveKey(key) != null;
   }
 
   @Override
@@ -149,37 +186,53 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
 
   @Override
   public V put(Class<?> key, V value) {
-    return delegate.put(key, value);
+    try {
+      return delegate.put(key, value);
+    } finally {
+      keysChanged();
+    }
   }
 
   @Override
   public V remove(Object key) {
-    return delegate.remove(key);
+    try {
+      return delegate.remove(key);
+    } finally {
+      keysChanged();
+    }
   }
 
   @Override
   public void putAll(Map<? extends Class<?>, ? extends V> m) {
-    delegate.putAll(m);
+    try {
+      delegate.putAll(m);
+    } finally {
+      keysChanged();
+    }
   }
 
   @Override
   public void clear() {
-    delegate.clear();
+    try {
+      delegate.clear();
+    } finally {
+      keysChanged();
+    }
   }
 
   @Override
   public Set<Class<?>> keySet() {
-    return delegate.keySet();
+    return cacheResolutions ? unmodifiableSet(delegate.keySet()) : delegate.keySet();
   }
 
   @Override
   public Collection<V> values() {
-    return delegate.values();
+    return cacheResolutions ? unmodifiableCollection(delegate.values()) : delegate.values();
   }
 
   @Override
   public Set<Entry<Class<?>, V>> entrySet() {
-    return delegate.entrySet();
+    return cacheResolutions ? unmodifiableSet(delegate.entrySet()) : delegate.entrySet();
   }
 
   @Override
@@ -194,8 +247,9 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
 
   @Override
   public V getOrDefault(Object key, V defaultValue) {
-    return containsKey(key)
-        ? get(key)
+    Class<?> resolvedKey = resolveKey(key);
+    return resolvedKey != null
+        ? delegate.get(resolvedKey)
         : defaultValue;
   }
 
@@ -211,12 +265,20 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
 
   @Override
   public V putIfAbsent(Class<?> key, V value) {
-    return delegate.putIfAbsent(key, value);
+    try {
+      return delegate.putIfAbsent(key, value);
+    } finally {
+      keysChanged();
+    }
   }
 
   @Override
   public boolean remove(Object key, Object value) {
-    return delegate.remove(key, value);
+    try {
+      return delegate.remove(key, value);
+    } finally {
+      keysChanged();
+    }
   }
 
   @Override
@@ -231,21 +293,37 @@ public class HierarchyClassMap<V> implements Map<Class<?>, V> {
 
   @Override
   public V computeIfAbsent(Class<?> key, Function<? super Class<?>, ? extends V> mappingFunction) {
-    return delegate.computeIfAbsent(key, mappingFunction);
+    try {
+      return delegate.computeIfAbsent(key, mappingFunction);
+    } finally {
+      keysChanged();
+    }
   }
 
   @Override
   public V computeIfPresent(Class<?> key, BiFunction<? super Class<?>, ? super V, ? extends V> remappingFunction) {
-    return delegate.computeIfPresent(key, remappingFunction);
+    try {
+      return delegate.computeIfPresent(key, remappingFunction);
+    } finally {
+      keysChanged();
+    }
   }
 
   @Override
   public V compute(Class<?> key, BiFunction<? super Class<?>, ? super V, ? extends V> remappingFunction) {
-    return delegate.compute(key, remappingFunction);
+    try {
+      return delegate.compute(key, remappingFunction);
+    } finally {
+      keysChanged();
+    }
   }
 
   @Override
   public V merge(Class<?> key, V value, BiFunction<? super V, ? super V, ? extends V> remappingFunction) {
-    return delegate.merge(key, value, remappingFunction);
+    try {
+      return delegate.merge(key, value, remappingFunction);
+    } finally {
+      keysChanged();
+    }
   }
 }
@@ -40,12 +40,12 @@ import org.mule.runtime.api.meta.model.source.SourceCallbackModel;
 import org.mule.runtime.api.meta.model.source.SourceModel;
 import org.mule.runtime.extension.api.declaration.type.TypeUtils;
 import org.mule.runtime.extension.internal.loader.util.JavaParserUtils;
+import org.mule.runtime.extension.internal.util.Inflector;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Parameter;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.regex.Pattern;
 
 
 /**
@@ -67,52 +67,55 @@ public class NameUtils extends org.mule.runtime.api.util.NameUtils {
   private static final List<Inflection> plural = new ArrayList<>();
   private static final List<Inflection> singular = new ArrayList<>();
   private static final List<String> uncountable = new ArrayList<>();
+  private static final Inflector pluralizer;
+  private static final Inflector singularizer;
 
   static {
     // plural is "singular to plural form"
     // singular is "plural to singular form"
+    // the optional trailing arguments are the suffixes which a word must have for the pattern to match it
     plural("$", "s");
-    plural("s$", "s");
-    plural("(ax|test)is$", "$1es");
-    plural("(octop|vir)us$", "$1i");
-    plural("(alias|status)$", "$1es");
-    plural("(bu)s$", "$1ses");
-    plural("(buffal|tomat)o$", "$1oes");
-    plural("([ti])um$", "$1a");
-    plural("sis$", "ses");
-    plural("(?:([^f])fe|([lr])f)$", "$1$2ves");
-    plural("(hive)$", "$1s");
-    plural("([^aeiouy]|qu)y$", "$1ies");
-    plural("(x|ch|ss|sh)$", "$1es");
+    plural("s$", "s", "s");
+    plural("(ax|test)is$", "$1es", "axis", "testis");
+    plural("(octop|vir)us$", "$1i", "octopus", "virus");
+    plural("(alias|status)$", "$1es", "alias", "status");
+    plural("(bu)s$", "$1ses", "bus");
+    plural("(buffal|tomat)o$", "$1oes", "buffalo", "tomato");
+    plural("([ti])um$", "$1a", "tum", "ium");
+    plural("sis$", "ses", "sis");
+    plural("(?:([^f])fe|([lr])f)$", "$1$2ves", "fe", "lf", "rf");
+    plural("(hive)$", "$1s", "hive");
+    plural("([^aeiouy]|qu)y$", "$1ies", "y");
+    plural("(x|ch|ss|sh)$", "$1es", "x", "ch", "ss", "sh");
     plural("(matr|vert|ind)ix|ex$", "$1ices");
-    plural("([m|l])ouse$", "$1ice");
-    plural("^(ox)$", "$1en");
-    plural("(quiz)$", "$1zes");
-
-    singular("s$", "");
-    singular("(n)ews$", "$1ews");
-    singular("([ti])a$", "$1um");
-    singular("((a)naly|(b)a|(d)iagno|(p)arenthe|(p)rogno|(s)ynop|(t)he)ses$", "$1$2sis");
-    singular("(^analy)ses$", "$1sis");
-    singular("([^f])ves$", "$1fe");
-    singular("(hive)s$", "$1");
-    singular("(tive)s$", "$1");
-    singular("([lr])ves$", "$1f");
-    singular("([^aeiouy]|qu)ies$", "$1y");
-    singular("(s)eries$", "$1eries");
-    singular("(m)ovies$", "$1ovie");
-    singular("(x|ch|ss|sh)es$", "$1");
-    singular("([m|l])ice$", "$1ouse");
-    singular("(bus)es$", "$1");
-    singular("(o)es$", "$1");
-    singular("(shoe)s$", "$1");
-    singular("(cris|ax|test)es$", "$1is");
-    singular("(octop|vir)i$", "$1us");
-    singular("(alias|status)es$", "$1");
+    plural("([m|l])ouse$", "$1ice", "ouse");
+    plural("^(ox)$", "$1en", "ox");
+    plural("(quiz)$", "$1zes", "quiz");
+
+    singular("s$", "", "s");
+    singular("(n)ews$", "$1ews", "news");
+    singular("([ti])a$", "$1um", "ta", "ia");
+    singular("((a)naly|(b)a|(d)iagno|(p)arenthe|(p)rogno|(s)ynop|(t)he)ses$", "$1$2sis", "ses");
+    singular("(^analy)ses$", "$1sis", "analyses");
+    singular("([^f])ves$", "$1fe", "ves");
+    singular("(hive)s$", "$1", "hives");
+    singular("(tive)s$", "$1", "tives");
+    singular("([lr])ves$", "$1f", "lves", "rves");
+    singular("([^aeiouy]|qu)ies$", "$1y", "ies");
+    singular("(s)eries$", "$1eries", "series");
+    singular("(m)ovies$", "$1ovie", "movies");
+    singular("(x|ch|ss|sh)es$", "$1", "xes", "ches", "sses", "shes");
+    singular("([m|l])ice$", "$1ouse", "ice");
+    singular("(bus)es$", "$1", "buses");
+    singular("(o)es$", "$1", "oes");
+    singular("(shoe)s$", "$1", "shoes");
+    singular("(cris|ax|test)es$", "$1is", "crises", "axes", "testes");
+    singular("(octop|vir)i$", "$1us", "octopi", "viri");
+    singular("(alias|status)es$", "$1", "aliases", "statuses");
     singular("^(ox)en", "$1");
-    singular("(vert|ind)ices$", "$1ex");
-    singular("(matr)ices$", "$1ix");
-    singular("(quiz)zes$", "$1");
+    singular("(vert|ind)ices$", "$1ex", "vertices", "indices");
+    singular("(matr)ices$", "$1ix", "matrices");
+    singular("(quiz)zes$", "$1", "quizzes");
 
     // irregular
     irregular("person", "people");
@@ -124,6 +127,9 @@ public class NameUtils extends org.mule.runtime.api.util.NameUtils {
     // W-17864898: core elements that are not wrapped, so they are not consistent with SDK implemented components
     uncountable("metadata");
     uncountable("property");
+
+    pluralizer = compile(plural);
+    singularizer = compile(singular);
   }
 
   private NameUtils() {}
@@ -133,9 +139,10 @@ public class NameUtils extends org.mule.runtime.api.util.NameUtils {
    *
    * @param pattern     the pattern for which you want to register a plural form
    * @param replacement the replacement pattern
+   * @param suffixes    the suffixes which a word must have for the {@code pattern} to match it
    */
-  private static void plural(String pattern, String replacement) {
-    plural.add(0, new Inflection(pattern, replacement));
+  private static void plural(String pattern, String replacement, String... suffixes) {
+    plural.add(0, new Inflection(pattern, replacement, suffixes));
   }
 
   /**
@@ -143,14 +150,21 @@ public class NameUtils extends org.mule.runtime.api.util.NameUtils {
    *
    * @param pattern     the pattern for which you want to register a plural form
    * @param replacement the replacement pattern
+   * @param suffixes    the suffixes which a word must have for the {@code pattern} to match it
    */
-  private static void singular(String pattern, String replacement) {
-    singular.add(0, new Inflection(pattern, replacement));
+  private static void singular(String pattern, String replacement, String... suffixes) {
+    singular.add(0, new Inflection(pattern, replacement, suffixes));
   }
 
   private static void irregular(String s, String p) {
-    plural("(" + s.substring(0, 1) + ")" + s.substring(1) + "$", "$1" + p.substring(1));
-    singular("(" + p.substring(0, 1) + ")" + p.substring(1) + "$", "$1" + s.substring(1));
+    plural("(" + s.substring(0, 1) + ")" + s.substring(1) + "$", "$1" + p.substring(1), s);
+    singular("(" + p.substring(0, 1) + ")" + p.substring(1) + "$", "$1" + s.substring(1), p);
+  }
+
+  private static Inflector compile(List<Inflection> inflections) {
+    Inflector.Builder builder = Inflector.builder();
+    inflections.forEach(inflection -> builder.addRule(inflection.pattern, inflection.replacement, inflection.suffixes));
+    return builder.build();
   }
 
   private static void uncountable(String word) {
@@ -180,12 +194,7 @@ public class NameUtils extends org.mule.runtime.api.util.NameUtils {
     if (isUncountable(word) && considerUncountable) {
       return word;
     } else {
-      for (Inflection inflection : plural) {
-        if (inflection.match(word)) {
-          return inflection.replace(word);
-        }
-      }
-      return word;
+      return pluralizer.inflect(word);
     }
   }
 
@@ -210,13 +219,8 @@ public class NameUtils extends org.mule.runtime.api.util.NameUtils {
     if (isUncountable(word) && considerUncountable) {
       return word;
     } else {
-      for (Inflection inflection : singular) {
-        if (inflection.match(word)) {
-          return inflection.replace(word);
-        }
-      }
+      return singularizer.inflect(word);
     }
-    return word;
   }
 
   /**
@@ -405,42 +409,14 @@ public class NameUtils extends org.mule.runtime.api.util.NameUtils {
 
   private static class Inflection {
 
-    private final Pattern compiledPattern;
+    private final String pattern;
     private final String replacement;
+    private final String[] suffixes;
 
-    public Inflection(String pattern, String replacement) {
-      this(pattern, replacement, true);
-    }
-
-    public Inflection(String pattern, String replacement, boolean ignoreCase) {
+    private Inflection(String pattern, String replacement, String[] suffixes) {
+      this.pattern = pattern;
       this.replacement = replacement;
-
-      int flags = 0;
-      if (ignoreCase) {
-        flags = flags | java.util.regex.Pattern.CASE_INSENSITIVE;
-      }
-      compiledPattern = java.util.regex.Pattern.compile(pattern, flags);
-    }
-
-
-    /**
-     * Does the given word match?
-     *
-     * @param word The word
-     * @return True if it matches the inflection pattern
-     */
-    public boolean match(String word) {
-      return compiledPattern.matcher(word).find();
-    }
-
-    /**
-     * Replace the word with its pattern.
-     *
-     * @param word The word
-     * @return The result
-     */
-    public String replace(String word) {
-      return compiledPattern.matcher(word).replaceAll(replacement);
+      this.suffixes = suffixes;
     }
   }
 }
@@ -8,6 +8,7 @@ package org.mule.runtime.extension.internal.loader;
 
 import static org.mule.metadata.java.api.utils.ClassUtils.getInnerClassName;
 
+import static java.util.Collections.synchronizedMap;
 import static java.util.Objects.requireNonNull;
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -17,29 +18,59 @@ import org.mule.metadata.api.builder.BaseTypeBuilder;
 import org.mule.metadata.api.model.MetadataFormat;
 import org.mule.metadata.api.model.MetadataType;
 import org.mule.metadata.api.utils.MetadataTypeUtils;
+import org.mule.runtime.extension.api.declaration.type.ExtensionsTypeLoaderFactory;
 
 import java.lang.reflect.Type;
 import java.util.Map;
 import java.util.Optional;
 import java.util.WeakHashMap;
 
+/**
+ * A {@link ClassTypeLoader} which caches the types loaded by a delegate loader.
+ * <p>
+ * Optionally, the types can also be looked up in a {@link SharedMetadataTypeCache}, so they are shared with other instances.
+ * This is only correct for delegates created through the default {@link ExtensionsTypeLoaderFactory}.
+ * <p>
+ * Instances are thread-safe.
+ */
 public class CachedClassTypeLoader implements ClassTypeLoader {
 
   private final ClassTypeLoader classTypeLoader;
+  private final SharedMetadataTypeCache sharedCache;
 
-  private final Map<String, Optional<MetadataType>> typeIdentifierMetadataTypeMap = new WeakHashMap<>();
-  private final Map<Type, MetadataType> typeMetadataTypeMap = new WeakHashMap<>();
+  private final Map<String, Optional<MetadataType>> typeIdentifierMetadataTypeMap = synchronizedMap(new WeakHashMap<>());
+  private final Map<Type, MetadataType> typeMetadataTypeMap = synchronizedMap(new WeakHashMap<>());
 
   public CachedClassTypeLoader(ClassTypeLoader classTypeLoader) {
+    this(classTypeLoader, null);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param classTypeLoader the delegate {@link ClassTypeLoader}. It must have been created through the default
+   *                        {@link ExtensionsTypeLoaderFactory} if a {@code sharedCache} is given.
+   * @param sharedCache     the {@link SharedMetadataTypeCache} in which types are looked up before introspecting them, or
+   *                        {@code null} to only cache them in this instance
+   * @since 1.10
+   */
+  public CachedClassTypeLoader(ClassTypeLoader classTypeLoader, SharedMetadataTypeCache sharedCache) {
     requireNonNull(classTypeLoader, "classTypeLoader cannot be null");
 
     this.classTypeLoader = classTypeLoader;
+    this.sharedCache = sharedCache;
   }
 
   @Override
   public Optional<MetadataType> load(String typeIdentifier) {
-    return typeIdentifierMetadataTypeMap.computeIfAbsent(typeIdentifier,
-                                                         this::doLoad);
+    // not computed while holding the lock, since loading the type updates the maps
+    Optional<MetadataType> metadataType = typeIdentifierMetadataTypeMap.get(typeIdentifier);
+    if (metadataType == null) {
+      metadataType = doLoad(typeIdentifier);
+      typeIdentifierMetadataTypeMap.putIfAbsent(typeIdentifier, metadataType);
+    }
+
+    return metadataType;
   }
 
   private Optional<MetadataType> doLoad(String typeIdentifier) {
@@ -65,14 +96,21 @@ public class CachedClassTypeLoader implements ClassTypeLoader {
 
   @Override
   public MetadataType load(Type type) {
-    return typeMetadataTypeMap.computeIfAbsent(type, k -> {
-      final MetadataType metadataType = classTypeLoader.load(k);
-
-      MetadataTypeUtils.getTypeId(metadataType)
-          .ifPresent(t -> typeIdentifierMetadataTypeMap.put(t, of(metadataType)));
+    MetadataType metadataType = typeMetadataTypeMap.get(type);
+    if (metadataType != null) {
+      return metadataType;
+    }
 
+    final MetadataType loaded = sharedCache != null ? sharedCache.load(type, classTypeLoader::load) : classTypeLoader.load(type);
+    metadataType = typeMetadataTypeMap.putIfAbsent(type, loaded);
+    if (metadataType != null) {
       return metadataType;
-    });
+    }
+
+    MetadataTypeUtils.getTypeId(loaded)
+        .ifPresent(t -> typeIdentifierMetadataTypeMap.put(t, of(loaded)));
+
+    return loaded;
   }
 
   @Override
@@ -65,7 +65,8 @@ public final class DefaultExtensionLoadingContext implements ExtensionLoadingCon
     checkArgument(request != null, "request cannot be null");
 
     this.extensionDeclarer = extensionDeclarer;
-    this.typeLoader = new CachedClassTypeLoader(ExtensionsTypeLoaderFactory.getDefault().createTypeLoader());
+    this.typeLoader = new CachedClassTypeLoader(ExtensionsTypeLoaderFactory.getDefault().createTypeLoader(),
+                                                SharedMetadataTypeCache.getDefault());
 
     customParameters = new HashMap<>(request.getParameters());
     this.request = request;
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.Collections.unmodifiableSet;
+
+import org.mule.runtime.api.dsl.DslResolvingContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.type.TypeCatalog;
+import org.mule.runtime.api.util.LazyValue;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+/**
+ * {@link DslResolvingContext} which adds the already loaded models of the extensions an extension of an
+ * {@link ExtensionModelLoadingGraph} depends on to the context of its loading request.
+ * <p>
+ * Lookups are delegated to the context of the request first, so any behavior of it is kept. The extensions it knows of take
+ * precedence over the dependencies with the same name.
+ * <p>
+ * Instances are immutable and thread-safe.
+ *
+ * @since 1.10
+ */
+final class DependenciesDslResolvingContext implements DslResolvingContext {
+
+  private final DslResolvingContext delegate;
+  private final Map<String, ExtensionModel> dependencies;
+  private final LazyValue<Set<ExtensionModel>> extensions;
+  private final LazyValue<TypeCatalog> typeCatalog;
+
+  /**
+   * @param delegate     the context of the loading request
+   * @param dependencies the loaded models of the extensions to add
+   */
+  DependenciesDslResolvingContext(DslResolvingContext delegate, Collection<ExtensionModel> dependencies) {
+    this.delegate = delegate;
+
+    Map<String, ExtensionModel> dependenciesByName = new LinkedHashMap<>();
+    dependencies.forEach(dependency -> dependenciesByName.putIfAbsent(dependency.getName(), dependency));
+    this.dependencies = unmodifiableMap(dependenciesByName);
+
+    extensions = new LazyValue<>(this::collectExtensions);
+    typeCatalog = new LazyValue<>(() -> TypeCatalog.getDefault(getExtensions()));
+  }
+
+  @Override
+  public Optional<ExtensionModel> getExtension(String name) {
+    Optional<ExtensionModel> extension = delegate.getExtension(name);
+    return extension.isPresent() ? extension : Optional.ofNullable(dependencies.get(name));
+  }
+
+  @Override
+  public Optional<ExtensionModel> getExtensionForType(String typeId) {
+    Optional<ExtensionModel> extension = delegate.getExtensionForType(typeId);
+    return extension.isPresent() ? extension : getTypeCatalog().getDeclaringExtension(typeId).flatMap(this::getExtension);
+  }
+
+  @Override
+  public Set<ExtensionModel> getExtensions() {
+    return extensions.get();
+  }
+
+  @Override
+  public TypeCatalog getTypeCatalog() {
+    return typeCatalog.get();
+  }
+
+  private Set<ExtensionModel> collectExtensions() {
+    Set<ExtensionModel> collected = new LinkedHashSet<>(delegate.getExtensions());
+    Set<String> names = new HashSet<>();
+    collected.forEach(extension -> names.add(extension.getName()));
+    dependencies.values().stream()
+        .filter(dependency -> !names.contains(dependency.getName()))
+        .forEach(collected::add);
+    return unmodifiableSet(collected);
+  }
+}
@@ -141,12 +141,12 @@ import org.mule.runtime.extension.internal.loader.validator.ParameterModelValida
 import org.mule.runtime.extension.internal.loader.validator.SubtypesModelValidator;
 import org.mule.runtime.extension.internal.loader.validator.TransactionalParametersValidator;
 import org.mule.runtime.extension.internal.loader.validator.ValidatorModelValidator;
+import org.mule.runtime.extension.internal.model.ModelInterner;
 import org.mule.runtime.extension.privileged.loader.ProblemsHandler;
 
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.LinkedHashSet;
-import java.util.LinkedList;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
@@ -176,6 +176,7 @@ public final class ExtensionModelFactory {
 
   private final List<DeclarationEnricher> declarationEnrichers;
   private final List<ExtensionModelValidator> extensionModelValidators;
+  private final ExtensionModelValidationEngine validationEngine = new ExtensionModelValidationEngine();
   private final boolean testingMode;
 
   public ExtensionModelFactory() {
@@ -254,12 +255,14 @@ public final class ExtensionModelFactory {
 
   private void validate(ExtensionModel extensionModel, ProblemsReporter problemsReporter,
                         ExtensionLoadingContext extensionLoadingContext) {
-    List<ExtensionModelValidator> validators = new LinkedList<>(extensionModelValidators);
+    List<ExtensionModelValidator> validators =
+        new ArrayList<>(extensionModelValidators.size() + extensionLoadingContext.getCustomValidators().size());
+    validators.addAll(extensionModelValidators);
     validators.addAll(extensionLoadingContext.getCustomValidators());
 
     final DslSyntaxResolver dslSyntaxResolver = DslSyntaxResolver.getDefault(extensionModel,
                                                                              new SingleExtensionImportTypesStrategy());
-    validators.forEach(v -> v.validate(extensionModel, dslSyntaxResolver, problemsReporter));
+    validationEngine.validate(extensionModel, validators, dslSyntaxResolver, problemsReporter);
   }
 
   private void validateMuleVersion(ExtensionDeclaration extensionDeclaration) {
@@ -393,6 +396,7 @@ public final class ExtensionModelFactory {
   private class FactoryDelegate {
 
     private final Cache<ParameterizedDeclaration, ParameterizedModel> modelCache = CacheBuilder.newBuilder().build();
+    private final ModelInterner interner = new ModelInterner();
 
     private ExtensionModel toExtension(ExtensionDeclaration extensionDeclaration) {
       validateMuleVersion(extensionDeclaration);
@@ -466,7 +470,7 @@ public final class ExtensionModelFactory {
                                                              toConnectionProviders(declaration.getConnectionProviders()),
                                                              toMessageSources(declaration.getMessageSources()),
                                                              declaration.getExternalLibraryModels(),
-                                                             declaration.getDisplayModel(),
+                                                             interner.intern(declaration.getDisplayModel()),
                                                              getConfigStereotype(declaration.getStereotype()),
                                                              declaration.getModelProperties(),
                                                              declaration.getDeprecation().orElse(null),
@@ -475,7 +479,7 @@ public final class ExtensionModelFactory {
 
     private StereotypeModel getConfigStereotype(StereotypeModel stereotypeModel) {
       if (stereotypeModel != null) {
-        return stereotypeModel;
+        return interner.intern(stereotypeModel);
       }
 
       return CONFIG;
@@ -492,7 +496,7 @@ public final class ExtensionModelFactory {
                                                          toParameterGroups(declaration.getParameterGroups()),
                                                          toNestedComponentModels(declaration.getNestedComponents()),
                                                          declaration.allowsTopLevelDefinition(),
-                                                         declaration.getDisplayModel(),
+                                                         interner.intern(declaration.getDisplayModel()),
                                                          declaration.getErrorModels(),
                                                          getProcessorStereotype(declaration.getStereotype()),
                                                          declaration.getVisibility(),
@@ -521,7 +525,7 @@ public final class ExtensionModelFactory {
                                                       declaration.isRequiresConnection(),
                                                       declaration.isTransactional(),
                                                       declaration.isSupportsStreaming(),
-                                                      declaration.getDisplayModel(),
+                                                      interner.intern(declaration.getDisplayModel()),
                                                       getSourceStereotypes(declaration),
                                                       declaration.getErrorModels(),
                                                       declaration.getVisibility(),
@@ -536,7 +540,7 @@ public final class ExtensionModelFactory {
 
     private StereotypeModel getSourceStereotypes(SourceDeclaration declaration) {
       if (declaration.getStereotype() != null) {
-        return declaration.getStereotype();
+        return interner.intern(declaration.getStereotype());
       }
 
       return SOURCE;
@@ -547,7 +551,7 @@ public final class ExtensionModelFactory {
                                                                                   callback.getDescription(),
                                                                                   toParameterGroups(callback
                                                                                       .getParameterGroups()),
-                                                                                  callback.getDisplayModel(),
+                                                                                  interner.intern(callback.getDisplayModel()),
                                                                                   callback.getModelProperties()));
     }
 
@@ -561,7 +565,7 @@ public final class ExtensionModelFactory {
 
     private StereotypeModel getProcessorStereotype(StereotypeModel stereotypeModel) {
       if (stereotypeModel != null) {
-        return stereotypeModel;
+        return interner.intern(stereotypeModel);
       }
 
       return PROCESSOR;
@@ -586,7 +590,7 @@ public final class ExtensionModelFactory {
                                                 declaration.isRequiresConnection(),
                                                 declaration.isTransactional(),
                                                 declaration.isSupportsStreaming(),
-                                                declaration.getDisplayModel(),
+                                                interner.intern(declaration.getDisplayModel()),
                                                 declaration.getErrorModels(),
                                                 getProcessorStereotype(declaration.getStereotype()),
                                                 declaration.getVisibility(),
@@ -611,7 +615,7 @@ public final class ExtensionModelFactory {
                                              declaration.getName(),
                                              declaration.getDescription(),
                                              toParameterGroups(declaration.getParameterGroups()),
-                                             declaration.getDisplayModel(),
+                                             interner.intern(declaration.getDisplayModel()),
                                              declaration.getMinOccurs(),
                                              declaration.getMaxOccurs(),
                                              toNestedComponentModels(declaration.getNestedComponents()),
@@ -631,7 +635,7 @@ public final class ExtensionModelFactory {
                                              getProcessorStereotypes(((NestedChainDeclaration) declaration)
                                                  .getAllowedStereotypes()),
                                              toNestedComponentModels(declaration.getNestedComponents()),
-                                             declaration.getDisplayModel(),
+                                             interner.intern(declaration.getDisplayModel()),
                                              declaration.getErrorModels(),
                                              declaration.getStereotype(),
                                              declaration.getVisibility(),
@@ -650,7 +654,7 @@ public final class ExtensionModelFactory {
                                                getProcessorStereotypes(((NestedComponentDeclaration) declaration)
                                                    .getAllowedStereotypes()),
                                                toNestedComponentModels(declaration.getNestedComponents()),
-                                               declaration.getDisplayModel(),
+                                               interner.intern(declaration.getDisplayModel()),
                                                declaration.getErrorModels(),
                                                declaration.getStereotype(),
                                                declaration.getVisibility(),
@@ -666,9 +670,9 @@ public final class ExtensionModelFactory {
 
     private OutputModel toOutputModel(OutputDeclaration declaration) {
       return declaration != null
-          ? new ImmutableOutputModel(declaration.getDescription(), declaration.getType(), declaration.hasDynamicType(),
-                                     declaration.getModelProperties())
-          : new ImmutableOutputModel("", BaseTypeBuilder.create(JAVA).voidType().build(), false, emptySet());
+          ? new ImmutableOutputModel(declaration.getDescription(), interner.intern(declaration.getType()),
+                                     declaration.hasDynamicType(), declaration.getModelProperties())
+          : new ImmutableOutputModel("", interner.intern(BaseTypeBuilder.create(JAVA).voidType().build()), false, emptySet());
     }
 
     private ConnectionProviderModel toConnectionProvider(ConnectionProviderDeclaration declaration) {
@@ -680,7 +684,7 @@ public final class ExtensionModelFactory {
                                                                   declaration.isSupportsConnectivityTesting(),
                                                                   declaration.isSupportsXa(),
                                                                   declaration.getExternalLibraryModels(),
-                                                                  declaration.getDisplayModel(),
+                                                                  interner.intern(declaration.getDisplayModel()),
                                                                   getConnectionStereotype(declaration.getStereotype()),
                                                                   declaration.getModelProperties(),
                                                                   declaration.getDeprecation().orElse(null),
@@ -690,7 +694,7 @@ public final class ExtensionModelFactory {
 
     private StereotypeModel getConnectionStereotype(StereotypeModel stereotypeModel) {
       if (stereotypeModel != null) {
-        return stereotypeModel;
+        return interner.intern(stereotypeModel);
       }
 
       return CONNECTION;
@@ -722,8 +726,8 @@ public final class ExtensionModelFactory {
                                               toParameters(declaration.getParameters()),
                                               toExclusiveParametersModels(declaration),
                                               declaration.isShowInDsl(),
-                                              declaration.getDisplayModel(),
-                                              declaration.getLayoutModel(),
+                                              interner.intern(declaration.getDisplayModel()),
+                                              interner.intern(declaration.getLayoutModel()),
                                               declaration.getModelProperties());
     }
 
@@ -762,7 +766,7 @@ public final class ExtensionModelFactory {
 
       return new ImmutableParameterModel(parameter.getName(),
                                          parameter.getDescription(),
-                                         parameter.getType(),
+                                         interner.intern(parameter.getType()),
                                          parameter.hasDynamicType(),
                                          parameter.isRequired(),
                                          parameter.isConfigOverride(),
@@ -770,9 +774,9 @@ public final class ExtensionModelFactory {
                                          parameter.getExpressionSupport(),
                                          parameter.getDefaultValue(),
                                          parameter.getRole(),
-                                         parameter.getDslConfiguration(),
-                                         parameter.getDisplayModel(),
-                                         parameter.getLayoutModel(),
+                                         interner.intern(parameter.getDslConfiguration()),
+                                         interner.intern(parameter.getDisplayModel()),
+                                         interner.intern(parameter.getLayoutModel()),
                                          parameter.getValueProviderModel(),
                                          parameter.getAllowedStereotypeModels(),
                                          parameter.getModelProperties(),
@@ -789,7 +793,7 @@ public final class ExtensionModelFactory {
                                                          toParameterGroups(
                                                                            declaration.getParameterGroups()),
                                                          toOutputModel(declaration.getOutput()),
-                                                         declaration.getDisplayModel(),
+                                                         interner.intern(declaration.getDisplayModel()),
                                                          declaration.getModelProperties(),
                                                          declaration.getDeprecation().orElse(null),
                                                          declaration.getMinMuleVersion().orElse(null)))
@@ -0,0 +1,206 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static org.mule.runtime.api.util.Preconditions.checkArgument;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.util.Collections.unmodifiableMap;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+
+import org.mule.runtime.api.dsl.DslResolvingContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.loader.ExtensionModelBatchLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
+
+/**
+ * The extensions of an {@link ExtensionModelBatchLoader} and the dependencies between them.
+ * <p>
+ * Extensions are added to a graph which is then {@link #resolve() resolved} into an immutable one, which may be loaded many
+ * times, even concurrently.
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelLoadingGraph {
+
+  private final Map<String, Node> nodes = new LinkedHashMap<>();
+  private final List<Node> sortedNodes = new ArrayList<>();
+
+  /**
+   * Adds an extension to the graph.
+   *
+   * @throws IllegalArgumentException if there's already an extension with the given {@code id}
+   */
+  public void add(String id, ExtensionModelLoader loader, ExtensionModelLoadingRequest request,
+                  Collection<String> dependencies) {
+    checkArgument(!nodes.containsKey(id), "Extension [" + id + "] was already added");
+    nodes.put(id, new Node(id, loader, request, new ArrayList<>(dependencies)));
+  }
+
+  /**
+   * Creates a resolved copy of this graph, in which each extension is linked with the ones it depends on, and the extensions are
+   * sorted so that each one comes after the ones it depends on. Extensions which don't depend on each other keep the order they
+   * were added in.
+   *
+   * @return the resolved graph
+   * @throws IllegalArgumentException if an extension depends on one which is not part of the graph, or if the dependencies are
+   *                                  cyclic
+   */
+  public ExtensionModelLoadingGraph resolve() {
+    ExtensionModelLoadingGraph resolved = new ExtensionModelLoadingGraph();
+    nodes.values().forEach(node -> resolved.add(node.id, node.loader, node.request, node.dependencyIds));
+
+    for (Node node : resolved.nodes.values()) {
+      for (String dependencyId : node.dependencyIds) {
+        Node dependency = resolved.nodes.get(dependencyId);
+        checkArgument(dependency != null,
+                      "Extension [" + node.id + "] depends on [" + dependencyId + "], which is not part of the batch");
+        node.dependencies.add(dependency);
+      }
+    }
+
+    Set<Node> visiting = new LinkedHashSet<>();
+    Set<Node> visited = new HashSet<>();
+    resolved.nodes.values().forEach(node -> sort(node, visiting, visited, resolved.sortedNodes));
+    return resolved;
+  }
+
+  private void sort(Node node, Set<Node> visiting, Set<Node> visited, List<Node> sorted) {
+    if (visited.contains(node)) {
+      return;
+    }
+    if (!visiting.add(node)) {
+      List<String> cycle = new ArrayList<>();
+      boolean inCycle = false;
+      for (Node visitingNode : visiting) {
+        inCycle |= visitingNode == node;
+        if (inCycle) {
+          cycle.add(visitingNode.id);
+        }
+      }
+      cycle.add(node.id);
+      throw new IllegalArgumentException("Extensions have cyclic dependencies: " + String.join(" -> ", cycle));
+    }
+
+    node.dependencies.forEach(dependency -> sort(dependency, visiting, visited, sorted));
+
+    visiting.remove(node);
+    visited.add(node);
+    sorted.add(node);
+  }
+
+  /**
+   * Loads all the extensions of the graph, which must be a {@link #resolve() resolved} one.
+   *
+   * @param pool the {@link ForkJoinPool} on which the extensions are loaded, or {@code null} to load them on the calling thread
+   * @return the loaded {@link ExtensionModel}s by the id of their extension, in the order they were added
+   */
+  public Map<String, ExtensionModel> load(ForkJoinPool pool) {
+    Map<Node, ExtensionModel> models = pool == null || sortedNodes.size() < 2 ? loadSerially() : loadConcurrently(pool);
+
+    Map<String, ExtensionModel> result = new LinkedHashMap<>();
+    nodes.values().forEach(node -> result.put(node.id, models.get(node)));
+    return unmodifiableMap(result);
+  }
+
+  private Map<Node, ExtensionModel> loadSerially() {
+    Map<Node, ExtensionModel> models = new LinkedHashMap<>();
+    sortedNodes.forEach(node -> models.put(node, load(node, models::get)));
+    return models;
+  }
+
+  private Map<Node, ExtensionModel> loadConcurrently(ForkJoinPool pool) {
+    // read by the loading tasks while the following ones are being scheduled
+    Map<Node, CompletableFuture<ExtensionModel>> futures = new ConcurrentHashMap<>();
+
+    for (Node node : sortedNodes) {
+      CompletableFuture<?> dependencies = node.dependencies.isEmpty()
+          ? completedFuture(null)
+          : allOf(node.dependencies.stream().map(futures::get).toArray(CompletableFuture[]::new));
+      // the task only starts once the extensions it depends on are loaded, so joining them doesn't block
+      futures.put(node, dependencies.thenApplyAsync(v -> load(node, dependency -> futures.get(dependency).join()), pool));
+    }
+
+    Map<Node, ExtensionModel> models = new LinkedHashMap<>();
+    try {
+      // joining in the order the extensions were added makes the failure of the first one prevail over the following ones
+      for (Node node : nodes.values()) {
+        models.put(node, futures.get(node).join());
+      }
+    } catch (CompletionException e) {
+      futures.values().forEach(future -> future.cancel(false));
+      if (e.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) e.getCause();
+      } else if (e.getCause() instanceof Error) {
+        throw (Error) e.getCause();
+      }
+      throw e;
+    }
+
+    return models;
+  }
+
+  /**
+   * Loads the extension of the given {@code node}, adding the extensions it depends on to the {@link DslResolvingContext} of its
+   * request through a {@link DependenciesDslResolvingContext}, which keeps delegating to the original one.
+   *
+   * @param node   the node to load
+   * @param loaded returns the already loaded model of an extension the {@code node} depends on
+   */
+  private ExtensionModel load(Node node, Function<Node, ExtensionModel> loaded) {
+    ExtensionModelLoadingRequest request = node.request;
+    if (!node.dependencies.isEmpty()) {
+      Set<ExtensionModel> dependencies = new LinkedHashSet<>();
+      addDependencies(node, loaded, dependencies, new HashSet<>());
+      request = builder(request, new DependenciesDslResolvingContext(request.getDslResolvingContext(), dependencies)).build();
+    }
+
+    return node.loader.loadExtensionModel(request);
+  }
+
+  private void addDependencies(Node node, Function<Node, ExtensionModel> loaded, Set<ExtensionModel> extensions,
+                               Set<Node> visited) {
+    for (Node dependency : node.dependencies) {
+      if (visited.add(dependency)) {
+        addDependencies(dependency, loaded, extensions, visited);
+        extensions.add(loaded.apply(dependency));
+      }
+    }
+  }
+
+  private static final class Node {
+
+    private final String id;
+    private final ExtensionModelLoader loader;
+    private final ExtensionModelLoadingRequest request;
+    private final List<String> dependencyIds;
+    private final List<Node> dependencies = new ArrayList<>();
+
+    private Node(String id, ExtensionModelLoader loader, ExtensionModelLoadingRequest request, List<String> dependencyIds) {
+      this.id = id;
+      this.loader = loader;
+      this.request = request;
+      this.dependencyIds = dependencyIds;
+    }
+  }
+}
@@ -0,0 +1,228 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static java.lang.Math.min;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.ForkJoinPool.commonPool;
+import static java.util.concurrent.ForkJoinPool.getCommonPoolParallelism;
+
+import org.mule.runtime.api.meta.model.ComposableModel;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.config.ConfigurationModel;
+import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
+import org.mule.runtime.api.meta.model.connection.HasConnectionProviderModels;
+import org.mule.runtime.api.meta.model.construct.ConstructModel;
+import org.mule.runtime.api.meta.model.construct.HasConstructModels;
+import org.mule.runtime.api.meta.model.function.FunctionModel;
+import org.mule.runtime.api.meta.model.function.HasFunctionModels;
+import org.mule.runtime.api.meta.model.nested.NestableElementModel;
+import org.mule.runtime.api.meta.model.operation.HasOperationModels;
+import org.mule.runtime.api.meta.model.operation.OperationModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
+import org.mule.runtime.api.meta.model.source.HasSourceModels;
+import org.mule.runtime.api.meta.model.source.SourceModel;
+import org.mule.runtime.api.meta.model.util.ExtensionWalker;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.IndependentExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator.ExtensionModelValidatorWalkDelegate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * Executes a list of {@link ExtensionModelValidator validators} over an {@link ExtensionModel}.
+ * <p>
+ * Validators which are not {@link IndependentExtensionModelValidator independent} are executed first, one after the other, on
+ * the calling thread. The independent ones are then executed concurrently on a {@link ForkJoinPool}, each of them reporting into
+ * its own {@link ProblemsReporter}. Once all of them are done, the problems are added to the given reporter following the
+ * order of the validators, so the outcome is the same no matter how the execution was scheduled.
+ * <p>
+ * Independent validators which are also {@link WalkingExtensionModelValidator walking validators} don't walk the model on their
+ * own. Instead, their delegates are fed by a single walk over the model, or by as many walks as the parallelism of the pool
+ * allows, each of them feeding a share of the delegates.
+ * <p>
+ * The validators executed on the pool see the context {@link ClassLoader} of the calling thread, as they would if they were
+ * executed on it. This matters, for example, when they resolve the classes of the types of the extension.
+ * <p>
+ * If any validator fails, the failure is propagated and the pending ones are cancelled.
+ * <p>
+ * Instances are thread-safe.
+ *
+ * @since 1.10
+ */
+public final class ExtensionModelValidationEngine {
+
+  private final ForkJoinPool pool;
+
+  /**
+   * Creates a new instance which executes the independent validators on the {@link ForkJoinPool#commonPool() common pool}, as
+   * long as it allows for any parallelism.
+   */
+  public ExtensionModelValidationEngine() {
+    this(getCommonPoolParallelism() > 1 ? commonPool() : null);
+  }
+
+  /**
+   * Creates a new instance
+   *
+   * @param pool the {@link ForkJoinPool} on which the independent validators are executed, or {@code null} to execute all of
+   *             them on the calling thread
+   */
+  public ExtensionModelValidationEngine(ForkJoinPool pool) {
+    this.pool = pool;
+  }
+
+  /**
+   * Validates the given {@code extensionModel}
+   *
+   * @param extensionModel   the {@link ExtensionModel} to validate
+   * @param validators       the {@link ExtensionModelValidator validators} to execute
+   * @param syntaxResolver   the {@link DslSyntaxResolver} for the {@code extensionModel}
+   * @param problemsReporter the {@link ProblemsReporter} in which the problems found are reported
+   */
+  public void validate(ExtensionModel extensionModel, List<ExtensionModelValidator> validators,
+                       DslSyntaxResolver syntaxResolver, ProblemsReporter problemsReporter) {
+    final ClassLoader contextClassLoader = currentThread().getContextClassLoader();
+    final int validatorsCount = validators.size();
+    ProblemsReporter[] reporters = new ProblemsReporter[validatorsCount];
+    List<ExtensionModelValidatorWalkDelegate> walkDelegates = new ArrayList<>(validatorsCount);
+    List<Runnable> tasks = new ArrayList<>(validatorsCount);
+
+    for (int i = 0; i < validatorsCount; i++) {
+      ExtensionModelValidator validator = validators.get(i);
+      ProblemsReporter reporter = new ProblemsReporter(extensionModel);
+      reporters[i] = reporter;
+
+      if (!(validator instanceof IndependentExtensionModelValidator)) {
+        validator.validate(extensionModel, syntaxResolver, reporter);
+      } else if (validator instanceof WalkingExtensionModelValidator) {
+        ((WalkingExtensionModelValidator) validator).getWalkDelegate(extensionModel, syntaxResolver, reporter)
+            .ifPresent(walkDelegates::add);
+      } else {
+        tasks.add(() -> validator.validate(extensionModel, syntaxResolver, reporter));
+      }
+    }
+
+    // the walks go first, since they are likely to take the longest
+    tasks.addAll(0, walkTasks(extensionModel, walkDelegates));
+    execute(tasks, contextClassLoader);
+
+    for (ProblemsReporter reporter : reporters) {
+      reporter.getErrors().forEach(problemsReporter::addError);
+      reporter.getWarnings().forEach(problemsReporter::addWarning);
+    }
+  }
+
+  private List<Runnable> walkTasks(ExtensionModel extensionModel, List<ExtensionModelValidatorWalkDelegate> walkDelegates) {
+    if (walkDelegates.isEmpty()) {
+      return new ArrayList<>();
+    }
+
+    int walksCount = pool == null ? 1 : min(pool.getParallelism(), walkDelegates.size());
+    List<List<ExtensionModelValidatorWalkDelegate>> shares = new ArrayList<>(walksCount);
+    for (int i = 0; i < walksCount; i++) {
+      shares.add(new ArrayList<>());
+    }
+    for (int i = 0; i < walkDelegates.size(); i++) {
+      shares.get(i % walksCount).add(walkDelegates.get(i));
+    }
+
+    List<Runnable> walkTasks = new ArrayList<>(walksCount);
+    shares.forEach(share -> walkTasks.add(() -> walk(extensionModel, share)));
+    return walkTasks;
+  }
+
+  private void execute(List<Runnable> tasks, ClassLoader contextClassLoader) {
+    if (pool == null || tasks.size() < 2) {
+      tasks.forEach(Runnable::run);
+      return;
+    }
+
+    List<ForkJoinTask<?>> submitted = new ArrayList<>(tasks.size());
+    try {
+      tasks.forEach(task -> submitted.add(pool.submit(withContextClassLoader(task, contextClassLoader))));
+
+      // joining in order makes the failure of the first task prevail over the following ones
+      submitted.forEach(ForkJoinTask::join);
+    } catch (RuntimeException | Error e) {
+      submitted.forEach(task -> task.cancel(false));
+      throw e;
+    }
+  }
+
+  private Runnable withContextClassLoader(Runnable task, ClassLoader contextClassLoader) {
+    return () -> {
+      Thread thread = currentThread();
+      ClassLoader previous = thread.getContextClassLoader();
+      thread.setContextClassLoader(contextClassLoader);
+      try {
+        task.run();
+      } finally {
+        thread.setContextClassLoader(previous);
+      }
+    };
+  }
+
+  private void walk(ExtensionModel extensionModel, List<ExtensionModelValidatorWalkDelegate> walkDelegates) {
+    new ExtensionWalker() {
+
+      @Override
+      protected void onConfiguration(ConfigurationModel model) {
+        walkDelegates.forEach(d -> d.onConfiguration(model));
+      }
+
+      @Override
+      protected void onConnectionProvider(HasConnectionProviderModels owner, ConnectionProviderModel model) {
+        walkDelegates.forEach(d -> d.onConnectionProvider(owner, model));
+      }
+
+      @Override
+      protected void onSource(HasSourceModels owner, SourceModel model) {
+        walkDelegates.forEach(d -> d.onSource(owner, model));
+      }
+
+      @Override
+      protected void onOperation(HasOperationModels owner, OperationModel model) {
+        walkDelegates.forEach(d -> d.onOperation(owner, model));
+      }
+
+      @Override
+      protected void onFunction(HasFunctionModels owner, FunctionModel model) {
+        walkDelegates.forEach(d -> d.onFunction(owner, model));
+      }
+
+      @Override
+      protected void onConstruct(HasConstructModels owner, ConstructModel model) {
+        walkDelegates.forEach(d -> d.onConstruct(owner, model));
+      }
+
+      @Override
+      protected void onNestable(ComposableModel owner, NestableElementModel model) {
+        walkDelegates.forEach(d -> d.onNestable(owner, model));
+      }
+
+      @Override
+      protected void onParameterGroup(ParameterizedModel owner, ParameterGroupModel model) {
+        walkDelegates.forEach(d -> d.onParameterGroup(owner, model));
+      }
+
+      @Override
+      protected void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
+        walkDelegates.forEach(d -> d.onParameter(owner, groupModel, model));
+      }
+    }.walk(extensionModel);
+    walkDelegates.forEach(ExtensionModelValidatorWalkDelegate::onWalkFinished);
+  }
+}
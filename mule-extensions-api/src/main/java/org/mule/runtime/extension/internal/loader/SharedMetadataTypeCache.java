@@ -0,0 +1,180 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.loader;
+
+import static java.util.Collections.newSetFromMap;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import org.mule.metadata.api.annotation.TypeAnnotation;
+import org.mule.metadata.api.model.ArrayType;
+import org.mule.metadata.api.model.IntersectionType;
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.metadata.api.model.ObjectFieldType;
+import org.mule.metadata.api.model.ObjectType;
+import org.mule.metadata.api.model.UnionType;
+import org.mule.metadata.api.visitor.MetadataTypeVisitor;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.declaration.type.ExtensionsTypeLoaderFactory;
+import org.mule.runtime.extension.api.declaration.type.annotation.DefaultImplementingTypeAnnotation;
+import org.mule.runtime.extension.api.declaration.type.annotation.NullSafeTypeAnnotation;
+import org.mule.runtime.extension.api.declaration.type.annotation.StereotypeTypeAnnotation;
+
+import java.lang.reflect.Type;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Set;
+import java.util.function.Function;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+/**
+ * Keeps the {@link MetadataType}s introspected from java {@link Class classes} so they can be shared across the loading of
+ * several {@link ExtensionModel}s. This way, types which are common to many extensions (such as {@link String}, the streaming
+ * and reconnection infrastructure or {@code TlsContextFactory}) are introspected only once.
+ * <p>
+ * Entries are scoped by the {@link ClassLoader} which defines each class: a {@link Class} is only equal to itself, and it is
+ * identified by its name together with its defining {@link ClassLoader}. Classes are held through weak references, so the
+ * entries are evicted once their defining {@link ClassLoader} is collected.
+ * <p>
+ * Only the types which are safe to share are kept, the rest are introspected again by each extension. A type is not shared if
+ * it, or any type it references, has an annotation which holds a {@link Class} (which would keep its {@link ClassLoader} from
+ * being collected) or which is changed while loading each extension. That is the case of {@link NullSafeTypeAnnotation}s and
+ * of the {@link StereotypeTypeAnnotation}s which are not resolved yet.
+ * <p>
+ * Since the handlers of the {@link ExtensionsTypeLoaderFactory default type loaders} resolve all the types which a class
+ * references through the class itself, a cached {@link MetadataType} is valid no matter which of those loaders introspected it.
+ * Types other than {@link Class classes} (such as parameterized types) are not shared, since they may combine classes from
+ * different {@link ClassLoader}s.
+ * <p>
+ * Instances are thread-safe and record hit/miss statistics.
+ *
+ * @since 1.10
+ */
+public final class SharedMetadataTypeCache {
+
+  private static final SharedMetadataTypeCache DEFAULT = new SharedMetadataTypeCache();
+
+  /**
+   * @return the process-wide instance, shared by every {@link DefaultExtensionLoadingContext}
+   */
+  public static SharedMetadataTypeCache getDefault() {
+    return DEFAULT;
+  }
+
+  private final Cache<Class<?>, MetadataType> types = newBuilder().weakKeys().recordStats().build();
+
+  /**
+   * Returns the {@link MetadataType} for the given {@code type}, introspecting it with the given {@code typeLoader} if it is not
+   * cached yet.
+   * <p>
+   * The {@code typeLoader} is not invoked while holding any lock, so it may use this cache in turn. Concurrent misses on the same
+   * class may introspect it more than once, but the first introspected {@link MetadataType} is the one kept.
+   *
+   * @param type       the {@link Type} to load
+   * @param typeLoader the function used to introspect the {@code type} on a miss
+   * @return the {@link MetadataType} for the given {@code type}
+   */
+  public MetadataType load(Type type, Function<Type, MetadataType> typeLoader) {
+    if (!(type instanceof Class)) {
+      return typeLoader.apply(type);
+    }
+
+    Class<?> clazz = (Class<?>) type;
+    MetadataType metadataType = types.getIfPresent(clazz);
+    if (metadataType == null) {
+      metadataType = typeLoader.apply(clazz);
+      if (isShareable(metadataType)) {
+        metadataType = types.asMap().merge(clazz, metadataType, (cached, loaded) -> cached);
+      }
+    }
+
+    return metadataType;
+  }
+
+  /**
+   * @return whether the given {@code type} and all the types it references are free of annotations which hold a {@link Class} or
+   *         which are changed while loading an extension
+   */
+  private static boolean isShareable(MetadataType type) {
+    Set<MetadataType> visited = newSetFromMap(new IdentityHashMap<>());
+    Deque<MetadataType> pending = new ArrayDeque<>();
+    MetadataTypeVisitor referencedTypes = new MetadataTypeVisitor() {
+
+      @Override
+      public void visitObject(ObjectType objectType) {
+        objectType.getFields().forEach(pending::push);
+        objectType.getOpenRestriction().ifPresent(pending::push);
+      }
+
+      @Override
+      public void visitObjectField(ObjectFieldType objectFieldType) {
+        pending.push(objectFieldType.getValue());
+      }
+
+      @Override
+      public void visitArrayType(ArrayType arrayType) {
+        pending.push(arrayType.getType());
+      }
+
+      @Override
+      public void visitIntersection(IntersectionType intersectionType) {
+        intersectionType.getTypes().forEach(pending::push);
+      }
+
+      @Override
+      public void visitUnion(UnionType unionType) {
+        unionType.getTypes().forEach(pending::push);
+      }
+    };
+
+    // iterative, since pojo graphs may be deep. Recursive types are visited only once
+    pending.push(type);
+    while (!pending.isEmpty()) {
+      MetadataType current = pending.pop();
+      if (!visited.add(current)) {
+        continue;
+      }
+
+      for (TypeAnnotation annotation : current.getAnnotations()) {
+        if (annotation instanceof NullSafeTypeAnnotation
+            || (annotation instanceof StereotypeTypeAnnotation
+                && ((StereotypeTypeAnnotation) annotation).getAllowedStereotypes().isEmpty())) {
+          return false;
+        } else if (annotation instanceof DefaultImplementingTypeAnnotation) {
+          pending.push(((DefaultImplementingTypeAnnotation) annotation).getDefaultType());
+        }
+      }
+      current.accept(referencedTypes);
+    }
+
+    return true;
+  }
+
+  /**
+   * @return the hit/miss statistics of this cache
+   */
+  public CacheStats getStats() {
+    return types.stats();
+  }
+
+  /**
+   * @return the approximate amount of classes whose {@link MetadataType} is cached
+   */
+  public long size() {
+    return types.estimatedSize();
+  }
+
+  /**
+   * Discards all the cached types. Statistics are not reset.
+   */
+  public void invalidateAll() {
+    types.invalidateAll();
+  }
+}
@@ -9,12 +9,18 @@ package org.mule.runtime.extension.internal.loader.validator;
 import static org.mule.runtime.extension.internal.loader.validator.ModelValidationUtils.validateConfigOverrideParametersNotAllowed;
 import static org.mule.runtime.extension.internal.loader.validator.ModelValidationUtils.validateConfigParametersNamesNotAllowed;
 
+import static java.util.Optional.of;
+
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.config.ConfigurationModel;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
-import org.mule.runtime.api.meta.model.util.ExtensionWalker;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
 import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.IndependentExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
+
+import java.util.Optional;
 
 /**
  * {@link ExtensionModelValidator} which applies to {@link ExtensionModel}s which contains {@link ConfigurationModel}s and
@@ -29,18 +35,19 @@ import org.mule.runtime.extension.api.loader.ProblemsReporter;
  *
  * @since 1.5
  */
-public final class ConfigurationModelValidator implements ExtensionModelValidator {
+public final class ConfigurationModelValidator implements IndependentExtensionModelValidator, WalkingExtensionModelValidator {
 
   @Override
-  public void validate(ExtensionModel model, ProblemsReporter problemsReporter) {
-    new ExtensionWalker() {
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel model, DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
+    return of(new ExtensionModelValidatorWalkDelegate() {
 
       @Override
-      protected void onConfiguration(ConfigurationModel model) {
+      public void onConfiguration(ConfigurationModel model) {
         validateConfigParametersNamesNotAllowed(model, problemsReporter, "Configuration");
         validateConfigOverrideParametersNotAllowed(model, problemsReporter, "Configuration");
       }
-    }.walk(model);
+    });
   }
 
 }
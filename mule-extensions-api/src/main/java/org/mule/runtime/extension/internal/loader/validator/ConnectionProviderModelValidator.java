@@ -8,12 +8,18 @@ package org.mule.runtime.extension.internal.loader.validator;
 
 import static org.mule.runtime.extension.internal.loader.validator.ModelValidationUtils.validateConfigOverrideParametersNotAllowed;
 
+import static java.util.Optional.of;
+
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
 import org.mule.runtime.api.meta.model.connection.HasConnectionProviderModels;
-import org.mule.runtime.api.meta.model.util.ExtensionWalker;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
 import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.IndependentExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
+
+import java.util.Optional;
 
 /**
  * {@link ExtensionModelValidator} which applies to {@link ExtensionModel}s which contains {@link ConnectionProviderModel}s
@@ -25,19 +31,20 @@ import org.mule.runtime.extension.api.loader.ProblemsReporter;
  *
  * @since 1.5
  */
-public final class ConnectionProviderModelValidator implements ExtensionModelValidator {
+public final class ConnectionProviderModelValidator
+    implements IndependentExtensionModelValidator, WalkingExtensionModelValidator {
 
   @Override
-  public void validate(ExtensionModel extensionModel, ProblemsReporter problemsReporter) {
-
-    new ExtensionWalker() {
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel extensionModel,
+                                                                       DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
+    return of(new ExtensionModelValidatorWalkDelegate() {
 
       @Override
       public void onConnectionProvider(HasConnectionProviderModels owner, ConnectionProviderModel model) {
         validateConfigOverrideParametersNotAllowed(model, problemsReporter, "Connection");
       }
-    }.walk(extensionModel);
-
+    });
   }
 
 }
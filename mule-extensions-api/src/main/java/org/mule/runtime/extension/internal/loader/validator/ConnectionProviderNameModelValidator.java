@@ -7,21 +7,24 @@
 package org.mule.runtime.extension.internal.loader.validator;
 
 import static java.lang.String.format;
+import static java.util.Optional.of;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toSet;
 import org.mule.runtime.api.meta.NamedObject;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.connection.ConnectionProviderModel;
-import org.mule.runtime.api.meta.model.util.IdempotentExtensionWalker;
-import org.mule.runtime.extension.api.exception.IllegalModelDefinitionException;
-import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.loader.IdempotentExtensionModelValidatorWalkDelegate;
+import org.mule.runtime.extension.api.loader.IndependentExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.Problem;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
 
 import com.google.common.collect.HashMultiset;
 import com.google.common.collect.Multiset;
 
 import java.util.HashSet;
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -29,29 +32,35 @@ import java.util.Set;
  *
  * @since 1.0
  */
-public class ConnectionProviderNameModelValidator implements ExtensionModelValidator {
+public class ConnectionProviderNameModelValidator implements IndependentExtensionModelValidator, WalkingExtensionModelValidator {
 
   @Override
-  public void validate(ExtensionModel model, ProblemsReporter problemsReporter) throws IllegalModelDefinitionException {
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel model, DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
     Multiset<String> names = HashMultiset.create();
     Set<ConnectionProviderModel> models = new HashSet<>();
-    new IdempotentExtensionWalker() {
+    return of(new IdempotentExtensionModelValidatorWalkDelegate() {
 
       @Override
       public void onConnectionProvider(ConnectionProviderModel model) {
         models.add(model);
         names.add(model.getName());
       }
-    }.walk(model);
 
-    Set<ConnectionProviderModel> repeatedNameModels =
-        models.stream().filter(cp -> names.count(cp.getName()) > 1).collect(toSet());
+      @Override
+      public void onWalkFinished() {
+        Set<ConnectionProviderModel> repeatedNameModels =
+            models.stream().filter(cp -> names.count(cp.getName()) > 1).collect(toSet());
 
-    if (!repeatedNameModels.isEmpty()) {
-      problemsReporter.addError(new Problem(model,
-                                            format("There are %d connection providers with repeated names. Offending names are: [%s]",
-                                                   repeatedNameModels.size(),
-                                                   repeatedNameModels.stream().map(NamedObject::getName).collect(joining(",")))));
-    }
+        if (!repeatedNameModels.isEmpty()) {
+          problemsReporter.addError(new Problem(model,
+                                                format("There are %d connection providers with repeated names. "
+                                                    + "Offending names are: [%s]",
+                                                       repeatedNameModels.size(),
+                                                       repeatedNameModels.stream().map(NamedObject::getName)
+                                                           .collect(joining(",")))));
+        }
+      }
+    });
   }
 }
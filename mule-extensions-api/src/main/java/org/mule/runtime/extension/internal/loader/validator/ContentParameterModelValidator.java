@@ -7,6 +7,7 @@
 package org.mule.runtime.extension.internal.loader.validator;
 
 import static java.lang.String.format;
+import static java.util.Optional.of;
 import static java.util.stream.Collectors.toList;
 import static org.mule.runtime.api.meta.ExpressionSupport.NOT_SUPPORTED;
 import static org.mule.runtime.api.meta.model.parameter.ParameterRole.PRIMARY_CONTENT;
@@ -28,13 +29,15 @@ import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterRole;
 import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
 import org.mule.runtime.api.meta.model.source.SourceModel;
-import org.mule.runtime.api.meta.model.util.IdempotentExtensionWalker;
 import org.mule.runtime.extension.api.annotation.metadata.MetadataKeyId;
 import org.mule.runtime.extension.api.annotation.metadata.TypeResolver;
 import org.mule.runtime.extension.api.annotation.param.Optional;
-import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.loader.IdempotentExtensionModelValidatorWalkDelegate;
+import org.mule.runtime.extension.api.loader.IndependentExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.Problem;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
 import org.mule.runtime.extension.api.util.ExtensionMetadataTypeUtils;
 import org.mule.runtime.extension.api.util.ExtensionModelUtils;
 
@@ -58,11 +61,13 @@ import com.google.common.base.Joiner;
  *
  * @since 1.0
  */
-public class ContentParameterModelValidator implements ExtensionModelValidator {
+public class ContentParameterModelValidator implements IndependentExtensionModelValidator, WalkingExtensionModelValidator {
 
   @Override
-  public void validate(ExtensionModel extensionModel, ProblemsReporter problemsReporter) {
-    new IdempotentExtensionWalker() {
+  public java.util.Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel extensionModel,
+                                                                                 DslSyntaxResolver syntaxResolver,
+                                                                                 ProblemsReporter problemsReporter) {
+    return of(new IdempotentExtensionModelValidatorWalkDelegate() {
 
       @Override
       public void onConfiguration(ConfigurationModel model) {
@@ -130,7 +135,7 @@ public class ContentParameterModelValidator implements ExtensionModelValidator {
           }
         });
       }
-    }.walk(extensionModel);
+    });
   }
 
   private void validateNoContent(ParameterizedModel model, ProblemsReporter problemsReporter) {
@@ -8,17 +8,22 @@ package org.mule.runtime.extension.internal.loader.validator;
 
 import static org.mule.runtime.extension.api.util.NameUtils.getComponentModelTypeName;
 import static org.mule.runtime.extension.api.util.NameUtils.getModelName;
+
+import static java.util.Optional.of;
+
 import org.mule.metadata.api.model.MetadataType;
 import org.mule.metadata.api.model.ObjectType;
 import org.mule.metadata.api.model.SimpleType;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
-import org.mule.runtime.api.meta.model.util.ExtensionWalker;
-import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.loader.IndependentExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.Problem;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
 
+import java.util.Optional;
 import java.util.Set;
 
 /**
@@ -28,14 +33,17 @@ import java.util.Set;
  *
  * @since 1.0
  */
-public final class ExclusiveParameterModelValidator implements ExtensionModelValidator {
+public final class ExclusiveParameterModelValidator
+    implements IndependentExtensionModelValidator, WalkingExtensionModelValidator {
 
   /**
    * {@inheritDoc}
    */
   @Override
-  public void validate(ExtensionModel extensionModel, ProblemsReporter problemsReporter) {
-    new ExtensionWalker() {
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel extensionModel,
+                                                                       DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
+    return of(new ExtensionModelValidatorWalkDelegate() {
 
       @Override
       public void onParameterGroup(ParameterizedModel owner, ParameterGroupModel model) {
@@ -61,6 +69,6 @@ public final class ExclusiveParameterModelValidator implements ExtensionModelVal
           }
         });
       }
-    }.walk(extensionModel);
+    });
   }
 }
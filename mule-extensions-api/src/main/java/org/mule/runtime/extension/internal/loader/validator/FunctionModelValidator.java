@@ -7,32 +7,40 @@
 package org.mule.runtime.extension.internal.loader.validator;
 
 import static java.lang.String.format;
+import static java.util.Optional.of;
+
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.config.ConfigurationModel;
 import org.mule.runtime.api.meta.model.function.FunctionModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterRole;
-import org.mule.runtime.api.meta.model.util.IdempotentExtensionWalker;
-import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.loader.IdempotentExtensionModelValidatorWalkDelegate;
+import org.mule.runtime.extension.api.loader.IndependentExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.Problem;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
+
+import java.util.Optional;
 
 /**
  * Validates rules specific to {@link FunctionModel}.
  *
  * @since 1.0
  */
-public final class FunctionModelValidator implements ExtensionModelValidator {
+public final class FunctionModelValidator implements IndependentExtensionModelValidator, WalkingExtensionModelValidator {
 
   @Override
-  public void validate(ExtensionModel extensionModel, ProblemsReporter problemsReporter) {
-    new IdempotentExtensionWalker() {
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel extensionModel,
+                                                                       DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
+    return of(new IdempotentExtensionModelValidatorWalkDelegate() {
 
       @Override
       protected void onFunction(FunctionModel model) {
         model.getAllParameterModels().forEach(p -> validateParameter(model, p, problemsReporter));
       }
-    }.walk(extensionModel);
+    });
   }
 
   private void validateParameter(FunctionModel model, ParameterModel parameter, ProblemsReporter problemsReporter) {
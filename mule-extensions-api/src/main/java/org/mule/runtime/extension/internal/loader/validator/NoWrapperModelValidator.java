@@ -8,6 +8,7 @@ package org.mule.runtime.extension.internal.loader.validator;
 
 import static java.lang.String.format;
 import static java.lang.String.join;
+import static java.util.Optional.of;
 import static org.apache.commons.lang3.StringUtils.capitalize;
 import static org.mule.runtime.extension.api.util.NameUtils.getComponentModelTypeName;
 
@@ -30,18 +31,21 @@ import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterizedModel;
 import org.mule.runtime.api.meta.model.source.SourceModel;
-import org.mule.runtime.api.meta.model.util.IdempotentExtensionWalker;
-import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.loader.IdempotentExtensionModelValidatorWalkDelegate;
+import org.mule.runtime.extension.api.loader.IndependentExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.Problem;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
 import org.mule.runtime.extension.api.property.NoWrapperModelProperty;
 
 import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
-public class NoWrapperModelValidator implements ExtensionModelValidator {
+public class NoWrapperModelValidator implements IndependentExtensionModelValidator, WalkingExtensionModelValidator {
 
   private static final String ERROR_PREFIX_REASON = "%s named %s is enriched with the NoWrapperModelProperty. %s";
   private static final String GENERIC_ERROR_REASON = "%ss are not allowed to be enriched with it.";
@@ -60,18 +64,20 @@ public class NoWrapperModelValidator implements ExtensionModelValidator {
   private static final String PARAMETER = "parameter";
 
   @Override
-  public void validate(ExtensionModel extensionModel, ProblemsReporter problemsReporter) {
-    new IdempotentExtensionWalker() {
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel extensionModel,
+                                                                       DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
+    return of(new IdempotentExtensionModelValidatorWalkDelegate() {
 
       private Set<ComposableModel> visitedComposableModel = new HashSet<>();
 
       @Override
-      protected void onParameterGroup(ParameterizedModel owner, ParameterGroupModel model) {
+      public void onParameterGroup(ParameterizedModel owner, ParameterGroupModel model) {
         validateNoWrapperIsNotPresent(model, PARAMETER_GROUP, problemsReporter);
       }
 
       @Override
-      protected void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
+      public void onParameter(ParameterizedModel owner, ParameterGroupModel groupModel, ParameterModel model) {
         model.getType().accept(new MetadataTypeVisitor() {
 
           @Override
@@ -94,7 +100,7 @@ public class NoWrapperModelValidator implements ExtensionModelValidator {
       }
 
       @Override
-      protected void onNestable(ComposableModel owner, NestableElementModel model) {
+      public void onNestable(ComposableModel owner, NestableElementModel model) {
         if (visitedComposableModel.add(owner)) {
           verifyChainChildren(owner);
         }
@@ -153,10 +159,10 @@ public class NoWrapperModelValidator implements ExtensionModelValidator {
       }
 
       @Override
-      protected void onConfiguration(ConfigurationModel model) {
+      public void onConfiguration(ConfigurationModel model) {
         validateNoWrapperIsNotPresent(model, getComponentModelTypeName(model), problemsReporter);
       }
-    }.walk(extensionModel);
+    });
   }
 
   private <T extends EnrichableModel & NamedObject> void validateNoWrapperIsNotPresent(T model, String modelType,
@@ -13,6 +13,7 @@ import static org.mule.runtime.extension.internal.util.ExtensionValidationUtils.
 import static org.mule.runtime.extension.privileged.util.ComponentDeclarationUtils.isConnectionProvisioningRequired;
 
 import static java.lang.String.format;
+import static java.util.Optional.of;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
@@ -30,14 +31,14 @@ import org.mule.runtime.api.meta.model.nested.NestedRouteModel;
 import org.mule.runtime.api.meta.model.operation.HasOperationModels;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
-import org.mule.runtime.api.meta.model.util.ExtensionWalker;
 import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
-import org.mule.runtime.extension.api.dsl.syntax.resolver.SingleExtensionImportTypesStrategy;
-import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.IndependentExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.Problem;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.concurrent.atomic.AtomicInteger;
 
 /**
@@ -45,78 +46,73 @@ import java.util.concurrent.atomic.AtomicInteger;
  *
  * @since 1.0
  */
-public final class OperationModelValidator implements ExtensionModelValidator {
+public final class OperationModelValidator implements IndependentExtensionModelValidator, WalkingExtensionModelValidator {
 
   @Override
-  public void validate(ExtensionModel extensionModel, ProblemsReporter problemsReporter) {
-    new ValidatorDelegate().validate(extensionModel,
-                                     DslSyntaxResolver.getDefault(extensionModel, new SingleExtensionImportTypesStrategy()),
-                                     problemsReporter);
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel extensionModel,
+                                                                       DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
+    return of(new ValidatorDelegate(extensionModel, syntaxResolver, problemsReporter));
   }
 
-  @Override
-  public void validate(ExtensionModel extensionModel, DslSyntaxResolver syntaxResolver, ProblemsReporter problemsReporter) {
-    new ValidatorDelegate().validate(extensionModel, syntaxResolver, problemsReporter);
-  }
-
-  private static class ValidatorDelegate {
+  private static class ValidatorDelegate extends ExtensionModelValidatorWalkDelegate {
 
-    private ProblemsReporter problemsReporter;
-    private DslSyntaxResolver dsl;
+    private final ExtensionModel extensionModel;
+    private final ProblemsReporter problemsReporter;
+    private final DslSyntaxResolver dsl;
+    private final boolean hasGlobalConnectionProviders;
+    private final boolean extensionWithoutErrors;
 
-    void validate(ExtensionModel extensionModel, DslSyntaxResolver syntaxResolver, ProblemsReporter problemsReporter) {
+    ValidatorDelegate(ExtensionModel extensionModel, DslSyntaxResolver syntaxResolver, ProblemsReporter problemsReporter) {
+      this.extensionModel = extensionModel;
       this.problemsReporter = problemsReporter;
       this.dsl = syntaxResolver;
-      final boolean hasGlobalConnectionProviders = !extensionModel.getConnectionProviders().isEmpty();
-      final boolean extensionWithoutErrors = extensionModel.getErrorModels().isEmpty();
+      this.hasGlobalConnectionProviders = !extensionModel.getConnectionProviders().isEmpty();
+      this.extensionWithoutErrors = extensionModel.getErrorModels().isEmpty();
+    }
 
-      new ExtensionWalker() {
+    @Override
+    public void onConstruct(HasConstructModels owner, ConstructModel model) {
+      validateErrors(model);
+      if (isScope(model)) {
+        validateScope(model);
+      } else if (isRouter(model)) {
+        validateRouter(model);
+      }
+    }
 
-        @Override
-        protected void onConstruct(HasConstructModels owner, ConstructModel model) {
-          validateErrors(extensionModel, model, problemsReporter);
-          if (isScope(model)) {
-            validateScope(model);
-          } else if (isRouter(model)) {
-            validateRouter(model);
-          }
-        }
+    @Override
+    public void onOperation(HasOperationModels owner, OperationModel model) {
+      validateErrors(model);
+      validateOutput(model);
+      validateConnection(owner, model, hasGlobalConnectionProviders);
 
-        @Override
-        protected void onOperation(HasOperationModels owner, OperationModel model) {
-          validateErrors(extensionModel, model, problemsReporter);
-          validateOutput(model);
-          validateConnection(owner, model, hasGlobalConnectionProviders);
-
-          if (isScope(model)) {
-            validateScope(model);
-          } else if (isRouter(model)) {
-            validateRouter(model);
-          }
-        }
+      if (isScope(model)) {
+        validateScope(model);
+      } else if (isRouter(model)) {
+        validateRouter(model);
+      }
+    }
 
-        private void validateErrors(ExtensionModel extensionModel, ComponentModel componentModel,
-                                    ProblemsReporter problemsReporter) {
-          if (extensionWithoutErrors && !componentModel.getErrorModels().isEmpty()) {
-            problemsReporter.addError(new Problem(componentModel,
-                                                  format("%s '%s' declares error types but the Extension declares none",
-                                                         getComponentModelTypeName(componentModel),
-                                                         componentModel.getName())));
-          }
-
-          List<ErrorModel> undeclared = componentModel.getErrorModels().stream()
-              .filter(error -> !extensionModel.getErrorModels().contains(error))
-              .collect(toList());
-
-          if (!undeclared.isEmpty()) {
-            problemsReporter.addError(new Problem(componentModel,
-                                                  format("%s '%s' declares error types which are not defined in the extension. Offending errors are [%s]",
-                                                         getComponentModelTypeName(componentModel),
-                                                         componentModel.getName(),
-                                                         undeclared.stream().map(ErrorModel::getType).collect(joining(", ")))));
-          }
-        }
-      }.walk(extensionModel);
+    private void validateErrors(ComponentModel componentModel) {
+      if (extensionWithoutErrors && !componentModel.getErrorModels().isEmpty()) {
+        problemsReporter.addError(new Problem(componentModel,
+                                              format("%s '%s' declares error types but the Extension declares none",
+                                                     getComponentModelTypeName(componentModel),
+                                                     componentModel.getName())));
+      }
+
+      List<ErrorModel> undeclared = componentModel.getErrorModels().stream()
+          .filter(error -> !extensionModel.getErrorModels().contains(error))
+          .collect(toList());
+
+      if (!undeclared.isEmpty()) {
+        problemsReporter.addError(new Problem(componentModel,
+                                              format("%s '%s' declares error types which are not defined in the extension. Offending errors are [%s]",
+                                                     getComponentModelTypeName(componentModel),
+                                                     componentModel.getName(),
+                                                     undeclared.stream().map(ErrorModel::getType).collect(joining(", ")))));
+      }
     }
 
     private void validateScope(ComponentModel model) {
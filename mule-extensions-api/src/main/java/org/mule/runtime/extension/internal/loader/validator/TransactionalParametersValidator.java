@@ -6,6 +6,7 @@
  */
 package org.mule.runtime.extension.internal.loader.validator;
 
+import static java.util.Optional.of;
 import static java.util.stream.Collectors.toList;
 import static org.mule.runtime.extension.api.ExtensionConstants.TRANSACTIONAL_ACTION_PARAMETER_NAME;
 import static org.mule.runtime.extension.api.util.NameUtils.getComponentModelTypeName;
@@ -15,13 +16,17 @@ import org.mule.runtime.api.meta.model.operation.OperationModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterGroupModel;
 import org.mule.runtime.api.meta.model.parameter.ParameterModel;
 import org.mule.runtime.api.meta.model.source.SourceModel;
-import org.mule.runtime.api.meta.model.util.IdempotentExtensionWalker;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
 import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.IdempotentExtensionModelValidatorWalkDelegate;
+import org.mule.runtime.extension.api.loader.IndependentExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.Problem;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
 import org.mule.runtime.extension.internal.property.TransactionalActionModelProperty;
 
 import java.util.List;
+import java.util.Optional;
 
 import org.apache.commons.lang3.tuple.Pair;
 
@@ -31,11 +36,14 @@ import org.apache.commons.lang3.tuple.Pair;
  *
  * @since 1.0
  */
-public final class TransactionalParametersValidator implements ExtensionModelValidator {
+public final class TransactionalParametersValidator
+    implements IndependentExtensionModelValidator, WalkingExtensionModelValidator {
 
   @Override
-  public void validate(ExtensionModel extensionModel, ProblemsReporter problemsReporter) {
-    new IdempotentExtensionWalker() {
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel extensionModel,
+                                                                       DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
+    return of(new IdempotentExtensionModelValidatorWalkDelegate() {
 
       @Override
       protected void onSource(SourceModel sourceModel) {
@@ -50,7 +58,7 @@ public final class TransactionalParametersValidator implements ExtensionModelVal
           validateTransactionalParameters(operationModel, problemsReporter);
         }
       }
-    }.walk(extensionModel);
+    });
   }
 
   private void validateTransactionalParameters(ComponentModel componentModel, ProblemsReporter problemsReporter) {
@@ -7,29 +7,34 @@
 package org.mule.runtime.extension.internal.loader.validator;
 
 import static java.lang.String.format;
+import static java.util.Optional.of;
 import static org.mule.runtime.extension.api.stereotype.MuleStereotypes.VALIDATOR;
 import static org.mule.runtime.extension.internal.util.ExtensionErrorUtils.getValidationError;
 
 import org.mule.metadata.api.model.VoidType;
 import org.mule.runtime.api.meta.model.ExtensionModel;
 import org.mule.runtime.api.meta.model.operation.OperationModel;
-import org.mule.runtime.api.meta.model.util.IdempotentExtensionWalker;
 import org.mule.runtime.extension.api.annotation.param.stereotype.Validator;
-import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.loader.IdempotentExtensionModelValidatorWalkDelegate;
+import org.mule.runtime.extension.api.loader.IndependentExtensionModelValidator;
 import org.mule.runtime.extension.api.loader.Problem;
 import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
+
+import java.util.Optional;
 
 /**
  * Makes sure that operations with the {@code VALIDATOR} stereotype comply with its restrictions, as defined in {@link Validator}
  *
  * @since 1.0
  */
-public class ValidatorModelValidator implements ExtensionModelValidator {
+public class ValidatorModelValidator implements IndependentExtensionModelValidator, WalkingExtensionModelValidator {
 
   @Override
-  public void validate(ExtensionModel model, ProblemsReporter problemsReporter) {
-
-    new IdempotentExtensionWalker() {
+  public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel model, DslSyntaxResolver syntaxResolver,
+                                                                       ProblemsReporter problemsReporter) {
+    return of(new IdempotentExtensionModelValidatorWalkDelegate() {
 
       @Override
       protected void onOperation(OperationModel operation) {
@@ -49,6 +54,6 @@ public class ValidatorModelValidator implements ExtensionModelValidator {
                                                     + "or a child of one", operation.getName())));
         }
       }
-    }.walk(model);
+    });
   }
 }
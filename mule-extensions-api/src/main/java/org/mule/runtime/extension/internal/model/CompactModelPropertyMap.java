@@ -0,0 +1,246 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.model;
+
+import static java.util.Objects.requireNonNull;
+
+import org.mule.runtime.api.meta.model.EnrichableModel;
+import org.mule.runtime.api.meta.model.ModelProperty;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+import com.google.common.collect.ImmutableMap;
+import com.google.common.collect.ImmutableSet;
+
+/**
+ * Compact storage for the {@link ModelProperty model properties} of an {@link EnrichableModel}, keyed by their type.
+ * <p>
+ * Most models have no more than a handful of properties, so up to {@value #MAX_INLINE_ENTRIES} entries are kept inline in a
+ * single array in which keys and values are interleaved, and looked up by probing the keys linearly. Larger sets of properties
+ * are kept in a frozen {@link ImmutableMap}. Either way, the insertion order is preserved and the lookups don't allocate.
+ * <p>
+ * The properties are also exposed as an immutable {@link Set}, which is built the first time it's requested and cached until the
+ * map is modified.
+ * <p>
+ * Modifications are supported for compatibility with code which accessed the backing map of the models directly, but they copy
+ * the whole storage, since models are not expected to change once built. Modifications are not thread-safe, and {@code null}
+ * keys or values are not supported. The views of this map are read-only.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class CompactModelPropertyMap extends AbstractMap<Class<? extends ModelProperty>, ModelProperty>
+    implements Serializable {
+
+  private static final long serialVersionUID = 2926474357413738217L;
+
+  /**
+   * The maximum amount of entries which are kept inline instead of in a frozen map.
+   */
+  public static final int MAX_INLINE_ENTRIES = 4;
+
+  private static final Object[] EMPTY = new Object[0];
+
+  private Object[] inline = EMPTY;
+  private Map<Class<? extends ModelProperty>, ModelProperty> frozen;
+  private transient Set<ModelProperty> properties;
+
+  /**
+   * Creates a new instance keeping the given {@code properties} keyed by their class. When two of them have the same class, the
+   * last one is kept, in the position of the first one.
+   *
+   * @param properties the properties to keep. May be {@code null}
+   * @return a new {@link CompactModelPropertyMap}
+   */
+  public static CompactModelPropertyMap of(Collection<? extends ModelProperty> properties) {
+    CompactModelPropertyMap map = new CompactModelPropertyMap();
+    if (properties != null && !properties.isEmpty()) {
+      Map<Class<? extends ModelProperty>, ModelProperty> entries = new LinkedHashMap<>();
+      properties.forEach(property -> entries.put(property.getClass(), property));
+      map.store(entries);
+    }
+
+    return map;
+  }
+
+  /**
+   * Creates a new instance with the same entries as the given {@code map}, in the same order. Entries with a {@code null} value
+   * are discarded.
+   *
+   * @param map the entries to copy
+   * @return a new {@link CompactModelPropertyMap}
+   */
+  public static CompactModelPropertyMap copyOf(Map<Class<? extends ModelProperty>, ModelProperty> map) {
+    CompactModelPropertyMap copy = new CompactModelPropertyMap();
+    Map<Class<? extends ModelProperty>, ModelProperty> entries = new LinkedHashMap<>();
+    map.forEach((key, value) -> {
+      if (value != null) {
+        entries.put(key, value);
+      }
+    });
+    copy.store(entries);
+
+    return copy;
+  }
+
+  private CompactModelPropertyMap() {}
+
+  @Override
+  public ModelProperty get(Object key) {
+    if (frozen != null) {
+      return frozen.get(key);
+    }
+
+    final Object[] entries = inline;
+    for (int i = 0; i < entries.length; i += 2) {
+      if (entries[i] == key) {
+        return (ModelProperty) entries[i + 1];
+      }
+    }
+
+    return null;
+  }
+
+  @Override
+  public boolean containsKey(Object key) {
+    return get(key) != null;
+  }
+
+  @Override
+  public int size() {
+    return frozen != null ? frozen.size() : inline.length / 2;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size() == 0;
+  }
+
+  /**
+   * @return the values of this map as an immutable {@link Set}, in insertion order. The same instance is returned until this map
+   *         is modified.
+   */
+  public Set<ModelProperty> valueSet() {
+    Set<ModelProperty> valueSet = properties;
+    if (valueSet == null) {
+      if (frozen != null) {
+        valueSet = ImmutableSet.copyOf(frozen.values());
+      } else {
+        ImmutableSet.Builder<ModelProperty> builder = ImmutableSet.builder();
+        for (int i = 1; i < inline.length; i += 2) {
+          builder.add((ModelProperty) inline[i]);
+        }
+        valueSet = builder.build();
+      }
+      properties = valueSet;
+    }
+
+    return valueSet;
+  }
+
+  @Override
+  public Set<Entry<Class<? extends ModelProperty>, ModelProperty>> entrySet() {
+    if (frozen != null) {
+      return frozen.entrySet();
+    }
+
+    final Object[] entries = inline;
+    return new AbstractSet<Entry<Class<? extends ModelProperty>, ModelProperty>>() {
+
+      @Override
+      public Iterator<Entry<Class<? extends ModelProperty>, ModelProperty>> iterator() {
+        return new Iterator<Entry<Class<? extends ModelProperty>, ModelProperty>>() {
+
+          private int next = 0;
+
+          @Override
+          public boolean hasNext() {
+            return next < entries.length;
+          }
+
+          @Override
+          public Entry<Class<? extends ModelProperty>, ModelProperty> next() {
+            if (!hasNext()) {
+              throw new NoSuchElementException();
+            }
+            Entry<Class<? extends ModelProperty>, ModelProperty> entry =
+                new SimpleImmutableEntry<>((Class<? extends ModelProperty>) entries[next], (ModelProperty) entries[next + 1]);
+            next += 2;
+            return entry;
+          }
+        };
+      }
+
+      @Override
+      public int size() {
+        return entries.length / 2;
+      }
+    };
+  }
+
+  @Override
+  public ModelProperty put(Class<? extends ModelProperty> key, ModelProperty value) {
+    requireNonNull(key, "key cannot be null");
+    requireNonNull(value, "value cannot be null");
+
+    Map<Class<? extends ModelProperty>, ModelProperty> entries = new LinkedHashMap<>(this);
+    ModelProperty previous = entries.put(key, value);
+    store(entries);
+    return previous;
+  }
+
+  @Override
+  public ModelProperty remove(Object key) {
+    if (!containsKey(key)) {
+      return null;
+    }
+
+    Map<Class<? extends ModelProperty>, ModelProperty> entries = new LinkedHashMap<>(this);
+    ModelProperty previous = entries.remove(key);
+    store(entries);
+    return previous;
+  }
+
+  @Override
+  public void clear() {
+    inline = EMPTY;
+    frozen = null;
+    properties = null;
+  }
+
+  private void store(Map<Class<? extends ModelProperty>, ModelProperty> entries) {
+    properties = null;
+    if (entries.size() > MAX_INLINE_ENTRIES) {
+      inline = EMPTY;
+      frozen = ImmutableMap.copyOf(entries);
+      return;
+    }
+
+    frozen = null;
+    if (entries.isEmpty()) {
+      inline = EMPTY;
+      return;
+    }
+
+    Object[] array = new Object[entries.size() * 2];
+    int i = 0;
+    for (Entry<Class<? extends ModelProperty>, ModelProperty> entry : entries.entrySet()) {
+      array[i++] = entry.getKey();
+      array[i++] = entry.getValue();
+    }
+    inline = array;
+  }
+}
@@ -0,0 +1,56 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.model;
+
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.metadata.api.model.SimpleType;
+import org.mule.metadata.api.model.VoidType;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.api.meta.model.ParameterDslConfiguration;
+import org.mule.runtime.api.meta.model.display.DisplayModel;
+import org.mule.runtime.api.meta.model.display.LayoutModel;
+import org.mule.runtime.api.meta.model.stereotype.StereotypeModel;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Canonicalizes structurally equal, immutable pieces of an {@link ExtensionModel} into shared instances, so that the model
+ * doesn't retain a copy of each of them for every component or parameter which uses them.
+ * <p>
+ * The interned objects are {@link LayoutModel}s, {@link DisplayModel}s, {@link ParameterDslConfiguration}s,
+ * {@link StereotypeModel}s and {@link SimpleType simple} and {@link VoidType void} {@link MetadataType}s. Any other object is
+ * returned as is. In particular, models which have an owner, such as parameters, are never shared, since walkers and validators
+ * expect each of them to be reachable from a single component.
+ * <p>
+ * Objects are only shared within the scope of an instance of this class, which is meant to be used for building or
+ * deserializing a single {@link ExtensionModel}. Hence, models of unrelated extensions or artifacts never share instances.
+ * <p>
+ * Instances are not thread-safe.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class ModelInterner {
+
+  private final Map<Object, Object> values = new HashMap<>();
+
+  /**
+   * @param value the value to intern. May be {@code null}
+   * @return the canonical instance which is equal to the given {@code value}, or the same {@code value} if it is not of an
+   *         interned kind
+   */
+  public <T> T intern(T value) {
+    if (value instanceof LayoutModel || value instanceof DisplayModel || value instanceof ParameterDslConfiguration
+        || value instanceof StereotypeModel || value instanceof SimpleType || value instanceof VoidType) {
+      return (T) values.computeIfAbsent(value, v -> v);
+    }
+
+    return value;
+  }
+}
@@ -0,0 +1,182 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.internal.util;
+
+import static java.lang.Long.numberOfTrailingZeros;
+import static java.util.regex.Pattern.CASE_INSENSITIVE;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import com.github.benmanes.caffeine.cache.LoadingCache;
+
+/**
+ * Applies an ordered set of case-insensitive inflection rules to words, such as the rules used to pluralize or singularize them.
+ * <p>
+ * Each rule is a regular expression plus the replacement applied to the words it matches. The first rule which matches a word,
+ * in the order in which the rules are registered, is the one applied. When no rule matches, the word is returned as is.
+ * <p>
+ * Instead of trying each rule in turn, rules may declare the suffixes which a word must end with for them to match. Those
+ * suffixes are compiled into a trie, so only the rules whose suffixes are actually found at the end of a word are tried. Rules
+ * without suffixes are tried for every word. Results are also memoized in a bounded cache, since the same names tend to be
+ * inflected over and over.
+ * <p>
+ * Instances are thread-safe once built.
+ * <p>
+ * This class <b>IS NOT</b> part of the API. To be used by the Mule Runtime only
+ *
+ * @since 1.10
+ */
+public final class Inflector {
+
+  /**
+   * Since the candidate rules for a word are tracked as the bits of a {@code long}, that's the limit for the amount of rules.
+   */
+  private static final int MAX_RULES = Long.SIZE;
+  private static final long MAX_MEMOIZED_WORDS = 10_000;
+
+  /**
+   * Builds {@link Inflector} instances
+   */
+  public static final class Builder {
+
+    private final List<Rule> rules = new ArrayList<>();
+
+    private Builder() {}
+
+    /**
+     * Registers a rule with less precedence than the ones registered so far.
+     *
+     * @param pattern     the case-insensitive regular expression which matches the words to inflect
+     * @param replacement the replacement for the matches of the {@code pattern}, as in {@link Matcher#replaceAll(String)}
+     * @param suffixes    the suffixes which a word must end with for the {@code pattern} to match it, ignoring case. Each of them
+     *                    must be a necessary condition for a match. If none is given, the rule is tried for every word.
+     * @return {@code this} builder
+     */
+    public Builder addRule(String pattern, String replacement, String... suffixes) {
+      if (rules.size() == MAX_RULES) {
+        throw new IllegalStateException("An inflector can have up to " + MAX_RULES + " rules");
+      }
+      rules.add(new Rule(Pattern.compile(pattern, CASE_INSENSITIVE), replacement, suffixes));
+      return this;
+    }
+
+    /**
+     * @return a new {@link Inflector} with the rules registered so far
+     */
+    public Inflector build() {
+      return new Inflector(rules);
+    }
+  }
+
+  /**
+   * @return a new {@link Builder}
+   */
+  public static Builder builder() {
+    return new Builder();
+  }
+
+  private final Rule[] rules;
+  private final Node suffixes = new Node();
+  private final LoadingCache<String, String> memo;
+
+  private Inflector(List<Rule> rules) {
+    this.rules = rules.toArray(new Rule[0]);
+    for (int i = 0; i < this.rules.length; i++) {
+      String[] ruleSuffixes = this.rules[i].suffixes;
+      if (ruleSuffixes.length == 0) {
+        suffixes.rules |= 1L << i;
+      }
+      for (String suffix : ruleSuffixes) {
+        Node node = suffixes;
+        for (int j = suffix.length() - 1; j >= 0; j--) {
+          node = node.children.computeIfAbsent(toLowerCase(suffix.charAt(j)), c -> new Node());
+        }
+        node.rules |= 1L << i;
+      }
+    }
+
+    memo = newBuilder().maximumSize(MAX_MEMOIZED_WORDS).build(this::doInflect);
+  }
+
+  /**
+   * Applies the first rule which matches the given {@code word}.
+   *
+   * @param word the word to inflect
+   * @return the inflected word, or the same {@code word} if no rule matches it
+   */
+  public String inflect(String word) {
+    return memo.get(word);
+  }
+
+  private String doInflect(String word) {
+    for (long candidates = candidateRules(word); candidates != 0; candidates &= candidates - 1) {
+      Rule rule = rules[numberOfTrailingZeros(candidates)];
+      Matcher matcher = rule.pattern.matcher(word);
+      if (matcher.find()) {
+        return matcher.replaceAll(rule.replacement);
+      }
+    }
+
+    return word;
+  }
+
+  private long candidateRules(String word) {
+    // '$' also matches before a line terminator which ends the input, in which case the suffixes don't apply
+    if (word.isEmpty() || isLineTerminator(word.charAt(word.length() - 1))) {
+      return rules.length == MAX_RULES ? -1L : (1L << rules.length) - 1;
+    }
+
+    long candidates = suffixes.rules;
+    Node node = suffixes;
+    for (int i = word.length() - 1; i >= 0 && !node.children.isEmpty(); i--) {
+      node = node.children.get(toLowerCase(word.charAt(i)));
+      if (node == null) {
+        break;
+      }
+      candidates |= node.rules;
+    }
+
+    return candidates;
+  }
+
+  private static boolean isLineTerminator(char c) {
+    return c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029';
+  }
+
+  /**
+   * Lower cases the same way as {@link Pattern#CASE_INSENSITIVE}, which only considers US-ASCII characters.
+   */
+  private static char toLowerCase(char c) {
+    return c >= 'A' && c <= 'Z' ? (char) (c + ('a' - 'A')) : c;
+  }
+
+  private static final class Rule {
+
+    private final Pattern pattern;
+    private final String replacement;
+    private final String[] suffixes;
+
+    private Rule(Pattern pattern, String replacement, String[] suffixes) {
+      this.pattern = pattern;
+      this.replacement = replacement;
+      this.suffixes = suffixes;
+    }
+  }
+
+  private static final class Node {
+
+    private final Map<Character, Node> children = new HashMap<>();
+    private long rules;
+  }
+}
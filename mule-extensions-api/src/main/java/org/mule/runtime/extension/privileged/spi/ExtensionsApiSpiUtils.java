@@ -8,9 +8,6 @@ package org.mule.runtime.extension.privileged.spi;
 
 import static org.mule.runtime.api.util.classloader.MuleImplementationLoaderUtils.getMuleImplementationsLoader;
 
-import static java.util.ServiceLoader.load;
-import static java.util.stream.StreamSupport.stream;
-
 import org.mule.runtime.extension.api.dsl.syntax.resources.spi.DslResourceFactory;
 import org.mule.runtime.extension.api.dsl.syntax.resources.spi.ExtensionSchemaGenerator;
 import org.mule.runtime.extension.api.loader.ExtensionModelLoaderProvider;
@@ -21,6 +18,9 @@ import java.util.stream.Stream;
 /**
  * Provides utilities to lookup and load implementations of interfaces defined in {@code extensions-api} through SPI.
  * <p>
+ * The implementations are kept in the {@link ServiceProviderRegistry#getDefault() default registry}, so each call returns the
+ * same instances for the same Mule implementations {@link ClassLoader}.
+ * <p>
  * Being {@code privileged}, this is not intended to be used outside of the scope of crafted extension declarations.
  *
  * @since 1.5
@@ -32,35 +32,23 @@ public final class ExtensionsApiSpiUtils {
   }
 
   public static Stream<ExtensionModelLoaderProvider> loadExtensionModelLoaderProviders() {
-    return stream(((Iterable<ExtensionModelLoaderProvider>) () -> load(ExtensionModelLoaderProvider.class,
-                                                                       getMuleImplementationsLoader())
-                                                                           .iterator())
-                                                                               .spliterator(),
-                  false);
+    return load(ExtensionModelLoaderProvider.class);
   }
 
   public static Stream<ExtensionSchemaGenerator> loadExtensionSchemaGenerators() {
-    return stream(((Iterable<ExtensionSchemaGenerator>) () -> load(ExtensionSchemaGenerator.class,
-                                                                   getMuleImplementationsLoader())
-                                                                       .iterator())
-                                                                           .spliterator(),
-                  false);
+    return load(ExtensionSchemaGenerator.class);
   }
 
   public static Stream<DslResourceFactory> loadDslResourceFactories() {
-    return stream(((Iterable<DslResourceFactory>) () -> load(DslResourceFactory.class,
-                                                             getMuleImplementationsLoader())
-                                                                 .iterator())
-                                                                     .spliterator(),
-                  false);
+    return load(DslResourceFactory.class);
   }
 
   public static Stream<GeneratedResourceFactory> loadGeneratedResourceFactories() {
-    return stream(((Iterable<GeneratedResourceFactory>) () -> load(GeneratedResourceFactory.class,
-                                                                   getMuleImplementationsLoader())
-                                                                       .iterator())
-                                                                           .spliterator(),
-                  false);
+    return load(GeneratedResourceFactory.class);
+  }
+
+  private static <S> Stream<S> load(Class<S> service) {
+    return ServiceProviderRegistry.getDefault().stream(service, getMuleImplementationsLoader());
   }
 
 }
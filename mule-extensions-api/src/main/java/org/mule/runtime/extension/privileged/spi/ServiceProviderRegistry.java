@@ -0,0 +1,198 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.privileged.spi;
+
+import static java.lang.System.nanoTime;
+import static java.util.Collections.unmodifiableList;
+import static java.util.Objects.requireNonNull;
+
+import static com.github.benmanes.caffeine.cache.Caffeine.newBuilder;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Stream;
+
+import com.github.benmanes.caffeine.cache.Cache;
+
+/**
+ * Keeps the providers of services discovered through {@link ServiceLoader}, so that the {@code META-INF/services} resources of
+ * a {@link ClassLoader} are scanned only once for each service, instead of every time the providers are needed.
+ * <p>
+ * Providers are scoped by the {@link ClassLoader} used to discover them, which is held through a weak reference. However, the
+ * providers are held strongly, and those whose classes are loaded by that same {@link ClassLoader} reference it. Hence, when a
+ * {@link ClassLoader} which provides its own implementations is disposed of, its providers must be discarded with
+ * {@link #refresh(ClassLoader)}, otherwise it can't be collected. Only the {@link ClassLoader}s whose providers all come from
+ * other {@link ClassLoader}s are released on their own.
+ * <p>
+ * The same provider instances are returned for every lookup on the same {@link ClassLoader} until they are discarded with
+ * {@link #refresh()} or {@link #refresh(ClassLoader)}, so this must only be used for services whose providers are stateless.
+ * Discarded providers are discovered again on the next lookup.
+ * <p>
+ * Instances are thread-safe and record how many times, and for how long, each service was discovered.
+ * <p>
+ * Being {@code privileged}, this is not intended to be used outside of the scope of crafted extension declarations.
+ *
+ * @since 1.10
+ */
+public final class ServiceProviderRegistry {
+
+  private static final ServiceProviderRegistry DEFAULT = new ServiceProviderRegistry();
+
+  /**
+   * @return the process-wide instance, used by {@link ExtensionsApiSpiUtils} and the rest of the Extensions API
+   */
+  public static ServiceProviderRegistry getDefault() {
+    return DEFAULT;
+  }
+
+  private final Cache<ClassLoader, Map<Class<?>, List<?>>> providers = newBuilder().weakKeys().build();
+
+  // keyed by service name, so the statistics don't retain the service classes
+  private final Map<String, Recorder> stats = new ConcurrentHashMap<>();
+
+  /**
+   * Returns the providers of the given {@code service} available through the given {@code classLoader}, discovering them if it's
+   * the first time they are looked up for that {@link ClassLoader}.
+   * <p>
+   * The discovery is not done while holding any lock, so providers may look up other services during their instantiation.
+   * Concurrent lookups of a service which is not discovered yet may discover it more than once, but the providers of the first
+   * discovery are the ones kept.
+   *
+   * @param service     the service to look up
+   * @param classLoader the {@link ClassLoader} to discover the providers with. If {@code null}, the system {@link ClassLoader}
+   *                    is used, as {@link ServiceLoader#load(Class, ClassLoader)} does.
+   * @param <S>         the generic type of the {@code service}
+   * @return an immutable list with the providers of the {@code service}, in the order in which {@link ServiceLoader} found them
+   * @throws java.util.ServiceConfigurationError if a provider could not be loaded or instantiated. Nothing is kept in that case.
+   */
+  public <S> List<S> lookup(Class<S> service, ClassLoader classLoader) {
+    requireNonNull(service, "service cannot be null");
+    final ClassLoader loader = classLoader != null ? classLoader : ClassLoader.getSystemClassLoader();
+
+    Recorder recorder = stats.computeIfAbsent(service.getName(), name -> new Recorder());
+    recorder.lookups.increment();
+
+    Map<Class<?>, List<?>> servicesProviders = providers.get(loader, key -> new ConcurrentHashMap<>());
+    List<?> found = servicesProviders.get(service);
+    if (found == null) {
+      found = servicesProviders.merge(service, discover(service, loader, recorder), (discovered, another) -> discovered);
+    }
+
+    return (List<S>) found;
+  }
+
+  /**
+   * Same as {@link #lookup(Class, ClassLoader)}, but as a {@link Stream}.
+   *
+   * @param service     the service to look up
+   * @param classLoader the {@link ClassLoader} to discover the providers with
+   * @param <S>         the generic type of the {@code service}
+   * @return a {@link Stream} with the providers of the {@code service}
+   */
+  public <S> Stream<S> stream(Class<S> service, ClassLoader classLoader) {
+    return lookup(service, classLoader).stream();
+  }
+
+  private <S> List<S> discover(Class<S> service, ClassLoader classLoader, Recorder recorder) {
+    final long start = nanoTime();
+    List<S> discovered = new ArrayList<>();
+    ServiceLoader.load(service, classLoader).forEach(discovered::add);
+
+    recorder.discoveries.increment();
+    recorder.discoveryNanos.add(nanoTime() - start);
+    return unmodifiableList(discovered);
+  }
+
+  /**
+   * Discards the providers discovered through every {@link ClassLoader}. Statistics are not reset.
+   */
+  public void refresh() {
+    providers.invalidateAll();
+  }
+
+  /**
+   * Discards the providers discovered through the given {@code classLoader}. Statistics are not reset.
+   * <p>
+   * This must be called when a {@link ClassLoader} which provides its own implementations of any service is disposed of, so that
+   * it can be collected.
+   *
+   * @param classLoader the {@link ClassLoader} whose providers are to be discarded
+   */
+  public void refresh(ClassLoader classLoader) {
+    providers.invalidate(classLoader != null ? classLoader : ClassLoader.getSystemClassLoader());
+  }
+
+  /**
+   * @param service the service to get the statistics for
+   * @return the lookup and discovery statistics of the given {@code service}, across all the {@link ClassLoader}s
+   */
+  public DiscoveryStats getStats(Class<?> service) {
+    Recorder recorder = stats.get(service.getName());
+    return recorder != null ? recorder.snapshot() : new DiscoveryStats(0, 0, 0);
+  }
+
+  private static final class Recorder {
+
+    private final LongAdder lookups = new LongAdder();
+    private final LongAdder discoveries = new LongAdder();
+    private final LongAdder discoveryNanos = new LongAdder();
+
+    private DiscoveryStats snapshot() {
+      return new DiscoveryStats(lookups.sum(), discoveries.sum(), discoveryNanos.sum());
+    }
+  }
+
+  /**
+   * Immutable snapshot of the statistics of the lookups of a service in a {@link ServiceProviderRegistry}.
+   *
+   * @since 1.10
+   */
+  public static final class DiscoveryStats {
+
+    private final long lookupCount;
+    private final long discoveryCount;
+    private final long totalDiscoveryNanos;
+
+    private DiscoveryStats(long lookupCount, long discoveryCount, long totalDiscoveryNanos) {
+      this.lookupCount = lookupCount;
+      this.discoveryCount = discoveryCount;
+      this.totalDiscoveryNanos = totalDiscoveryNanos;
+    }
+
+    /**
+     * @return the amount of times the providers of the service were looked up
+     */
+    public long lookupCount() {
+      return lookupCount;
+    }
+
+    /**
+     * @return the amount of times the providers of the service were discovered through {@link ServiceLoader}, that is, the
+     *         lookups which were not served from the registry
+     */
+    public long discoveryCount() {
+      return discoveryCount;
+    }
+
+    /**
+     * @return the total time spent discovering the providers of the service, in nanoseconds
+     */
+    public long totalDiscoveryNanos() {
+      return totalDiscoveryNanos;
+    }
+
+    @Override
+    public String toString() {
+      return "DiscoveryStats{lookupCount=" + lookupCount + ", discoveryCount=" + discoveryCount + ", totalDiscoveryNanos="
+          + totalDiscoveryNanos + "}";
+    }
+  }
+}
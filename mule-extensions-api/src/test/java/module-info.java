@@ -47,8 +47,10 @@ module org.mule.runtime.extensions.api.test {
   exports org.mule.runtime.extension.api.test.internal.loader.enricher;
   exports org.mule.runtime.extension.api.test.internal.loader.util;
   exports org.mule.runtime.extension.api.test.internal.loader.validator;
+  exports org.mule.runtime.extension.api.test.internal.model;
   exports org.mule.runtime.extension.api.test.internal.semantic;
   exports org.mule.runtime.extension.api.test.mimetype;
+  exports org.mule.runtime.extension.api.test.privileged.spi;
   exports org.mule.runtime.extension.api.test.runtime;
   exports org.mule.runtime.extension.api.test.runtime.operation;
   exports org.mule.runtime.extension.api.test.runtime.parameters;
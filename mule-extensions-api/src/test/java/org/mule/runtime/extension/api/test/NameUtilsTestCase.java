@@ -11,6 +11,7 @@ import static org.mule.metadata.api.model.MetadataFormat.JSON;
 import static org.mule.runtime.extension.api.util.NameUtils.getTopLevelTypeName;
 import static org.mule.runtime.extension.api.util.NameUtils.hyphenize;
 import static org.mule.runtime.extension.api.util.NameUtils.pluralize;
+import static org.mule.runtime.extension.api.util.NameUtils.singularize;
 
 import static java.util.Optional.empty;
 import static java.util.Optional.of;
@@ -103,6 +104,34 @@ public class NameUtilsTestCase {
     assertThat(pluralize("property", false), is("properties"));
   }
 
+  @Test
+  public void pluralizeAndSingularize() {
+    assertThat(pluralize("header"), is("headers"));
+    assertThat(pluralize("Address"), is("Addresses"));
+    assertThat(pluralize("entry"), is("entries"));
+    assertThat(pluralize("key"), is("keys"));
+    assertThat(pluralize("status"), is("statuses"));
+    assertThat(pluralize("knife"), is("knives"));
+    assertThat(pluralize("matrix"), is("matrices"));
+    assertThat(pluralize("mouse"), is("mice"));
+    assertThat(pluralize("ox"), is("oxen"));
+    assertThat(pluralize("child"), is("children"));
+    assertThat(pluralize("salesPerson"), is("salesPeople"));
+
+    assertThat(singularize("headers"), is("header"));
+    assertThat(singularize("Addresses"), is("Address"));
+    assertThat(singularize("entries"), is("entry"));
+    assertThat(singularize("keys"), is("key"));
+    assertThat(singularize("statuses"), is("status"));
+    assertThat(singularize("knives"), is("knife"));
+    assertThat(singularize("matrices"), is("matrix"));
+    assertThat(singularize("mice"), is("mouse"));
+    assertThat(singularize("oxen"), is("ox"));
+    assertThat(singularize("children"), is("child"));
+    assertThat(singularize("salesPeople"), is("salesPerson"));
+    assertThat(singularize("news"), is("news"));
+  }
+
   @Alias(TYPE_ALIAS)
   private static class AliasedClass {
 
@@ -7,8 +7,11 @@
 package org.mule.runtime.extension.api.test.dsl;
 
 import static java.util.Optional.of;
+import static java.util.concurrent.Executors.newFixedThreadPool;
 import static org.apache.commons.lang3.StringUtils.EMPTY;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
+import static org.hamcrest.CoreMatchers.sameInstance;
 import static org.junit.Assert.assertThat;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
@@ -40,8 +43,16 @@ import org.mule.runtime.extension.api.test.dsl.model.RecursivePojo;
 import org.mule.runtime.extension.api.test.dsl.model.SimpleFieldsType;
 import org.mule.runtime.extension.api.test.dsl.model.SubstitutionGroupReferencingType;
 import org.mule.runtime.extension.api.dsl.syntax.DslElementSyntax;
+import org.mule.runtime.extension.api.dsl.syntax.XmlDslSyntaxResolver;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.CachingDslSyntaxResolverFactory;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
 
+import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 
 import org.junit.Test;
 import org.junit.runner.RunWith;
@@ -243,4 +254,53 @@ public class TypeXmlDeclarationTestCase extends BaseXmlDeclarationTestCase {
     getSyntaxResolver().resolve(type);
   }
 
+  @Test
+  public void concurrentResolutionWithSharedResolver() throws Exception {
+    DslSyntaxResolver syntaxResolver = getSyntaxResolver();
+    MetadataType type = TYPE_LOADER.load(ComplexFieldsType.class);
+
+    ExecutorService executor = newFixedThreadPool(4);
+    try {
+      List<Future<Optional<DslElementSyntax>>> results = new ArrayList<>();
+      for (int i = 0; i < 20; i++) {
+        results.add(executor.submit(() -> syntaxResolver.resolve(type)));
+      }
+
+      for (Future<Optional<DslElementSyntax>> result : results) {
+        assertComplexTypeDslFields(result.get().get());
+      }
+    } finally {
+      executor.shutdownNow();
+    }
+  }
+
+  @Test
+  public void boundedResolverCache() {
+    DslSyntaxResolver syntaxResolver = new XmlDslSyntaxResolver(extension, dslContext, 1);
+    MetadataType complexType = TYPE_LOADER.load(ComplexFieldsType.class);
+    MetadataType simpleType = TYPE_LOADER.load(SimpleFieldsType.class);
+
+    for (int i = 0; i < 3; i++) {
+      assertComplexTypeDslFields(syntaxResolver.resolve(complexType).get());
+      assertThat(syntaxResolver.resolve(simpleType).get().getChild("textField").isPresent(), is(true));
+    }
+  }
+
+  @Test
+  public void resolverIsSharedPerExtensionModel() {
+    CachingDslSyntaxResolverFactory resolverFactory = new CachingDslSyntaxResolverFactory(dslContext);
+    assertThat(resolverFactory.getSyntaxResolver(extension), is(sameInstance(resolverFactory.getSyntaxResolver(extension))));
+  }
+
+  @Test
+  public void unusedResolverIsCollected() throws InterruptedException {
+    CachingDslSyntaxResolverFactory resolverFactory = new CachingDslSyntaxResolverFactory(dslContext);
+    WeakReference<DslSyntaxResolver> resolver = new WeakReference<>(resolverFactory.getSyntaxResolver(extension));
+
+    for (int i = 0; resolver.get() != null && i < 50; ++i) {
+      System.gc();
+      Thread.sleep(20);
+    }
+    assertThat(resolver.get(), is(nullValue()));
+  }
 }
@@ -0,0 +1,262 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.asList;
+import static java.util.Optional.of;
+import static java.util.stream.Collectors.toList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.everyItem;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.mockito.Mockito.mock;
+
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.dsl.syntax.resolver.DslSyntaxResolver;
+import org.mule.runtime.extension.api.loader.ExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.IndependentExtensionModelValidator;
+import org.mule.runtime.extension.api.loader.Problem;
+import org.mule.runtime.extension.api.loader.ProblemsReporter;
+import org.mule.runtime.extension.api.loader.WalkingExtensionModelValidator;
+import org.mule.runtime.extension.internal.loader.ExtensionModelValidationEngine;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ExtensionModelValidationEngineTestCase {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+  private final ExtensionModel extensionModel = mock(ExtensionModel.class);
+  private final DslSyntaxResolver syntaxResolver = mock(DslSyntaxResolver.class);
+
+  @After
+  public void after() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  public void problemsAreReportedInValidatorsOrder() {
+    // the first validator finishes last, so the order would be reversed if problems were reported as they are found
+    CountDownLatch othersDone = new CountDownLatch(2);
+    List<ExtensionModelValidator> validators = asList(new TestValidator("first", othersDone, null),
+                                                      new TestValidator("second", null, othersDone),
+                                                      new DependentValidator("dependent"),
+                                                      new TestValidator("third", null, othersDone));
+
+    ProblemsReporter problemsReporter = new ProblemsReporter(extensionModel);
+    new ExtensionModelValidationEngine(pool).validate(extensionModel, validators, syntaxResolver, problemsReporter);
+
+    assertThat(messages(problemsReporter.getErrors()), contains("first", "second", "dependent", "third"));
+    assertThat(messages(problemsReporter.getWarnings()), contains("first", "second", "dependent", "third"));
+  }
+
+  @Test
+  public void sameProblemsAsSequentialExecution() {
+    List<ExtensionModelValidator> validators = asList(new TestValidator("first", null, null),
+                                                      new DependentValidator("dependent"),
+                                                      new TestValidator("second", null, null));
+
+    ProblemsReporter sequential = new ProblemsReporter(extensionModel);
+    new ExtensionModelValidationEngine(null).validate(extensionModel, validators, syntaxResolver, sequential);
+    ProblemsReporter parallel = new ProblemsReporter(extensionModel);
+    new ExtensionModelValidationEngine(pool).validate(extensionModel, validators, syntaxResolver, parallel);
+
+    assertThat(messages(parallel.getErrors()), contains(messages(sequential.getErrors()).toArray()));
+    assertThat(messages(parallel.getWarnings()), contains(messages(sequential.getWarnings()).toArray()));
+  }
+
+  @Test
+  public void walkingValidatorsShareTheWalk() {
+    List<ExtensionModelValidator> validators = asList(new WalkingValidator("first"),
+                                                      new TestValidator("second", null, null),
+                                                      new WalkingValidator("third"),
+                                                      new DependentValidator("dependent"),
+                                                      new WalkingValidator("fourth"));
+
+    ProblemsReporter sequential = new ProblemsReporter(extensionModel);
+    new ExtensionModelValidationEngine(null).validate(extensionModel, validators, syntaxResolver, sequential);
+    assertThat(messages(sequential.getErrors()), contains("first", "second", "third", "dependent", "fourth"));
+
+    ProblemsReporter parallel = new ProblemsReporter(extensionModel);
+    new ExtensionModelValidationEngine(pool).validate(extensionModel, validators, syntaxResolver, parallel);
+    assertThat(messages(parallel.getErrors()), contains("first", "second", "third", "dependent", "fourth"));
+  }
+
+  @Test
+  public void failureOfFirstValidatorIsPropagated() {
+    List<ExtensionModelValidator> validators = asList(new FailingValidator("first"),
+                                                      new TestValidator("second", null, null),
+                                                      new FailingValidator("third"));
+
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage("first");
+    new ExtensionModelValidationEngine(pool)
+        .validate(extensionModel, validators, syntaxResolver, new ProblemsReporter(extensionModel));
+  }
+
+  @Test
+  public void validatorsSeeTheContextClassLoaderOfTheCaller() throws Exception {
+    List<ClassLoader> seen = new CopyOnWriteArrayList<>();
+    List<ExtensionModelValidator> validators = asList(new ClassLoaderValidator(seen),
+                                                      new ClassLoaderValidator(seen),
+                                                      new ClassLoaderWalkingValidator(seen),
+                                                      new ClassLoaderValidator(seen),
+                                                      new ClassLoaderWalkingValidator(seen));
+    ClassLoader extensionClassLoader = new ClassLoader(getClass().getClassLoader()) {};
+
+    Thread thread = currentThread();
+    ClassLoader previous = thread.getContextClassLoader();
+    thread.setContextClassLoader(extensionClassLoader);
+    try {
+      new ExtensionModelValidationEngine(pool)
+          .validate(extensionModel, validators, syntaxResolver, new ProblemsReporter(extensionModel));
+    } finally {
+      thread.setContextClassLoader(previous);
+    }
+
+    assertThat(seen, hasSize(validators.size()));
+    assertThat(seen, everyItem(is(sameInstance(extensionClassLoader))));
+    // the workers of the pool get their own context class loader back
+    assertThat(pool.submit(() -> currentThread().getContextClassLoader()).get(), is(not(sameInstance(extensionClassLoader))));
+  }
+
+  private List<String> messages(List<Problem> problems) {
+    return problems.stream().map(Problem::getMessage).collect(toList());
+  }
+
+  private static class DependentValidator implements ExtensionModelValidator {
+
+    private final String name;
+
+    private DependentValidator(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void validate(ExtensionModel model, ProblemsReporter problemsReporter) {
+      problemsReporter.addError(new Problem(model, name));
+      problemsReporter.addWarning(new Problem(model, name));
+    }
+  }
+
+  private static class TestValidator extends DependentValidator implements IndependentExtensionModelValidator {
+
+    private final CountDownLatch awaitBefore;
+    private final CountDownLatch countDownAfter;
+
+    private TestValidator(String name, CountDownLatch awaitBefore, CountDownLatch countDownAfter) {
+      super(name);
+      this.awaitBefore = awaitBefore;
+      this.countDownAfter = countDownAfter;
+    }
+
+    @Override
+    public void validate(ExtensionModel model, ProblemsReporter problemsReporter) {
+      try {
+        if (awaitBefore != null) {
+          awaitBefore.await();
+        }
+      } catch (InterruptedException e) {
+        Thread.currentThread().interrupt();
+        throw new IllegalStateException(e);
+      }
+      super.validate(model, problemsReporter);
+      if (countDownAfter != null) {
+        countDownAfter.countDown();
+      }
+    }
+  }
+
+  private static class WalkingValidator implements IndependentExtensionModelValidator, WalkingExtensionModelValidator {
+
+    private final String name;
+
+    private WalkingValidator(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void validate(ExtensionModel model, DslSyntaxResolver syntaxResolver, ProblemsReporter problemsReporter) {
+      throw new IllegalStateException("Walking validators are expected to be fed by the shared walk");
+    }
+
+    @Override
+    public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel model, DslSyntaxResolver syntaxResolver,
+                                                                         ProblemsReporter problemsReporter) {
+      return of(new ExtensionModelValidatorWalkDelegate() {
+
+        @Override
+        public void onWalkFinished() {
+          problemsReporter.addError(new Problem(model, name));
+        }
+      });
+    }
+  }
+
+  private static class ClassLoaderValidator implements IndependentExtensionModelValidator {
+
+    private final List<ClassLoader> seen;
+
+    private ClassLoaderValidator(List<ClassLoader> seen) {
+      this.seen = seen;
+    }
+
+    @Override
+    public void validate(ExtensionModel model, ProblemsReporter problemsReporter) {
+      seen.add(currentThread().getContextClassLoader());
+    }
+  }
+
+  private static class ClassLoaderWalkingValidator extends ClassLoaderValidator implements WalkingExtensionModelValidator {
+
+    private ClassLoaderWalkingValidator(List<ClassLoader> seen) {
+      super(seen);
+    }
+
+    @Override
+    public Optional<ExtensionModelValidatorWalkDelegate> getWalkDelegate(ExtensionModel model, DslSyntaxResolver syntaxResolver,
+                                                                         ProblemsReporter problemsReporter) {
+      return of(new ExtensionModelValidatorWalkDelegate() {
+
+        @Override
+        public void onWalkFinished() {
+          validate(model, problemsReporter);
+        }
+      });
+    }
+  }
+
+  private static class FailingValidator implements IndependentExtensionModelValidator {
+
+    private final String name;
+
+    private FailingValidator(String name) {
+      this.name = name;
+    }
+
+    @Override
+    public void validate(ExtensionModel model, ProblemsReporter problemsReporter) {
+      throw new IllegalStateException(name);
+    }
+  }
+}
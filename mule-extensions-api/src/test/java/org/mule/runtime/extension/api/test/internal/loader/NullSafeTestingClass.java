@@ -0,0 +1,18 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import org.mule.runtime.extension.api.annotation.param.NullSafe;
+
+public final class NullSafeTestingClass {
+
+  @NullSafe
+  private NullSafeTestingClass child;
+
+  private String name;
+
+}
@@ -0,0 +1,173 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import static org.mule.runtime.api.meta.model.stereotype.StereotypeModelBuilder.newStereotype;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.metadata.api.ClassTypeLoader;
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.extension.api.declaration.type.ExtensionsTypeLoaderFactory;
+import org.mule.runtime.extension.api.declaration.type.annotation.StereotypeTypeAnnotation;
+import org.mule.runtime.extension.internal.loader.CachedClassTypeLoader;
+import org.mule.runtime.extension.internal.loader.SharedMetadataTypeCache;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.ref.WeakReference;
+import java.lang.reflect.Type;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.Test;
+
+public class SharedMetadataTypeCacheTestCase {
+
+  private final SharedMetadataTypeCache sharedCache = new SharedMetadataTypeCache();
+
+  @Test
+  public void typesAreSharedAcrossLoaders() {
+    final MetadataType metadataType = newLoader().load(TestingClass.class);
+
+    assertThat(newLoader().load(TestingClass.class), sameInstance(metadataType));
+    assertThat(sharedCache.getStats().missCount(), is(1L));
+    assertThat(sharedCache.getStats().hitCount(), is(1L));
+  }
+
+  @Test
+  public void typesLoadedByIdentifierAreShared() {
+    final MetadataType metadataType = newLoader().load(TestingClass.class);
+
+    assertThat(newLoader().load(TestingClass.class.getName()).get(), sameInstance(metadataType));
+    assertThat(sharedCache.getStats().hitCount(), is(1L));
+  }
+
+  @Test
+  public void parameterizedTypesAreNotShared() throws Exception {
+    Type listType = SharedMetadataTypeCacheTestCase.class.getDeclaredMethod("stringList").getGenericReturnType();
+    newLoader().load(listType);
+    newLoader().load(listType);
+
+    assertThat(sharedCache.size(), is(0L));
+    assertThat(sharedCache.getStats().requestCount(), is(0L));
+  }
+
+  @Test
+  public void invalidateAll() {
+    final MetadataType metadataType = newLoader().load(TestingClass.class);
+    sharedCache.invalidateAll();
+
+    assertThat(newLoader().load(TestingClass.class) == metadataType, is(false));
+    assertThat(sharedCache.getStats().missCount(), is(2L));
+  }
+
+  @Test
+  public void typesWithNullSafeFieldsAreNotShared() {
+    final MetadataType metadataType = newLoader().load(NullSafeTestingClass.class);
+
+    assertThat(newLoader().load(NullSafeTestingClass.class), not(sameInstance(metadataType)));
+    assertThat(sharedCache.size(), is(0L));
+  }
+
+  @Test
+  public void unloadedClassLoaderIsCollected() throws Exception {
+    WeakReference<ClassLoader> classLoader = loadIsolated(TestingClass.class, NullSafeTestingClass.class);
+
+    for (int i = 0; classLoader.get() != null && i < 50; ++i) {
+      System.gc();
+      Thread.sleep(20);
+    }
+    assertThat(classLoader.get(), is(nullValue()));
+  }
+
+  @Test
+  public void resolvedStereotypesAreNotSharedBetweenExtensions() {
+    final MetadataType firstExtensionType = newLoader().load(StereotypedTestingClass.class);
+    final MetadataType secondExtensionType = newLoader().load(StereotypedTestingClass.class);
+
+    stereotypeOf(firstExtensionType)
+        .resolveAllowedStereotypes(definition -> newStereotype(definition.getSimpleName(), "FIRST").build(),
+                                   definition -> newStereotype(definition.getSimpleName(), "FIRST").build());
+
+    assertThat(stereotypeOf(firstExtensionType).getAllowedStereotypes(), hasSize(1));
+    assertThat(stereotypeOf(secondExtensionType).getAllowedStereotypes(), is(empty()));
+    assertThat(sharedCache.size(), is(0L));
+  }
+
+  /**
+   * Loads the types of the given classes from a {@link ClassLoader} which defines them on its own, as the one of an extension
+   * does, and then releases every reference to that {@link ClassLoader} but the returned one.
+   */
+  private WeakReference<ClassLoader> loadIsolated(Class<?>... classes) throws ClassNotFoundException {
+    ClassLoader classLoader = new IsolatingClassLoader(classes);
+    for (Class<?> clazz : classes) {
+      newLoader().load(classLoader.loadClass(clazz.getName()));
+    }
+    return new WeakReference<>(classLoader);
+  }
+
+  private StereotypeTypeAnnotation stereotypeOf(MetadataType type) {
+    return type.getAnnotation(StereotypeTypeAnnotation.class).get();
+  }
+
+  private ClassTypeLoader newLoader() {
+    return new CachedClassTypeLoader(ExtensionsTypeLoaderFactory.getDefault().createTypeLoader(), sharedCache);
+  }
+
+  private List<String> stringList() {
+    return null;
+  }
+
+  private static final class IsolatingClassLoader extends ClassLoader {
+
+    private final List<String> isolatedClassNames = new ArrayList<>();
+
+    private IsolatingClassLoader(Class<?>... classes) {
+      super(SharedMetadataTypeCacheTestCase.class.getClassLoader());
+      for (Class<?> clazz : classes) {
+        isolatedClassNames.add(clazz.getName());
+      }
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+      if (!isolatedClassNames.contains(name)) {
+        return super.loadClass(name, resolve);
+      }
+
+      synchronized (getClassLoadingLock(name)) {
+        Class<?> clazz = findLoadedClass(name);
+        if (clazz == null) {
+          byte[] bytes = readClass(name);
+          clazz = defineClass(name, bytes, 0, bytes.length);
+        }
+        return clazz;
+      }
+    }
+
+    private byte[] readClass(String name) throws ClassNotFoundException {
+      try (InputStream in = getParent().getResourceAsStream(name.replace('.', '/') + ".class")) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        byte[] buffer = new byte[4096];
+        for (int read; (read = in.read(buffer)) != -1;) {
+          bytes.write(buffer, 0, read);
+        }
+        return bytes.toByteArray();
+      } catch (IOException e) {
+        throw new ClassNotFoundException(name, e);
+      }
+    }
+  }
+}
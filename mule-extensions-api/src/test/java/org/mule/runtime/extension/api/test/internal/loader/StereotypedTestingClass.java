@@ -0,0 +1,24 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.loader;
+
+import org.mule.runtime.extension.api.annotation.param.stereotype.Stereotype;
+import org.mule.runtime.extension.api.stereotype.StereotypeDefinition;
+
+@Stereotype(StereotypedTestingClass.TestingStereotype.class)
+public final class StereotypedTestingClass {
+
+  private String name;
+
+  public static final class TestingStereotype implements StereotypeDefinition {
+
+    @Override
+    public String getName() {
+      return "TESTING";
+    }
+  }
+}
@@ -0,0 +1,137 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.model;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.extension.api.model.parameter.ImmutableParameterGroupModel;
+import org.mule.runtime.extension.internal.model.CompactModelPropertyMap;
+import org.mule.runtime.extension.internal.property.NoConnectivityErrorModelProperty;
+import org.mule.runtime.extension.internal.property.NoErrorMappingModelProperty;
+import org.mule.runtime.extension.internal.property.NoReconnectionStrategyModelProperty;
+import org.mule.runtime.extension.internal.property.NoStreamingConfigurationModelProperty;
+import org.mule.runtime.extension.internal.property.NoTransactionalActionModelProperty;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
+
+@RunWith(Parameterized.class)
+public class CompactModelPropertyMapTestCase {
+
+  private static final List<ModelProperty> ALL_PROPERTIES = asList(new NoConnectivityErrorModelProperty(),
+                                                                   new NoErrorMappingModelProperty(),
+                                                                   new NoReconnectionStrategyModelProperty(),
+                                                                   new NoStreamingConfigurationModelProperty(),
+                                                                   new NoTransactionalActionModelProperty());
+
+  @Parameterized.Parameters(name = "{0} properties")
+  public static Collection<Object[]> data() {
+    List<Object[]> data = new ArrayList<>();
+    for (int count = 0; count <= ALL_PROPERTIES.size(); count++) {
+      data.add(new Object[] {count});
+    }
+    return data;
+  }
+
+  private final List<ModelProperty> properties;
+  private final CompactModelPropertyMap map;
+
+  public CompactModelPropertyMapTestCase(int count) {
+    properties = ALL_PROPERTIES.subList(0, count);
+    map = CompactModelPropertyMap.of(properties);
+  }
+
+  @Test
+  public void behavesAsLinkedHashMap() {
+    Map<Class<? extends ModelProperty>, ModelProperty> expected = new LinkedHashMap<>();
+    properties.forEach(property -> expected.put(property.getClass(), property));
+
+    assertThat(map, is(expected));
+    assertThat(map.hashCode(), is(expected.hashCode()));
+    assertThat(new ArrayList<>(map.keySet()), is(new ArrayList<>(expected.keySet())));
+    assertThat(map.size(), is(properties.size()));
+    for (ModelProperty property : ALL_PROPERTIES) {
+      assertThat(map.get(property.getClass()), is(expected.get(property.getClass())));
+      assertThat(map.containsKey(property.getClass()), is(expected.containsKey(property.getClass())));
+    }
+  }
+
+  @Test
+  public void valueSetIsCached() {
+    assertThat(map.valueSet(), is(new LinkedHashSet<>(properties)));
+    assertThat(new ArrayList<>(map.valueSet()), is(properties));
+    assertThat(map.valueSet(), is(sameInstance(map.valueSet())));
+  }
+
+  @Test
+  public void lastDuplicateIsKeptInPlaceOfTheFirst() {
+    List<ModelProperty> withDuplicate = new ArrayList<>(properties);
+    withDuplicate.add(new NoConnectivityErrorModelProperty());
+    CompactModelPropertyMap duplicatedMap = CompactModelPropertyMap.of(withDuplicate);
+
+    assertThat(duplicatedMap.get(NoConnectivityErrorModelProperty.class),
+               is(sameInstance(withDuplicate.get(withDuplicate.size() - 1))));
+    assertThat(duplicatedMap.keySet().iterator().next(), is(NoConnectivityErrorModelProperty.class));
+  }
+
+  @Test
+  public void putInvalidatesValueSet() {
+    ModelProperty property = new NoTransactionalActionModelProperty();
+    map.valueSet();
+    map.put(NoTransactionalActionModelProperty.class, property);
+
+    assertThat(map.get(NoTransactionalActionModelProperty.class), is(sameInstance(property)));
+    assertThat(map.valueSet().contains(property), is(true));
+    assertThat(map.size(), is(properties.size() == ALL_PROPERTIES.size() ? properties.size() : properties.size() + 1));
+  }
+
+  @Test
+  public void removeInvalidatesValueSet() {
+    map.valueSet();
+    map.remove(NoConnectivityErrorModelProperty.class);
+
+    assertThat(map.get(NoConnectivityErrorModelProperty.class), is(nullValue()));
+    assertThat(new ArrayList<>(map.valueSet()), is(properties.isEmpty() ? properties : properties.subList(1, properties.size())));
+  }
+
+  @Test
+  public void clear() {
+    map.valueSet();
+    map.clear();
+
+    assertThat(map.isEmpty(), is(true));
+    assertThat(map.valueSet(), is(empty()));
+  }
+
+  @Test
+  public void immutableModelUsesCompactStorage() {
+    ImmutableParameterGroupModel model = new ImmutableParameterGroupModel("group", "", emptyList(), emptyList(), false, null, null,
+                                                                          new LinkedHashSet<>(properties));
+
+    assertThat(model.getModelProperties(), is(sameInstance(model.getModelProperties())));
+    assertThat(new ArrayList<>(model.getModelProperties()), is(properties));
+    for (ModelProperty property : ALL_PROPERTIES) {
+      assertThat(model.hasModelProperty(property.getClass()), is(properties.contains(property)));
+    }
+  }
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.internal.model;
+
+import static org.mule.metadata.api.model.MetadataFormat.JAVA;
+import static org.mule.runtime.api.meta.ExpressionSupport.NOT_SUPPORTED;
+import static org.mule.runtime.api.meta.model.parameter.ParameterRole.BEHAVIOUR;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.nullValue;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assume.assumeThat;
+
+import org.mule.metadata.api.builder.BaseTypeBuilder;
+import org.mule.metadata.api.model.MetadataType;
+import org.mule.runtime.api.meta.model.ModelProperty;
+import org.mule.runtime.api.meta.model.ParameterDslConfiguration;
+import org.mule.runtime.api.meta.model.display.LayoutModel;
+import org.mule.runtime.api.meta.model.parameter.ParameterModel;
+import org.mule.runtime.extension.api.model.parameter.ImmutableParameterModel;
+import org.mule.runtime.extension.api.property.InfrastructureParameterModelProperty;
+import org.mule.runtime.extension.api.property.QNameModelProperty;
+import org.mule.runtime.extension.internal.model.ModelInterner;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+
+import javax.xml.namespace.QName;
+
+import org.junit.Test;
+
+public class ModelInternerTestCase {
+
+  private static final QName QNAME = new QName("http://www.mulesoft.org/schema/mule/core", "reconnection");
+  private static final LayoutModel LAYOUT = LayoutModel.builder().tabName("Advanced").build();
+
+  private final ModelInterner interner = new ModelInterner();
+
+  @Test
+  public void layoutModelsAreSharedWithinTheInterner() {
+    LayoutModel layoutModel = LayoutModel.builder().tabName("Advanced").build();
+    LayoutModel equalLayoutModel = LayoutModel.builder().tabName("Advanced").build();
+    assumeThat(equalLayoutModel, is(equalTo(layoutModel)));
+
+    layoutModel = interner.intern(layoutModel);
+    assertThat(interner.intern(equalLayoutModel), is(sameInstance(layoutModel)));
+    assertThat(new ModelInterner().intern(equalLayoutModel), is(not(sameInstance(layoutModel))));
+    assertThat(interner.intern(LayoutModel.builder().tabName("General").build()), is(not(sameInstance(layoutModel))));
+  }
+
+  @Test
+  public void simpleTypesAreSharedWithinTheInterner() {
+    MetadataType type = interner.intern(stringType());
+
+    assertThat(interner.intern(stringType()), is(sameInstance(type)));
+    assertThat(new ModelInterner().intern(stringType()), is(not(sameInstance(type))));
+  }
+
+  @Test
+  public void otherValuesAreNotInterned() {
+    List<String> value = asList("a", "b");
+
+    assertThat(interner.intern(value), is(sameInstance(value)));
+    assertThat(interner.intern((Object) null), is(nullValue()));
+  }
+
+  @Test
+  public void parametersAreNotInterned() {
+    ParameterModel parameter = infrastructureParameter();
+
+    assertThat(interner.intern(parameter), is(sameInstance(parameter)));
+    assertThat(interner.intern(infrastructureParameter()), is(not(sameInstance(parameter))));
+  }
+
+  private ParameterModel infrastructureParameter() {
+    LinkedHashSet<ModelProperty> modelProperties = new LinkedHashSet<>(asList(new QNameModelProperty(QNAME),
+                                                                              new InfrastructureParameterModelProperty(3)));
+    return new ImmutableParameterModel("reconnection", "", stringType(), false, false, false, false, NOT_SUPPORTED, null,
+                                       BEHAVIOUR, ParameterDslConfiguration.getDefaultInstance(), null, LAYOUT, null, emptyList(),
+                                       modelProperties, null, emptySet(), emptyList(), null);
+  }
+
+  private static MetadataType stringType() {
+    return BaseTypeBuilder.create(JAVA).stringType().build();
+  }
+}
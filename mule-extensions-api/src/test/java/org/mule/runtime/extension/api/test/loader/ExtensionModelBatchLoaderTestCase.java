@@ -0,0 +1,256 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.loader;
+
+import static org.mule.runtime.api.dsl.DslResolvingContext.getDefault;
+import static org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest.builder;
+
+import static java.util.Collections.emptySet;
+import static java.util.concurrent.TimeUnit.SECONDS;
+import static java.util.stream.Collectors.toSet;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.mule.runtime.api.dsl.DslResolvingContext;
+import org.mule.runtime.api.meta.model.ExtensionModel;
+import org.mule.runtime.extension.api.loader.ExtensionLoadingContext;
+import org.mule.runtime.extension.api.loader.ExtensionModelBatchLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoader;
+import org.mule.runtime.extension.api.loader.ExtensionModelLoadingRequest;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.After;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.ExpectedException;
+
+public class ExtensionModelBatchLoaderTestCase {
+
+  @Rule
+  public ExpectedException expectedException = ExpectedException.none();
+
+  private final ForkJoinPool pool = new ForkJoinPool(4);
+  private final ExtensionModelLoadingRequest request = builder(getClass().getClassLoader(), getDefault(emptySet())).build();
+  private final Map<String, Set<String>> contexts = new ConcurrentHashMap<>();
+
+  @After
+  public void after() {
+    pool.shutdownNow();
+  }
+
+  @Test
+  public void extensionsAreLoadedWithTheirDependencies() {
+    Map<String, ExtensionModel> models = ExtensionModelBatchLoader.builder()
+        .addExtension("oauth", new TestLoader("oauth"), request, "http")
+        .addExtension("http", new TestLoader("http"), request, "sockets")
+        .addExtension("sockets", new TestLoader("sockets"), request)
+        .addExtension("file", new TestLoader("file"), request)
+        .setPool(pool)
+        .build()
+        .load();
+
+    assertThat(models.keySet(), contains("oauth", "http", "sockets", "file"));
+    models.forEach((id, model) -> assertThat(model.getName(), is(id)));
+
+    assertThat(contexts.get("oauth"), containsInAnyOrder("http", "sockets"));
+    assertThat(contexts.get("http"), containsInAnyOrder("sockets"));
+    assertThat(contexts.get("sockets"), is(empty()));
+    assertThat(contexts.get("file"), is(empty()));
+  }
+
+  @Test
+  public void dependenciesAreAddedToTheContextOfTheRequest() {
+    ExtensionModel core = mock(ExtensionModel.class);
+    when(core.getName()).thenReturn("core");
+    // a context which resolves extensions it doesn't list
+    DslResolvingContext dslResolvingContext = mock(DslResolvingContext.class);
+    when(dslResolvingContext.getExtension("core")).thenReturn(Optional.of(core));
+    when(dslResolvingContext.getExtensions()).thenReturn(emptySet());
+    ExtensionModelLoadingRequest request = builder(getClass().getClassLoader(), dslResolvingContext).build();
+
+    Map<String, DslResolvingContext> dslResolvingContexts = new ConcurrentHashMap<>();
+    ExtensionModelBatchLoader.builder()
+        .addExtension("http", new ContextCapturingLoader("http", dslResolvingContexts), request, "sockets")
+        .addExtension("sockets", new ContextCapturingLoader("sockets", dslResolvingContexts), request)
+        .setPool(pool)
+        .build()
+        .load();
+
+    assertThat(dslResolvingContexts.get("sockets"), is(sameInstance(dslResolvingContext)));
+    DslResolvingContext httpContext = dslResolvingContexts.get("http");
+    assertThat(httpContext.getExtension("core"), is(Optional.of(core)));
+    assertThat(httpContext.getExtension("sockets").map(ExtensionModel::getName), is(Optional.of("sockets")));
+    assertThat(httpContext.getExtension("file"), is(Optional.empty()));
+    assertThat(contexts.get("http"), contains("sockets"));
+  }
+
+  @Test
+  public void independentExtensionsAreLoadedConcurrently() {
+    // neither extension finishes loading until both of them started
+    CountDownLatch started = new CountDownLatch(2);
+    Map<String, ExtensionModel> models = ExtensionModelBatchLoader.builder()
+        .addExtension("first", new TestLoader("first", started), request)
+        .addExtension("second", new TestLoader("second", started), request)
+        .setPool(pool)
+        .build()
+        .load();
+
+    assertThat(models.keySet(), contains("first", "second"));
+  }
+
+  @Test
+  public void sameContextsAsSerialLoading() {
+    ExtensionModelBatchLoader.Builder builder = ExtensionModelBatchLoader.builder()
+        .addExtension("a", new TestLoader("a"), request, "b", "c")
+        .addExtension("b", new TestLoader("b"), request, "d")
+        .addExtension("c", new TestLoader("c"), request, "d")
+        .addExtension("d", new TestLoader("d"), request);
+
+    builder.setPool(null).build().load();
+    Map<String, Set<String>> serialContexts = new ConcurrentHashMap<>(contexts);
+    contexts.clear();
+    builder.setPool(pool).build().load();
+
+    assertThat(contexts, is(serialContexts));
+  }
+
+  @Test
+  public void failureOfFirstExtensionPrevails() {
+    expectedException.expect(IllegalStateException.class);
+    expectedException.expectMessage("first");
+
+    ExtensionModelBatchLoader.builder()
+        .addExtension("dependant", new TestLoader("dependant"), request, "first")
+        .addExtension("second", new FailingLoader("second"), request)
+        .addExtension("first", new FailingLoader("first"), request)
+        .setPool(pool)
+        .build()
+        .load();
+  }
+
+  @Test
+  public void cyclicDependencies() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("b -> c -> b");
+
+    ExtensionModelBatchLoader.builder()
+        .addExtension("a", new TestLoader("a"), request, "b")
+        .addExtension("b", new TestLoader("b"), request, "c")
+        .addExtension("c", new TestLoader("c"), request, "b")
+        .build();
+  }
+
+  @Test
+  public void unknownDependency() {
+    expectedException.expect(IllegalArgumentException.class);
+    expectedException.expectMessage("[http]");
+
+    ExtensionModelBatchLoader.builder()
+        .addExtension("oauth", new TestLoader("oauth"), request, "http")
+        .build();
+  }
+
+  @Test
+  public void duplicateExtension() {
+    expectedException.expect(IllegalArgumentException.class);
+
+    ExtensionModelBatchLoader.builder()
+        .addExtension("http", new TestLoader("http"), request)
+        .addExtension("http", new TestLoader("http"), request);
+  }
+
+  private class TestLoader extends ExtensionModelLoader {
+
+    private final String name;
+    private final CountDownLatch started;
+
+    private TestLoader(String name) {
+      this(name, null);
+    }
+
+    private TestLoader(String name, CountDownLatch started) {
+      this.name = name;
+      this.started = started;
+    }
+
+    @Override
+    public String getId() {
+      return "test";
+    }
+
+    @Override
+    protected void declareExtension(ExtensionLoadingContext context) {
+      // not declared, see doCreate
+    }
+
+    @Override
+    protected ExtensionModel doCreate(ExtensionLoadingContext context) {
+      contexts.put(name, context.getDslResolvingContext().getExtensions().stream().map(ExtensionModel::getName).collect(toSet()));
+
+      if (started != null) {
+        started.countDown();
+        try {
+          assertTrue(started.await(10, SECONDS));
+        } catch (InterruptedException e) {
+          Thread.currentThread().interrupt();
+          throw new AssertionError(e);
+        }
+      }
+
+      ExtensionModel extensionModel = mock(ExtensionModel.class);
+      when(extensionModel.getName()).thenReturn(name);
+      return extensionModel;
+    }
+  }
+
+  private class ContextCapturingLoader extends TestLoader {
+
+    private final String name;
+    private final Map<String, DslResolvingContext> dslResolvingContexts;
+
+    private ContextCapturingLoader(String name, Map<String, DslResolvingContext> dslResolvingContexts) {
+      super(name);
+      this.name = name;
+      this.dslResolvingContexts = dslResolvingContexts;
+    }
+
+    @Override
+    protected ExtensionModel doCreate(ExtensionLoadingContext context) {
+      dslResolvingContexts.put(name, context.getDslResolvingContext());
+      return super.doCreate(context);
+    }
+  }
+
+  private class FailingLoader extends TestLoader {
+
+    private final String failure;
+
+    private FailingLoader(String name) {
+      super(name);
+      this.failure = name;
+    }
+
+    @Override
+    protected ExtensionModel doCreate(ExtensionLoadingContext context) {
+      throw new IllegalStateException(failure);
+    }
+  }
+}
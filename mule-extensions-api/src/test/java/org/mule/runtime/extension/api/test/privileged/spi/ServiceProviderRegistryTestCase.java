@@ -0,0 +1,68 @@
+/*
+ * Copyright 2023 Salesforce, Inc. All rights reserved.
+ * The software in this package is published under the terms of the CPAL v1.0
+ * license, a copy of which has been included with this distribution in the
+ * LICENSE.txt file.
+ */
+package org.mule.runtime.extension.api.test.privileged.spi;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.mule.runtime.extension.api.dsl.syntax.resources.spi.ExtensionSchemaGenerator;
+import org.mule.runtime.extension.privileged.spi.ServiceProviderRegistry;
+import org.mule.runtime.extension.privileged.spi.ServiceProviderRegistry.DiscoveryStats;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.List;
+
+import org.junit.Test;
+
+public class ServiceProviderRegistryTestCase {
+
+  private final ServiceProviderRegistry registry = new ServiceProviderRegistry();
+  private final ClassLoader classLoader = getClass().getClassLoader();
+
+  @Test
+  public void providersAreDiscoveredOnce() {
+    List<ExtensionSchemaGenerator> providers = registry.lookup(ExtensionSchemaGenerator.class, classLoader);
+
+    assertThat(registry.lookup(ExtensionSchemaGenerator.class, classLoader), is(sameInstance(providers)));
+
+    DiscoveryStats stats = registry.getStats(ExtensionSchemaGenerator.class);
+    assertThat(stats.lookupCount(), is(2L));
+    assertThat(stats.discoveryCount(), is(1L));
+  }
+
+  @Test
+  public void providersAreScopedByClassLoader() throws Exception {
+    List<ExtensionSchemaGenerator> providers = registry.lookup(ExtensionSchemaGenerator.class, classLoader);
+
+    try (URLClassLoader child = new URLClassLoader(new URL[0], classLoader)) {
+      assertThat(registry.lookup(ExtensionSchemaGenerator.class, child), is(not(sameInstance(providers))));
+    }
+
+    assertThat(registry.getStats(ExtensionSchemaGenerator.class).discoveryCount(), is(2L));
+  }
+
+  @Test
+  public void refreshDiscoversProvidersAgain() {
+    List<ExtensionSchemaGenerator> providers = registry.lookup(ExtensionSchemaGenerator.class, classLoader);
+    registry.refresh(classLoader);
+
+    assertThat(registry.lookup(ExtensionSchemaGenerator.class, classLoader), is(not(sameInstance(providers))));
+    assertThat(registry.getStats(ExtensionSchemaGenerator.class).discoveryCount(), is(2L));
+  }
+
+  @Test
+  public void statsOfServiceNotLookedUp() {
+    DiscoveryStats stats = registry.getStats(ExtensionSchemaGenerator.class);
+
+    assertThat(stats.lookupCount(), is(0L));
+    assertThat(stats.discoveryCount(), is(0L));
+    assertThat(stats.totalDiscoveryNanos(), is(0L));
+  }
+}
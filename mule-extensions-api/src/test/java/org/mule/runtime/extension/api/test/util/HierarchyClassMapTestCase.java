@@ -6,22 +6,39 @@
  */
 package org.mule.runtime.extension.api.test.util;
 
+import static java.util.Arrays.asList;
+
 import static org.hamcrest.CoreMatchers.instanceOf;
 import static org.hamcrest.CoreMatchers.is;
+import static org.hamcrest.CoreMatchers.nullValue;
 import static org.junit.Assert.assertThat;
 
 import org.mule.runtime.extension.api.util.HierarchyClassMap;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.stream.Stream;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.Parameterized;
 
+@RunWith(Parameterized.class)
 public class HierarchyClassMapTestCase {
 
-  private HierarchyClassMap<Object> map = new HierarchyClassMap<>();
+  @Parameterized.Parameters(name = "cacheResolutions: {0}")
+  public static Collection<Object[]> data() {
+    return asList(new Object[][] {{false}, {true}});
+  }
+
+  private final HierarchyClassMap<Object> map;
   private Class[] keys = new Class[] {Dog.class, RabidDog.class, Human.class};
 
+  public HierarchyClassMapTestCase(boolean cacheResolutions) {
+    map = new HierarchyClassMap<>(new LinkedHashMap<>(), cacheResolutions);
+  }
+
   @Before
   public void before() throws Exception {
     for (Class<?> key : keys) {
@@ -55,6 +72,45 @@ public class HierarchyClassMapTestCase {
     assertThat(map.containsKey(Dog.class), is(true));
   }
 
+  @Test
+  public void resolutionIsUpdatedOnRemove() {
+    assertThat(map.get(Dog.class), is(instanceOf(Dog.class)));
+    map.remove(Dog.class);
+    assertThat(map.get(Dog.class), is(instanceOf(RabidDog.class)));
+    map.remove(RabidDog.class);
+
+    assertThat(map.get(Dog.class), is(nullValue()));
+    assertThat(map.containsKey(Dog.class), is(false));
+  }
+
+  @Test
+  public void resolutionIsUpdatedOnPut() {
+    assertThat(map.get(Animal.class), is(nullValue()));
+    assertThat(map.containsKey(Animal.class), is(false));
+    map.put(Animal.class, new Animal());
+
+    assertThat(map.get(Animal.class), is(instanceOf(Animal.class)));
+    assertThat(map.get(Cat.class), is(instanceOf(Animal.class)));
+  }
+
+  @Test
+  public void getOrDefault() {
+    Object defaultValue = new Object();
+    map.put(Cat.class, null);
+
+    assertThat(map.getOrDefault(Cat.class, defaultValue), is(nullValue()));
+    assertThat(map.getOrDefault(Animal.class, defaultValue), is(nullValue()));
+    assertThat(map.getOrDefault(Object.class, defaultValue), is(defaultValue));
+  }
+
+  public static class Animal {
+
+  }
+
+  public static class Cat extends Animal {
+
+  }
+
 
   public static class Dog {
 